@@ -9,6 +9,8 @@ import com.mopl.domain.repository.content.query.ContentQueryRequest;
 import com.mopl.domain.service.content.ContentService;
 import com.mopl.domain.service.content.ContentTagService;
 import com.mopl.domain.service.watchingsession.WatchingSessionService;
+import com.mopl.domain.support.cache.CacheName;
+import com.mopl.domain.support.cache.CachePort;
 import com.mopl.domain.support.cursor.CursorResponse;
 import com.mopl.domain.support.search.ContentSearchSyncPort;
 import com.mopl.domain.support.transaction.AfterCommitExecutor;
@@ -40,6 +42,7 @@ public class ContentFacade {
 
     private final ContentSearchSyncPort contentSearchSyncPort;
     private final AfterCommitExecutor afterCommitExecutor;
+    private final CachePort cachePort;
 
     public CursorResponse<ContentResponse> getContents(ContentQueryRequest request) {
         CursorResponse<ContentModel> response = contentService.getAll(request);
@@ -56,7 +59,11 @@ public class ContentFacade {
             .map(ContentModel::getId)
             .toList();
 
-        Map<UUID, List<TagModel>> tagsByContentId = contentTagService.getTagsByContentIdIn(contentIds);
+        Map<UUID, List<TagModel>> tagsByContentId = cachePort.getAll(
+            CacheName.CONTENT_TAGS,
+            contentIds,
+            contentTagService::loadTagsByContentIdIn
+        );
         Map<UUID, Long> watcherCountByContentId = watchingSessionService.countByContentIdIn(contentIds);
 
         return response.map(content -> {
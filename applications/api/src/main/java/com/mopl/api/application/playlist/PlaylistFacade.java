@@ -16,6 +16,8 @@ import com.mopl.domain.service.outbox.OutboxService;
 import com.mopl.domain.service.playlist.PlaylistService;
 import com.mopl.domain.service.playlist.PlaylistSubscriptionService;
 import com.mopl.domain.service.user.UserService;
+import com.mopl.domain.support.cache.CacheName;
+import com.mopl.domain.support.cache.CachePort;
 import com.mopl.domain.support.cursor.CursorResponse;
 import com.mopl.dto.outbox.DomainEventOutboxMapper;
 import com.mopl.dto.playlist.PlaylistResponse;
@@ -45,6 +47,7 @@ public class PlaylistFacade {
     private final DomainEventOutboxMapper domainEventOutboxMapper;
     private final OutboxService outboxService;
     private final TransactionTemplate transactionTemplate;
+    private final CachePort cachePort;
 
     public CursorResponse<PlaylistResponse> getPlaylists(
         UUID requesterId,
@@ -67,8 +70,10 @@ public class PlaylistFacade {
             requesterId,
             playlistIds
         );
-        Map<UUID, List<ContentModel>> contentsMap = playlistService.getContentsByPlaylistIdIn(
-            playlistIds
+        Map<UUID, List<ContentModel>> contentsMap = cachePort.getAll(
+            CacheName.PLAYLIST_CONTENTS,
+            playlistIds,
+            playlistService::loadContentsByPlaylistIdIn
         );
 
         return playlistPage.map(playlist -> playlistResponseMapper.toResponse(
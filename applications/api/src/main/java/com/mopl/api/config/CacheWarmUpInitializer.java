@@ -0,0 +1,176 @@
+package com.mopl.api.config;
+
+import com.mopl.domain.model.content.ContentModel;
+import com.mopl.domain.model.playlist.PlaylistModel;
+import com.mopl.domain.repository.content.query.ContentQueryRequest;
+import com.mopl.domain.repository.content.query.ContentSortField;
+import com.mopl.domain.repository.playlist.PlaylistQueryRequest;
+import com.mopl.domain.repository.playlist.PlaylistSortField;
+import com.mopl.domain.service.content.ContentService;
+import com.mopl.domain.service.content.ContentTagService;
+import com.mopl.domain.service.playlist.PlaylistService;
+import com.mopl.domain.support.cache.CacheName;
+import com.mopl.domain.support.cache.CachePort;
+import com.mopl.domain.support.cursor.SortDirection;
+import com.mopl.logging.context.LogContext;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * 배포 직후 비어 있는 L1을 인기 콘텐츠/플레이리스트로 미리 채웁니다.
+ *
+ * <p>ApplicationRunner가 모두 끝난 뒤에야 readiness가 ACCEPTING_TRAFFIC으로 바뀌므로,
+ * 워밍업이 끝나거나 deadline이 지날 때까지 이 러너가 반환하지 않는 것으로 트래픽 유입을 늦춥니다.
+ * 단건 조회는 {@code @Cacheable} 경로를 그대로 타므로 L2에 남아 있는 값은 DB를 거치지 않고 L1으로 올라옵니다.
+ * 워밍업 실패는 기동을 막지 않습니다.
+ */
+@Component
+@ConditionalOnProperty(prefix = "mopl.cache.warm-up", name = "enabled", havingValue = "true")
+@EnableConfigurationProperties(CacheWarmUpProperties.class)
+@RequiredArgsConstructor
+public class CacheWarmUpInitializer implements ApplicationRunner {
+
+    private final CacheWarmUpProperties properties;
+    private final ContentService contentService;
+    private final ContentTagService contentTagService;
+    private final PlaylistService playlistService;
+    private final CachePort cachePort;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        long startedAt = System.nanoTime();
+        long deadline = startedAt + properties.deadline().toNanos();
+
+        List<UUID> contentIds = topIds("contents", this::findTopContentIds);
+        List<UUID> playlistIds = topIds("playlists", this::findTopPlaylistIds);
+
+        List<Callable<Void>> tasks = new ArrayList<>();
+        contentIds.forEach(contentId -> tasks.add(task(() -> contentService.getById(contentId))));
+        if (!contentIds.isEmpty()) {
+            tasks.add(task(() -> cachePort.getAll(CacheName.CONTENT_TAGS, contentIds, contentTagService::loadTagsByContentIdIn)));
+        }
+        playlistIds.forEach(playlistId -> tasks.add(task(() -> playlistService.getById(playlistId))));
+
+        WarmUpResult result = runAll(tasks, deadline - System.nanoTime());
+
+        LogContext.with("contents", contentIds.size())
+            .and("playlists", playlistIds.size())
+            .and("loaded", result.loaded())
+            .and("failed", result.failed())
+            .and("timedOut", result.timedOut())
+            .and("elapsedMs", TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt))
+            .info("Cache warm-up completed");
+    }
+
+    private List<UUID> findTopContentIds() {
+        if (properties.contentCount() == 0) {
+            return List.of();
+        }
+        ContentQueryRequest request = new ContentQueryRequest(
+            null,
+            null,
+            null,
+            null,
+            null,
+            properties.contentCount(),
+            SortDirection.DESCENDING,
+            ContentSortField.POPULARITY
+        );
+        return contentService.getAll(request).data().stream()
+            .map(ContentModel::getId)
+            .toList();
+    }
+
+    private List<UUID> findTopPlaylistIds() {
+        if (properties.playlistCount() == 0) {
+            return List.of();
+        }
+        PlaylistQueryRequest request = new PlaylistQueryRequest(
+            null,
+            null,
+            null,
+            null,
+            null,
+            properties.playlistCount(),
+            SortDirection.DESCENDING,
+            PlaylistSortField.SUBSCRIBER_COUNT
+        );
+        return playlistService.getAll(request).data().stream()
+            .map(PlaylistModel::getId)
+            .toList();
+    }
+
+    private List<UUID> topIds(String source, Supplier<List<UUID>> finder) {
+        try {
+            return finder.get();
+        } catch (Exception e) {
+            LogContext.with("source", source).warn("Cache warm-up source query failed: " + e.getMessage());
+            return List.of();
+        }
+    }
+
+    /**
+     * parallelism개 스레드로 실행하고, 남은 시간이 지나면 끝나지 않은 작업을 취소합니다.
+     */
+    private WarmUpResult runAll(List<Callable<Void>> tasks, long remainingNanos) {
+        if (tasks.isEmpty()) {
+            return new WarmUpResult(0, 0, 0);
+        }
+        ExecutorService executor = Executors.newFixedThreadPool(
+            properties.parallelism(),
+            Thread.ofVirtual().name("cache-warm-up-", 0).factory()
+        );
+        try {
+            List<Future<Void>> futures = executor.invokeAll(tasks, Math.max(remainingNanos, 0), TimeUnit.NANOSECONDS);
+            int loaded = 0;
+            int failed = 0;
+            int timedOut = 0;
+            for (Future<Void> future : futures) {
+                try {
+                    future.get();
+                    loaded++;
+                } catch (CancellationException e) {
+                    timedOut++;
+                } catch (ExecutionException e) {
+                    failed++;
+                }
+            }
+            return new WarmUpResult(loaded, failed, timedOut);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return new WarmUpResult(0, 0, tasks.size());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static Callable<Void> task(Runnable warmUp) {
+        return () -> {
+            warmUp.run();
+            return null;
+        };
+    }
+
+    private record WarmUpResult(
+        int loaded,
+        int failed,
+        int timedOut
+    ) {
+    }
+}
@@ -0,0 +1,32 @@
+package com.mopl.api.config;
+
+import com.mopl.domain.repository.content.query.ContentQueryRequest;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.util.Assert;
+
+import java.time.Duration;
+
+/**
+ * 기동 시 캐시 워밍업 설정.
+ * contentCount는 인기순 조회 한 페이지로 가져오므로 {@link ContentQueryRequest#MAX_LIMIT}를 넘을 수 없습니다.
+ */
+@ConfigurationProperties("mopl.cache.warm-up")
+public record CacheWarmUpProperties(
+    @DefaultValue("false") boolean enabled,
+    @DefaultValue("100") int contentCount,
+    @DefaultValue("100") int playlistCount,
+    @DefaultValue("8") int parallelism,
+    @DefaultValue("30s") Duration deadline
+) {
+
+    public CacheWarmUpProperties {
+        if (enabled) {
+            Assert.isTrue(contentCount >= 0 && contentCount <= ContentQueryRequest.MAX_LIMIT,
+                "mopl.cache.warm-up.content-count must be between 0 and " + ContentQueryRequest.MAX_LIMIT);
+            Assert.isTrue(playlistCount >= 0, "mopl.cache.warm-up.playlist-count must not be negative");
+            Assert.isTrue(parallelism > 0, "mopl.cache.warm-up.parallelism must be positive");
+            Assert.isTrue(deadline != null && deadline.isPositive(), "mopl.cache.warm-up.deadline must be positive");
+        }
+    }
+}
@@ -35,6 +35,7 @@ public class SecurityRegistryImpl implements SecurityRegistry {
                 "/actuator/metrics",
                 "/actuator/metrics/**"
             ).permitAll()
+            .requestMatchers("/actuator/hotkeys", "/actuator/hotkeys/**").hasRole("ADMIN")
 
             .requestMatchers(
                 new AntPathRequestMatcher("/api/contents", HttpMethod.POST.name()),
@@ -1,11 +1,19 @@
 package com.mopl.api.infrastructure.cache;
 
+import com.mopl.cache.TwoLevelCache;
 import com.mopl.domain.support.cache.CachePort;
 import lombok.RequiredArgsConstructor;
 import org.springframework.cache.Cache;
 import org.springframework.cache.CacheManager;
 import org.springframework.stereotype.Component;
 
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
 @Component
 @RequiredArgsConstructor
 public class CacheAdapter implements CachePort {
@@ -19,4 +27,40 @@ public class CacheAdapter implements CachePort {
             cache.put(key, value);
         }
     }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <K, V> Map<K, V> getAll(String cacheName, Collection<K> keys, Function<Set<K>, Map<K, V>> bulkLoader) {
+        if (keys.isEmpty()) {
+            return Map.of();
+        }
+
+        Cache cache = cacheManager.getCache(cacheName);
+        if (cache instanceof TwoLevelCache twoLevelCache) {
+            return twoLevelCache.getAll(keys, bulkLoader);
+        }
+        if (cache == null) {
+            return bulkLoader.apply(new LinkedHashSet<>(keys));
+        }
+
+        Map<K, V> result = new HashMap<>();
+        Set<K> missing = new LinkedHashSet<>();
+        for (K key : keys) {
+            Cache.ValueWrapper cached = cache.get(key);
+            if (cached != null && cached.get() != null) {
+                result.put(key, (V) cached.get());
+            } else {
+                missing.add(key);
+            }
+        }
+        if (!missing.isEmpty()) {
+            bulkLoader.apply(missing).forEach((key, value) -> {
+                if (value != null) {
+                    cache.put(key, value);
+                    result.put(key, value);
+                }
+            });
+        }
+        return result;
+    }
 }
@@ -10,6 +10,7 @@ import com.mopl.domain.repository.content.query.ContentQueryRequest;
 import com.mopl.domain.service.content.ContentService;
 import com.mopl.domain.service.content.ContentTagService;
 import com.mopl.domain.service.watchingsession.WatchingSessionService;
+import com.mopl.domain.support.cache.CachePort;
 import com.mopl.domain.support.cursor.CursorResponse;
 import com.mopl.domain.support.cursor.SortDirection;
 import com.mopl.domain.support.search.ContentSearchSyncPort;
@@ -32,16 +33,22 @@ import org.springframework.web.multipart.MultipartFile;
 import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.UncheckedIOException;
+import java.util.Collection;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
 import java.util.function.Consumer;
+import java.util.function.Function;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
 import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anySet;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
@@ -83,6 +90,9 @@ class ContentFacadeTest {
     @Mock
     private MultipartFile multipartFile;
 
+    @Mock
+    private CachePort cachePort;
+
     @InjectMocks
     private ContentFacade contentFacade;
 
@@ -137,6 +147,15 @@ class ContentFacadeTest {
         });
     }
 
+    @SuppressWarnings("unchecked")
+    private void setupCachePortPassThrough() {
+        given(cachePort.getAll(anyString(), anyCollection(), any(Function.class))).willAnswer(invocation -> {
+            Collection<UUID> keys = invocation.getArgument(1);
+            Function<Set<UUID>, Map<UUID, ?>> bulkLoader = invocation.getArgument(2);
+            return bulkLoader.apply(new LinkedHashSet<>(keys));
+        });
+    }
+
     @Nested
     @DisplayName("getContents()")
     class GetContentsTest {
@@ -160,7 +179,7 @@ class ContentFacadeTest {
             // then
             assertThat(result.data()).isEmpty();
             assertThat(result.hasNext()).isFalse();
-            then(contentTagService).should(never()).getTagsByContentIdIn(anyList());
+            then(contentTagService).should(never()).loadTagsByContentIdIn(anySet());
             then(watchingSessionService).should(never()).countByContentIdIn(anyList());
         }
 
@@ -190,7 +209,8 @@ class ContentFacadeTest {
             ContentResponse expectedResponse = createContentResponse(contentId, List.of("SF"), 100L);
 
             given(contentService.getAll(request)).willReturn(contentResponse);
-            given(contentTagService.getTagsByContentIdIn(List.of(contentId))).willReturn(tagsByContentId);
+            setupCachePortPassThrough();
+            given(contentTagService.loadTagsByContentIdIn(Set.of(contentId))).willReturn(tagsByContentId);
             given(watchingSessionService.countByContentIdIn(List.of(contentId))).willReturn(watcherCountByContentId);
             given(contentResponseMapper.toResponse(
                 eq(contentModel),
@@ -204,7 +224,7 @@ class ContentFacadeTest {
             // then
             assertThat(result.data()).hasSize(1);
             assertThat(result.data().getFirst()).isEqualTo(expectedResponse);
-            then(contentTagService).should().getTagsByContentIdIn(List.of(contentId));
+            then(contentTagService).should().loadTagsByContentIdIn(Set.of(contentId));
             then(watchingSessionService).should().countByContentIdIn(List.of(contentId));
         }
 
@@ -233,7 +253,8 @@ class ContentFacadeTest {
             ContentResponse expectedResponse = createContentResponse(contentId, List.of(), 50L);
 
             given(contentService.getAll(request)).willReturn(contentResponse);
-            given(contentTagService.getTagsByContentIdIn(List.of(contentId))).willReturn(emptyTagsByContentId);
+            setupCachePortPassThrough();
+            given(contentTagService.loadTagsByContentIdIn(Set.of(contentId))).willReturn(emptyTagsByContentId);
             given(watchingSessionService.countByContentIdIn(List.of(contentId))).willReturn(watcherCountByContentId);
             given(contentResponseMapper.toResponse(
                 eq(contentModel),
@@ -274,7 +295,8 @@ class ContentFacadeTest {
             ContentResponse expectedResponse = createContentResponse(contentId, List.of(), 0L);
 
             given(contentService.getAll(request)).willReturn(contentResponse);
-            given(contentTagService.getTagsByContentIdIn(List.of(contentId))).willReturn(tagsByContentId);
+            setupCachePortPassThrough();
+            given(contentTagService.loadTagsByContentIdIn(Set.of(contentId))).willReturn(tagsByContentId);
             given(watchingSessionService.countByContentIdIn(List.of(contentId))).willReturn(emptyWatcherCountByContentId);
             given(contentResponseMapper.toResponse(
                 eq(contentModel),
@@ -320,7 +342,8 @@ class ContentFacadeTest {
             );
 
             given(contentService.getAll(request)).willReturn(contentResponse);
-            given(contentTagService.getTagsByContentIdIn(List.of(contentId))).willReturn(tagsByContentId);
+            setupCachePortPassThrough();
+            given(contentTagService.loadTagsByContentIdIn(Set.of(contentId))).willReturn(tagsByContentId);
             given(watchingSessionService.countByContentIdIn(List.of(contentId))).willReturn(watcherCountByContentId);
             given(contentResponseMapper.toResponse(
                 eq(contentModel),
@@ -22,6 +22,7 @@ import com.mopl.domain.service.outbox.OutboxService;
 import com.mopl.domain.service.playlist.PlaylistService;
 import com.mopl.domain.service.playlist.PlaylistSubscriptionService;
 import com.mopl.domain.service.user.UserService;
+import com.mopl.domain.support.cache.CachePort;
 import com.mopl.domain.support.cursor.CursorResponse;
 import com.mopl.domain.support.cursor.SortDirection;
 import com.mopl.dto.outbox.DomainEventOutboxMapper;
@@ -37,18 +38,24 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.transaction.support.TransactionCallback;
 import org.springframework.transaction.support.TransactionTemplate;
 
+import java.util.Collection;
 import java.util.Collections;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.UUID;
 import java.util.function.Consumer;
+import java.util.function.Function;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatNoException;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
 import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anySet;
+import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.then;
 import static org.mockito.BDDMockito.willAnswer;
@@ -86,6 +93,9 @@ class PlaylistFacadeTest {
     @Mock
     private TransactionTemplate transactionTemplate;
 
+    @Mock
+    private CachePort cachePort;
+
     @InjectMocks
     private PlaylistFacade playlistFacade;
 
@@ -104,6 +114,15 @@ class PlaylistFacadeTest {
         }).given(transactionTemplate).executeWithoutResult(any());
     }
 
+    @SuppressWarnings("unchecked")
+    private void setupCachePortPassThrough() {
+        given(cachePort.getAll(anyString(), anyCollection(), any(Function.class))).willAnswer(invocation -> {
+            Collection<UUID> keys = invocation.getArgument(1);
+            Function<Set<UUID>, Map<UUID, ?>> bulkLoader = invocation.getArgument(2);
+            return bulkLoader.apply(new LinkedHashSet<>(keys));
+        });
+    }
+
     @Nested
     @DisplayName("getPlaylists()")
     class GetPlaylistsTest {
@@ -129,7 +148,7 @@ class PlaylistFacadeTest {
             assertThat(result.data()).isEmpty();
             assertThat(result.hasNext()).isFalse();
             then(playlistSubscriptionService).should(never()).findSubscribedPlaylistIds(any(), anyList());
-            then(playlistService).should(never()).getContentsByPlaylistIdIn(anyList());
+            then(playlistService).should(never()).loadContentsByPlaylistIdIn(anySet());
         }
 
         @Test
@@ -163,7 +182,8 @@ class PlaylistFacadeTest {
             given(playlistService.getAll(request)).willReturn(playlistPage);
             given(playlistSubscriptionService.findSubscribedPlaylistIds(requesterId, playlistIds))
                 .willReturn(subscribedIds);
-            given(playlistService.getContentsByPlaylistIdIn(playlistIds)).willReturn(contentsMap);
+            setupCachePortPassThrough();
+            given(playlistService.loadContentsByPlaylistIdIn(Set.of(playlistId))).willReturn(contentsMap);
             given(playlistResponseMapper.toResponse(playlist, true, Collections.emptyList(), Map.of()))
                 .willReturn(expectedResponse);
 
@@ -174,7 +194,7 @@ class PlaylistFacadeTest {
             assertThat(result.data()).hasSize(1);
             assertThat(result.data().getFirst()).isEqualTo(expectedResponse);
             then(playlistSubscriptionService).should().findSubscribedPlaylistIds(requesterId, playlistIds);
-            then(playlistService).should().getContentsByPlaylistIdIn(playlistIds);
+            then(playlistService).should().loadContentsByPlaylistIdIn(Set.of(playlistId));
         }
 
         @Test
@@ -206,7 +226,8 @@ class PlaylistFacadeTest {
             given(playlistService.getAll(request)).willReturn(playlistPage);
             given(playlistSubscriptionService.findSubscribedPlaylistIds(requesterId, playlistIds))
                 .willReturn(Collections.emptySet());
-            given(playlistService.getContentsByPlaylistIdIn(playlistIds))
+            setupCachePortPassThrough();
+            given(playlistService.loadContentsByPlaylistIdIn(Set.of(playlistId)))
                 .willReturn(Map.of(playlistId, Collections.emptyList()));
             given(playlistResponseMapper.toResponse(playlist, false, Collections.emptyList(), Map.of()))
                 .willReturn(expectedResponse);
@@ -0,0 +1,135 @@
+package com.mopl.api.config;
+
+import com.mopl.domain.fixture.ContentModelFixture;
+import com.mopl.domain.fixture.PlaylistModelFixture;
+import com.mopl.domain.model.content.ContentModel;
+import com.mopl.domain.model.playlist.PlaylistModel;
+import com.mopl.domain.repository.content.query.ContentQueryRequest;
+import com.mopl.domain.repository.content.query.ContentSortField;
+import com.mopl.domain.repository.playlist.PlaylistQueryRequest;
+import com.mopl.domain.repository.playlist.PlaylistSortField;
+import com.mopl.domain.service.content.ContentService;
+import com.mopl.domain.service.content.ContentTagService;
+import com.mopl.domain.service.playlist.PlaylistService;
+import com.mopl.domain.support.cache.CacheName;
+import com.mopl.domain.support.cache.CachePort;
+import com.mopl.domain.support.cursor.CursorResponse;
+import com.mopl.domain.support.cursor.SortDirection;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.BDDMockito.willAnswer;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("CacheWarmUpInitializer 단위 테스트")
+class CacheWarmUpInitializerTest {
+
+    @Mock
+    private ContentService contentService;
+
+    @Mock
+    private ContentTagService contentTagService;
+
+    @Mock
+    private PlaylistService playlistService;
+
+    @Mock
+    private CachePort cachePort;
+
+    private CacheWarmUpInitializer initializer(int parallelism, Duration deadline) {
+        CacheWarmUpProperties properties = new CacheWarmUpProperties(true, 2, 1, parallelism, deadline);
+        return new CacheWarmUpInitializer(properties, contentService, contentTagService, playlistService, cachePort);
+    }
+
+    @Nested
+    @DisplayName("run()")
+    class RunTest {
+
+        @Test
+        @DisplayName("인기순 상위 콘텐츠와 구독자순 상위 플레이리스트를 단건 조회 경로로 적재하고 태그는 한 번에 적재")
+        void withPopularEntries_warmsContentsTagsAndPlaylists() {
+            // given
+            ContentModel first = ContentModelFixture.create();
+            ContentModel second = ContentModelFixture.create();
+            PlaylistModel playlist = PlaylistModelFixture.create();
+            given(contentService.getAll(any(ContentQueryRequest.class)))
+                .willReturn(CursorResponse.of(List.of(first, second), null, null, false, 2, "POPULARITY", SortDirection.DESCENDING));
+            given(playlistService.getAll(any(PlaylistQueryRequest.class)))
+                .willReturn(CursorResponse.of(List.of(playlist), null, null, false, 1, "SUBSCRIBER_COUNT", SortDirection.DESCENDING));
+
+            // when
+            initializer(2, Duration.ofSeconds(5)).run(null);
+
+            // then
+            ArgumentCaptor<ContentQueryRequest> contentRequest = ArgumentCaptor.forClass(ContentQueryRequest.class);
+            then(contentService).should().getAll(contentRequest.capture());
+            assertThat(contentRequest.getValue().limit()).isEqualTo(2);
+            assertThat(contentRequest.getValue().sortBy()).isEqualTo(ContentSortField.POPULARITY);
+            assertThat(contentRequest.getValue().sortDirection()).isEqualTo(SortDirection.DESCENDING);
+
+            ArgumentCaptor<PlaylistQueryRequest> playlistRequest = ArgumentCaptor.forClass(PlaylistQueryRequest.class);
+            then(playlistService).should().getAll(playlistRequest.capture());
+            assertThat(playlistRequest.getValue().sortBy()).isEqualTo(PlaylistSortField.SUBSCRIBER_COUNT);
+
+            then(contentService).should().getById(first.getId());
+            then(contentService).should().getById(second.getId());
+            then(cachePort).should().getAll(eq(CacheName.CONTENT_TAGS), eq(List.of(first.getId(), second.getId())), any());
+            then(playlistService).should().getById(playlist.getId());
+        }
+
+        @Test
+        @DisplayName("deadline이 지나면 남은 작업을 취소하고 반환")
+        void withSlowLoads_returnsAtDeadline() {
+            // given
+            ContentModel first = ContentModelFixture.create();
+            ContentModel second = ContentModelFixture.create();
+            given(contentService.getAll(any(ContentQueryRequest.class)))
+                .willReturn(CursorResponse.of(List.of(first, second), null, null, false, 2, "POPULARITY", SortDirection.DESCENDING));
+            given(playlistService.getAll(any(PlaylistQueryRequest.class)))
+                .willReturn(CursorResponse.empty("SUBSCRIBER_COUNT", SortDirection.DESCENDING));
+            willAnswer(invocation -> {
+                Thread.sleep(Duration.ofSeconds(10));
+                return null;
+            }).given(contentService).getById(any());
+
+            // when
+            long startedAt = System.nanoTime();
+            initializer(1, Duration.ofMillis(200)).run(null);
+            Duration elapsed = Duration.ofNanos(System.nanoTime() - startedAt);
+
+            // then
+            assertThat(elapsed).isLessThan(Duration.ofSeconds(5));
+        }
+
+        @Test
+        @DisplayName("조회 대상 쿼리가 실패해도 다른 캐시는 적재하고 예외를 전파하지 않음")
+        void withSourceFailure_warmsOtherCaches() {
+            // given
+            PlaylistModel playlist = PlaylistModelFixture.create();
+            given(contentService.getAll(any(ContentQueryRequest.class))).willThrow(new RuntimeException("DB down"));
+            given(playlistService.getAll(any(PlaylistQueryRequest.class)))
+                .willReturn(CursorResponse.of(List.of(playlist), null, null, false, 1, "SUBSCRIBER_COUNT", SortDirection.DESCENDING));
+            given(playlistService.getById(playlist.getId())).willThrow(new RuntimeException("load failed"));
+
+            // when
+            initializer(2, Duration.ofSeconds(5)).run(null);
+
+            // then
+            then(playlistService).should().getById(playlist.getId());
+            then(cachePort).shouldHaveNoInteractions();
+        }
+    }
+}
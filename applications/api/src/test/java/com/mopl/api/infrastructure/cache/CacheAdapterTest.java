@@ -1,5 +1,6 @@
 package com.mopl.api.infrastructure.cache;
 
+import com.mopl.cache.TwoLevelCache;
 import com.mopl.domain.support.cache.CacheName;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -10,11 +11,18 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.cache.Cache;
 import org.springframework.cache.CacheManager;
+import org.springframework.cache.support.SimpleValueWrapper;
 
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
+import java.util.function.Function;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 
 @ExtendWith(MockitoExtension.class)
@@ -86,4 +94,77 @@ class CacheAdapterTest {
             then(cache).should().put(key, value);
         }
     }
+
+    @Nested
+    @DisplayName("getAll()")
+    class GetAllTest {
+
+        @Test
+        @DisplayName("TwoLevelCache면 getAll에 위임")
+        void withTwoLevelCache_delegatesToGetAll() {
+            // given
+            TwoLevelCache twoLevelCache = mock(TwoLevelCache.class);
+            UUID key = UUID.randomUUID();
+            List<UUID> keys = List.of(key);
+            Function<Set<UUID>, Map<UUID, String>> bulkLoader = missing -> Map.of();
+            given(cacheManager.getCache(CacheName.CONTENT_TAGS)).willReturn(twoLevelCache);
+            given(twoLevelCache.getAll(keys, bulkLoader)).willReturn(Map.of(key, "value"));
+
+            // when
+            Map<UUID, String> result = cacheAdapter.getAll(CacheName.CONTENT_TAGS, keys, bulkLoader);
+
+            // then
+            assertThat(result).containsEntry(key, "value");
+        }
+
+        @Test
+        @DisplayName("일반 캐시면 미스 키만 bulkLoader로 로드해 저장")
+        void withPlainCache_loadsMissingKeysOnly() {
+            // given
+            UUID cachedKey = UUID.randomUUID();
+            UUID missingKey = UUID.randomUUID();
+            given(cacheManager.getCache(CacheName.CONTENT_TAGS)).willReturn(cache);
+            given(cache.get(cachedKey)).willReturn(new SimpleValueWrapper("cached"));
+            given(cache.get(missingKey)).willReturn(null);
+
+            // when
+            Map<UUID, String> result = cacheAdapter.getAll(
+                CacheName.CONTENT_TAGS,
+                List.of(cachedKey, missingKey),
+                missing -> {
+                    assertThat(missing).containsExactly(missingKey);
+                    return Map.of(missingKey, "loaded");
+                }
+            );
+
+            // then
+            assertThat(result).containsEntry(cachedKey, "cached").containsEntry(missingKey, "loaded");
+            then(cache).should().put(missingKey, "loaded");
+        }
+
+        @Test
+        @DisplayName("캐시 미존재 시 bulkLoader 결과 반환")
+        void withNonExistingCache_returnsLoadedValues() {
+            // given
+            UUID key = UUID.randomUUID();
+            given(cacheManager.getCache(CacheName.CONTENT_TAGS)).willReturn(null);
+
+            // when
+            Map<UUID, String> result = cacheAdapter.getAll(CacheName.CONTENT_TAGS, List.of(key), missing -> Map.of(key, "loaded"));
+
+            // then
+            assertThat(result).containsEntry(key, "loaded");
+        }
+
+        @Test
+        @DisplayName("빈 키 목록이면 캐시를 조회하지 않음")
+        void withEmptyKeys_returnsEmptyMap() {
+            // when
+            Map<UUID, String> result = cacheAdapter.getAll(CacheName.CONTENT_TAGS, List.of(), missing -> Map.of());
+
+            // then
+            assertThat(result).isEmpty();
+            then(cacheManager).shouldHaveNoInteractions();
+        }
+    }
 }
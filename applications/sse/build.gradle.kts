@@ -1,3 +1,7 @@
+plugins {
+    id("me.champeau.jmh") version "0.7.3"
+}
+
 dependencies {
     // project modules
     implementation(project(":core:domain"))
@@ -17,3 +21,13 @@ dependencies {
     // test
     testImplementation(project(":shared:test-core"))
 }
+
+// ./gradlew :applications:sse:jmh (src/jmh, 단위 테스트와 분리)
+jmh {
+    fork = 1
+    warmupIterations = 3
+    iterations = 5
+    benchmarkMode = listOf("avgt")
+    timeUnit = "ns"
+    profilers = listOf("gc")
+}
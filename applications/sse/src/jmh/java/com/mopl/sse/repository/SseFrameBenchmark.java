@@ -0,0 +1,74 @@
+package com.mopl.sse.repository;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mopl.domain.model.notification.NotificationModel;
+import com.mopl.domain.model.notification.NotificationModel.NotificationLevel;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter.DataWithMediaType;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Instant;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * 알림 하나를 recipients명에게 보낼 때의 인코딩 비용을 비교합니다.
+ *
+ * <p>{@code eventBuilder}는 기존 경로처럼 수신자마다 {@code SseEmitter.event().data(...)}를 만들고, 메시지 컨버터가 하듯
+ * data를 ObjectMapper로 씁니다. {@code sharedFrame}은 {@link SseFrameEncoder}로 한 번 인코딩한 {@link SseFrame}을 모든 수신자가 함께 씁니다.
+ * 할당량은 gc 프로파일러의 {@code gc.alloc.rate.norm}으로 봅니다.
+ * 실행: {@code ./gradlew :applications:sse:jmh}
+ */
+@State(Scope.Benchmark)
+public class SseFrameBenchmark {
+
+    private static final String EVENT_NAME = "notifications";
+
+    @Param({"1", "100"})
+    private int recipients;
+
+    private ObjectMapper objectMapper;
+    private SseFrameEncoder frameEncoder;
+    private NotificationModel notification;
+    private String eventId;
+
+    @Setup
+    public void setUp() {
+        objectMapper = new ObjectMapper().findAndRegisterModules();
+        frameEncoder = new SseFrameEncoder(objectMapper);
+        notification = NotificationModel.create("새 알림", "팔로우한 사용자가 플레이리스트를 만들었습니다.", NotificationLevel.INFO, UUID.randomUUID())
+            .toBuilder()
+            .id(UUID.randomUUID())
+            .createdAt(Instant.parse("2026-01-01T00:00:00Z"))
+            .build();
+        eventId = SseEventIds.generate().toString();
+    }
+
+    @Benchmark
+    public void eventBuilder(Blackhole blackhole) throws IOException {
+        for (int i = 0; i < recipients; i++) {
+            Set<DataWithMediaType> content = SseEmitter.event()
+                .id(eventId)
+                .name(EVENT_NAME)
+                .data(notification)
+                .build();
+            for (DataWithMediaType part : content) {
+                blackhole.consume(part.getData() instanceof String text ? text : objectMapper.writeValueAsBytes(part.getData()));
+            }
+        }
+    }
+
+    @Benchmark
+    public void sharedFrame(Blackhole blackhole) {
+        SseFrame frame = frameEncoder.encode(eventId, EVENT_NAME, notification);
+        for (int i = 0; i < recipients; i++) {
+            blackhole.consume(frame.content());
+        }
+    }
+}
@@ -0,0 +1,12 @@
+package com.mopl.sse.application;
+
+import java.time.Instant;
+
+/**
+ * DB 재전송이 상한에 걸려 멈췄음을 알리는 gap 이벤트 본문입니다. 클라이언트는 lastReplayedAt 이후 알림을 REST 목록으로 조회합니다.
+ */
+public record ReplayGap(
+    int replayed,
+    Instant lastReplayedAt
+) {
+}
@@ -0,0 +1,96 @@
+package com.mopl.sse.application;
+
+import com.mopl.sse.config.SseProperties;
+import com.mopl.sse.config.SseProperties.AdmissionConfig;
+import com.mopl.sse.repository.SseEmitterRegistry;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.LongSupplier;
+
+/**
+ * 새 SSE 연결을 받을지 정합니다. 노드의 연결 수가 maxConnections에 이르렀거나 연결 요청이 토큰 버킷을 넘으면 거절하고,
+ * 클라이언트마다 다른 재연결 대기 시간을 돌려줘 재연결 폭주가 같은 순간에 다시 몰리지 않게 합니다.
+ *
+ * <p>연결 수 확인과 등록 사이에는 잠금이 없으므로 동시에 들어온 요청만큼 상한을 잠깐 넘을 수 있습니다.
+ */
+@Component
+public class SseAdmissionControl {
+
+    private final SseEmitterRegistry emitterRegistry;
+    private final AdmissionConfig config;
+    private final TokenBucket connectBucket;
+    private final Map<Rejection, Counter> rejectedCounters = new EnumMap<>(Rejection.class);
+
+    public SseAdmissionControl(SseEmitterRegistry emitterRegistry, SseProperties sseProperties, MeterRegistry meterRegistry) {
+        this(emitterRegistry, sseProperties, meterRegistry, System::nanoTime);
+    }
+
+    SseAdmissionControl(SseEmitterRegistry emitterRegistry, SseProperties sseProperties, MeterRegistry meterRegistry, LongSupplier nanoClock) {
+        this.emitterRegistry = emitterRegistry;
+        this.config = sseProperties.admission();
+        this.connectBucket = new TokenBucket(config.connectsPerSecond(), config.connectBurst(), nanoClock);
+
+        Gauge.builder("mopl.sse.admission.available", this, SseAdmissionControl::availableConnections)
+            .description("SSE connections this node can still accept")
+            .register(meterRegistry);
+
+        for (Rejection rejection : Rejection.values()) {
+            rejectedCounters.put(rejection, Counter.builder("mopl.sse.admission.rejected")
+                .description("SSE connections rejected by admission control")
+                .tag("reason", rejection.name().toLowerCase())
+                .register(meterRegistry));
+        }
+    }
+
+    /**
+     * 연결 상한을 먼저 확인하므로 가득 찬 노드에서는 토큰을 쓰지 않습니다.
+     */
+    public Admission tryAdmit() {
+        if (availableConnections() <= 0) {
+            return reject(Rejection.CAPACITY);
+        }
+        if (!connectBucket.tryAcquire()) {
+            return reject(Rejection.RATE);
+        }
+        return Admission.ACCEPTED;
+    }
+
+    public int availableConnections() {
+        return Math.max(0, config.maxConnections() - emitterRegistry.connectionCount());
+    }
+
+    public int maxConnections() {
+        return config.maxConnections();
+    }
+
+    private Admission reject(Rejection rejection) {
+        rejectedCounters.get(rejection).increment();
+        return new Admission(false, rejection, jitteredRetry());
+    }
+
+    private Duration jitteredRetry() {
+        long min = config.retryMin().toMillis();
+        long max = config.retryMax().toMillis();
+        return Duration.ofMillis(ThreadLocalRandom.current().nextLong(min, max + 1));
+    }
+
+    public enum Rejection {
+        CAPACITY, RATE
+    }
+
+    public record Admission(
+        boolean accepted,
+        Rejection rejection,
+        Duration retryAfter
+    ) {
+
+        public static final Admission ACCEPTED = new Admission(true, null, Duration.ZERO);
+    }
+}
@@ -1,49 +1,93 @@
 package com.mopl.sse.application;
 
-import com.fasterxml.uuid.Generators;
-import com.fasterxml.uuid.impl.TimeBasedEpochGenerator;
 import com.mopl.domain.model.notification.NotificationModel;
 import com.mopl.domain.repository.notification.NotificationQueryRepository;
 import com.mopl.logging.context.LogContext;
-import com.mopl.sse.repository.RedisEmitterRepository;
+import com.mopl.sse.config.SseProperties;
+import com.mopl.sse.repository.EventCache;
+import com.mopl.sse.repository.OutboundEvent;
+import com.mopl.sse.repository.OverflowPolicy;
+import com.mopl.sse.repository.SseConnection;
+import com.mopl.sse.repository.SseEmitterRegistry;
+import com.mopl.sse.repository.SseEventIds;
+import com.mopl.sse.repository.SseFrameEncoder;
+import com.mopl.sse.repository.SseOutboundQueue;
 import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
 import io.micrometer.core.instrument.Gauge;
 import io.micrometer.core.instrument.MeterRegistry;
 import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
-import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.lang.Nullable;
 import org.springframework.stereotype.Component;
 import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.io.IOException;
 import java.time.Instant;
+import java.util.ArrayList;
+import java.util.EnumMap;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
 
 @Component
 @RequiredArgsConstructor
 public class SseEmitterManager {
 
     private static final long DEFAULT_TIMEOUT = 60L * 1000 * 60;
-    private static final TimeBasedEpochGenerator UUID_V7_GENERATOR = Generators.timeBasedEpochGenerator();
 
-    private final RedisEmitterRepository emitterRepository;
+    private final SseEmitterRegistry emitterRegistry;
+    private final SseNodePresence nodePresence;
+    private final EventCache eventCache;
+    private final SseFrameEncoder frameEncoder;
     private final NotificationQueryRepository notificationQueryRepository;
+    private final SseProperties sseProperties;
     private final MeterRegistry meterRegistry;
+    private final ThreadFactory drainThreadFactory = Thread.ofVirtual().name("sse-drain-", 0).factory();
+    private final Map<OverflowPolicy, Counter> droppedCounters = new EnumMap<>(OverflowPolicy.class);
 
     private Counter eventSentCounter;
     private Counter eventFailedCounter;
     private Counter resendCounter;
+    private Counter replayGapCounter;
+    private Counter evictedCounter;
+    private DistributionSummary connectionsPerUser;
+    private DistributionSummary queueDepth;
 
     @PostConstruct
     public void initMetrics() {
-        Gauge.builder("mopl.sse.connections.active", emitterRepository.getLocalEmitters(), Map::size)
+        Gauge.builder("mopl.sse.connections.active", emitterRegistry, SseEmitterRegistry::connectionCount)
             .description("Current SSE connections")
             .register(meterRegistry);
 
+        Gauge.builder("mopl.sse.connections.users", emitterRegistry, SseEmitterRegistry::userCount)
+            .description("Users with at least one SSE connection")
+            .register(meterRegistry);
+
+        connectionsPerUser = DistributionSummary.builder("mopl.sse.connections.per.user")
+            .description("SSE connections of the user right after connecting")
+            .register(meterRegistry);
+
+        evictedCounter = Counter.builder("mopl.sse.connections.evicted")
+            .description("Oldest SSE connections closed by the per-user limit")
+            .register(meterRegistry);
+
+        Gauge.builder("mopl.sse.outbound.queued", emitterRegistry, SseEmitterRegistry::queuedEvents)
+            .description("SSE events waiting in outbound queues")
+            .register(meterRegistry);
+
+        queueDepth = DistributionSummary.builder("mopl.sse.outbound.depth")
+            .description("Outbound queue depth of the connection right after enqueue")
+            .register(meterRegistry);
+
+        for (OverflowPolicy policy : OverflowPolicy.values()) {
+            droppedCounters.put(policy, Counter.builder("mopl.sse.outbound.dropped")
+                .description("SSE events dropped by full outbound queues")
+                .tag("policy", policy.name().toLowerCase())
+                .register(meterRegistry));
+        }
+
         eventSentCounter = Counter.builder("mopl.sse.events.sent")
             .description("SSE events sent successfully")
             .register(meterRegistry);
@@ -55,147 +99,283 @@ public class SseEmitterManager {
         resendCounter = Counter.builder("mopl.sse.events.resent")
             .description("SSE events resent")
             .register(meterRegistry);
+
+        replayGapCounter = Counter.builder("mopl.sse.events.replay.gaps")
+            .description("DB replays stopped at the limit with a gap event")
+            .register(meterRegistry);
     }
 
+    /**
+     * 사용자의 기존 연결은 유지한 채 연결을 하나 더 만듭니다. 사용자당 상한을 넘으면 가장 오래된 연결만 닫습니다.
+     * 발행자가 이 노드로 메시지를 보내도록 presence에 사용자를 등록합니다.
+     */
     public SseEmitter createEmitter(UUID userId) {
-        emitterRepository.findByUserId(userId).ifPresent(existing -> {
-            LogContext.with("userId", userId).debug("Closing existing emitter");
-            existing.complete();
-        });
-
         SseEmitter emitter = new SseEmitter(DEFAULT_TIMEOUT);
-        emitterRepository.save(userId, emitter);
+        SseEmitterRegistry.Registration registration = emitterRegistry.register(userId, emitter);
+        long connectionId = registration.connection().id();
+        connectionsPerUser.record(registration.userConnections());
+        nodePresence.register(userId);
+
+        if (registration.evicted() != null) {
+            evictedCounter.increment();
+            LogContext.with("userId", userId)
+                .and("connectionId", registration.evicted().id())
+                .debug("Closing oldest emitter over per-user limit");
+            completeEmitterQuietly(registration.evicted().emitter());
+        }
 
         emitter.onCompletion(() -> {
-            LogContext.with("userId", userId).debug("Emitter completed");
-            emitterRepository.deleteByUserId(userId);
+            LogContext.with("userId", userId).and("connectionId", connectionId).debug("Emitter completed");
+            emitterRegistry.remove(userId, connectionId);
         });
         emitter.onTimeout(() -> {
-            LogContext.with("userId", userId).debug("Emitter timed out");
-            emitterRepository.deleteByUserId(userId);
+            LogContext.with("userId", userId).and("connectionId", connectionId).debug("Emitter timed out");
+            emitterRegistry.remove(userId, connectionId);
         });
         emitter.onError((e) -> {
-            LogContext.with("userId", userId).debug("Emitter error");
-            emitterRepository.deleteByUserId(userId);
+            LogContext.with("userId", userId).and("connectionId", connectionId).debug("Emitter error");
+            emitterRegistry.remove(userId, connectionId);
         });
 
         return emitter;
     }
 
+    /**
+     * 이벤트를 캐싱하고 사용자의 각 연결 큐에 넣은 뒤 바로 반환합니다. 실제 전송은 연결별 drain 스레드가 하므로
+     * 느린 클라이언트가 호출 스레드(Redis 리스너)를 붙잡지 않습니다.
+     * data는 연결이 있을 때만 한 번 직렬화하고, 모든 연결이 같은 frame을 씁니다.
+     */
     public void sendToUser(UUID userId, String eventName, Object data) {
-        UUID eventId = generateEventId();
+        sendToUser(userId, eventName, data, null);
+    }
 
-        emitterRepository.cacheEvent(userId, eventId, data);
+    /**
+     * coalesceKey에는 data가 담은 원본(알림, DM)의 id를 넘깁니다. COALESCE 정책은 같은 원본의 대기 이벤트만 새 이벤트로 대체합니다.
+     */
+    public void sendToUser(UUID userId, String eventName, Object data, @Nullable UUID coalesceKey) {
+        String eventId = eventCache.cacheEvent(userId, data);
 
-        emitterRepository.findByUserId(userId).ifPresent(emitter -> {
-            try {
-                emitter.send(SseEmitter.event()
-                    .id(eventId.toString())
-                    .name(eventName)
-                    .data(data));
-                eventSentCounter.increment();
-                LogContext.with("userId", userId)
-                    .and("eventName", eventName)
-                    .debug("Event sent");
-            } catch (IOException e) {
-                eventFailedCounter.increment();
-                LogContext.with("userId", userId).debug("Failed to send event, client disconnected");
-                completeEmitterQuietly(emitter);
-                emitterRepository.deleteByUserId(userId);
+        List<SseConnection> connections = emitterRegistry.findByUserId(userId);
+        if (connections.isEmpty()) {
+            return;
+        }
+        OutboundEvent event = OutboundEvent.of(frameEncoder.encode(eventId, eventName, data), coalesceKey);
+        for (SseConnection connection : connections) {
+            enqueue(connection, event);
+        }
+    }
+
+    private void enqueue(SseConnection connection, OutboundEvent event) {
+        SseOutboundQueue.OfferResult result = connection.outbound().offer(event);
+        switch (result) {
+            case DROPPED_OLDEST -> droppedCounters.get(OverflowPolicy.DROP_OLDEST).increment();
+            case COALESCED -> droppedCounters.get(OverflowPolicy.COALESCE).increment();
+            case REJECTED -> {
+                droppedCounters.get(OverflowPolicy.DISCONNECT).increment();
+                LogContext.with("userId", connection.userId())
+                    .and("connectionId", connection.id())
+                    .debug("Outbound queue full, disconnecting slow client");
+                removeConnection(connection);
+                return;
             }
-        });
+            default -> {
+            }
+        }
+        queueDepth.record(connection.outbound().size());
+        scheduleDrain(connection);
+    }
+
+    private void scheduleDrain(SseConnection connection) {
+        if (connection.outbound().tryStartDrain()) {
+            drainThreadFactory.newThread(() -> drain(connection)).start();
+        }
+    }
+
+    /**
+     * 큐가 빌 때까지 전송합니다. 전송에 실패하면 남은 이벤트를 버리고 연결을 정리하며, drain 권한은 반납하지 않아
+     * 이미 끊긴 연결에 drain이 다시 시작되지 않습니다.
+     */
+    private void drain(SseConnection connection) {
+        do {
+            OutboundEvent event;
+            while ((event = connection.outbound().poll()) != null) {
+                try {
+                    connection.emitter().send(event.frame().content());
+                    connection.outbound().markSent();
+                } catch (IOException | IllegalStateException e) {
+                    if (!event.isHeartbeat()) {
+                        eventFailedCounter.increment();
+                    }
+                    LogContext.with("userId", connection.userId())
+                        .and("connectionId", connection.id())
+                        .and("heartbeat", event.isHeartbeat())
+                        .debug("Failed to send event, client disconnected");
+                    connection.outbound().clear();
+                    removeConnection(connection);
+                    return;
+                }
+                if (!event.isHeartbeat()) {
+                    eventSentCounter.increment();
+                    LogContext.with("userId", connection.userId())
+                        .and("connectionId", connection.id())
+                        .and("eventName", event.name())
+                        .debug("Event sent");
+                }
+            }
+        } while (connection.outbound().finishDrain());
     }
 
     public boolean hasLocalEmitter(UUID userId) {
-        return emitterRepository.existsLocally(userId);
+        return emitterRegistry.exists(userId);
     }
 
     public UUID generateEventId() {
-        return UUID_V7_GENERATOR.generate();
+        return SseEventIds.generate();
     }
 
-    public void resendEventsAfter(UUID userId, UUID lastEventId, SseEmitter emitter) {
-        List<RedisEmitterRepository.CachedEvent> cachedEvents = emitterRepository.getEventsAfter(userId, lastEventId);
+    /**
+     * createEmitter로 만든 연결의 송신 큐 보류를 풀고 drain을 시작합니다.
+     * lastEventId가 있으면 놓친 이벤트를 읽는 대로 큐에 넣어 바로 보내고, 재전송 중에 도착한 실시간 이벤트는 재전송을 마친 뒤 보냅니다.
+     * lastEventId는 UUID v7이나 stream id 중 어느 형식이어도 되며, 어느 쪽도 아니면 재전송하지 않습니다.
+     */
+    public void open(UUID userId, SseEmitter emitter, @Nullable String lastEventId) {
+        SseConnection connection = findConnection(userId, emitter);
+        if (connection == null) {
+            return;
+        }
 
-        if (!cachedEvents.isEmpty()) {
-            resendFromCache(cachedEvents, emitter, userId);
+        try {
+            if (lastEventId != null) {
+                replayEventsAfter(connection, lastEventId);
+            }
+        } finally {
+            connection.outbound().release();
+            scheduleDrain(connection);
+        }
+    }
+
+    @Nullable
+    private SseConnection findConnection(UUID userId, SseEmitter emitter) {
+        for (SseConnection connection : emitterRegistry.findByUserId(userId)) {
+            if (connection.emitter() == emitter) {
+                return connection;
+            }
+        }
+        return null;
+    }
+
+    private void replayEventsAfter(SseConnection connection, String lastEventId) {
+        UUID userId = connection.userId();
+        long lastEventMillis;
+        try {
+            lastEventMillis = SseEventIds.timestampMillis(lastEventId);
+        } catch (IllegalArgumentException e) {
+            LogContext.with("userId", userId).and("lastEventId", lastEventId).debug("Ignoring malformed Last-Event-ID");
             return;
         }
 
-        Instant lastEventTime = extractInstantFromUuidV7(lastEventId);
-        List<NotificationModel> notifications = notificationQueryRepository.findByReceiverIdAndCreatedAtAfter(userId, lastEventTime);
-
-        for (NotificationModel notification : notifications) {
-            try {
-                UUID eventId = generateEventId();
-                emitter.send(SseEmitter.event()
-                    .id(eventId.toString())
-                    .name("notifications")
-                    .data(notification));
-                resendCounter.increment();
-                LogContext.with("userId", userId)
-                    .and("eventId", eventId)
-                    .and("source", "db")
-                    .debug("Event resent");
-            } catch (IOException e) {
-                eventFailedCounter.increment();
-                LogContext.with("userId", userId)
-                    .and("source", "db")
-                    .debug("Failed to resend, client disconnected");
-                completeEmitterQuietly(emitter);
-                break;
+        List<EventCache.ReplayEvent> cachedEvents = eventCache.getEventsAfter(userId, lastEventId);
+
+        if (!cachedEvents.isEmpty()) {
+            List<OutboundEvent> replayed = new ArrayList<>(cachedEvents.size());
+            for (EventCache.ReplayEvent cachedEvent : cachedEvents) {
+                addReplayed(userId, replayed, cachedEvent.eventId(), cachedEvent.data(), null, "cache");
             }
+            enqueueReplayed(connection, replayed);
+            return;
         }
+
+        replayFromDb(connection, Instant.ofEpochMilli(lastEventMillis));
     }
 
-    private void resendFromCache(
-        List<RedisEmitterRepository.CachedEvent> cachedEvents,
-        SseEmitter emitter,
-        UUID userId
-    ) {
-        for (RedisEmitterRepository.CachedEvent cachedEvent : cachedEvents) {
-            try {
-                emitter.send(SseEmitter.event()
-                    .id(cachedEvent.eventId().toString())
-                    .name("notifications")
-                    .data(cachedEvent.data()));
-                resendCounter.increment();
-                LogContext.with("userId", userId)
-                    .and("eventId", cachedEvent.eventId())
-                    .and("source", "cache")
-                    .debug("Event resent");
-            } catch (IOException e) {
-                eventFailedCounter.increment();
+    /**
+     * 캐시에 없는 이벤트를 DB에서 pageSize개씩 keyset으로 읽어 페이지마다 바로 큐에 넣습니다.
+     * 다음 페이지를 읽기 전에 연결이 끊겼으면 멈추고, maxEvents개를 보내고도 남은 알림이 있으면 gap 이벤트를 붙이고 멈춥니다.
+     */
+    private void replayFromDb(SseConnection connection, Instant createdAfter) {
+        UUID userId = connection.userId();
+        SseProperties.ReplayConfig replay = sseProperties.replay();
+        UUID idAfter = null;
+        int count = 0;
+
+        while (true) {
+            int limit = Math.min(replay.pageSize(), replay.maxEvents() - count + 1);
+            List<NotificationModel> page = notificationQueryRepository.findByReceiverIdAndCreatedAtAfter(userId, createdAfter, idAfter, limit);
+            List<OutboundEvent> replayed = new ArrayList<>(page.size());
+
+            for (NotificationModel notification : page) {
+                if (count == replay.maxEvents()) {
+                    addReplayGap(userId, replayed, new ReplayGap(count, createdAfter));
+                    enqueueReplayed(connection, replayed);
+                    return;
+                }
+                addReplayed(userId, replayed, generateEventId().toString(), notification, notification.getId(), "db");
+                count++;
+                createdAfter = notification.getCreatedAt();
+                idAfter = notification.getId();
+            }
+            enqueueReplayed(connection, replayed);
+
+            if (page.size() < limit) {
+                return;
+            }
+            if (findConnection(userId, connection.emitter()) == null) {
                 LogContext.with("userId", userId)
-                    .and("source", "cache")
-                    .debug("Failed to resend, client disconnected");
-                completeEmitterQuietly(emitter);
-                break;
+                    .and("replayed", count)
+                    .debug("Client disconnected during replay, stopping");
+                return;
             }
         }
     }
 
-    private Instant extractInstantFromUuidV7(UUID uuid) {
-        long timestamp = (uuid.getMostSignificantBits() >> 16) & 0xFFFFFFFFFFFFL;
-        return Instant.ofEpochMilli(timestamp);
+    private void enqueueReplayed(SseConnection connection, List<OutboundEvent> replayed) {
+        if (replayed.isEmpty()) {
+            return;
+        }
+        connection.outbound().addReplayed(replayed);
+        scheduleDrain(connection);
+    }
+
+    private void addReplayed(
+        UUID userId,
+        List<OutboundEvent> replayed,
+        String eventId,
+        Object data,
+        @Nullable UUID coalesceKey,
+        String source
+    ) {
+        replayed.add(OutboundEvent.of(frameEncoder.encode(eventId, "notifications", data), coalesceKey));
+        resendCounter.increment();
+        LogContext.with("userId", userId)
+            .and("eventId", eventId)
+            .and("source", source)
+            .debug("Event queued for resend");
     }
 
-    @Scheduled(fixedRate = 30000)
-    public void sendHeartbeat() {
-        Map<UUID, SseEmitter> emitters = emitterRepository.getLocalEmitters();
+    private void addReplayGap(UUID userId, List<OutboundEvent> replayed, ReplayGap gap) {
+        replayed.add(OutboundEvent.of(frameEncoder.encode(generateEventId().toString(), "gap", gap)));
+        replayGapCounter.increment();
+        LogContext.with("userId", userId)
+            .and("replayed", gap.replayed())
+            .debug("Replay limit reached, gap event queued");
+    }
 
-        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
-            emitters.forEach((userId, emitter) -> executor.execute(() -> {
-                try {
-                    emitter.send(SseEmitter.event().comment("heartbeat"));
-                } catch (IOException e) {
-                    LogContext.with("userId", userId).debug("Heartbeat failed, removing emitter");
-                    completeEmitterQuietly(emitter);
-                    emitterRepository.deleteByUserId(userId);
-                }
-            })
-            );
+    /**
+     * 연결이 idleNanos 이상 조용했으면 heartbeat를 큐에 넣습니다. 전송 실패는 일반 이벤트와 같은 drain 경로에서 정리됩니다.
+     *
+     * @return heartbeat를 넣었으면 true
+     */
+    public boolean sendHeartbeat(SseConnection connection, long idleNanos) {
+        if (!connection.outbound().offerHeartbeat(idleNanos)) {
+            return false;
         }
+        scheduleDrain(connection);
+        return true;
+    }
+
+    private void removeConnection(SseConnection connection) {
+        completeEmitterQuietly(connection.emitter());
+        emitterRegistry.remove(connection.userId(), connection.id());
     }
 
     private void completeEmitterQuietly(SseEmitter emitter) {
@@ -13,8 +13,17 @@ import java.util.UUID;
 public class SseFacade {
 
     private final SseEmitterManager sseEmitterManager;
+    private final SseAdmissionControl admissionControl;
+
+    /**
+     * 새 연결의 송신 큐는 open 전까지 보류되므로, connect 이벤트를 여기서 직접 보내도 drain 스레드와 겹치지 않습니다.
+     */
+    public SseEmitter subscribe(UUID userId, String lastEventId) {
+        SseAdmissionControl.Admission admission = admissionControl.tryAdmit();
+        if (!admission.accepted()) {
+            return reject(userId, admission);
+        }
 
-    public SseEmitter subscribe(UUID userId, UUID lastEventId) {
         SseEmitter emitter = sseEmitterManager.createEmitter(userId);
 
         try {
@@ -28,10 +37,33 @@ public class SseFacade {
             return emitter;
         }
 
-        if (lastEventId != null) {
-            sseEmitterManager.resendEventsAfter(userId, lastEventId, emitter);
-        }
+        sseEmitterManager.open(userId, emitter, lastEventId);
+
+        return emitter;
+    }
+
+    /**
+     * 오류 응답을 받은 EventSource는 재연결하지 않으므로, 정상 스트림으로 retry 대기 시간과 거절 이벤트만 보내고 닫습니다.
+     * 클라이언트는 retry만큼 기다린 뒤 같은 Last-Event-ID로 다시 연결합니다.
+     */
+    private SseEmitter reject(UUID userId, SseAdmissionControl.Admission admission) {
+        SseEmitter emitter = new SseEmitter();
+        String reason = admission.rejection().name().toLowerCase();
 
+        LogContext.with("userId", userId)
+            .and("reason", reason)
+            .and("retryMillis", admission.retryAfter().toMillis())
+            .debug("SSE connection rejected");
+
+        try {
+            emitter.send(SseEmitter.event()
+                .reconnectTime(admission.retryAfter().toMillis())
+                .name("overloaded")
+                .data(reason));
+            emitter.complete();
+        } catch (IOException e) {
+            emitter.completeWithError(e);
+        }
         return emitter;
     }
 }
@@ -0,0 +1,95 @@
+package com.mopl.sse.application;
+
+import com.mopl.logging.context.LogContext;
+import com.mopl.sse.config.SseProperties;
+import com.mopl.sse.config.SseProperties.HeartbeatConfig;
+import com.mopl.sse.repository.SseEmitterRegistry;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.stereotype.Component;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * heartbeat wheel을 tick마다 한 칸씩 돌려 연결별 heartbeat를 interval 전체에 고르게 나눠 보냅니다.
+ *
+ * <p>전체 연결에 한꺼번에 쓰던 방식과 달리 tick마다 1/slot 수의 연결만 방문하고,
+ * 최근에 실제 이벤트를 받은 연결은 건너뛰므로 주기적인 CPU/시스템 콜 급증이 생기지 않습니다.
+ * presence 갱신도 같은 순회에 얹습니다.
+ */
+@Component
+public class SseHeartbeatScheduler implements DisposableBean {
+
+    private final SseEmitterRegistry emitterRegistry;
+    private final SseEmitterManager sseEmitterManager;
+    private final SseNodePresence nodePresence;
+    private final long idleNanos;
+    private final ScheduledExecutorService ticker;
+    private final Counter sentCounter;
+    private final Counter skippedCounter;
+
+    public SseHeartbeatScheduler(
+        SseEmitterRegistry emitterRegistry,
+        SseEmitterManager sseEmitterManager,
+        SseNodePresence nodePresence,
+        SseProperties sseProperties,
+        MeterRegistry meterRegistry
+    ) {
+        this.emitterRegistry = emitterRegistry;
+        this.sseEmitterManager = sseEmitterManager;
+        this.nodePresence = nodePresence;
+
+        HeartbeatConfig config = sseProperties.heartbeat();
+        this.idleNanos = config.idleThreshold().toNanos();
+        this.sentCounter = Counter.builder("mopl.sse.heartbeats.sent")
+            .description("SSE heartbeats queued for idle connections")
+            .register(meterRegistry);
+        this.skippedCounter = Counter.builder("mopl.sse.heartbeats.skipped")
+            .description("SSE heartbeats skipped for recently active connections")
+            .register(meterRegistry);
+        this.ticker = Executors.newSingleThreadScheduledExecutor(
+            Thread.ofPlatform().name("sse-heartbeat-wheel").daemon().factory()
+        );
+
+        long tickMillis = Math.max(1, config.tick().toMillis());
+        ticker.scheduleAtFixedRate(this::tickSafely, tickMillis, tickMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * wheel을 한 칸 진행합니다. 방문한 연결의 사용자 presence도 파이프라인 한 번으로 갱신하므로,
+     * 연결이 살아 있는 사용자는 한 바퀴마다 갱신됩니다. ticker 스레드에서만 호출됩니다.
+     */
+    void tick() {
+        Set<UUID> visitedUserIds = new HashSet<>();
+        emitterRegistry.advanceHeartbeatWheel(connection -> {
+            visitedUserIds.add(connection.userId());
+            if (sseEmitterManager.sendHeartbeat(connection, idleNanos)) {
+                sentCounter.increment();
+            } else {
+                skippedCounter.increment();
+            }
+        });
+        if (!visitedUserIds.isEmpty()) {
+            nodePresence.refresh(visitedUserIds);
+        }
+    }
+
+    @Override
+    public void destroy() {
+        ticker.shutdownNow();
+    }
+
+    private void tickSafely() {
+        try {
+            tick();
+        } catch (Exception e) {
+            LogContext.with("connections", emitterRegistry.connectionCount()).error("SSE heartbeat tick failed", e);
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package com.mopl.sse.application;
+
+import com.mopl.logging.context.LogContext;
+import com.mopl.redis.pubsub.SsePresenceDirectory;
+import com.mopl.sse.config.SseProperties;
+import com.mopl.sse.config.SseProperties.PresenceConfig;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.UUID;
+
+/**
+ * 이 노드의 사용자 presence를 기록합니다. presence 기록 실패는 연결을 막지 않으며, 다음 heartbeat 갱신에서 복구됩니다.
+ */
+@Component
+public class SseNodePresence {
+
+    private final SsePresenceDirectory presenceDirectory;
+    private final PresenceConfig config;
+
+    public SseNodePresence(SsePresenceDirectory presenceDirectory, SseProperties sseProperties) {
+        this.presenceDirectory = presenceDirectory;
+        this.config = sseProperties.presence();
+    }
+
+    public String nodeId() {
+        return config.nodeId();
+    }
+
+    /**
+     * 발행 채널에 대응하는 이 노드 전용 채널
+     */
+    public String channel(String channel) {
+        return SsePresenceDirectory.nodeChannel(channel, config.nodeId());
+    }
+
+    public void register(UUID userId) {
+        try {
+            presenceDirectory.register(config.nodeId(), userId, config.ttl());
+        } catch (Exception e) {
+            LogContext.with("userId", userId).and("nodeId", config.nodeId()).warn("SSE presence register failed: " + e.getMessage());
+        }
+    }
+
+    public void refresh(Collection<UUID> userIds) {
+        try {
+            presenceDirectory.refresh(config.nodeId(), userIds, config.ttl());
+        } catch (Exception e) {
+            LogContext.with("users", userIds.size()).and("nodeId", config.nodeId()).warn("SSE presence refresh failed: " + e.getMessage());
+        }
+    }
+}
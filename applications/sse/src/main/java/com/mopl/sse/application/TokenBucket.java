@@ -0,0 +1,43 @@
+package com.mopl.sse.application;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.LongSupplier;
+
+/**
+ * 초당 ratePerSecond개씩 채워지고 최대 capacity개까지 쌓이는 토큰 버킷입니다.
+ */
+final class TokenBucket {
+
+    private final double ratePerNano;
+    private final double capacity;
+    private final LongSupplier nanoClock;
+    private final ReentrantLock lock = new ReentrantLock();
+
+    private double tokens;
+    private long refilledAt;
+
+    TokenBucket(double ratePerSecond, int capacity, LongSupplier nanoClock) {
+        this.ratePerNano = ratePerSecond / TimeUnit.SECONDS.toNanos(1);
+        this.capacity = capacity;
+        this.nanoClock = nanoClock;
+        this.tokens = capacity;
+        this.refilledAt = nanoClock.getAsLong();
+    }
+
+    boolean tryAcquire() {
+        lock.lock();
+        try {
+            long now = nanoClock.getAsLong();
+            tokens = Math.min(capacity, tokens + (now - refilledAt) * ratePerNano);
+            refilledAt = now;
+            if (tokens < 1) {
+                return false;
+            }
+            tokens -= 1;
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+}
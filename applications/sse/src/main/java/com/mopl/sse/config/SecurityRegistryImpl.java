@@ -16,6 +16,7 @@ public class SecurityRegistryImpl implements SecurityRegistry {
             .requestMatchers("/sse/**").authenticated()
             .requestMatchers(
                 "/actuator/health",
+                "/actuator/health/**",
                 "/actuator/info",
                 "/actuator/prometheus",
                 "/actuator/metrics",
@@ -1,23 +1,55 @@
 package com.mopl.sse.config;
 
+import com.mopl.sse.repository.EventCacheStore;
+import com.mopl.sse.repository.OverflowPolicy;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
 import java.time.Duration;
+import java.util.UUID;
 
 @ConfigurationProperties("mopl.sse")
 public record SseProperties(
-    EventCacheConfig eventCache
+    EventCacheConfig eventCache,
+    ConnectionConfig connections,
+    HeartbeatConfig heartbeat,
+    PresenceConfig presence,
+    ReplayConfig replay,
+    AdmissionConfig admission
 ) {
 
     public SseProperties {
         if (eventCache == null) {
-            eventCache = new EventCacheConfig(Duration.ofMinutes(5), 100);
+            eventCache = new EventCacheConfig(Duration.ofMinutes(5), 100, null, 0, null, null);
+        }
+        if (connections == null) {
+            connections = new ConnectionConfig(0, 0, 0, null);
+        }
+        if (heartbeat == null) {
+            heartbeat = new HeartbeatConfig(null, null);
+        }
+        if (presence == null) {
+            presence = new PresenceConfig(null, null);
+        }
+        if (replay == null) {
+            replay = new ReplayConfig(0, 0);
+        }
+        if (admission == null) {
+            admission = new AdmissionConfig(0, 0, 0, null, null);
         }
     }
 
+    /**
+     * 이벤트 캐시는 사용자별로 최근 maxSize개를 ttl 동안 보관하며, store로 ZSET과 Redis Stream 구현 중 하나를 고릅니다.
+     * ZSET 쓰기는 flushInterval 동안 모아 maxBatchSize개 단위로 한 파이프라인에 기록합니다.
+     * 재전송 조회 전에는 해당 사용자의 대기 이벤트만 기록하며, 진행 중인 배치는 replayFlushTimeout까지만 기다립니다.
+     */
     public record EventCacheConfig(
         Duration ttl,
-        int maxSize
+        int maxSize,
+        Duration flushInterval,
+        int maxBatchSize,
+        EventCacheStore store,
+        Duration replayFlushTimeout
     ) {
 
         public EventCacheConfig {
@@ -27,6 +59,146 @@ public record SseProperties(
             if (maxSize <= 0) {
                 maxSize = 100;
             }
+            if (flushInterval == null) {
+                flushInterval = Duration.ofMillis(5);
+            }
+            if (maxBatchSize <= 0) {
+                maxBatchSize = 500;
+            }
+            if (store == null) {
+                store = EventCacheStore.ZSET;
+            }
+            if (replayFlushTimeout == null) {
+                replayFlushTimeout = Duration.ofMillis(50);
+            }
+        }
+    }
+
+    /**
+     * 로컬 연결 저장소는 shards개(2의 거듭제곱으로 올림)로 나뉘며, 사용자당 maxPerUser개를 넘으면 가장 오래된 연결을 닫습니다.
+     * 연결마다 queueCapacity개까지 송신 대기하고, 넘치면 overflowPolicy를 따릅니다.
+     */
+    public record ConnectionConfig(
+        int shards,
+        int maxPerUser,
+        int queueCapacity,
+        OverflowPolicy overflowPolicy
+    ) {
+
+        public ConnectionConfig {
+            if (shards <= 0) {
+                shards = 16;
+            }
+            if (maxPerUser <= 0) {
+                maxPerUser = 5;
+            }
+            if (queueCapacity <= 0) {
+                queueCapacity = 64;
+            }
+            if (overflowPolicy == null) {
+                overflowPolicy = OverflowPolicy.DROP_OLDEST;
+            }
+        }
+    }
+
+    /**
+     * heartbeat는 interval을 tick 단위 slot으로 나눈 timing wheel로 고르게 분산됩니다.
+     * 마지막 전송 후 interval의 절반이 지나지 않은 연결은 건너뜁니다.
+     */
+    public record HeartbeatConfig(
+        Duration interval,
+        Duration tick
+    ) {
+
+        public HeartbeatConfig {
+            if (interval == null) {
+                interval = Duration.ofSeconds(30);
+            }
+            if (tick == null) {
+                tick = Duration.ofSeconds(1);
+            }
+            if (tick.compareTo(interval) > 0) {
+                tick = interval;
+            }
+        }
+
+        public int slotCount() {
+            return (int) Math.max(1, interval.toMillis() / Math.max(1, tick.toMillis()));
+        }
+
+        public Duration idleThreshold() {
+            return interval.dividedBy(2);
+        }
+    }
+
+    /**
+     * 이 노드는 nodeId로 presence 디렉터리에 사용자를 등록하고 노드 전용 채널을 구독합니다.
+     * nodeId를 지정하지 않으면 기동할 때마다 새로 만듭니다. ttl은 heartbeat 한 바퀴보다 충분히 길어야 합니다.
+     */
+    public record PresenceConfig(
+        String nodeId,
+        Duration ttl
+    ) {
+
+        public PresenceConfig {
+            if (nodeId == null || nodeId.isBlank()) {
+                nodeId = UUID.randomUUID().toString();
+            }
+            if (ttl == null) {
+                ttl = Duration.ofSeconds(90);
+            }
+        }
+    }
+
+    /**
+     * 캐시에 없는 이벤트는 DB에서 pageSize개씩 keyset으로 읽어 재전송하며, maxEvents개를 넘으면 멈추고 gap 이벤트를 보냅니다.
+     */
+    public record ReplayConfig(
+        int pageSize,
+        int maxEvents
+    ) {
+
+        public ReplayConfig {
+            if (pageSize <= 0) {
+                pageSize = 100;
+            }
+            if (maxEvents <= 0) {
+                maxEvents = 1000;
+            }
+        }
+    }
+
+    /**
+     * 이 노드는 최대 maxConnections개까지 연결을 받고, 새 연결은 초당 connectsPerSecond개(최대 connectBurst개 몰림 허용)로 제한합니다.
+     * 거절한 클라이언트에는 retryMin과 retryMax 사이에서 무작위로 고른 재연결 대기 시간을 보냅니다.
+     */
+    public record AdmissionConfig(
+        int maxConnections,
+        double connectsPerSecond,
+        int connectBurst,
+        Duration retryMin,
+        Duration retryMax
+    ) {
+
+        public AdmissionConfig {
+            if (maxConnections <= 0) {
+                maxConnections = 10_000;
+            }
+            if (connectsPerSecond <= 0) {
+                connectsPerSecond = 50;
+            }
+            if (connectBurst <= 0) {
+                connectBurst = 100;
+            }
+            if (retryMin == null) {
+                retryMin = Duration.ofSeconds(1);
+            }
+            if (retryMax == null) {
+                retryMax = Duration.ofSeconds(10);
+            }
+            if (retryMax.compareTo(retryMin) < 0) {
+                retryMax = retryMin;
+            }
         }
     }
 }
@@ -9,8 +9,6 @@ import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
-import java.util.UUID;
-
 @Tag(name = "SSE API")
 public interface SseApiSpec {
 
@@ -24,6 +22,6 @@ public interface SseApiSpec {
     )
     SseEmitter subscribe(
         @Parameter(hidden = true) MoplUserDetails userDetails,
-        @Parameter(name = "lastEventId") UUID lastEventId
+        @Parameter(name = "lastEventId") String lastEventId
     );
 }
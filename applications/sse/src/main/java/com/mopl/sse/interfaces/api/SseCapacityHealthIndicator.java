@@ -0,0 +1,28 @@
+package com.mopl.sse.interfaces.api;
+
+import com.mopl.sse.application.SseAdmissionControl;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.stereotype.Component;
+
+/**
+ * 노드에 남은 연결 여유를 health로 노출합니다. readiness 그룹에 포함되므로 가득 찬 노드는 OUT_OF_SERVICE가 되어
+ * 로드 밸런서가 새 연결을 다른 노드로 보내고, 이미 맺은 연결은 그대로 유지됩니다.
+ */
+@Component("sseCapacity")
+@RequiredArgsConstructor
+public class SseCapacityHealthIndicator implements HealthIndicator {
+
+    private final SseAdmissionControl admissionControl;
+
+    @Override
+    public Health health() {
+        int available = admissionControl.availableConnections();
+        Health.Builder builder = available > 0 ? Health.up() : Health.outOfService();
+        return builder
+            .withDetail("maxConnections", admissionControl.maxConnections())
+            .withDetail("availableConnections", available)
+            .build();
+    }
+}
@@ -10,8 +10,6 @@ import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
-import java.util.UUID;
-
 @RestController
 @RequestMapping("/sse")
 @RequiredArgsConstructor
@@ -22,7 +20,7 @@ public class SseController implements SseApiSpec {
     @GetMapping(produces = "text/event-stream")
     public SseEmitter subscribe(
         @AuthenticationPrincipal MoplUserDetails userDetails,
-        @RequestParam(required = false) UUID lastEventId
+        @RequestParam(required = false) String lastEventId
     ) {
         return sseFacade.subscribe(userDetails.userId(), lastEventId);
     }
@@ -5,6 +5,7 @@ import com.mopl.dto.conversation.DirectMessageResponse;
 import com.mopl.logging.context.LogContext;
 import com.mopl.redis.pubsub.DirectMessagePublisher;
 import com.mopl.sse.application.SseEmitterManager;
+import com.mopl.sse.application.SseNodePresence;
 import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.redis.connection.Message;
@@ -14,6 +15,7 @@ import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.lang.NonNull;
 import org.springframework.stereotype.Component;
 
+import java.util.List;
 import java.util.UUID;
 
 @Component
@@ -22,15 +24,20 @@ public class RedisDirectMessageSubscriber implements MessageListener {
 
     private final RedisMessageListenerContainer redisMessageListenerContainer;
     private final SseEmitterManager sseEmitterManager;
+    private final SseNodePresence nodePresence;
     private final ObjectMapper objectMapper;
 
+    /**
+     * 이 노드 전용 채널을 구독합니다. 공용 채널은 노드 채널로 발행하기 전 버전의 발행자와 함께 배포되는 동안만 쓰입니다.
+     */
     @PostConstruct
     public void subscribe() {
+        String nodeChannel = nodePresence.channel(DirectMessagePublisher.CHANNEL);
         redisMessageListenerContainer.addMessageListener(
             this,
-            new ChannelTopic(DirectMessagePublisher.CHANNEL)
+            List.of(new ChannelTopic(nodeChannel), new ChannelTopic(DirectMessagePublisher.CHANNEL))
         );
-        LogContext.with("channel", DirectMessagePublisher.CHANNEL).info("Subscribed to Redis channel");
+        LogContext.with("channel", nodeChannel).info("Subscribed to Redis channel");
     }
 
     @Override
@@ -46,7 +53,8 @@ public class RedisDirectMessageSubscriber implements MessageListener {
                 sseEmitterManager.sendToUser(
                     receiverId,
                     "direct-messages",
-                    directMessage
+                    directMessage,
+                    directMessage.id()
                 );
             }
         } catch (Exception e) {
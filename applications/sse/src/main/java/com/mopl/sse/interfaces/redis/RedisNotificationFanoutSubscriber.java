@@ -0,0 +1,58 @@
+package com.mopl.sse.interfaces.redis;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mopl.domain.model.notification.NotificationModel;
+import com.mopl.logging.context.LogContext;
+import com.mopl.redis.pubsub.NotificationFanout;
+import com.mopl.redis.pubsub.NotificationPublisher;
+import com.mopl.sse.application.SseEmitterManager;
+import com.mopl.sse.application.SseNodePresence;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Component;
+
+import java.util.UUID;
+
+/**
+ * 알림 봉투를 받아 이 노드에 연결된 수신자별 알림으로 풀어 전송합니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class RedisNotificationFanoutSubscriber implements MessageListener {
+
+    private final RedisMessageListenerContainer redisMessageListenerContainer;
+    private final SseEmitterManager sseEmitterManager;
+    private final SseNodePresence nodePresence;
+    private final ObjectMapper objectMapper;
+
+    @PostConstruct
+    public void subscribe() {
+        String nodeChannel = nodePresence.channel(NotificationPublisher.FANOUT_CHANNEL);
+        redisMessageListenerContainer.addMessageListener(this, new ChannelTopic(nodeChannel));
+        LogContext.with("channel", nodeChannel).info("Subscribed to Redis channel");
+    }
+
+    @Override
+    public void onMessage(@NonNull Message message, byte[] pattern) {
+        try {
+            NotificationFanout fanout = objectMapper.readValue(
+                message.getBody(), NotificationFanout.class
+            );
+
+            for (int i = 0; i < fanout.recipientCount(); i++) {
+                UUID receiverId = fanout.receiverIds().get(i);
+                if (sseEmitterManager.hasLocalEmitter(receiverId)) {
+                    NotificationModel notification = fanout.notificationAt(i);
+                    sseEmitterManager.sendToUser(receiverId, "notifications", notification, notification.getId());
+                }
+            }
+        } catch (Exception e) {
+            LogContext.with("subscriber", "notification-fanout").error("Failed to process Redis message", e);
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package com.mopl.sse.repository;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Last-Event-ID 재연결 시 놓친 이벤트를 돌려주는 사용자별 이벤트 캐시입니다.
+ * 구현은 mopl.sse.event-cache.store로 고릅니다.
+ */
+public interface EventCache {
+
+    /**
+     * 이벤트를 기록하고 클라이언트에 보낼 SSE 이벤트 id를 반환합니다.
+     */
+    String cacheEvent(UUID userId, Object eventData);
+
+    /**
+     * lastEventId 이후에 기록된 이벤트를 기록 순서대로 반환합니다. lastEventId는 어느 구현이 발급한 id여도 됩니다.
+     */
+    List<ReplayEvent> getEventsAfter(UUID userId, String lastEventId);
+
+    record ReplayEvent(String eventId, Object data) {
+    }
+}
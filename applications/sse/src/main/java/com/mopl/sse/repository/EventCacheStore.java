@@ -0,0 +1,17 @@
+package com.mopl.sse.repository;
+
+/**
+ * 재전송용 이벤트 캐시 구현.
+ */
+public enum EventCacheStore {
+
+    /**
+     * 사용자별 ZSET에 UUID v7 타임스탬프를 score로 기록합니다. 쓰기는 {@link EventCacheWriter}가 모아서 보냅니다.
+     */
+    ZSET,
+
+    /**
+     * 사용자별 Redis Stream에 XADD로 기록하고 stream id를 SSE 이벤트 id로 씁니다.
+     */
+    STREAM
+}
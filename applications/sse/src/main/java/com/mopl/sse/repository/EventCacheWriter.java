@@ -0,0 +1,201 @@
+package com.mopl.sse.repository;
+
+import com.mopl.logging.context.LogContext;
+import com.mopl.sse.config.SseProperties;
+import com.mopl.sse.config.SseProperties.EventCacheConfig;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.ZSetOperations.TypedTuple;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 사용자별 이벤트 캐시(ZSET) 쓰기를 모아 배치마다 파이프라인 한 번으로 기록합니다.
+ *
+ * <p>이벤트마다 ZADD, EXPIRE, ZCARD, ZREMRANGEBYRANK를 따로 보내는 대신 flushInterval 동안 큐에 쌓아 두고,
+ * 배치 안에서 키별로 ZADD(여러 멤버) 한 번, EXPIRE 한 번, 음수 rank ZREMRANGEBYRANK 한 번을 보냅니다.
+ * 음수 rank로 최근 maxSize개만 남기므로 ZCARD 왕복이 필요 없습니다.
+ * 큐가 maxBatchSize에 이르면 주기를 기다리지 않고 바로 flush하되, 예약된 flush가 실행되기 전에는 한 번만 예약합니다.
+ */
+@Component
+@ConditionalOnProperty(prefix = "mopl.sse.event-cache", name = "store", havingValue = "zset", matchIfMissing = true)
+public class EventCacheWriter implements DisposableBean {
+
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final EventCacheConfig config;
+    private final Queue<PendingEvent> pending = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger pendingCount = new AtomicInteger();
+    private final AtomicBoolean flushScheduled = new AtomicBoolean();
+    private final ReentrantLock flushLock = new ReentrantLock();
+    private final ScheduledExecutorService flusher;
+    private final Timer flushLatency;
+    private final DistributionSummary batchSize;
+    private final Counter failedEvents;
+
+    public EventCacheWriter(
+        RedisTemplate<String, Object> redisTemplate,
+        SseProperties sseProperties,
+        MeterRegistry meterRegistry
+    ) {
+        this.redisTemplate = redisTemplate;
+        this.config = sseProperties.eventCache();
+        this.flusher = Executors.newSingleThreadScheduledExecutor(
+            Thread.ofPlatform().name("sse-event-cache-flusher").daemon().factory()
+        );
+        this.flushLatency = Timer.builder("mopl.sse.events.cache.latency")
+            .description("Time from enqueue to event cache flush")
+            .register(meterRegistry);
+        this.batchSize = DistributionSummary.builder("mopl.sse.events.cache.batch")
+            .description("Events per event cache flush")
+            .register(meterRegistry);
+        this.failedEvents = Counter.builder("mopl.sse.events.cache.failed")
+            .description("Events dropped by failed event cache flushes")
+            .register(meterRegistry);
+
+        long intervalMillis = Math.max(1, config.flushInterval().toMillis());
+        flusher.scheduleWithFixedDelay(this::flushSafely, intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    public void enqueue(String key, Object member, double score) {
+        pending.add(new PendingEvent(key, member, score, System.nanoTime()));
+        if (pendingCount.incrementAndGet() >= config.maxBatchSize() && !flusher.isShutdown()
+            && flushScheduled.compareAndSet(false, true)) {
+            flusher.execute(() -> {
+                flushScheduled.set(false);
+                flushSafely();
+            });
+        }
+    }
+
+    /**
+     * 큐가 빌 때까지 maxBatchSize개씩 기록합니다. 배치마다 lock을 잡았다 놓으므로
+     * {@link #flush(String)}는 전체 flush가 끝날 때까지가 아니라 진행 중인 배치 하나만 기다립니다.
+     */
+    public void flush() {
+        while (pendingCount.get() > 0) {
+            flushLock.lock();
+            try {
+                List<PendingEvent> batch = new ArrayList<>();
+                PendingEvent event;
+                while (batch.size() < config.maxBatchSize() && (event = pending.poll()) != null) {
+                    pendingCount.decrementAndGet();
+                    batch.add(event);
+                }
+                if (batch.isEmpty()) {
+                    return;
+                }
+                write(batch);
+            } finally {
+                flushLock.unlock();
+            }
+        }
+    }
+
+    /**
+     * 재전송 조회 전에 해당 키의 대기 이벤트만 기록합니다. 진행 중인 배치는 replayFlushTimeout까지만 기다리며,
+     * 시간 안에 끝나지 않으면 기록하지 않고 반환합니다. 이 경우 아직 기록 중인 이벤트는 재전송 결과에서 빠질 수 있습니다.
+     */
+    public void flush(String key) {
+        boolean locked;
+        try {
+            locked = flushLock.tryLock(config.replayFlushTimeout().toMillis(), TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return;
+        }
+        if (!locked) {
+            LogContext.with("key", key).and("timeout", config.replayFlushTimeout()).debug("SSE event cache key flush timed out");
+            return;
+        }
+        try {
+            List<PendingEvent> batch = new ArrayList<>();
+            for (PendingEvent event : pending) {
+                if (event.key().equals(key) && pending.remove(event)) {
+                    pendingCount.decrementAndGet();
+                    batch.add(event);
+                }
+            }
+            if (!batch.isEmpty()) {
+                write(batch);
+            }
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    @Override
+    public void destroy() {
+        flusher.shutdown();
+        flushSafely();
+    }
+
+    private void write(List<PendingEvent> batch) {
+        Map<String, Set<TypedTuple<Object>>> eventsByKey = new LinkedHashMap<>();
+        for (PendingEvent event : batch) {
+            eventsByKey.computeIfAbsent(event.key(), key -> new LinkedHashSet<>())
+                .add(TypedTuple.of(event.member(), event.score()));
+        }
+
+        try {
+            redisTemplate.executePipelined(new SessionCallback<Object>() {
+                @Override
+                @SuppressWarnings("unchecked")
+                public <K, V> Object execute(@NonNull RedisOperations<K, V> operations) {
+                    RedisOperations<String, Object> redisOperations = (RedisOperations<String, Object>) operations;
+                    eventsByKey.forEach((key, tuples) -> {
+                        redisOperations.opsForZSet().add(key, tuples);
+                        redisOperations.expire(key, config.ttl());
+                        redisOperations.opsForZSet().removeRange(key, 0, -(config.maxSize() + 1L));
+                    });
+                    return null;
+                }
+            });
+        } catch (Exception e) {
+            failedEvents.increment(batch.size());
+            LogContext.with("events", batch.size()).and("keys", eventsByKey.size()).warn("SSE event cache flush failed: " + e.getMessage());
+            return;
+        }
+
+        long flushedAt = System.nanoTime();
+        batch.forEach(event -> flushLatency.record(flushedAt - event.enqueuedAt(), TimeUnit.NANOSECONDS));
+        batchSize.record(batch.size());
+    }
+
+    private void flushSafely() {
+        try {
+            flush();
+        } catch (Exception e) {
+            LogContext.with("pending", pendingCount.get()).error("SSE event cache flush failed", e);
+        }
+    }
+
+    private record PendingEvent(
+        String key,
+        Object member,
+        double score,
+        long enqueuedAt
+    ) {
+    }
+}
@@ -0,0 +1,53 @@
+package com.mopl.sse.repository;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+/**
+ * 연결을 id 해시로 slot에 나눠 두는 heartbeat용 timing wheel.
+ *
+ * <p>tick마다 slot 하나만 순회하므로 한 바퀴(slot 수 x tick) 동안 모든 연결이 한 번씩, 고르게 나뉘어 방문됩니다.
+ * {@link #advance(Consumer)}는 한 스레드에서만 호출해야 합니다.
+ */
+public class HeartbeatWheel {
+
+    private static final long GOLDEN_GAMMA = 0x9E3779B97F4A7C15L;
+
+    private final Set<SseConnection>[] slots;
+    private int cursor;
+
+    @SuppressWarnings("unchecked")
+    public HeartbeatWheel(int slotCount) {
+        this.slots = new Set[Math.max(1, slotCount)];
+        for (int i = 0; i < slots.length; i++) {
+            slots[i] = ConcurrentHashMap.newKeySet();
+        }
+    }
+
+    public void add(SseConnection connection) {
+        slotOf(connection).add(connection);
+    }
+
+    public void remove(SseConnection connection) {
+        slotOf(connection).remove(connection);
+    }
+
+    /**
+     * 현재 slot의 연결을 방문하고 다음 slot으로 넘어갑니다.
+     */
+    public void advance(Consumer<SseConnection> action) {
+        Set<SseConnection> slot = slots[cursor];
+        cursor = (cursor + 1) % slots.length;
+        slot.forEach(action);
+    }
+
+    public int slotCount() {
+        return slots.length;
+    }
+
+    private Set<SseConnection> slotOf(SseConnection connection) {
+        long hash = connection.id() * GOLDEN_GAMMA;
+        return slots[(int) Long.remainderUnsigned(hash ^ (hash >>> 32), slots.length)];
+    }
+}
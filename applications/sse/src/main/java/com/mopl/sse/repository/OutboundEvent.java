@@ -0,0 +1,32 @@
+package com.mopl.sse.repository;
+
+import org.springframework.lang.Nullable;
+
+import java.util.UUID;
+
+/**
+ * 송신 큐에 쌓이는 이벤트. id가 없으면 heartbeat 주석입니다.
+ * frame은 이벤트를 받는 모든 연결이 함께 쓰며, drain 스레드는 바이트를 그대로 씁니다.
+ * coalesceKey는 이벤트가 담은 원본(알림, DM)의 id로, 같은 원본이 두 번 들어왔을 때만 COALESCE로 합칩니다.
+ */
+public record OutboundEvent(
+    @Nullable String id,
+    @Nullable String name,
+    SseFrame frame,
+    @Nullable UUID coalesceKey
+) {
+
+    public static final OutboundEvent HEARTBEAT = new OutboundEvent(null, null, SseFrame.HEARTBEAT, null);
+
+    public static OutboundEvent of(SseFrame frame) {
+        return of(frame, null);
+    }
+
+    public static OutboundEvent of(SseFrame frame, @Nullable UUID coalesceKey) {
+        return new OutboundEvent(frame.id(), frame.name(), frame, coalesceKey);
+    }
+
+    public boolean isHeartbeat() {
+        return id == null;
+    }
+}
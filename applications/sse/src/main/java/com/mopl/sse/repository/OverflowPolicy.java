@@ -0,0 +1,23 @@
+package com.mopl.sse.repository;
+
+/**
+ * 연결의 송신 큐가 가득 찼을 때 새 이벤트를 처리하는 방식.
+ */
+public enum OverflowPolicy {
+
+    /**
+     * 가장 오래된 대기 이벤트를 버리고 새 이벤트를 넣습니다.
+     */
+    DROP_OLDEST,
+
+    /**
+     * 같은 원본을 담은 대기 이벤트({@link OutboundEvent#coalesceKey()}가 같은 이벤트)를 새 이벤트로 대체합니다.
+     * coalesceKey가 없거나 같은 원본이 없으면 DROP_OLDEST와 같습니다.
+     */
+    COALESCE,
+
+    /**
+     * 연결을 끊습니다. 클라이언트는 Last-Event-ID로 재연결해 놓친 이벤트를 재전송받습니다.
+     */
+    DISCONNECT
+}
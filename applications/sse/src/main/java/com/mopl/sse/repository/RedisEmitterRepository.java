@@ -1,65 +1,48 @@
 package com.mopl.sse.repository;
 
-import com.mopl.sse.config.SseProperties;
-import lombok.Getter;
 import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.data.redis.core.ZSetOperations.TypedTuple;
 import org.springframework.stereotype.Repository;
-import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.util.Collections;
 import java.util.List;
-import java.util.Map;
-import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
-import java.util.concurrent.ConcurrentHashMap;
 
 @Repository
+@ConditionalOnProperty(prefix = "mopl.sse.event-cache", name = "store", havingValue = "zset", matchIfMissing = true)
 @RequiredArgsConstructor
-public class RedisEmitterRepository {
+public class RedisEmitterRepository implements EventCache {
 
     private static final String EVENT_CACHE_KEY_PREFIX = "sse:events:";
 
-    @Getter
-    private final Map<UUID, SseEmitter> localEmitters = new ConcurrentHashMap<>();
     private final RedisTemplate<String, Object> redisTemplate;
-    private final SseProperties sseProperties;
+    private final EventCacheWriter eventCacheWriter;
 
-    public void save(UUID userId, SseEmitter emitter) {
-        localEmitters.put(userId, emitter);
-    }
-
-    public Optional<SseEmitter> findByUserId(UUID userId) {
-        return Optional.ofNullable(localEmitters.get(userId));
-    }
-
-    public void deleteByUserId(UUID userId) {
-        localEmitters.remove(userId);
-    }
-
-    public boolean existsLocally(UUID userId) {
-        return localEmitters.containsKey(userId);
-    }
-
-    public void cacheEvent(UUID userId, UUID eventId, Object eventData) {
+    /**
+     * 이벤트는 {@link EventCacheWriter}가 모아서 기록하므로 다른 노드의 재전송 조회에는 flushInterval만큼 늦게 보일 수 있습니다.
+     */
+    @Override
+    public String cacheEvent(UUID userId, Object eventData) {
         String key = EVENT_CACHE_KEY_PREFIX + userId;
-        long score = extractTimestampFromUuidV7(eventId);
-
-        redisTemplate.opsForZSet().add(key, new CachedEvent(eventId, eventData), score);
-        redisTemplate.expire(key, sseProperties.eventCache().ttl());
+        UUID eventId = SseEventIds.generate();
 
-        int maxSize = sseProperties.eventCache().maxSize();
-        Long size = redisTemplate.opsForZSet().size(key);
-        if (size != null && size > maxSize) {
-            redisTemplate.opsForZSet().removeRange(key, 0, size - maxSize - 1);
-        }
+        eventCacheWriter.enqueue(key, new CachedEvent(eventId, eventData), SseEventIds.timestampMillis(eventId));
+        return eventId.toString();
     }
 
-    public List<CachedEvent> getEventsAfter(UUID userId, UUID lastEventId) {
+    /**
+     * 이 노드에 쌓여 있는 해당 사용자의 이벤트만 먼저 기록한 뒤 조회합니다.
+     * 다른 사용자의 대기 이벤트 때문에 재연결이 늦어지지 않으며, 진행 중인 배치는 제한된 시간만 기다립니다.
+     */
+    @Override
+    public List<ReplayEvent> getEventsAfter(UUID userId, String lastEventId) {
         String key = EVENT_CACHE_KEY_PREFIX + userId;
-        long lastScore = extractTimestampFromUuidV7(lastEventId);
+        eventCacheWriter.flush(key);
+
+        long lastScore = SseEventIds.timestampMillis(lastEventId);
 
         Set<TypedTuple<Object>> results = redisTemplate.opsForZSet()
             .rangeByScoreWithScores(key, lastScore + 1, Double.MAX_VALUE);
@@ -72,13 +55,13 @@ public class RedisEmitterRepository {
             .map(TypedTuple::getValue)
             .filter(CachedEvent.class::isInstance)
             .map(CachedEvent.class::cast)
+            .map(cachedEvent -> new ReplayEvent(cachedEvent.eventId().toString(), cachedEvent.data()))
             .toList();
     }
 
-    private long extractTimestampFromUuidV7(UUID uuid) {
-        return (uuid.getMostSignificantBits() >> 16) & 0xFFFFFFFFFFFFL;
-    }
-
+    /**
+     * ZSET 멤버로 저장되는 형식입니다. 배포 중에도 기존 멤버를 읽을 수 있도록 이름과 필드를 유지합니다.
+     */
     public record CachedEvent(UUID eventId, Object data) {
     }
 }
@@ -0,0 +1,98 @@
+package com.mopl.sse.repository;
+
+import com.mopl.logging.context.LogContext;
+import com.mopl.sse.config.SseProperties;
+import com.mopl.sse.config.SseProperties.EventCacheConfig;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.Range;
+import org.springframework.data.redis.connection.RedisStreamCommands.XAddOptions;
+import org.springframework.data.redis.connection.stream.ByteRecord;
+import org.springframework.data.redis.connection.stream.MapRecord;
+import org.springframework.data.redis.connection.stream.RecordId;
+import org.springframework.data.redis.connection.stream.StreamRecords;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.stereotype.Repository;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * 사용자별 Redis Stream에 이벤트를 기록하고 stream id를 SSE 이벤트 id로 씁니다.
+ *
+ * <p>이벤트마다 {@code XADD key MAXLEN ~ maxSize}와 EXPIRE를 파이프라인 한 번으로 보냅니다. 근사 trim은 매크로 노드 단위로만
+ * 잘라내므로 ZSET의 순위 기준 정리보다 쓰기 비용이 작고, 재전송은 마지막 stream id부터 XRANGE로 바로 이어 읽습니다.
+ * 이벤트 id가 Redis에서 정해지므로 쓰기는 모으지 않고 바로 보냅니다. 기록에 실패하면 재전송되지 않는 UUID v7 id를 돌려줍니다.
+ */
+@Repository
+@ConditionalOnProperty(prefix = "mopl.sse.event-cache", name = "store", havingValue = "stream")
+public class RedisStreamEventCache implements EventCache {
+
+    private static final String EVENT_STREAM_KEY_PREFIX = "sse:stream:";
+    private static final String DATA_FIELD = "data";
+    private static final byte[] DATA_FIELD_BYTES = DATA_FIELD.getBytes(StandardCharsets.UTF_8);
+
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final EventCacheConfig config;
+
+    public RedisStreamEventCache(RedisTemplate<String, Object> redisTemplate, SseProperties sseProperties) {
+        this.redisTemplate = redisTemplate;
+        this.config = sseProperties.eventCache();
+    }
+
+    @Override
+    public String cacheEvent(UUID userId, Object eventData) {
+        byte[] key = (EVENT_STREAM_KEY_PREFIX + userId).getBytes(StandardCharsets.UTF_8);
+
+        try {
+            ByteRecord record = StreamRecords.rawBytes(Map.of(DATA_FIELD_BYTES, hashValueSerializer().serialize(eventData)))
+                .withStreamKey(key);
+            XAddOptions options = XAddOptions.maxlen(config.maxSize()).approximateTrimming(true);
+            List<Object> results = redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                connection.streamCommands().xAdd(record, options);
+                connection.keyCommands().expire(key, config.ttl().toSeconds());
+                return null;
+            });
+            if (!results.isEmpty() && results.getFirst() instanceof RecordId recordId) {
+                return recordId.getValue();
+            }
+            LogContext.with("userId", userId).warn("SSE event stream append returned no record id");
+        } catch (Exception e) {
+            LogContext.with("userId", userId).warn("SSE event stream append failed: " + e.getMessage());
+        }
+        return SseEventIds.generate().toString();
+    }
+
+    /**
+     * stream id면 그 id 다음부터, UUID v7이면 그 밀리초의 첫 stream id부터 읽습니다.
+     * UUID v7은 같은 밀리초의 stream 이벤트와 순서를 비교할 수 없으므로, 놓치지 않도록 그 밀리초의 이벤트를 모두 다시 보냅니다.
+     */
+    @Override
+    public List<ReplayEvent> getEventsAfter(UUID userId, String lastEventId) {
+        String key = EVENT_STREAM_KEY_PREFIX + userId;
+        String startId = SseEventIds.isStreamId(lastEventId)
+            ? lastEventId
+            : SseEventIds.timestampMillis(lastEventId) + "-0";
+
+        List<MapRecord<String, Object, Object>> records = redisTemplate.<Object, Object>opsForStream()
+            .range(key, Range.rightUnbounded(Range.Bound.inclusive(startId)));
+
+        if (records == null || records.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        return records.stream()
+            .filter(record -> !record.getId().getValue().equals(lastEventId))
+            .map(record -> new ReplayEvent(record.getId().getValue(), record.getValue().get(DATA_FIELD)))
+            .toList();
+    }
+
+    @SuppressWarnings("unchecked")
+    private RedisSerializer<Object> hashValueSerializer() {
+        return (RedisSerializer<Object>) redisTemplate.getHashValueSerializer();
+    }
+}
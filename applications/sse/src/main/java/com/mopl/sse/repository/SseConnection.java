@@ -0,0 +1,17 @@
+package com.mopl.sse.repository;
+
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.UUID;
+
+/**
+ * 한 사용자의 SSE 연결 하나. id는 노드 안에서만 유일하며, 같은 사용자의 여러 탭을 구분하는 데 씁니다.
+ * 실시간 이벤트와 heartbeat는 outbound 큐를 거쳐 연결당 한 스레드에서만 emitter에 씁니다.
+ */
+public record SseConnection(
+    long id,
+    UUID userId,
+    SseEmitter emitter,
+    SseOutboundQueue outbound
+) {
+}
@@ -0,0 +1,189 @@
+package com.mopl.sse.repository;
+
+import com.mopl.sse.config.SseProperties;
+import com.mopl.sse.config.SseProperties.ConnectionConfig;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+/**
+ * 이 노드에 붙어 있는 SSE 연결 저장소.
+ *
+ * <p>사용자 id 해시로 고른 shard에 사용자별 연결 배열을 copy-on-write로 보관합니다.
+ * 등록/삭제는 해당 사용자 항목의 compute 안에서만 원자적으로 바뀌고, 조회와 heartbeat 순회는 잠금 없이 배열 스냅샷을 읽습니다.
+ * 한 사용자가 여러 탭을 열어도 서로 밀어내지 않으며, maxPerUser를 넘을 때만 가장 오래된 연결을 내보냅니다.
+ * heartbeat wheel 반영도 같은 compute 안에서 하므로 저장소와 wheel의 연결 구성이 어긋나지 않습니다.
+ */
+@Component
+public class SseEmitterRegistry {
+
+    private static final SseConnection[] EMPTY = new SseConnection[0];
+
+    private final ConcurrentHashMap<UUID, SseConnection[]>[] shards;
+    private final int shardMask;
+    private final int maxPerUser;
+    private final int queueCapacity;
+    private final OverflowPolicy overflowPolicy;
+    private final AtomicLong connectionSequence = new AtomicLong();
+    private final AtomicInteger connectionCount = new AtomicInteger();
+    private final HeartbeatWheel heartbeatWheel;
+
+    @SuppressWarnings("unchecked")
+    public SseEmitterRegistry(SseProperties sseProperties) {
+        ConnectionConfig config = sseProperties.connections();
+        int shardCount = config.shards() == 1 ? 1 : Integer.highestOneBit(config.shards() - 1) << 1;
+        this.shards = new ConcurrentHashMap[shardCount];
+        for (int i = 0; i < shardCount; i++) {
+            shards[i] = new ConcurrentHashMap<>();
+        }
+        this.shardMask = shardCount - 1;
+        this.maxPerUser = config.maxPerUser();
+        this.queueCapacity = config.queueCapacity();
+        this.overflowPolicy = config.overflowPolicy();
+        this.heartbeatWheel = new HeartbeatWheel(sseProperties.heartbeat().slotCount());
+    }
+
+    /**
+     * 새 연결을 등록합니다. 사용자 연결 수가 maxPerUser를 넘으면 가장 오래된 연결을 저장소에서 빼서 evicted로 돌려주며,
+     * 그 emitter를 닫는 것은 호출자의 몫입니다.
+     * 송신 큐는 보류 상태로 등록되므로, 호출자가 재전송을 마치고 {@link SseOutboundQueue#release()}를 부를 때까지
+     * 실시간 이벤트는 쌓이기만 합니다.
+     */
+    public Registration register(UUID userId, SseEmitter emitter) {
+        SseOutboundQueue outbound = new SseOutboundQueue(queueCapacity, overflowPolicy);
+        outbound.hold();
+        SseConnection connection = new SseConnection(
+            connectionSequence.incrementAndGet(),
+            userId,
+            emitter,
+            outbound
+        );
+        SseConnection[] evicted = new SseConnection[1];
+
+        SseConnection[] connections = shardOf(userId).compute(userId, (id, current) -> {
+            evicted[0] = null;
+            heartbeatWheel.add(connection);
+            if (current == null) {
+                return new SseConnection[] {connection};
+            }
+            int from = current.length < maxPerUser ? 0 : current.length - maxPerUser + 1;
+            if (from > 0) {
+                evicted[0] = current[from - 1];
+                heartbeatWheel.remove(evicted[0]);
+            }
+            SseConnection[] next = Arrays.copyOfRange(current, from, current.length + 1);
+            next[next.length - 1] = connection;
+            return next;
+        });
+
+        if (evicted[0] == null) {
+            connectionCount.incrementAndGet();
+        }
+        return new Registration(connection, evicted[0], connections.length);
+    }
+
+    /**
+     * 연결 하나만 제거합니다. 같은 사용자의 다른 연결은 그대로 남습니다.
+     *
+     * @return 이번 호출로 실제 제거되었으면 true
+     */
+    public boolean remove(UUID userId, long connectionId) {
+        SseConnection[] removed = new SseConnection[1];
+        shardOf(userId).computeIfPresent(userId, (id, current) -> {
+            removed[0] = null;
+            for (int i = 0; i < current.length; i++) {
+                if (current[i].id() == connectionId) {
+                    removed[0] = current[i];
+                    heartbeatWheel.remove(current[i]);
+                    if (current.length == 1) {
+                        return null;
+                    }
+                    SseConnection[] next = new SseConnection[current.length - 1];
+                    System.arraycopy(current, 0, next, 0, i);
+                    System.arraycopy(current, i + 1, next, i, current.length - i - 1);
+                    return next;
+                }
+            }
+            return current;
+        });
+
+        if (removed[0] == null) {
+            return false;
+        }
+        connectionCount.decrementAndGet();
+        return true;
+    }
+
+    public List<SseConnection> findByUserId(UUID userId) {
+        SseConnection[] connections = shardOf(userId).getOrDefault(userId, EMPTY);
+        return List.of(connections);
+    }
+
+    public boolean exists(UUID userId) {
+        return shardOf(userId).containsKey(userId);
+    }
+
+    /**
+     * 모든 연결을 shard 순서대로 순회합니다. 순회 중 등록/삭제된 연결은 포함될 수도, 빠질 수도 있습니다.
+     */
+    public void forEach(Consumer<SseConnection> action) {
+        for (ConcurrentHashMap<UUID, SseConnection[]> shard : shards) {
+            for (SseConnection[] connections : shard.values()) {
+                for (SseConnection connection : connections) {
+                    action.accept(connection);
+                }
+            }
+        }
+    }
+
+    /**
+     * heartbeat wheel을 한 칸 진행하며 그 slot의 연결을 방문합니다. heartbeat 스케줄러 한 스레드에서만 호출합니다.
+     */
+    public void advanceHeartbeatWheel(Consumer<SseConnection> action) {
+        heartbeatWheel.advance(action);
+    }
+
+    public int connectionCount() {
+        return connectionCount.get();
+    }
+
+    /**
+     * 모든 연결의 송신 대기 이벤트 수. 전체 연결을 훑으므로 메트릭 수집 주기 정도로만 호출합니다.
+     */
+    public int queuedEvents() {
+        int[] queued = new int[1];
+        forEach(connection -> queued[0] += connection.outbound().size());
+        return queued[0];
+    }
+
+    public int userCount() {
+        int users = 0;
+        for (ConcurrentHashMap<UUID, SseConnection[]> shard : shards) {
+            users += shard.size();
+        }
+        return users;
+    }
+
+    private ConcurrentHashMap<UUID, SseConnection[]> shardOf(UUID userId) {
+        int hash = userId.hashCode();
+        return shards[(hash ^ (hash >>> 16)) & shardMask];
+    }
+
+    /**
+     * @param userConnections 등록 직후 이 사용자의 연결 수
+     */
+    public record Registration(
+        SseConnection connection,
+        @Nullable SseConnection evicted,
+        int userConnections
+    ) {
+    }
+}
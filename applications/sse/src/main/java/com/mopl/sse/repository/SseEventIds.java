@@ -0,0 +1,57 @@
+package com.mopl.sse.repository;
+
+import com.fasterxml.uuid.Generators;
+import com.fasterxml.uuid.impl.TimeBasedEpochGenerator;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+import java.util.UUID;
+
+/**
+ * SSE 이벤트 id는 UUID v7이거나 Redis stream id({@code <밀리초>-<순번>})입니다.
+ * 두 형식 모두 생성 시각(밀리초)을 담고 있어 캐시 구현이 바뀌어도 재전송 기준으로 쓸 수 있습니다.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class SseEventIds {
+
+    private static final TimeBasedEpochGenerator UUID_V7_GENERATOR = Generators.timeBasedEpochGenerator();
+
+    public static UUID generate() {
+        return UUID_V7_GENERATOR.generate();
+    }
+
+    public static boolean isStreamId(String eventId) {
+        int separator = eventId.indexOf('-');
+        return separator > 0
+            && eventId.indexOf('-', separator + 1) < 0
+            && isDigits(eventId, 0, separator)
+            && isDigits(eventId, separator + 1, eventId.length());
+    }
+
+    /**
+     * @throws IllegalArgumentException 두 형식 어느 쪽도 아닌 경우
+     */
+    public static long timestampMillis(String eventId) {
+        if (isStreamId(eventId)) {
+            return Long.parseLong(eventId.substring(0, eventId.indexOf('-')));
+        }
+        return timestampMillis(UUID.fromString(eventId));
+    }
+
+    public static long timestampMillis(UUID uuid) {
+        return (uuid.getMostSignificantBits() >> 16) & 0xFFFFFFFFFFFFL;
+    }
+
+    private static boolean isDigits(String value, int from, int to) {
+        if (from >= to) {
+            return false;
+        }
+        for (int i = from; i < to; i++) {
+            char c = value.charAt(i);
+            if (c < '0' || c > '9') {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,96 @@
+package com.mopl.sse.repository;
+
+import org.springframework.http.MediaType;
+import org.springframework.lang.Nullable;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter.DataWithMediaType;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Set;
+
+/**
+ * id, event, data 줄까지 인코딩을 끝낸 SSE 이벤트 한 건입니다.
+ *
+ * <p>바이트는 만든 뒤 바뀌지 않으므로 같은 이벤트를 받는 모든 연결이 한 인스턴스를 함께 씁니다.
+ * emitter에는 {@link #content()}로 byte[] 하나가 넘어가 응답에 그대로 쓰이고, 연결마다 Jackson을 다시 돌리지 않습니다.
+ */
+public final class SseFrame {
+
+    public static final SseFrame HEARTBEAT = new SseFrame(null, null, ":heartbeat\n\n".getBytes(StandardCharsets.UTF_8));
+
+    private static final byte[] ID_FIELD = "id:".getBytes(StandardCharsets.UTF_8);
+    private static final byte[] EVENT_FIELD = "event:".getBytes(StandardCharsets.UTF_8);
+    private static final byte[] DATA_FIELD = "data:".getBytes(StandardCharsets.UTF_8);
+    private static final byte LINE_FEED = '\n';
+
+    @Nullable
+    private final String id;
+    @Nullable
+    private final String name;
+    private final byte[] bytes;
+    private final Set<DataWithMediaType> content;
+
+    private SseFrame(@Nullable String id, @Nullable String name, byte[] bytes) {
+        this.id = id;
+        this.name = name;
+        this.bytes = bytes;
+        this.content = Set.of(new DataWithMediaType(bytes, MediaType.TEXT_PLAIN));
+    }
+
+    /**
+     * data에 줄바꿈이 있으면 줄마다 data 필드로 나눠 씁니다.
+     */
+    public static SseFrame of(String id, String name, byte[] data) {
+        byte[] idBytes = id.getBytes(StandardCharsets.UTF_8);
+        byte[] nameBytes = name.getBytes(StandardCharsets.UTF_8);
+        ByteArrayOutputStream out = new ByteArrayOutputStream(
+            ID_FIELD.length + idBytes.length + EVENT_FIELD.length + nameBytes.length + DATA_FIELD.length + data.length + 4
+        );
+
+        writeField(out, ID_FIELD, idBytes, 0, idBytes.length);
+        writeField(out, EVENT_FIELD, nameBytes, 0, nameBytes.length);
+        int lineStart = 0;
+        for (int i = 0; i < data.length; i++) {
+            if (data[i] == LINE_FEED) {
+                writeField(out, DATA_FIELD, data, lineStart, i - lineStart);
+                lineStart = i + 1;
+            }
+        }
+        writeField(out, DATA_FIELD, data, lineStart, data.length - lineStart);
+        out.write(LINE_FEED);
+
+        return new SseFrame(id, name, out.toByteArray());
+    }
+
+    private static void writeField(ByteArrayOutputStream out, byte[] field, byte[] value, int offset, int length) {
+        out.writeBytes(field);
+        out.write(value, offset, length);
+        out.write(LINE_FEED);
+    }
+
+    @Nullable
+    public String id() {
+        return id;
+    }
+
+    @Nullable
+    public String name() {
+        return name;
+    }
+
+    public int size() {
+        return bytes.length;
+    }
+
+    public byte[] toByteArray() {
+        return Arrays.copyOf(bytes, bytes.length);
+    }
+
+    /**
+     * {@code ResponseBodyEmitter#send(Set)}에 넘길 내용입니다. text/plain byte[]는 변환 없이 그대로 쓰입니다.
+     */
+    public Set<DataWithMediaType> content() {
+        return content;
+    }
+}
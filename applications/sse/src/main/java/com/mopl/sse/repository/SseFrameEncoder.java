@@ -0,0 +1,34 @@
+package com.mopl.sse.repository;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 이벤트 data를 emitter의 메시지 컨버터와 같은 형식으로 직렬화해 {@link SseFrame}을 만듭니다.
+ * 문자열은 그대로, 그 밖의 객체는 애플리케이션 ObjectMapper로 JSON을 씁니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class SseFrameEncoder {
+
+    private final ObjectMapper objectMapper;
+
+    public SseFrame encode(String id, String name, Object data) {
+        return SseFrame.of(id, name, serialize(data));
+    }
+
+    private byte[] serialize(Object data) {
+        if (data instanceof String text) {
+            return text.getBytes(StandardCharsets.UTF_8);
+        }
+        try {
+            return objectMapper.writeValueAsBytes(data);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Failed to encode SSE data: " + data.getClass().getName(), e);
+        }
+    }
+}
@@ -0,0 +1,215 @@
+package com.mopl.sse.repository;
+
+import org.springframework.lang.Nullable;
+
+import java.util.ArrayDeque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 연결 하나의 송신 대기 큐.
+ *
+ * <p>capacity를 넘으면 {@link OverflowPolicy}에 따라 처리하므로 느린 클라이언트가 메모리를 무한히 붙잡지 않습니다.
+ * 큐를 비우는 쪽은 연결당 한 번에 하나뿐이며, {@link #tryStartDrain()}으로 그 권한을 얻고 {@link #finishDrain()}으로 반납합니다.
+ *
+ * <p>{@link #hold()}로 보류한 큐는 실시간 이벤트를 받기만 하고 보내지 않습니다. 재연결 시 놓친 이벤트는 읽는 대로
+ * {@link #addReplayed(List)}로 넘기며, 보류 중에도 이 재전송 이벤트만은 바로 보냅니다.
+ * {@link #release()} 이후에는 보류 중에 쌓인 실시간 이벤트를 재전송 이벤트 뒤에 보냅니다.
+ * 재전송 이벤트는 replay.max-events로 이미 개수가 제한되므로 capacity와 overflowPolicy를 적용하지 않습니다.
+ */
+public class SseOutboundQueue {
+
+    private final ArrayDeque<OutboundEvent> events;
+    private final ArrayDeque<OutboundEvent> replayed = new ArrayDeque<>();
+    private final int capacity;
+    private final OverflowPolicy overflowPolicy;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final AtomicBoolean draining = new AtomicBoolean();
+    private volatile long lastSentAt = System.nanoTime();
+    private volatile boolean held;
+
+    public SseOutboundQueue(int capacity, OverflowPolicy overflowPolicy) {
+        this.events = new ArrayDeque<>(Math.min(capacity, 16));
+        this.capacity = capacity;
+        this.overflowPolicy = overflowPolicy;
+    }
+
+    public OfferResult offer(OutboundEvent event) {
+        lock.lock();
+        try {
+            if (events.size() < capacity) {
+                events.addLast(event);
+                return OfferResult.ENQUEUED;
+            }
+            return switch (overflowPolicy) {
+                case DROP_OLDEST -> {
+                    events.pollFirst();
+                    events.addLast(event);
+                    yield OfferResult.DROPPED_OLDEST;
+                }
+                case COALESCE -> {
+                    if (removeSameSource(event.coalesceKey())) {
+                        events.addLast(event);
+                        yield OfferResult.COALESCED;
+                    }
+                    events.pollFirst();
+                    events.addLast(event);
+                    yield OfferResult.DROPPED_OLDEST;
+                }
+                case DISCONNECT -> OfferResult.REJECTED;
+            };
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 대기 이벤트가 없고 마지막 전송 후 idleNanos가 지났을 때만 heartbeat를 넣습니다.
+     * 대기 중이거나 최근에 보낸 이벤트가 있으면 그 전송이 연결 유지 역할을 합니다.
+     */
+    public boolean offerHeartbeat(long idleNanos) {
+        lock.lock();
+        try {
+            if (!events.isEmpty() || !replayed.isEmpty() || System.nanoTime() - lastSentAt < idleNanos) {
+                return false;
+            }
+            events.addLast(OutboundEvent.HEARTBEAT);
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 재전송 이벤트를 먼저 꺼내고, 보류 중이면 실시간 이벤트는 꺼내지 않습니다.
+     */
+    public OutboundEvent poll() {
+        lock.lock();
+        try {
+            OutboundEvent event = replayed.pollFirst();
+            if (event != null || held) {
+                return event;
+            }
+            return events.pollFirst();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * drain 스레드가 전송에 성공할 때마다 호출합니다.
+     */
+    public void markSent() {
+        lastSentAt = System.nanoTime();
+    }
+
+    public int size() {
+        lock.lock();
+        try {
+            return replayed.size() + events.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public void clear() {
+        lock.lock();
+        try {
+            replayed.clear();
+            events.clear();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 연결을 등록하기 전에 호출해 {@link #release()} 전까지 실시간 이벤트를 보내지 않게 합니다.
+     */
+    public void hold() {
+        held = true;
+    }
+
+    /**
+     * 재전송 이벤트를 실시간 이벤트보다 앞에 추가합니다. 호출자는 이어서 drain을 시작합니다.
+     */
+    public void addReplayed(List<OutboundEvent> replayEvents) {
+        lock.lock();
+        try {
+            replayed.addAll(replayEvents);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 보류를 풉니다. 호출자는 이어서 drain을 시작합니다.
+     */
+    public void release() {
+        lock.lock();
+        try {
+            held = false;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 보류 중에는 보낼 재전송 이벤트가 있을 때만 권한을 줍니다.
+     */
+    public boolean tryStartDrain() {
+        if (held && !hasReplayed()) {
+            return false;
+        }
+        return draining.compareAndSet(false, true);
+    }
+
+    /**
+     * drain 권한을 반납합니다. 반납 직전에 다른 스레드가 이벤트를 넣었을 수 있으므로, 보낼 이벤트가 남아 있으면 권한을 다시 얻어 true를 돌려줍니다.
+     */
+    public boolean finishDrain() {
+        draining.set(false);
+        return hasSendable() && tryStartDrain();
+    }
+
+    private boolean hasReplayed() {
+        lock.lock();
+        try {
+            return !replayed.isEmpty();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private boolean hasSendable() {
+        lock.lock();
+        try {
+            return !replayed.isEmpty() || (!held && !events.isEmpty());
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private boolean removeSameSource(@Nullable UUID coalesceKey) {
+        if (coalesceKey == null) {
+            return false;
+        }
+        Iterator<OutboundEvent> iterator = events.descendingIterator();
+        while (iterator.hasNext()) {
+            if (coalesceKey.equals(iterator.next().coalesceKey())) {
+                iterator.remove();
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public enum OfferResult {
+        ENQUEUED,
+        DROPPED_OLDEST,
+        COALESCED,
+        REJECTED
+    }
+}
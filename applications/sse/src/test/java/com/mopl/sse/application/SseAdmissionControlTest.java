@@ -0,0 +1,121 @@
+package com.mopl.sse.application;
+
+import com.mopl.sse.application.SseAdmissionControl.Admission;
+import com.mopl.sse.application.SseAdmissionControl.Rejection;
+import com.mopl.sse.config.SseProperties;
+import com.mopl.sse.config.SseProperties.AdmissionConfig;
+import com.mopl.sse.repository.SseEmitterRegistry;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("SseAdmissionControl 단위 테스트")
+class SseAdmissionControlTest {
+
+    private static final int MAX_CONNECTIONS = 10;
+    private static final Duration RETRY_MIN = Duration.ofSeconds(2);
+    private static final Duration RETRY_MAX = Duration.ofSeconds(5);
+
+    @Mock
+    private SseEmitterRegistry emitterRegistry;
+
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final AtomicLong nanoClock = new AtomicLong();
+
+    private SseAdmissionControl admissionControl;
+
+    @BeforeEach
+    void setUp() {
+        AdmissionConfig admission = new AdmissionConfig(MAX_CONNECTIONS, 1, 2, RETRY_MIN, RETRY_MAX);
+        SseProperties properties = new SseProperties(null, null, null, null, null, admission);
+        admissionControl = new SseAdmissionControl(emitterRegistry, properties, meterRegistry, nanoClock::get);
+    }
+
+    @Nested
+    @DisplayName("tryAdmit()")
+    class TryAdmitTest {
+
+        @Test
+        @DisplayName("여유가 있고 토큰이 남아 있으면 받음")
+        void withCapacityAndTokens_accepts() {
+            // given
+            given(emitterRegistry.connectionCount()).willReturn(0);
+
+            // when
+            Admission admission = admissionControl.tryAdmit();
+
+            // then
+            assertThat(admission.accepted()).isTrue();
+        }
+
+        @Test
+        @DisplayName("노드 연결 수가 상한이면 jitter가 들어간 재연결 대기 시간과 함께 거절")
+        void atMaxConnections_rejectsWithJitteredRetry() {
+            // given
+            given(emitterRegistry.connectionCount()).willReturn(MAX_CONNECTIONS);
+
+            // when
+            Admission admission = admissionControl.tryAdmit();
+
+            // then
+            assertThat(admission.accepted()).isFalse();
+            assertThat(admission.rejection()).isEqualTo(Rejection.CAPACITY);
+            assertThat(admission.retryAfter()).isBetween(RETRY_MIN, RETRY_MAX);
+            assertThat(meterRegistry.get("mopl.sse.admission.rejected").tag("reason", "capacity").counter().count()).isEqualTo(1.0);
+        }
+
+        @Test
+        @DisplayName("burst를 넘는 연결 요청은 거절하고 시간이 지나 토큰이 차면 다시 받음")
+        void overBurst_rejectsUntilRefilled() {
+            // given
+            given(emitterRegistry.connectionCount()).willReturn(0);
+            admissionControl.tryAdmit();
+            admissionControl.tryAdmit();
+
+            // when
+            Admission overBurst = admissionControl.tryAdmit();
+            nanoClock.addAndGet(TimeUnit.SECONDS.toNanos(1));
+            Admission refilled = admissionControl.tryAdmit();
+
+            // then
+            assertThat(overBurst.accepted()).isFalse();
+            assertThat(overBurst.rejection()).isEqualTo(Rejection.RATE);
+            assertThat(refilled.accepted()).isTrue();
+            assertThat(meterRegistry.get("mopl.sse.admission.rejected").tag("reason", "rate").counter().count()).isEqualTo(1.0);
+        }
+    }
+
+    @Nested
+    @DisplayName("availableConnections()")
+    class AvailableConnectionsTest {
+
+        @Test
+        @DisplayName("상한에서 현재 연결 수를 뺀 값을 gauge로도 노출하고 음수가 되지 않음")
+        void exposesRemainingCapacity() {
+            // given
+            given(emitterRegistry.connectionCount()).willReturn(4, MAX_CONNECTIONS + 3);
+
+            // when
+            double gauge = meterRegistry.get("mopl.sse.admission.available").gauge().value();
+            int overCapacity = admissionControl.availableConnections();
+
+            // then
+            assertThat(gauge).isEqualTo(6.0);
+            assertThat(overCapacity).isZero();
+        }
+    }
+}
@@ -1,8 +1,18 @@
 package com.mopl.sse.application;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.mopl.domain.model.notification.NotificationModel;
 import com.mopl.domain.repository.notification.NotificationQueryRepository;
-import com.mopl.sse.repository.RedisEmitterRepository;
+import com.mopl.sse.config.SseProperties;
+import com.mopl.sse.config.SseProperties.ReplayConfig;
+import com.mopl.sse.repository.EventCache;
+import com.mopl.sse.repository.OutboundEvent;
+import com.mopl.sse.repository.OverflowPolicy;
+import com.mopl.sse.repository.SseConnection;
+import com.mopl.sse.repository.SseEmitterRegistry;
+import com.mopl.sse.repository.SseFrame;
+import com.mopl.sse.repository.SseFrameEncoder;
+import com.mopl.sse.repository.SseOutboundQueue;
 import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
@@ -10,25 +20,34 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter.DataWithMediaType;
 import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.io.IOException;
 import java.lang.reflect.Field;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
 import java.time.Instant;
 import java.util.List;
-import java.util.Map;
-import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
 import java.util.function.Consumer;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anySet;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.then;
+import static org.mockito.BDDMockito.willAnswer;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
@@ -39,7 +58,15 @@ import static org.mockito.Mockito.timeout;
 class SseEmitterManagerTest {
 
     @Mock
-    private RedisEmitterRepository emitterRepository;
+    private SseEmitterRegistry emitterRegistry;
+
+    @Mock
+    private SseNodePresence nodePresence;
+
+    @Mock
+    private EventCache eventCache;
+
+    private MeterRegistry meterRegistry;
 
     @Mock
     private NotificationQueryRepository notificationQueryRepository;
@@ -48,57 +75,113 @@ class SseEmitterManagerTest {
 
     @BeforeEach
     void setUp() {
-        MeterRegistry meterRegistry = new SimpleMeterRegistry();
+        meterRegistry = new SimpleMeterRegistry();
         sseEmitterManager = new SseEmitterManager(
-            emitterRepository,
+            emitterRegistry,
+            nodePresence,
+            eventCache,
+            frameEncoder(),
             notificationQueryRepository,
+            new SseProperties(null, null, null, null, null, null),
             meterRegistry
         );
         sseEmitterManager.initMetrics();
     }
 
+    private static SseFrameEncoder frameEncoder() {
+        ObjectMapper objectMapper = new ObjectMapper();
+        objectMapper.findAndRegisterModules();
+        return new SseFrameEncoder(objectMapper);
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static ArgumentCaptor<Set<DataWithMediaType>> contentCaptor() {
+        return (ArgumentCaptor) ArgumentCaptor.forClass(Set.class);
+    }
+
+    private static String text(Set<DataWithMediaType> content) {
+        return new String((byte[]) content.iterator().next().getData(), StandardCharsets.UTF_8);
+    }
+
+    private static SseConnection connection(long connectionId, UUID userId, SseEmitter emitter) {
+        return connection(connectionId, userId, emitter, new SseOutboundQueue(64, OverflowPolicy.DROP_OLDEST));
+    }
+
+    private static SseConnection connection(long connectionId, UUID userId, SseEmitter emitter, SseOutboundQueue outbound) {
+        return new SseConnection(connectionId, userId, emitter, outbound);
+    }
+
+    private static OutboundEvent pendingEvent() {
+        return OutboundEvent.of(SseFrame.of("pending", "notifications", "pending".getBytes(StandardCharsets.UTF_8)));
+    }
+
+    private void givenRegistration(UUID userId, long connectionId, SseConnection evicted, int userConnections) {
+        given(emitterRegistry.register(eq(userId), any(SseEmitter.class))).willAnswer(invocation -> new SseEmitterRegistry.Registration(
+            connection(connectionId, userId, invocation.getArgument(1)),
+            evicted,
+            userConnections
+        ));
+    }
+
     @Nested
     @DisplayName("createEmitter()")
     class CreateEmitterTest {
 
         @Test
-        @DisplayName("새 emitter 생성 및 저장")
+        @DisplayName("새 emitter 생성, 저장 및 presence 등록")
         void createsAndSavesEmitter() {
             // given
             UUID userId = UUID.randomUUID();
-            given(emitterRepository.findByUserId(userId)).willReturn(Optional.empty());
+            givenRegistration(userId, 1L, null, 1);
 
             // when
             SseEmitter result = sseEmitterManager.createEmitter(userId);
 
             // then
             assertThat(result).isNotNull();
-            then(emitterRepository).should().save(eq(userId), any(SseEmitter.class));
+            then(emitterRegistry).should().register(userId, result);
+            then(nodePresence).should().register(userId);
+            assertThat(meterRegistry.get("mopl.sse.connections.per.user").summary().totalAmount()).isEqualTo(1.0);
         }
 
         @Test
-        @DisplayName("기존 emitter가 있으면 완료 후 새로 생성")
-        void withExistingEmitter_completesAndCreatesNew() {
+        @DisplayName("기존 연결이 있어도 닫지 않고 연결을 추가")
+        void withExistingConnection_keepsExistingOpen() {
             // given
             UUID userId = UUID.randomUUID();
-            SseEmitter existingEmitter = mock(SseEmitter.class);
-            given(emitterRepository.findByUserId(userId)).willReturn(Optional.of(existingEmitter));
+            givenRegistration(userId, 2L, null, 2);
 
             // when
             SseEmitter result = sseEmitterManager.createEmitter(userId);
 
             // then
             assertThat(result).isNotNull();
-            then(existingEmitter).should().complete();
-            then(emitterRepository).should().save(eq(userId), any(SseEmitter.class));
+            assertThat(meterRegistry.get("mopl.sse.connections.evicted").counter().count()).isZero();
+            assertThat(meterRegistry.get("mopl.sse.connections.per.user").summary().max()).isEqualTo(2.0);
         }
 
         @Test
-        @DisplayName("emitter onCompletion 콜백이 호출되면 repository에서 삭제")
-        void onCompletion_deletesFromRepository() throws Exception {
+        @DisplayName("사용자당 상한을 넘어 밀려난 가장 오래된 연결은 완료 처리")
+        void withEvictedConnection_completesOldest() {
             // given
             UUID userId = UUID.randomUUID();
-            given(emitterRepository.findByUserId(userId)).willReturn(Optional.empty());
+            SseEmitter oldest = mock(SseEmitter.class);
+            givenRegistration(userId, 6L, connection(1L, userId, oldest), 5);
+
+            // when
+            sseEmitterManager.createEmitter(userId);
+
+            // then
+            then(oldest).should().complete();
+            assertThat(meterRegistry.get("mopl.sse.connections.evicted").counter().count()).isEqualTo(1.0);
+        }
+
+        @Test
+        @DisplayName("emitter onCompletion 콜백이 호출되면 해당 연결만 삭제")
+        void onCompletion_removesConnection() throws Exception {
+            // given
+            UUID userId = UUID.randomUUID();
+            givenRegistration(userId, 7L, null, 1);
             SseEmitter emitter = sseEmitterManager.createEmitter(userId);
 
             // when - 리플렉션으로 onCompletion 콜백 직접 실행
@@ -108,15 +191,15 @@ class SseEmitterManagerTest {
             callback.run();
 
             // then
-            then(emitterRepository).should().deleteByUserId(userId);
+            then(emitterRegistry).should().remove(userId, 7L);
         }
 
         @Test
-        @DisplayName("emitter onTimeout 콜백이 호출되면 repository에서 삭제")
-        void onTimeout_deletesFromRepository() throws Exception {
+        @DisplayName("emitter onTimeout 콜백이 호출되면 해당 연결만 삭제")
+        void onTimeout_removesConnection() throws Exception {
             // given
             UUID userId = UUID.randomUUID();
-            given(emitterRepository.findByUserId(userId)).willReturn(Optional.empty());
+            givenRegistration(userId, 7L, null, 1);
             SseEmitter emitter = sseEmitterManager.createEmitter(userId);
 
             // when - 리플렉션으로 onTimeout 콜백 직접 실행
@@ -126,16 +209,16 @@ class SseEmitterManagerTest {
             callback.run();
 
             // then
-            then(emitterRepository).should().deleteByUserId(userId);
+            then(emitterRegistry).should().remove(userId, 7L);
         }
 
         @Test
-        @DisplayName("emitter onError 콜백이 호출되면 repository에서 삭제")
+        @DisplayName("emitter onError 콜백이 호출되면 해당 연결만 삭제")
         @SuppressWarnings("unchecked")
-        void onError_deletesFromRepository() throws Exception {
+        void onError_removesConnection() throws Exception {
             // given
             UUID userId = UUID.randomUUID();
-            given(emitterRepository.findByUserId(userId)).willReturn(Optional.empty());
+            givenRegistration(userId, 7L, null, 1);
             SseEmitter emitter = sseEmitterManager.createEmitter(userId);
 
             // when - 리플렉션으로 onError 콜백 직접 실행
@@ -145,7 +228,7 @@ class SseEmitterManagerTest {
             callback.accept(new IOException("Connection reset"));
 
             // then
-            then(emitterRepository).should().deleteByUserId(userId);
+            then(emitterRegistry).should().remove(userId, 7L);
         }
     }
 
@@ -153,6 +236,11 @@ class SseEmitterManagerTest {
     @DisplayName("sendToUser()")
     class SendToUserTest {
 
+        @BeforeEach
+        void setUp() {
+            given(eventCache.cacheEvent(any(UUID.class), any())).willReturn("1700000000000-0");
+        }
+
         @Test
         @DisplayName("사용자에게 이벤트 전송 성공")
         void sendsEventToUser() throws IOException {
@@ -162,14 +250,62 @@ class SseEmitterManagerTest {
             Object data = "test data";
             SseEmitter emitter = mock(SseEmitter.class);
 
-            given(emitterRepository.findByUserId(userId)).willReturn(Optional.of(emitter));
+            given(emitterRegistry.findByUserId(userId)).willReturn(List.of(connection(1L, userId, emitter)));
 
             // when
             sseEmitterManager.sendToUser(userId, eventName, data);
 
+            // then - timeout으로 비동기 전송 대기
+            then(eventCache).should().cacheEvent(userId, data);
+            then(emitter).should(timeout(1000)).send(anySet());
+        }
+
+        @Test
+        @DisplayName("사용자의 모든 연결에 이벤트를 전송하고 캐싱은 한 번만")
+        void withMultipleConnections_sendsToEach() throws IOException {
+            // given
+            UUID userId = UUID.randomUUID();
+            SseEmitter first = mock(SseEmitter.class);
+            SseEmitter second = mock(SseEmitter.class);
+
+            given(emitterRegistry.findByUserId(userId)).willReturn(List.of(
+                connection(1L, userId, first),
+                connection(2L, userId, second)
+            ));
+
+            // when
+            sseEmitterManager.sendToUser(userId, "notifications", "test data");
+
+            // then - timeout으로 비동기 전송 대기
+            then(eventCache).should().cacheEvent(userId, "test data");
+            then(first).should(timeout(1000)).send(anySet());
+            then(second).should(timeout(1000)).send(anySet());
+        }
+
+        @Test
+        @DisplayName("data를 한 번만 인코딩해 모든 연결에 같은 frame을 전송")
+        void withMultipleConnections_sharesOneFrame() throws IOException {
+            // given
+            UUID userId = UUID.randomUUID();
+            SseEmitter first = mock(SseEmitter.class);
+            SseEmitter second = mock(SseEmitter.class);
+
+            given(emitterRegistry.findByUserId(userId)).willReturn(List.of(
+                connection(1L, userId, first),
+                connection(2L, userId, second)
+            ));
+
+            // when
+            sseEmitterManager.sendToUser(userId, "notifications", "test data");
+
             // then
-            then(emitterRepository).should().cacheEvent(eq(userId), any(UUID.class), eq(data));
-            then(emitter).should().send(any(SseEmitter.SseEventBuilder.class));
+            ArgumentCaptor<Set<DataWithMediaType>> firstSent = contentCaptor();
+            ArgumentCaptor<Set<DataWithMediaType>> secondSent = contentCaptor();
+            then(first).should(timeout(1000)).send(firstSent.capture());
+            then(second).should(timeout(1000)).send(secondSent.capture());
+            assertThat(firstSent.getValue()).isSameAs(secondSent.getValue());
+            assertThat(text(firstSent.getValue()))
+                .isEqualTo("id:1700000000000-0\nevent:notifications\ndata:test data\n\n");
         }
 
         @Test
@@ -180,33 +316,39 @@ class SseEmitterManagerTest {
             String eventName = "notifications";
             Object data = "test data";
 
-            given(emitterRepository.findByUserId(userId)).willReturn(Optional.empty());
+            given(emitterRegistry.findByUserId(userId)).willReturn(List.of());
 
             // when
             sseEmitterManager.sendToUser(userId, eventName, data);
 
             // then
-            then(emitterRepository).should().cacheEvent(eq(userId), any(UUID.class), eq(data));
+            then(eventCache).should().cacheEvent(userId, data);
         }
 
         @Test
-        @DisplayName("전송 실패 시 emitter 삭제")
-        void withSendFailure_deletesEmitter() throws IOException {
+        @DisplayName("전송 실패 시 실패한 연결만 삭제")
+        void withSendFailure_removesFailedConnectionOnly() throws IOException {
             // given
             UUID userId = UUID.randomUUID();
             String eventName = "notifications";
             Object data = "test data";
-            SseEmitter emitter = mock(SseEmitter.class);
+            SseEmitter broken = mock(SseEmitter.class);
+            SseEmitter healthy = mock(SseEmitter.class);
 
-            given(emitterRepository.findByUserId(userId)).willReturn(Optional.of(emitter));
+            given(emitterRegistry.findByUserId(userId)).willReturn(List.of(
+                connection(1L, userId, broken),
+                connection(2L, userId, healthy)
+            ));
             doThrow(new IOException("Connection closed"))
-                .when(emitter).send(any(SseEmitter.SseEventBuilder.class));
+                .when(broken).send(anySet());
 
             // when
             sseEmitterManager.sendToUser(userId, eventName, data);
 
-            // then
-            then(emitterRepository).should().deleteByUserId(userId);
+            // then - timeout으로 비동기 전송 대기
+            then(emitterRegistry).should(timeout(1000)).remove(userId, 1L);
+            then(healthy).should(timeout(1000)).send(anySet());
+            then(emitterRegistry).should(never()).remove(userId, 2L);
         }
 
         @Test
@@ -218,18 +360,82 @@ class SseEmitterManagerTest {
             Object data = "test data";
             SseEmitter emitter = mock(SseEmitter.class);
 
-            given(emitterRepository.findByUserId(userId)).willReturn(Optional.of(emitter));
+            given(emitterRegistry.findByUserId(userId)).willReturn(List.of(connection(1L, userId, emitter)));
             doThrow(new IOException("Connection closed"))
-                .when(emitter).send(any(SseEmitter.SseEventBuilder.class));
+                .when(emitter).send(anySet());
             doThrow(new IllegalStateException("Already completed"))
                 .when(emitter).complete();
 
             // when - 예외 없이 완료되어야 함
             sseEmitterManager.sendToUser(userId, eventName, data);
 
+            // then - timeout으로 비동기 전송 대기
+            then(emitter).should(timeout(1000)).complete();
+            then(emitterRegistry).should(timeout(1000)).remove(userId, 1L);
+        }
+
+        @Test
+        @DisplayName("전송은 큐에 넣은 뒤 바로 반환하므로 느린 연결이 호출 스레드를 막지 않음")
+        void withSlowConnection_returnsWithoutBlocking() throws IOException {
+            // given
+            UUID userId = UUID.randomUUID();
+            SseEmitter slow = mock(SseEmitter.class);
+            CountDownLatch release = new CountDownLatch(1);
+            willAnswer(invocation -> {
+                release.await();
+                return null;
+            }).given(slow).send(anySet());
+            given(emitterRegistry.findByUserId(userId)).willReturn(List.of(connection(1L, userId, slow)));
+
+            // when
+            long startedAt = System.nanoTime();
+            sseEmitterManager.sendToUser(userId, "notifications", "data");
+            Duration elapsed = Duration.ofNanos(System.nanoTime() - startedAt);
+
+            // then
+            release.countDown();
+            assertThat(elapsed).isLessThan(Duration.ofMillis(500));
+            then(slow).should(timeout(1000)).send(anySet());
+        }
+
+        @Test
+        @DisplayName("DISCONNECT 정책에서 큐가 가득 차면 연결을 끊고 드롭으로 기록")
+        void withFullQueueAndDisconnectPolicy_removesConnection() {
+            // given
+            UUID userId = UUID.randomUUID();
+            SseEmitter emitter = mock(SseEmitter.class);
+            SseOutboundQueue outbound = new SseOutboundQueue(1, OverflowPolicy.DISCONNECT);
+            outbound.offer(pendingEvent());
+            outbound.tryStartDrain();
+            given(emitterRegistry.findByUserId(userId)).willReturn(List.of(connection(1L, userId, emitter, outbound)));
+
+            // when
+            sseEmitterManager.sendToUser(userId, "notifications", "data");
+
             // then
             then(emitter).should().complete();
-            then(emitterRepository).should().deleteByUserId(userId);
+            then(emitterRegistry).should().remove(userId, 1L);
+            assertThat(meterRegistry.get("mopl.sse.outbound.dropped").tag("policy", "disconnect").counter().count()).isEqualTo(1.0);
+        }
+
+        @Test
+        @DisplayName("DROP_OLDEST 정책에서 큐가 가득 차면 가장 오래된 이벤트를 버리고 드롭으로 기록")
+        void withFullQueueAndDropOldestPolicy_recordsDrop() {
+            // given
+            UUID userId = UUID.randomUUID();
+            SseEmitter emitter = mock(SseEmitter.class);
+            SseOutboundQueue outbound = new SseOutboundQueue(1, OverflowPolicy.DROP_OLDEST);
+            outbound.offer(pendingEvent());
+            outbound.tryStartDrain();
+            given(emitterRegistry.findByUserId(userId)).willReturn(List.of(connection(1L, userId, emitter, outbound)));
+
+            // when
+            sseEmitterManager.sendToUser(userId, "notifications", "data");
+
+            // then
+            assertThat(new String(outbound.poll().frame().toByteArray(), StandardCharsets.UTF_8)).contains("data:data\n");
+            assertThat(meterRegistry.get("mopl.sse.outbound.dropped").tag("policy", "drop_oldest").counter().count()).isEqualTo(1.0);
+            then(emitterRegistry).should(never()).remove(any(), anyLong());
         }
     }
 
@@ -242,14 +448,14 @@ class SseEmitterManagerTest {
         void checksLocalEmitterExists() {
             // given
             UUID userId = UUID.randomUUID();
-            given(emitterRepository.existsLocally(userId)).willReturn(true);
+            given(emitterRegistry.exists(userId)).willReturn(true);
 
             // when
             boolean result = sseEmitterManager.hasLocalEmitter(userId);
 
             // then
             assertThat(result).isTrue();
-            then(emitterRepository).should().existsLocally(userId);
+            then(emitterRegistry).should().exists(userId);
         }
     }
 
@@ -271,30 +477,49 @@ class SseEmitterManagerTest {
     }
 
     @Nested
-    @DisplayName("resendEventsAfter()")
-    class ResendEventsAfterTest {
+    @DisplayName("open()")
+    class OpenTest {
+
+        private static final String LAST_EVENT_ID = "01934567-89ab-7def-0123-456789abcdef";
+
+        @Test
+        @DisplayName("lastEventId가 없으면 재전송 없이 보류를 풀고 쌓인 실시간 이벤트를 전송")
+        void withoutLastEventId_releasesWithoutReplay() throws IOException {
+            // given
+            UUID userId = UUID.randomUUID();
+            SseEmitter emitter = mock(SseEmitter.class);
+            SseConnection connection = givenHeldConnection(userId, emitter);
+            connection.outbound().offer(pendingEvent());
+
+            // when
+            sseEmitterManager.open(userId, emitter, null);
+
+            // then - timeout으로 비동기 전송 대기
+            then(emitter).should(timeout(1000)).send(anySet());
+            then(eventCache).shouldHaveNoInteractions();
+        }
 
         @Test
         @DisplayName("캐시된 이벤트가 있으면 캐시에서 재전송")
         void withCachedEvents_resendsFromCache() throws IOException {
             // given
             UUID userId = UUID.randomUUID();
-            UUID lastEventId = UUID.fromString("01934567-89ab-7def-0123-456789abcdef");
             SseEmitter emitter = mock(SseEmitter.class);
+            givenHeldConnection(userId, emitter);
 
-            UUID cachedEventId = UUID.fromString("01934567-89ab-7def-0123-456789abcdf0");
-            RedisEmitterRepository.CachedEvent cachedEvent = new RedisEmitterRepository.CachedEvent(cachedEventId, "cached data");
+            EventCache.ReplayEvent cachedEvent = new EventCache.ReplayEvent("01934567-89ab-7def-0123-456789abcdf0", "cached data");
 
-            given(emitterRepository.getEventsAfter(userId, lastEventId))
+            given(eventCache.getEventsAfter(userId, LAST_EVENT_ID))
                 .willReturn(List.of(cachedEvent));
 
             // when
-            sseEmitterManager.resendEventsAfter(userId, lastEventId, emitter);
+            sseEmitterManager.open(userId, emitter, LAST_EVENT_ID);
 
-            // then
-            then(emitter).should().send(any(SseEmitter.SseEventBuilder.class));
+            // then - timeout으로 비동기 전송 대기
+            then(emitter).should(timeout(1000)).send(anySet());
             then(notificationQueryRepository).should(never())
-                .findByReceiverIdAndCreatedAtAfter(any(), any());
+                .findByReceiverIdAndCreatedAtAfter(any(), any(), any(), anyInt());
+            assertThat(meterRegistry.get("mopl.sse.events.resent").counter().count()).isEqualTo(1.0);
         }
 
         @Test
@@ -302,82 +527,68 @@ class SseEmitterManagerTest {
         void withoutCachedEvents_resendsFromDb() throws IOException {
             // given
             UUID userId = UUID.randomUUID();
-            UUID lastEventId = UUID.fromString("01934567-89ab-7def-0123-456789abcdef");
             SseEmitter emitter = mock(SseEmitter.class);
+            givenHeldConnection(userId, emitter);
 
-            NotificationModel notification = NotificationModel.create(
-                "테스트 알림",
-                "내용",
-                NotificationModel.NotificationLevel.INFO,
-                userId
-            );
-
-            given(emitterRepository.getEventsAfter(userId, lastEventId))
+            given(eventCache.getEventsAfter(userId, LAST_EVENT_ID))
                 .willReturn(List.of());
             given(notificationQueryRepository.findByReceiverIdAndCreatedAtAfter(
-                eq(userId), any(Instant.class)))
-                .willReturn(List.of(notification));
+                eq(userId), any(Instant.class), isNull(), anyInt()))
+                .willReturn(List.of(persistedNotification(userId)));
 
             // when
-            sseEmitterManager.resendEventsAfter(userId, lastEventId, emitter);
+            sseEmitterManager.open(userId, emitter, LAST_EVENT_ID);
 
-            // then
+            // then - timeout으로 비동기 전송 대기
             then(notificationQueryRepository).should()
-                .findByReceiverIdAndCreatedAtAfter(eq(userId), any(Instant.class));
-            then(emitter).should().send(any(SseEmitter.SseEventBuilder.class));
+                .findByReceiverIdAndCreatedAtAfter(eq(userId), any(Instant.class), isNull(), anyInt());
+            then(emitter).should(timeout(1000)).send(anySet());
         }
 
         @Test
-        @DisplayName("캐시에서 재전송 시 IOException 발생하면 중단")
-        void withCacheResendFailure_stopsResending() throws IOException {
+        @DisplayName("재전송 중에 도착한 실시간 이벤트는 재전송 이벤트 뒤에 같은 drain 스레드가 전송")
+        void withLiveEventDuringReplay_sendsAfterReplayed() throws IOException {
             // given
             UUID userId = UUID.randomUUID();
-            UUID lastEventId = UUID.fromString("01934567-89ab-7def-0123-456789abcdef");
             SseEmitter emitter = mock(SseEmitter.class);
+            SseConnection connection = givenHeldConnection(userId, emitter);
 
-            UUID cachedEventId1 = UUID.fromString("01934567-89ab-7def-0123-456789abcdf0");
-            UUID cachedEventId2 = UUID.fromString("01934567-89ab-7def-0123-456789abcdf1");
-            RedisEmitterRepository.CachedEvent cachedEvent1 = new RedisEmitterRepository.CachedEvent(cachedEventId1, "data1");
-            RedisEmitterRepository.CachedEvent cachedEvent2 = new RedisEmitterRepository.CachedEvent(cachedEventId2, "data2");
-
-            given(emitterRepository.getEventsAfter(userId, lastEventId))
-                .willReturn(List.of(cachedEvent1, cachedEvent2));
-            doThrow(new IOException("Connection closed"))
-                .when(emitter).send(any(SseEmitter.SseEventBuilder.class));
+            EventCache.ReplayEvent cachedEvent = new EventCache.ReplayEvent("01934567-89ab-7def-0123-456789abcdf0", "cached data");
+            given(eventCache.getEventsAfter(userId, LAST_EVENT_ID)).willAnswer(invocation -> {
+                connection.outbound().offer(pendingEvent());
+                return List.of(cachedEvent);
+            });
 
             // when
-            sseEmitterManager.resendEventsAfter(userId, lastEventId, emitter);
+            sseEmitterManager.open(userId, emitter, LAST_EVENT_ID);
 
-            // then - send는 첫 번째 호출에서 실패하므로 한 번만 호출됨
-            then(emitter).should().send(any(SseEmitter.SseEventBuilder.class));
+            // then
+            ArgumentCaptor<Set<DataWithMediaType>> captor = contentCaptor();
+            then(emitter).should(timeout(1000).times(2)).send(captor.capture());
+            assertThat(text(captor.getAllValues().get(0))).startsWith("id:" + cachedEvent.eventId() + "\n");
+            assertThat(text(captor.getAllValues().get(1))).startsWith("id:pending\n");
         }
 
         @Test
-        @DisplayName("DB에서 재전송 시 IOException 발생하면 중단")
-        void withDbResendFailure_stopsResending() throws IOException {
+        @DisplayName("재전송 중 예외가 나도 보류를 풀어 실시간 이벤트는 전송")
+        void withReplayFailure_stillReleases() throws IOException {
             // given
             UUID userId = UUID.randomUUID();
-            UUID lastEventId = UUID.fromString("01934567-89ab-7def-0123-456789abcdef");
             SseEmitter emitter = mock(SseEmitter.class);
+            SseConnection connection = givenHeldConnection(userId, emitter);
+            connection.outbound().offer(pendingEvent());
 
-            NotificationModel notification1 = NotificationModel.create(
-                "알림1", "내용1", NotificationModel.NotificationLevel.INFO, userId);
-            NotificationModel notification2 = NotificationModel.create(
-                "알림2", "내용2", NotificationModel.NotificationLevel.INFO, userId);
-
-            given(emitterRepository.getEventsAfter(userId, lastEventId))
-                .willReturn(List.of());
+            given(eventCache.getEventsAfter(userId, LAST_EVENT_ID)).willReturn(List.of());
             given(notificationQueryRepository.findByReceiverIdAndCreatedAtAfter(
-                eq(userId), any(Instant.class)))
-                .willReturn(List.of(notification1, notification2));
-            doThrow(new IOException("Connection closed"))
-                .when(emitter).send(any(SseEmitter.SseEventBuilder.class));
+                eq(userId), any(Instant.class), isNull(), anyInt()))
+                .willThrow(new IllegalStateException("DB unavailable"));
 
             // when
-            sseEmitterManager.resendEventsAfter(userId, lastEventId, emitter);
+            assertThatThrownBy(() -> sseEmitterManager.open(userId, emitter, LAST_EVENT_ID))
+                .isInstanceOf(IllegalStateException.class);
 
-            // then - send는 첫 번째 호출에서 실패하므로 한 번만 호출됨
-            then(emitter).should().send(any(SseEmitter.SseEventBuilder.class));
+            // then - timeout으로 비동기 전송 대기
+            then(emitter).should(timeout(1000)).send(anySet());
         }
 
         @Test
@@ -385,21 +596,216 @@ class SseEmitterManagerTest {
         void withEmptyCacheAndDb_sendsNothing() {
             // given
             UUID userId = UUID.randomUUID();
-            UUID lastEventId = UUID.fromString("01934567-89ab-7def-0123-456789abcdef");
             SseEmitter emitter = mock(SseEmitter.class);
+            givenHeldConnection(userId, emitter);
 
-            given(emitterRepository.getEventsAfter(userId, lastEventId))
+            given(eventCache.getEventsAfter(userId, LAST_EVENT_ID))
                 .willReturn(List.of());
             given(notificationQueryRepository.findByReceiverIdAndCreatedAtAfter(
-                eq(userId), any(Instant.class)))
+                eq(userId), any(Instant.class), isNull(), anyInt()))
                 .willReturn(List.of());
 
             // when
-            sseEmitterManager.resendEventsAfter(userId, lastEventId, emitter);
+            sseEmitterManager.open(userId, emitter, LAST_EVENT_ID);
 
             // then
             then(emitter).shouldHaveNoInteractions();
         }
+
+        @Test
+        @DisplayName("stream id 형식의 lastEventId도 그 시각을 기준으로 DB에서 재전송")
+        void withStreamId_resendsFromDbByItsTimestamp() {
+            // given
+            UUID userId = UUID.randomUUID();
+            String lastEventId = "1700000000000-3";
+            SseEmitter emitter = mock(SseEmitter.class);
+            givenHeldConnection(userId, emitter);
+
+            given(eventCache.getEventsAfter(userId, lastEventId)).willReturn(List.of());
+            given(notificationQueryRepository.findByReceiverIdAndCreatedAtAfter(
+                eq(userId), eq(Instant.ofEpochMilli(1700000000000L)), isNull(), anyInt()))
+                .willReturn(List.of());
+
+            // when
+            sseEmitterManager.open(userId, emitter, lastEventId);
+
+            // then
+            then(notificationQueryRepository).should()
+                .findByReceiverIdAndCreatedAtAfter(eq(userId), eq(Instant.ofEpochMilli(1700000000000L)), isNull(), anyInt());
+        }
+
+        @Test
+        @DisplayName("형식이 잘못된 lastEventId면 재전송하지 않음")
+        void withMalformedLastEventId_skipsResend() {
+            // given
+            UUID userId = UUID.randomUUID();
+            SseEmitter emitter = mock(SseEmitter.class);
+            givenHeldConnection(userId, emitter);
+
+            // when
+            sseEmitterManager.open(userId, emitter, "not-an-event-id");
+
+            // then
+            then(eventCache).shouldHaveNoInteractions();
+            then(notificationQueryRepository).shouldHaveNoInteractions();
+            then(emitter).shouldHaveNoInteractions();
+        }
+
+        @Test
+        @DisplayName("이미 정리된 연결이면 재전송하지 않음")
+        void withUnknownEmitter_skipsResend() {
+            // given
+            UUID userId = UUID.randomUUID();
+            SseEmitter emitter = mock(SseEmitter.class);
+            givenHeldConnection(userId, mock(SseEmitter.class));
+
+            // when
+            sseEmitterManager.open(userId, emitter, LAST_EVENT_ID);
+
+            // then
+            then(eventCache).shouldHaveNoInteractions();
+            then(emitter).shouldHaveNoInteractions();
+        }
+
+        @Test
+        @DisplayName("DB 재전송은 마지막으로 보낸 알림을 keyset으로 넘겨 다음 페이지를 이어 읽음")
+        void withMultiplePages_continuesWithKeyset() throws IOException {
+            // given
+            UUID userId = UUID.randomUUID();
+            SseEmitter emitter = mock(SseEmitter.class);
+            givenHeldConnection(userId, emitter);
+            SseEmitterManager manager = managerWithReplay(2, 10);
+            NotificationModel first = persistedNotification(userId);
+            NotificationModel second = persistedNotification(userId);
+            NotificationModel third = persistedNotification(userId);
+
+            given(eventCache.getEventsAfter(userId, LAST_EVENT_ID)).willReturn(List.of());
+            given(notificationQueryRepository.findByReceiverIdAndCreatedAtAfter(eq(userId), any(Instant.class), isNull(), eq(2)))
+                .willReturn(List.of(first, second));
+            given(notificationQueryRepository.findByReceiverIdAndCreatedAtAfter(userId, second.getCreatedAt(), second.getId(), 2))
+                .willReturn(List.of(third));
+
+            // when
+            manager.open(userId, emitter, LAST_EVENT_ID);
+
+            // then
+            then(emitter).should(timeout(1000).times(3)).send(anySet());
+            assertThat(meterRegistry.get("mopl.sse.events.replay.gaps").counter().count()).isZero();
+        }
+
+        @Test
+        @DisplayName("DB 재전송이 상한에 도달했는데 남은 알림이 있으면 gap 이벤트를 보내고 멈춤")
+        void overMaxEvents_sendsGapEvent() throws IOException {
+            // given
+            UUID userId = UUID.randomUUID();
+            SseEmitter emitter = mock(SseEmitter.class);
+            givenHeldConnection(userId, emitter);
+            SseEmitterManager manager = managerWithReplay(2, 3);
+            NotificationModel first = persistedNotification(userId);
+            NotificationModel second = persistedNotification(userId);
+            NotificationModel third = persistedNotification(userId);
+            NotificationModel overLimit = persistedNotification(userId);
+
+            given(eventCache.getEventsAfter(userId, LAST_EVENT_ID)).willReturn(List.of());
+            given(notificationQueryRepository.findByReceiverIdAndCreatedAtAfter(eq(userId), any(Instant.class), isNull(), eq(2)))
+                .willReturn(List.of(first, second));
+            given(notificationQueryRepository.findByReceiverIdAndCreatedAtAfter(userId, second.getCreatedAt(), second.getId(), 2))
+                .willReturn(List.of(third, overLimit));
+
+            // when
+            manager.open(userId, emitter, LAST_EVENT_ID);
+
+            // then
+            ArgumentCaptor<Set<DataWithMediaType>> captor = contentCaptor();
+            then(emitter).should(timeout(1000).times(4)).send(captor.capture());
+            assertThat(text(captor.getValue()))
+                .contains("event:gap\n")
+                .contains("\"replayed\":3");
+            assertThat(meterRegistry.get("mopl.sse.events.replay.gaps").counter().count()).isEqualTo(1.0);
+        }
+
+        @Test
+        @DisplayName("DB 재전송은 다음 페이지를 읽기 전에 재전송한 페이지를 먼저 전송")
+        void withMultiplePages_sendsEachPageBeforeNextRead() throws IOException {
+            // given
+            UUID userId = UUID.randomUUID();
+            SseEmitter emitter = mock(SseEmitter.class);
+            givenHeldConnection(userId, emitter);
+            SseEmitterManager manager = managerWithReplay(2, 10);
+            NotificationModel first = persistedNotification(userId);
+            NotificationModel second = persistedNotification(userId);
+
+            given(eventCache.getEventsAfter(userId, LAST_EVENT_ID)).willReturn(List.of());
+            given(notificationQueryRepository.findByReceiverIdAndCreatedAtAfter(eq(userId), any(Instant.class), isNull(), eq(2)))
+                .willReturn(List.of(first, second));
+            given(notificationQueryRepository.findByReceiverIdAndCreatedAtAfter(userId, second.getCreatedAt(), second.getId(), 2))
+                .willAnswer(invocation -> {
+                    then(emitter).should(timeout(1000).times(2)).send(anySet());
+                    return List.of();
+                });
+
+            // when
+            manager.open(userId, emitter, LAST_EVENT_ID);
+
+            // then
+            then(notificationQueryRepository).should()
+                .findByReceiverIdAndCreatedAtAfter(userId, second.getCreatedAt(), second.getId(), 2);
+        }
+
+        @Test
+        @DisplayName("DB 재전송 중 연결이 정리되면 다음 페이지를 읽지 않음")
+        void withDisconnectDuringReplay_stopsReading() {
+            // given
+            UUID userId = UUID.randomUUID();
+            SseEmitter emitter = mock(SseEmitter.class);
+            SseConnection connection = givenHeldConnection(userId, emitter);
+            SseEmitterManager manager = managerWithReplay(2, 10);
+            NotificationModel first = persistedNotification(userId);
+            NotificationModel second = persistedNotification(userId);
+
+            given(emitterRegistry.findByUserId(userId)).willReturn(List.of(connection), List.of());
+            given(eventCache.getEventsAfter(userId, LAST_EVENT_ID)).willReturn(List.of());
+            given(notificationQueryRepository.findByReceiverIdAndCreatedAtAfter(eq(userId), any(Instant.class), isNull(), eq(2)))
+                .willReturn(List.of(first, second));
+
+            // when
+            manager.open(userId, emitter, LAST_EVENT_ID);
+
+            // then
+            then(notificationQueryRepository).should()
+                .findByReceiverIdAndCreatedAtAfter(eq(userId), any(Instant.class), isNull(), eq(2));
+            then(notificationQueryRepository).shouldHaveNoMoreInteractions();
+        }
+
+        private SseConnection givenHeldConnection(UUID userId, SseEmitter emitter) {
+            SseOutboundQueue outbound = new SseOutboundQueue(64, OverflowPolicy.DROP_OLDEST);
+            outbound.hold();
+            SseConnection connection = connection(1L, userId, emitter, outbound);
+            given(emitterRegistry.findByUserId(userId)).willReturn(List.of(connection));
+            return connection;
+        }
+
+        private SseEmitterManager managerWithReplay(int pageSize, int maxEvents) {
+            SseEmitterManager manager = new SseEmitterManager(
+                emitterRegistry,
+                nodePresence,
+                eventCache,
+                frameEncoder(),
+                notificationQueryRepository,
+                new SseProperties(null, null, null, null, new ReplayConfig(pageSize, maxEvents), null),
+                meterRegistry
+            );
+            manager.initMetrics();
+            return manager;
+        }
+
+        private NotificationModel persistedNotification(UUID userId) {
+            return NotificationModel.create("알림", "내용", NotificationModel.NotificationLevel.INFO, userId)
+                .toBuilder()
+                .id(UUID.randomUUID())
+                .createdAt(Instant.now())
+                .build();
+        }
     }
 
     @Nested
@@ -407,54 +813,72 @@ class SseEmitterManagerTest {
     class SendHeartbeatTest {
 
         @Test
-        @DisplayName("모든 로컬 emitter에 heartbeat 전송")
-        void sendsHeartbeatToAllEmitters() throws IOException {
+        @DisplayName("유휴 연결에 heartbeat 전송")
+        void withIdleConnection_sendsHeartbeat() throws IOException {
             // given
             UUID userId = UUID.randomUUID();
             SseEmitter emitter = mock(SseEmitter.class);
-            Map<UUID, SseEmitter> emitters = new ConcurrentHashMap<>();
-            emitters.put(userId, emitter);
-
-            given(emitterRepository.getLocalEmitters()).willReturn(emitters);
 
             // when
-            sseEmitterManager.sendHeartbeat();
+            boolean result = sseEmitterManager.sendHeartbeat(connection(1L, userId, emitter), 0);
 
             // then - timeout으로 비동기 완료 대기
-            then(emitter).should(timeout(1000)).send(any(SseEmitter.SseEventBuilder.class));
+            assertThat(result).isTrue();
+            then(emitter).should(timeout(1000)).send(anySet());
         }
 
         @Test
-        @DisplayName("heartbeat 전송 실패 시 emitter 삭제")
-        void withHeartbeatFailure_deletesEmitter() throws IOException {
+        @DisplayName("heartbeat 전송 실패 시 이벤트 전송 실패와 같은 경로로 연결 삭제")
+        void withHeartbeatFailure_removesConnection() throws IOException {
             // given
             UUID userId = UUID.randomUUID();
             SseEmitter emitter = mock(SseEmitter.class);
-            Map<UUID, SseEmitter> emitters = new ConcurrentHashMap<>();
-            emitters.put(userId, emitter);
-
-            given(emitterRepository.getLocalEmitters()).willReturn(emitters);
             doThrow(new IOException("Connection closed"))
-                .when(emitter).send(any(SseEmitter.SseEventBuilder.class));
+                .when(emitter).send(anySet());
 
             // when
-            sseEmitterManager.sendHeartbeat();
+            sseEmitterManager.sendHeartbeat(connection(3L, userId, emitter), 0);
 
             // then - timeout으로 비동기 완료 대기
-            then(emitterRepository).should(timeout(1000)).deleteByUserId(userId);
+            then(emitter).should(timeout(1000)).complete();
+            then(emitterRegistry).should(timeout(1000)).remove(userId, 3L);
+            assertThat(meterRegistry.get("mopl.sse.events.failed").counter().count()).isZero();
         }
 
         @Test
-        @DisplayName("emitter가 없으면 아무것도 전송하지 않음")
-        void withNoEmitters_sendsNothing() {
+        @DisplayName("대기 중인 이벤트가 있는 연결에는 heartbeat를 넣지 않음")
+        void withPendingEvents_skipsHeartbeat() {
             // given
-            given(emitterRepository.getLocalEmitters()).willReturn(new ConcurrentHashMap<>());
+            UUID userId = UUID.randomUUID();
+            SseEmitter emitter = mock(SseEmitter.class);
+            SseOutboundQueue outbound = new SseOutboundQueue(64, OverflowPolicy.DROP_OLDEST);
+            outbound.offer(pendingEvent());
+            outbound.tryStartDrain();
 
             // when
-            sseEmitterManager.sendHeartbeat();
+            boolean result = sseEmitterManager.sendHeartbeat(connection(1L, userId, emitter, outbound), 0);
 
             // then
-            then(emitterRepository).should(never()).deleteByUserId(any());
+            assertThat(result).isFalse();
+            assertThat(outbound.size()).isEqualTo(1);
+            then(emitter).shouldHaveNoInteractions();
+        }
+
+        @Test
+        @DisplayName("최근에 이벤트를 보낸 연결에는 heartbeat를 넣지 않음")
+        void withRecentSend_skipsHeartbeat() {
+            // given
+            UUID userId = UUID.randomUUID();
+            SseEmitter emitter = mock(SseEmitter.class);
+            SseConnection connection = connection(1L, userId, emitter);
+            connection.outbound().markSent();
+
+            // when
+            boolean result = sseEmitterManager.sendHeartbeat(connection, Duration.ofMinutes(1).toNanos());
+
+            // then
+            assertThat(result).isFalse();
+            then(emitter).shouldHaveNoInteractions();
         }
     }
 
@@ -467,7 +891,7 @@ class SseEmitterManagerTest {
         void withNoLocalEmitter_returnsFalse() {
             // given
             UUID userId = UUID.randomUUID();
-            given(emitterRepository.existsLocally(userId)).willReturn(false);
+            given(emitterRegistry.exists(userId)).willReturn(false);
 
             // when
             boolean result = sseEmitterManager.hasLocalEmitter(userId);
@@ -1,5 +1,8 @@
 package com.mopl.sse.application;
 
+import com.mopl.sse.application.SseAdmissionControl.Admission;
+import com.mopl.sse.application.SseAdmissionControl.Rejection;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
@@ -10,6 +13,7 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.io.IOException;
+import java.time.Duration;
 import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -27,6 +31,9 @@ class SseFacadeTest {
     @Mock
     private SseEmitterManager sseEmitterManager;
 
+    @Mock
+    private SseAdmissionControl admissionControl;
+
     @InjectMocks
     private SseFacade sseFacade;
 
@@ -34,6 +41,11 @@ class SseFacadeTest {
     @DisplayName("subscribe()")
     class SubscribeTest {
 
+        @BeforeEach
+        void setUp() {
+            given(admissionControl.tryAdmit()).willReturn(Admission.ACCEPTED);
+        }
+
         @Test
         @DisplayName("구독 성공 시 emitter 반환 및 연결 이벤트 전송")
         void withValidUserId_returnsEmitterAndSendsConnectEvent() throws IOException {
@@ -52,14 +64,15 @@ class SseFacadeTest {
             assertThat(result).isEqualTo(emitter);
             then(sseEmitterManager).should().createEmitter(userId);
             then(emitter).should().send(any(SseEmitter.SseEventBuilder.class));
+            then(sseEmitterManager).should().open(userId, emitter, null);
         }
 
         @Test
-        @DisplayName("lastEventId가 있으면 이전 이벤트 재전송")
+        @DisplayName("lastEventId가 있으면 이를 넘겨 연결을 열고 이전 이벤트 재전송")
         void withLastEventId_resendsEvents() {
             // given
             UUID userId = UUID.randomUUID();
-            UUID lastEventId = UUID.randomUUID();
+            String lastEventId = UUID.randomUUID().toString();
             SseEmitter emitter = mock(SseEmitter.class);
             UUID eventId = UUID.randomUUID();
 
@@ -71,11 +84,11 @@ class SseFacadeTest {
 
             // then
             assertThat(result).isEqualTo(emitter);
-            then(sseEmitterManager).should().resendEventsAfter(userId, lastEventId, emitter);
+            then(sseEmitterManager).should().open(userId, emitter, lastEventId);
         }
 
         @Test
-        @DisplayName("lastEventId가 null이면 이전 이벤트 재전송 안함")
+        @DisplayName("lastEventId가 null이면 재전송 없이 연결만 엶")
         void withoutLastEventId_doesNotResendEvents() {
             // given
             UUID userId = UUID.randomUUID();
@@ -90,8 +103,7 @@ class SseFacadeTest {
 
             // then
             assertThat(result).isEqualTo(emitter);
-            then(sseEmitterManager).should(never())
-                .resendEventsAfter(any(), any(), any());
+            then(sseEmitterManager).should().open(userId, emitter, null);
         }
 
         @Test
@@ -114,7 +126,27 @@ class SseFacadeTest {
             assertThat(result).isEqualTo(emitter);
             then(emitter).should().completeWithError(ioException);
             then(sseEmitterManager).should(never())
-                .resendEventsAfter(any(), any(), any());
+                .open(any(), any(), any());
+        }
+    }
+
+    @Nested
+    @DisplayName("subscribe() - 연결 거절")
+    class RejectedSubscribeTest {
+
+        @Test
+        @DisplayName("admission control이 거절하면 emitter를 등록하지 않고 바로 닫히는 emitter 반환")
+        void whenRejected_returnsClosingEmitterWithoutRegistering() {
+            // given
+            UUID userId = UUID.randomUUID();
+            given(admissionControl.tryAdmit()).willReturn(new Admission(false, Rejection.CAPACITY, Duration.ofSeconds(3)));
+
+            // when
+            SseEmitter result = sseFacade.subscribe(userId, "1700000000000-0");
+
+            // then
+            assertThat(result).isNotNull();
+            then(sseEmitterManager).shouldHaveNoInteractions();
         }
     }
 }
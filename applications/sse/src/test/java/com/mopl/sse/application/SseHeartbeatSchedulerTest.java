@@ -0,0 +1,125 @@
+package com.mopl.sse.application;
+
+import com.mopl.sse.config.SseProperties;
+import com.mopl.sse.config.SseProperties.HeartbeatConfig;
+import com.mopl.sse.repository.OverflowPolicy;
+import com.mopl.sse.repository.SseConnection;
+import com.mopl.sse.repository.SseEmitterRegistry;
+import com.mopl.sse.repository.SseOutboundQueue;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.time.Duration;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.BDDMockito.willAnswer;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("SseHeartbeatScheduler 단위 테스트")
+class SseHeartbeatSchedulerTest {
+
+    private static final Duration INTERVAL = Duration.ofHours(2);
+
+    @Mock
+    private SseEmitterRegistry emitterRegistry;
+
+    @Mock
+    private SseEmitterManager sseEmitterManager;
+
+    @Mock
+    private SseNodePresence nodePresence;
+
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private SseHeartbeatScheduler scheduler;
+
+    @BeforeEach
+    void setUp() {
+        SseProperties properties = new SseProperties(null, null, new HeartbeatConfig(INTERVAL, Duration.ofHours(1)), null, null, null);
+        scheduler = new SseHeartbeatScheduler(emitterRegistry, sseEmitterManager, nodePresence, properties, meterRegistry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        scheduler.destroy();
+    }
+
+    private static SseConnection connection(long connectionId) {
+        return new SseConnection(connectionId, UUID.randomUUID(), new SseEmitter(), new SseOutboundQueue(1, OverflowPolicy.DROP_OLDEST));
+    }
+
+    @Nested
+    @DisplayName("tick()")
+    class TickTest {
+
+        @Test
+        @DisplayName("현재 slot의 연결에만 interval 절반을 유휴 기준으로 heartbeat를 요청하고 결과를 기록")
+        void visitsCurrentSlotWithHalfIntervalIdleThreshold() {
+            // given
+            SseConnection idle = connection(1L);
+            SseConnection active = connection(2L);
+            willAnswer(invocation -> {
+                Consumer<SseConnection> action = invocation.getArgument(0);
+                action.accept(idle);
+                action.accept(active);
+                return null;
+            }).given(emitterRegistry).advanceHeartbeatWheel(any());
+            long idleNanos = INTERVAL.dividedBy(2).toNanos();
+            given(sseEmitterManager.sendHeartbeat(idle, idleNanos)).willReturn(true);
+            given(sseEmitterManager.sendHeartbeat(active, idleNanos)).willReturn(false);
+
+            // when
+            scheduler.tick();
+
+            // then
+            then(emitterRegistry).should().advanceHeartbeatWheel(any());
+            assertThat(meterRegistry.get("mopl.sse.heartbeats.sent").counter().count()).isEqualTo(1.0);
+            assertThat(meterRegistry.get("mopl.sse.heartbeats.skipped").counter().count()).isEqualTo(1.0);
+        }
+
+        @Test
+        @DisplayName("방문한 연결의 사용자 presence를 한 번에 갱신")
+        void refreshesPresenceOfVisitedUsers() {
+            // given
+            SseConnection first = connection(1L);
+            SseConnection second = connection(2L);
+            willAnswer(invocation -> {
+                Consumer<SseConnection> action = invocation.getArgument(0);
+                action.accept(first);
+                action.accept(second);
+                return null;
+            }).given(emitterRegistry).advanceHeartbeatWheel(any());
+
+            // when
+            scheduler.tick();
+
+            // then
+            then(nodePresence).should().refresh(Set.of(first.userId(), second.userId()));
+        }
+
+        @Test
+        @DisplayName("현재 slot에 연결이 없으면 presence를 갱신하지 않음")
+        void withEmptySlot_skipsPresenceRefresh() {
+            // when
+            scheduler.tick();
+
+            // then
+            then(nodePresence).shouldHaveNoInteractions();
+        }
+    }
+}
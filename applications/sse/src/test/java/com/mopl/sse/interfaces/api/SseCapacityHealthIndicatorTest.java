@@ -0,0 +1,62 @@
+package com.mopl.sse.interfaces.api;
+
+import com.mopl.sse.application.SseAdmissionControl;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.Status;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("SseCapacityHealthIndicator 단위 테스트")
+class SseCapacityHealthIndicatorTest {
+
+    @Mock
+    private SseAdmissionControl admissionControl;
+
+    @InjectMocks
+    private SseCapacityHealthIndicator healthIndicator;
+
+    @Nested
+    @DisplayName("health()")
+    class HealthTest {
+
+        @Test
+        @DisplayName("연결 여유가 있으면 UP과 남은 연결 수를 반환")
+        void withCapacity_returnsUp() {
+            // given
+            given(admissionControl.availableConnections()).willReturn(3);
+            given(admissionControl.maxConnections()).willReturn(10);
+
+            // when
+            Health health = healthIndicator.health();
+
+            // then
+            assertThat(health.getStatus()).isEqualTo(Status.UP);
+            assertThat(health.getDetails())
+                .containsEntry("maxConnections", 10)
+                .containsEntry("availableConnections", 3);
+        }
+
+        @Test
+        @DisplayName("연결 여유가 없으면 OUT_OF_SERVICE 반환")
+        void withoutCapacity_returnsOutOfService() {
+            // given
+            given(admissionControl.availableConnections()).willReturn(0);
+            given(admissionControl.maxConnections()).willReturn(10);
+
+            // when
+            Health health = healthIndicator.health();
+
+            // then
+            assertThat(health.getStatus()).isEqualTo(Status.OUT_OF_SERVICE);
+        }
+    }
+}
@@ -72,13 +72,13 @@ class SseControllerTest {
         @DisplayName("lastEventId와 함께 구독 요청 시 200 OK 반환")
         void withLastEventId_returns200() throws Exception {
             // given
-            UUID lastEventId = UUID.randomUUID();
+            String lastEventId = "1700000000000-0";
             SseEmitter expectedEmitter = new SseEmitter();
             given(sseFacade.subscribe(mockUserId, lastEventId)).willReturn(expectedEmitter);
 
             // when & then
             mockMvc.perform(get("/sse")
-                .param("lastEventId", lastEventId.toString())
+                .param("lastEventId", lastEventId)
                 .with(user(mockUserDetails)))
                 .andExpect(status().isOk());
         }
@@ -2,7 +2,9 @@ package com.mopl.sse.interfaces.redis;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.mopl.dto.conversation.DirectMessageResponse;
+import com.mopl.redis.pubsub.DirectMessagePublisher;
 import com.mopl.sse.application.SseEmitterManager;
+import com.mopl.sse.application.SseNodePresence;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -15,6 +17,7 @@ import org.springframework.data.redis.connection.Message;
 import org.springframework.data.redis.listener.ChannelTopic;
 import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 
+import java.util.List;
 import java.util.UUID;
 
 import static org.mockito.ArgumentMatchers.any;
@@ -33,6 +36,9 @@ class RedisDirectMessageSubscriberTest {
     @Mock
     private SseEmitterManager sseEmitterManager;
 
+    @Mock
+    private SseNodePresence nodePresence;
+
     private RedisDirectMessageSubscriber redisDirectMessageSubscriber;
 
     @BeforeEach
@@ -42,6 +48,7 @@ class RedisDirectMessageSubscriberTest {
         redisDirectMessageSubscriber = new RedisDirectMessageSubscriber(
             redisMessageListenerContainer,
             sseEmitterManager,
+            nodePresence,
             objectMapper
         );
     }
@@ -51,14 +58,19 @@ class RedisDirectMessageSubscriberTest {
     class SubscribeTest {
 
         @Test
-        @DisplayName("Redis 채널 구독 등록")
-        void registersMessageListener() {
+        @DisplayName("노드 전용 채널과 공용 채널 구독 등록")
+        void registersMessageListenerForNodeChannel() {
+            // given
+            given(nodePresence.channel(DirectMessagePublisher.CHANNEL)).willReturn(DirectMessagePublisher.CHANNEL + ":node-a");
+
             // when
             redisDirectMessageSubscriber.subscribe();
 
             // then
-            then(redisMessageListenerContainer).should()
-                .addMessageListener(eq(redisDirectMessageSubscriber), any(ChannelTopic.class));
+            then(redisMessageListenerContainer).should().addMessageListener(
+                redisDirectMessageSubscriber,
+                List.of(new ChannelTopic(DirectMessagePublisher.CHANNEL + ":node-a"), new ChannelTopic(DirectMessagePublisher.CHANNEL))
+            );
         }
     }
 
@@ -104,7 +116,7 @@ class RedisDirectMessageSubscriberTest {
             // then
             then(sseEmitterManager).should().hasLocalEmitter(receiverId);
             then(sseEmitterManager).should()
-                .sendToUser(eq(receiverId), eq("direct-messages"), any(DirectMessageResponse.class));
+                .sendToUser(eq(receiverId), eq("direct-messages"), any(DirectMessageResponse.class), eq(messageId));
         }
 
         @Test
@@ -145,7 +157,7 @@ class RedisDirectMessageSubscriberTest {
             // then
             then(sseEmitterManager).should().hasLocalEmitter(receiverId);
             then(sseEmitterManager).should(never())
-                .sendToUser(any(), any(), any());
+                .sendToUser(any(), any(), any(), any());
         }
 
         @Test
@@ -160,7 +172,7 @@ class RedisDirectMessageSubscriberTest {
 
             // then
             then(sseEmitterManager).should(never()).hasLocalEmitter(any());
-            then(sseEmitterManager).should(never()).sendToUser(any(), any(), any());
+            then(sseEmitterManager).should(never()).sendToUser(any(), any(), any(), any());
         }
     }
 }
@@ -0,0 +1,132 @@
+package com.mopl.sse.interfaces.redis;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mopl.domain.model.notification.NotificationModel;
+import com.mopl.redis.pubsub.NotificationPublisher;
+import com.mopl.sse.application.SseEmitterManager;
+import com.mopl.sse.application.SseNodePresence;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import java.time.Instant;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("RedisNotificationFanoutSubscriber 단위 테스트")
+class RedisNotificationFanoutSubscriberTest {
+
+    @Mock
+    private RedisMessageListenerContainer redisMessageListenerContainer;
+
+    @Mock
+    private SseEmitterManager sseEmitterManager;
+
+    @Mock
+    private SseNodePresence nodePresence;
+
+    private RedisNotificationFanoutSubscriber subscriber;
+
+    @BeforeEach
+    void setUp() {
+        ObjectMapper objectMapper = new ObjectMapper();
+        objectMapper.findAndRegisterModules();
+        subscriber = new RedisNotificationFanoutSubscriber(
+            redisMessageListenerContainer,
+            sseEmitterManager,
+            nodePresence,
+            objectMapper
+        );
+    }
+
+    @Nested
+    @DisplayName("subscribe()")
+    class SubscribeTest {
+
+        @Test
+        @DisplayName("노드 전용 봉투 채널 구독 등록")
+        void registersMessageListenerForNodeChannel() {
+            // given
+            String nodeChannel = NotificationPublisher.FANOUT_CHANNEL + ":node-a";
+            given(nodePresence.channel(NotificationPublisher.FANOUT_CHANNEL)).willReturn(nodeChannel);
+
+            // when
+            subscriber.subscribe();
+
+            // then
+            then(redisMessageListenerContainer).should().addMessageListener(subscriber, new ChannelTopic(nodeChannel));
+        }
+    }
+
+    @Nested
+    @DisplayName("onMessage()")
+    class OnMessageTest {
+
+        @Test
+        @DisplayName("로컬 emitter가 있는 수신자에게만 공유 내용과 각자의 알림 ID로 전송")
+        void withLocalEmitters_sendsPerRecipient() {
+            // given
+            UUID localReceiverId = UUID.randomUUID();
+            UUID remoteReceiverId = UUID.randomUUID();
+            UUID localNotificationId = UUID.randomUUID();
+            String json = """
+                {
+                    "title": "새 콘텐츠",
+                    "content": "구독한 플레이리스트에 콘텐츠가 추가되었습니다.",
+                    "level": "INFO",
+                    "receiverIds": ["%s", "%s"],
+                    "notificationIds": ["%s", "%s"],
+                    "createdAts": ["2025-01-01T00:00:00Z", "2025-01-01T00:00:01Z"]
+                }
+                """.formatted(localReceiverId, remoteReceiverId, localNotificationId, UUID.randomUUID());
+            Message message = new DefaultMessage("sse:notifications-fanout:node-a".getBytes(), json.getBytes());
+
+            given(sseEmitterManager.hasLocalEmitter(localReceiverId)).willReturn(true);
+            given(sseEmitterManager.hasLocalEmitter(remoteReceiverId)).willReturn(false);
+
+            // when
+            subscriber.onMessage(message, null);
+
+            // then
+            ArgumentCaptor<Object> captor = ArgumentCaptor.forClass(Object.class);
+            then(sseEmitterManager).should().sendToUser(eq(localReceiverId), eq("notifications"), captor.capture(), eq(localNotificationId));
+            then(sseEmitterManager).should(never()).sendToUser(eq(remoteReceiverId), any(), any(), any());
+
+            NotificationModel sent = (NotificationModel) captor.getValue();
+            assertThat(sent.getId()).isEqualTo(localNotificationId);
+            assertThat(sent.getReceiverId()).isEqualTo(localReceiverId);
+            assertThat(sent.getCreatedAt()).isEqualTo(Instant.parse("2025-01-01T00:00:00Z"));
+            assertThat(sent.getTitle()).isEqualTo("새 콘텐츠");
+            assertThat(sent.getLevel()).isEqualTo(NotificationModel.NotificationLevel.INFO);
+        }
+
+        @Test
+        @DisplayName("잘못된 메시지 형식이면 예외 처리하고 계속 진행")
+        void withInvalidMessage_handlesException() {
+            // given
+            Message message = new DefaultMessage("sse:notifications-fanout:node-a".getBytes(), "invalid json".getBytes());
+
+            // when
+            subscriber.onMessage(message, null);
+
+            // then
+            then(sseEmitterManager).shouldHaveNoInteractions();
+        }
+    }
+}
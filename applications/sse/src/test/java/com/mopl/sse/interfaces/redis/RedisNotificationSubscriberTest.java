@@ -2,7 +2,9 @@ package com.mopl.sse.interfaces.redis;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.mopl.domain.model.notification.NotificationModel;
+import com.mopl.redis.pubsub.NotificationPublisher;
 import com.mopl.sse.application.SseEmitterManager;
+import com.mopl.sse.application.SseNodePresence;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -15,6 +17,7 @@ import org.springframework.data.redis.connection.Message;
 import org.springframework.data.redis.listener.ChannelTopic;
 import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 
+import java.util.List;
 import java.util.UUID;
 
 import static org.mockito.ArgumentMatchers.any;
@@ -33,6 +36,9 @@ class RedisNotificationSubscriberTest {
     @Mock
     private SseEmitterManager sseEmitterManager;
 
+    @Mock
+    private SseNodePresence nodePresence;
+
     private RedisNotificationSubscriber redisNotificationSubscriber;
 
     @BeforeEach
@@ -42,6 +48,7 @@ class RedisNotificationSubscriberTest {
         redisNotificationSubscriber = new RedisNotificationSubscriber(
             redisMessageListenerContainer,
             sseEmitterManager,
+            nodePresence,
             objectMapper
         );
     }
@@ -51,14 +58,19 @@ class RedisNotificationSubscriberTest {
     class SubscribeTest {
 
         @Test
-        @DisplayName("Redis 채널 구독 등록")
-        void registersMessageListener() {
+        @DisplayName("노드 전용 채널과 공용 채널 구독 등록")
+        void registersMessageListenerForNodeChannel() {
+            // given
+            given(nodePresence.channel(NotificationPublisher.CHANNEL)).willReturn(NotificationPublisher.CHANNEL + ":node-a");
+
             // when
             redisNotificationSubscriber.subscribe();
 
             // then
-            then(redisMessageListenerContainer).should()
-                .addMessageListener(eq(redisNotificationSubscriber), any(ChannelTopic.class));
+            then(redisMessageListenerContainer).should().addMessageListener(
+                redisNotificationSubscriber,
+                List.of(new ChannelTopic(NotificationPublisher.CHANNEL + ":node-a"), new ChannelTopic(NotificationPublisher.CHANNEL))
+            );
         }
     }
 
@@ -71,14 +83,16 @@ class RedisNotificationSubscriberTest {
         void withLocalEmitter_sendsNotification() {
             // given
             UUID receiverId = UUID.randomUUID();
+            UUID notificationId = UUID.randomUUID();
             String json = """
                 {
+                    "id": "%s",
                     "title": "테스트 알림",
                     "content": "내용",
                     "level": "INFO",
                     "receiverId": "%s"
                 }
-                """.formatted(receiverId);
+                """.formatted(notificationId, receiverId);
 
             Message message = new DefaultMessage("sse:notifications".getBytes(), json.getBytes());
 
@@ -90,7 +104,7 @@ class RedisNotificationSubscriberTest {
             // then
             then(sseEmitterManager).should().hasLocalEmitter(receiverId);
             then(sseEmitterManager).should()
-                .sendToUser(eq(receiverId), eq("notifications"), any(NotificationModel.class));
+                .sendToUser(eq(receiverId), eq("notifications"), any(NotificationModel.class), eq(notificationId));
         }
 
         @Test
@@ -117,7 +131,7 @@ class RedisNotificationSubscriberTest {
             // then
             then(sseEmitterManager).should().hasLocalEmitter(receiverId);
             then(sseEmitterManager).should(never())
-                .sendToUser(any(), any(), any());
+                .sendToUser(any(), any(), any(), any());
         }
 
         @Test
@@ -132,7 +146,7 @@ class RedisNotificationSubscriberTest {
 
             // then
             then(sseEmitterManager).should(never()).hasLocalEmitter(any());
-            then(sseEmitterManager).should(never()).sendToUser(any(), any(), any());
+            then(sseEmitterManager).should(never()).sendToUser(any(), any(), any(), any());
         }
     }
 }
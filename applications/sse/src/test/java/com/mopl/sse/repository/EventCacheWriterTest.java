@@ -0,0 +1,213 @@
+package com.mopl.sse.repository;
+
+import com.mopl.sse.config.SseProperties;
+import com.mopl.sse.config.SseProperties.EventCacheConfig;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.ZSetOperations;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("EventCacheWriter 단위 테스트")
+class EventCacheWriterTest {
+
+    private static final Duration TTL = Duration.ofMinutes(5);
+    private static final int MAX_SIZE = 100;
+    private static final String KEY_A = "sse:events:a";
+    private static final String KEY_B = "sse:events:b";
+
+    @Mock
+    private RedisTemplate<String, Object> redisTemplate;
+
+    @Mock
+    private RedisOperations<String, Object> operations;
+
+    @Mock
+    private ZSetOperations<String, Object> zSetOperations;
+
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private EventCacheWriter writer;
+
+    private EventCacheWriter writer(int maxBatchSize) {
+        SseProperties properties = new SseProperties(new EventCacheConfig(TTL, MAX_SIZE, Duration.ofHours(1), maxBatchSize, null, null), null, null, null, null, null);
+        writer = new EventCacheWriter(redisTemplate, properties, meterRegistry);
+        return writer;
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (writer != null) {
+            writer.destroy();
+        }
+    }
+
+    @Nested
+    @DisplayName("flush()")
+    class FlushTest {
+
+        @Test
+        @DisplayName("쌓인 이벤트를 키별 ZADD/EXPIRE/음수 rank 정리로 묶어 파이프라인 한 번에 기록")
+        void withPendingEvents_writesOnePipelinePerBatch() {
+            // given
+            EventCacheWriter eventCacheWriter = writer(500);
+            eventCacheWriter.enqueue(KEY_A, "a1", 1.0);
+            eventCacheWriter.enqueue(KEY_A, "a2", 2.0);
+            eventCacheWriter.enqueue(KEY_B, "b1", 1.0);
+
+            // when
+            eventCacheWriter.flush();
+
+            // then
+            ArgumentCaptor<SessionCallback<Object>> callbackCaptor = sessionCallbackCaptor();
+            then(redisTemplate).should(times(1)).executePipelined(callbackCaptor.capture());
+
+            given(operations.opsForZSet()).willReturn(zSetOperations);
+            callbackCaptor.getValue().execute(operations);
+            then(zSetOperations).should().add(eq(KEY_A), argThat((Set<ZSetOperations.TypedTuple<Object>> tuples) -> tuples.size() == 2));
+            then(zSetOperations).should().add(eq(KEY_B), argThat((Set<ZSetOperations.TypedTuple<Object>> tuples) -> tuples.size() == 1));
+            then(operations).should().expire(KEY_A, TTL);
+            then(operations).should().expire(KEY_B, TTL);
+            then(zSetOperations).should().removeRange(KEY_A, 0, -(MAX_SIZE + 1L));
+            then(zSetOperations).should().removeRange(KEY_B, 0, -(MAX_SIZE + 1L));
+            then(zSetOperations).should(never()).size(any());
+
+            assertThat(meterRegistry.get("mopl.sse.events.cache.batch").summary().totalAmount()).isEqualTo(3.0);
+            assertThat(meterRegistry.get("mopl.sse.events.cache.latency").timer().count()).isEqualTo(3);
+        }
+
+        @Test
+        @DisplayName("maxBatchSize를 넘는 이벤트는 여러 배치로 나눠 기록")
+        void withMoreThanMaxBatchSize_splitsBatches() {
+            // given
+            EventCacheWriter eventCacheWriter = writer(2);
+            eventCacheWriter.enqueue(KEY_A, "a1", 1.0);
+            eventCacheWriter.enqueue(KEY_A, "a2", 2.0);
+            eventCacheWriter.enqueue(KEY_A, "a3", 3.0);
+
+            // when
+            eventCacheWriter.flush();
+
+            // then
+            then(redisTemplate).should(times(2)).executePipelined(any(SessionCallback.class));
+            assertThat(meterRegistry.get("mopl.sse.events.cache.batch").summary().count()).isEqualTo(2);
+        }
+
+        @Test
+        @DisplayName("쌓인 이벤트가 없으면 Redis를 호출하지 않음")
+        void withoutPendingEvents_skipsRedis() {
+            // when
+            writer(500).flush();
+
+            // then
+            then(redisTemplate).shouldHaveNoInteractions();
+        }
+
+        @Test
+        @DisplayName("파이프라인 실패시 배치 이벤트 수를 실패로 기록하고 예외를 전파하지 않음")
+        void withRedisFailure_recordsFailedEvents() {
+            // given
+            EventCacheWriter eventCacheWriter = writer(500);
+            given(redisTemplate.executePipelined(any(SessionCallback.class))).willThrow(new RuntimeException("Redis down"));
+            eventCacheWriter.enqueue(KEY_A, "a1", 1.0);
+            eventCacheWriter.enqueue(KEY_B, "b1", 1.0);
+
+            // when
+            eventCacheWriter.flush();
+
+            // then
+            assertThat(meterRegistry.get("mopl.sse.events.cache.failed").counter().count()).isEqualTo(2.0);
+        }
+    }
+
+    @Nested
+    @DisplayName("flush(key)")
+    class FlushKeyTest {
+
+        @Test
+        @DisplayName("해당 키의 대기 이벤트만 기록하고 다른 키는 큐에 남김")
+        void withOtherKeys_writesOnlyGivenKey() {
+            // given
+            EventCacheWriter eventCacheWriter = writer(500);
+            eventCacheWriter.enqueue(KEY_A, "a1", 1.0);
+            eventCacheWriter.enqueue(KEY_B, "b1", 1.0);
+            eventCacheWriter.enqueue(KEY_A, "a2", 2.0);
+
+            // when
+            eventCacheWriter.flush(KEY_A);
+
+            // then
+            ArgumentCaptor<SessionCallback<Object>> callbackCaptor = sessionCallbackCaptor();
+            then(redisTemplate).should(times(1)).executePipelined(callbackCaptor.capture());
+
+            given(operations.opsForZSet()).willReturn(zSetOperations);
+            callbackCaptor.getValue().execute(operations);
+            then(zSetOperations).should().add(eq(KEY_A), argThat((Set<ZSetOperations.TypedTuple<Object>> tuples) -> tuples.size() == 2));
+            then(zSetOperations).should(never()).add(eq(KEY_B), any(Set.class));
+
+            eventCacheWriter.flush();
+            then(redisTemplate).should(times(2)).executePipelined(any(SessionCallback.class));
+            assertThat(meterRegistry.get("mopl.sse.events.cache.batch").summary().totalAmount()).isEqualTo(3.0);
+        }
+
+        @Test
+        @DisplayName("진행 중인 배치가 replayFlushTimeout 안에 끝나지 않으면 기다리지 않고 반환")
+        void withSlowBatchInFlight_returnsAfterTimeout() throws Exception {
+            // given
+            EventCacheWriter eventCacheWriter = writer(500);
+            CountDownLatch writing = new CountDownLatch(1);
+            CountDownLatch release = new CountDownLatch(1);
+            given(redisTemplate.executePipelined(any(SessionCallback.class))).willAnswer(invocation -> {
+                writing.countDown();
+                release.await(5, TimeUnit.SECONDS);
+                return List.of();
+            });
+            eventCacheWriter.enqueue(KEY_A, "a1", 1.0);
+            Thread slowFlush = Thread.ofVirtual().start(eventCacheWriter::flush);
+            assertThat(writing.await(5, TimeUnit.SECONDS)).isTrue();
+            eventCacheWriter.enqueue(KEY_B, "b1", 1.0);
+
+            // when
+            long startedAt = System.nanoTime();
+            eventCacheWriter.flush(KEY_B);
+            long waitedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt);
+
+            // then
+            assertThat(waitedMillis).isLessThan(1000);
+            then(redisTemplate).should(times(1)).executePipelined(any(SessionCallback.class));
+
+            release.countDown();
+            slowFlush.join();
+        }
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static ArgumentCaptor<SessionCallback<Object>> sessionCallbackCaptor() {
+        return (ArgumentCaptor) ArgumentCaptor.forClass(SessionCallback.class);
+    }
+}
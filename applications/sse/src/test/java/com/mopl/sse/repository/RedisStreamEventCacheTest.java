@@ -0,0 +1,182 @@
+package com.mopl.sse.repository;
+
+import com.mopl.sse.config.SseProperties;
+import com.mopl.sse.config.SseProperties.EventCacheConfig;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Range;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.RedisKeyCommands;
+import org.springframework.data.redis.connection.RedisStreamCommands;
+import org.springframework.data.redis.connection.RedisStreamCommands.XAddOptions;
+import org.springframework.data.redis.connection.stream.ByteRecord;
+import org.springframework.data.redis.connection.stream.MapRecord;
+import org.springframework.data.redis.connection.stream.RecordId;
+import org.springframework.data.redis.connection.stream.StreamRecords;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.StreamOperations;
+import org.springframework.data.redis.serializer.RedisSerializer;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("RedisStreamEventCache 단위 테스트")
+class RedisStreamEventCacheTest {
+
+    private static final Duration TTL = Duration.ofMinutes(5);
+    private static final int MAX_SIZE = 100;
+
+    @Mock
+    private RedisTemplate<String, Object> redisTemplate;
+
+    @Mock
+    private RedisConnection connection;
+
+    @Mock
+    private RedisStreamCommands streamCommands;
+
+    @Mock
+    private RedisKeyCommands keyCommands;
+
+    @Mock
+    private StreamOperations<String, Object, Object> streamOperations;
+
+    private RedisStreamEventCache eventCache;
+
+    @BeforeEach
+    void setUp() {
+        SseProperties properties = new SseProperties(
+            new EventCacheConfig(TTL, MAX_SIZE, null, 0, EventCacheStore.STREAM, null), null, null, null, null, null
+        );
+        eventCache = new RedisStreamEventCache(redisTemplate, properties);
+    }
+
+    @Nested
+    @DisplayName("cacheEvent()")
+    class CacheEventTest {
+
+        @Test
+        @DisplayName("근사 MAXLEN을 붙인 XADD 한 번과 EXPIRE를 파이프라인으로 보내고 stream id를 이벤트 id로 반환")
+        void appendsWithApproximateMaxlenAndReturnsStreamId() {
+            // given
+            UUID userId = UUID.randomUUID();
+            byte[] key = ("sse:stream:" + userId).getBytes(StandardCharsets.UTF_8);
+            given(redisTemplate.getHashValueSerializer()).willReturn(RedisSerializer.string());
+            given(redisTemplate.executePipelined(any(RedisCallback.class)))
+                .willReturn(List.of(RecordId.of("1700000000000-0"), true));
+
+            // when
+            String eventId = eventCache.cacheEvent(userId, "data");
+
+            // then
+            assertThat(eventId).isEqualTo("1700000000000-0");
+
+            ArgumentCaptor<RedisCallback<Object>> callbackCaptor = redisCallbackCaptor();
+            then(redisTemplate).should().executePipelined(callbackCaptor.capture());
+
+            given(connection.streamCommands()).willReturn(streamCommands);
+            given(connection.keyCommands()).willReturn(keyCommands);
+            callbackCaptor.getValue().doInRedis(connection);
+
+            ArgumentCaptor<ByteRecord> recordCaptor = ArgumentCaptor.forClass(ByteRecord.class);
+            ArgumentCaptor<XAddOptions> optionsCaptor = ArgumentCaptor.forClass(XAddOptions.class);
+            then(streamCommands).should().xAdd(recordCaptor.capture(), optionsCaptor.capture());
+            assertThat(recordCaptor.getValue().getStream()).isEqualTo(key);
+            assertThat(recordCaptor.getValue().getValue().values()).containsExactly("data".getBytes(StandardCharsets.UTF_8));
+            assertThat(optionsCaptor.getValue().getMaxlen()).isEqualTo((long) MAX_SIZE);
+            assertThat(optionsCaptor.getValue().isApproximateTrimming()).isTrue();
+            then(keyCommands).should().expire(key, TTL.toSeconds());
+        }
+
+        @Test
+        @DisplayName("기록에 실패하면 예외를 전파하지 않고 UUID v7 id를 반환")
+        void withRedisFailure_returnsUuidV7() {
+            // given
+            given(redisTemplate.getHashValueSerializer()).willReturn(RedisSerializer.string());
+            given(redisTemplate.executePipelined(any(RedisCallback.class))).willThrow(new RuntimeException("Redis down"));
+
+            // when
+            String eventId = eventCache.cacheEvent(UUID.randomUUID(), "data");
+
+            // then
+            assertThat(SseEventIds.isStreamId(eventId)).isFalse();
+            assertThat(UUID.fromString(eventId).version()).isEqualTo(7);
+        }
+    }
+
+    @Nested
+    @DisplayName("getEventsAfter()")
+    class GetEventsAfterTest {
+
+        @Test
+        @DisplayName("stream id 이후의 이벤트만 XRANGE로 조회")
+        void withStreamId_returnsEventsAfterIt() {
+            // given
+            UUID userId = UUID.randomUUID();
+            String key = "sse:stream:" + userId;
+            given(redisTemplate.<Object, Object>opsForStream()).willReturn(streamOperations);
+            given(streamOperations.range(eq(key), any())).willReturn(List.of(
+                record(key, "1700000000000-0", "seen"),
+                record(key, "1700000000000-1", "missed")
+            ));
+
+            // when
+            List<EventCache.ReplayEvent> result = eventCache.getEventsAfter(userId, "1700000000000-0");
+
+            // then
+            assertThat(result).containsExactly(new EventCache.ReplayEvent("1700000000000-1", "missed"));
+            assertThat(capturedRange(key).getLowerBound().getValue()).contains("1700000000000-0");
+        }
+
+        @Test
+        @DisplayName("UUID v7 lastEventId는 같은 밀리초의 이벤트를 놓치지 않도록 그 밀리초의 첫 stream id부터 조회")
+        void withUuidV7_readsFromSameMillisecond() {
+            // given
+            UUID userId = UUID.randomUUID();
+            String key = "sse:stream:" + userId;
+            String sameMillisecond = 0x0193456789abL + "-0";
+            given(redisTemplate.<Object, Object>opsForStream()).willReturn(streamOperations);
+            given(streamOperations.range(eq(key), any())).willReturn(List.of(record(key, sameMillisecond, "same-ms")));
+
+            // when
+            List<EventCache.ReplayEvent> result = eventCache.getEventsAfter(userId, "01934567-89ab-7def-0123-456789abcdef");
+
+            // then
+            assertThat(result).containsExactly(new EventCache.ReplayEvent(sameMillisecond, "same-ms"));
+            assertThat(capturedRange(key).getLowerBound().getValue()).contains(sameMillisecond);
+        }
+
+        private Range<String> capturedRange(String key) {
+            @SuppressWarnings({"unchecked", "rawtypes"})
+            ArgumentCaptor<Range<String>> rangeCaptor = (ArgumentCaptor) ArgumentCaptor.forClass(Range.class);
+            then(streamOperations).should().range(eq(key), rangeCaptor.capture());
+            return rangeCaptor.getValue();
+        }
+    }
+
+    private static MapRecord<String, Object, Object> record(String key, String id, Object data) {
+        return StreamRecords.newRecord().in(key).withId(RecordId.of(id)).ofMap(Map.<Object, Object>of("data", data));
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static ArgumentCaptor<RedisCallback<Object>> redisCallbackCaptor() {
+        return (ArgumentCaptor) ArgumentCaptor.forClass(RedisCallback.class);
+    }
+}
@@ -0,0 +1,256 @@
+package com.mopl.sse.repository;
+
+import com.mopl.sse.config.SseProperties;
+import com.mopl.sse.config.SseProperties.ConnectionConfig;
+import com.mopl.sse.config.SseProperties.HeartbeatConfig;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("SseEmitterRegistry 단위 테스트")
+class SseEmitterRegistryTest {
+
+    private static final int MAX_PER_USER = 2;
+
+    private SseEmitterRegistry registry;
+
+    @BeforeEach
+    void setUp() {
+        registry = new SseEmitterRegistry(new SseProperties(null, new ConnectionConfig(4, MAX_PER_USER, 0, null), null, null, null, null));
+    }
+
+    @Nested
+    @DisplayName("register()")
+    class RegisterTest {
+
+        @Test
+        @DisplayName("같은 사용자의 연결을 서로 다른 id로 함께 보관")
+        void withSameUser_keepsAllConnections() {
+            // given
+            UUID userId = UUID.randomUUID();
+            SseEmitter first = new SseEmitter();
+            SseEmitter second = new SseEmitter();
+
+            // when
+            SseEmitterRegistry.Registration firstRegistration = registry.register(userId, first);
+            SseEmitterRegistry.Registration secondRegistration = registry.register(userId, second);
+
+            // then
+            assertThat(firstRegistration.connection().id()).isNotEqualTo(secondRegistration.connection().id());
+            assertThat(secondRegistration.evicted()).isNull();
+            assertThat(secondRegistration.userConnections()).isEqualTo(2);
+            assertThat(registry.findByUserId(userId))
+                .extracting(SseConnection::emitter)
+                .containsExactly(first, second);
+            assertThat(registry.connectionCount()).isEqualTo(2);
+            assertThat(registry.userCount()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("사용자당 상한을 넘으면 가장 오래된 연결을 빼서 반환")
+        void overMaxPerUser_evictsOldest() {
+            // given
+            UUID userId = UUID.randomUUID();
+            SseEmitter oldest = new SseEmitter();
+            registry.register(userId, oldest);
+            registry.register(userId, new SseEmitter());
+
+            // when
+            SseEmitterRegistry.Registration registration = registry.register(userId, new SseEmitter());
+
+            // then
+            assertThat(registration.evicted()).isNotNull();
+            assertThat(registration.evicted().emitter()).isSameAs(oldest);
+            assertThat(registration.userConnections()).isEqualTo(MAX_PER_USER);
+            assertThat(registry.findByUserId(userId))
+                .extracting(SseConnection::emitter)
+                .doesNotContain(oldest);
+            assertThat(registry.connectionCount()).isEqualTo(MAX_PER_USER);
+        }
+
+        @Test
+        @DisplayName("새 연결의 송신 큐는 보류 상태라 release 전에는 drain을 시작하지 않음")
+        void newConnection_holdsOutboundUntilRelease() {
+            // given
+            SseConnection connection = registry.register(UUID.randomUUID(), new SseEmitter()).connection();
+
+            // when
+            boolean beforeRelease = connection.outbound().tryStartDrain();
+            connection.outbound().release();
+            boolean afterRelease = connection.outbound().tryStartDrain();
+
+            // then
+            assertThat(beforeRelease).isFalse();
+            assertThat(afterRelease).isTrue();
+        }
+    }
+
+    @Nested
+    @DisplayName("remove()")
+    class RemoveTest {
+
+        @Test
+        @DisplayName("해당 연결만 제거하고 같은 사용자의 다른 연결은 유지")
+        void removesOnlyGivenConnection() {
+            // given
+            UUID userId = UUID.randomUUID();
+            SseConnection first = registry.register(userId, new SseEmitter()).connection();
+            SseConnection second = registry.register(userId, new SseEmitter()).connection();
+
+            // when
+            boolean removed = registry.remove(userId, first.id());
+
+            // then
+            assertThat(removed).isTrue();
+            assertThat(registry.findByUserId(userId)).containsExactly(second);
+            assertThat(registry.exists(userId)).isTrue();
+            assertThat(registry.connectionCount()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("마지막 연결을 제거하면 사용자도 제거")
+        void removingLastConnection_removesUser() {
+            // given
+            UUID userId = UUID.randomUUID();
+            SseConnection connection = registry.register(userId, new SseEmitter()).connection();
+
+            // when
+            registry.remove(userId, connection.id());
+
+            // then
+            assertThat(registry.exists(userId)).isFalse();
+            assertThat(registry.findByUserId(userId)).isEmpty();
+            assertThat(registry.userCount()).isZero();
+        }
+
+        @Test
+        @DisplayName("이미 제거된 연결을 다시 제거해도 연결 수는 한 번만 줄어듦")
+        void removingTwice_decrementsOnce() {
+            // given
+            UUID userId = UUID.randomUUID();
+            SseConnection connection = registry.register(userId, new SseEmitter()).connection();
+            registry.register(userId, new SseEmitter());
+
+            // when
+            boolean first = registry.remove(userId, connection.id());
+            boolean second = registry.remove(userId, connection.id());
+
+            // then
+            assertThat(first).isTrue();
+            assertThat(second).isFalse();
+            assertThat(registry.connectionCount()).isEqualTo(1);
+        }
+    }
+
+    @Nested
+    @DisplayName("forEach()")
+    class ForEachTest {
+
+        @Test
+        @DisplayName("모든 shard의 모든 연결을 순회")
+        void visitsAllConnections() {
+            // given
+            List<SseConnection> registered = new ArrayList<>();
+            for (int i = 0; i < 10; i++) {
+                UUID userId = UUID.randomUUID();
+                registered.add(registry.register(userId, new SseEmitter()).connection());
+                registered.add(registry.register(userId, new SseEmitter()).connection());
+            }
+
+            // when
+            List<SseConnection> visited = new ArrayList<>();
+            registry.forEach(visited::add);
+
+            // then
+            assertThat(visited).containsExactlyInAnyOrderElementsOf(registered);
+        }
+    }
+
+    @Nested
+    @DisplayName("advanceHeartbeatWheel()")
+    class AdvanceHeartbeatWheelTest {
+
+        @Test
+        @DisplayName("wheel이 한 바퀴 도는 동안 모든 연결을 정확히 한 번씩, 여러 slot에 나눠 방문")
+        void oneRotation_visitsEachConnectionOnce() {
+            // given
+            HeartbeatConfig heartbeat = new HeartbeatConfig(Duration.ofSeconds(4), Duration.ofSeconds(1));
+            SseEmitterRegistry wheelRegistry = new SseEmitterRegistry(new SseProperties(null, null, heartbeat, null, null, null));
+            List<SseConnection> registered = new ArrayList<>();
+            for (int i = 0; i < 40; i++) {
+                registered.add(wheelRegistry.register(UUID.randomUUID(), new SseEmitter()).connection());
+            }
+
+            // when
+            List<SseConnection> visited = new ArrayList<>();
+            List<Integer> visitedPerTick = new ArrayList<>();
+            for (int tick = 0; tick < heartbeat.slotCount(); tick++) {
+                int before = visited.size();
+                wheelRegistry.advanceHeartbeatWheel(visited::add);
+                visitedPerTick.add(visited.size() - before);
+            }
+
+            // then
+            assertThat(visited).containsExactlyInAnyOrderElementsOf(registered);
+            assertThat(visitedPerTick).allMatch(count -> count < registered.size());
+        }
+
+        @Test
+        @DisplayName("제거되거나 밀려난 연결은 방문하지 않음")
+        void removedConnections_areNotVisited() {
+            // given
+            UUID userId = UUID.randomUUID();
+            SseConnection removed = registry.register(userId, new SseEmitter()).connection();
+            SseConnection evicted = registry.register(userId, new SseEmitter()).connection();
+            registry.remove(userId, removed.id());
+            registry.register(userId, new SseEmitter());
+            registry.register(userId, new SseEmitter());
+
+            // when
+            List<SseConnection> visited = new ArrayList<>();
+            for (int tick = 0; tick < new HeartbeatConfig(null, null).slotCount(); tick++) {
+                registry.advanceHeartbeatWheel(visited::add);
+            }
+
+            // then
+            assertThat(visited).hasSize(MAX_PER_USER).doesNotContain(removed, evicted);
+        }
+    }
+
+    @Nested
+    @DisplayName("동시성")
+    class ConcurrencyTest {
+
+        @Test
+        @DisplayName("동시에 등록/삭제해도 연결 수가 실제 보관 수와 일치")
+        void concurrentRegisterAndRemove_keepsCountConsistent() {
+            // given
+            UUID userId = UUID.randomUUID();
+
+            // when
+            try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+                for (int i = 0; i < 1000; i++) {
+                    executor.execute(() -> {
+                        SseConnection connection = registry.register(userId, new SseEmitter()).connection();
+                        registry.remove(userId, connection.id());
+                    });
+                }
+            }
+
+            // then
+            assertThat(registry.connectionCount()).isZero();
+            assertThat(registry.exists(userId)).isFalse();
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package com.mopl.sse.repository;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("SseEventIds 단위 테스트")
+class SseEventIdsTest {
+
+    @Nested
+    @DisplayName("timestampMillis()")
+    class TimestampMillisTest {
+
+        @Test
+        @DisplayName("UUID v7에서 밀리초 타임스탬프를 꺼냄")
+        void withUuidV7_returnsEmbeddedTimestamp() {
+            // when
+            long result = SseEventIds.timestampMillis("01934567-89ab-7def-0123-456789abcdef");
+
+            // then
+            assertThat(result).isEqualTo(0x0193456789abL);
+        }
+
+        @Test
+        @DisplayName("stream id에서 밀리초 부분을 꺼냄")
+        void withStreamId_returnsMillisPart() {
+            // when
+            long result = SseEventIds.timestampMillis("1700000000000-12");
+
+            // then
+            assertThat(result).isEqualTo(1700000000000L);
+        }
+
+        @Test
+        @DisplayName("두 형식 모두 아니면 IllegalArgumentException")
+        void withMalformedId_throws() {
+            // when & then
+            assertThatThrownBy(() -> SseEventIds.timestampMillis("not-an-event-id"))
+                .isInstanceOf(IllegalArgumentException.class);
+        }
+    }
+
+    @Nested
+    @DisplayName("isStreamId()")
+    class IsStreamIdTest {
+
+        @Test
+        @DisplayName("<밀리초>-<순번> 형식만 stream id로 판단")
+        void onlyMillisDashSequenceIsStreamId() {
+            // when & then
+            assertThat(SseEventIds.isStreamId("1700000000000-0")).isTrue();
+            assertThat(SseEventIds.isStreamId("01934567-89ab-7def-0123-456789abcdef")).isFalse();
+            assertThat(SseEventIds.isStreamId("1700000000000-")).isFalse();
+            assertThat(SseEventIds.isStreamId("-0")).isFalse();
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package com.mopl.sse.repository;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter.DataWithMediaType;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("SseFrameEncoder 단위 테스트")
+class SseFrameEncoderTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final SseFrameEncoder encoder = new SseFrameEncoder(objectMapper);
+
+    /**
+     * 기존 경로처럼 SseEmitter 빌더로 이벤트를 만들고, 메시지 컨버터가 하듯 문자열은 그대로 객체는 Jackson으로 씁니다.
+     */
+    private void writeWithBuilder(String id, String name, Object data, OutputStream out) throws IOException {
+        for (DataWithMediaType item : SseEmitter.event().id(id).name(name).data(data).build()) {
+            if (item.getData() instanceof String text) {
+                out.write(text.getBytes(StandardCharsets.UTF_8));
+            } else {
+                objectMapper.writeValue(out, item.getData());
+            }
+        }
+    }
+
+    private static Payload payload() {
+        return new Payload(UUID.randomUUID(), "새 알림", "팔로우한 사용자가 플레이리스트를 만들었습니다.", "INFO");
+    }
+
+    @Nested
+    @DisplayName("encode()")
+    class EncodeTest {
+
+        @Test
+        @DisplayName("객체는 JSON으로 직렬화해 기존 빌더 경로와 같은 바이트를 만듦")
+        void withObject_matchesBuilderOutput() throws IOException {
+            // given
+            Payload payload = payload();
+            ByteArrayOutputStream expected = new ByteArrayOutputStream();
+            writeWithBuilder("1700000000000-0", "notifications", payload, expected);
+
+            // when
+            SseFrame frame = encoder.encode("1700000000000-0", "notifications", payload);
+
+            // then
+            assertThat(frame.toByteArray()).isEqualTo(expected.toByteArray());
+        }
+
+        @Test
+        @DisplayName("문자열은 따옴표 없이 그대로 씀")
+        void withString_writesRawText() {
+            // when
+            SseFrame frame = encoder.encode("1", "connect", "Connected");
+
+            // then
+            assertThat(new String(frame.toByteArray(), StandardCharsets.UTF_8)).isEqualTo("id:1\nevent:connect\ndata:Connected\n\n");
+        }
+    }
+
+    record Payload(UUID id, String title, String content, String level) {
+    }
+}
@@ -0,0 +1,74 @@
+package com.mopl.sse.repository;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter.DataWithMediaType;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("SseFrame 단위 테스트")
+class SseFrameTest {
+
+    private static String text(SseFrame frame) {
+        return new String(frame.toByteArray(), StandardCharsets.UTF_8);
+    }
+
+    @Nested
+    @DisplayName("of()")
+    class OfTest {
+
+        @Test
+        @DisplayName("id, event, data 줄과 이벤트를 끝내는 빈 줄을 씀")
+        void writesFieldsAndTerminator() {
+            // when
+            SseFrame frame = SseFrame.of("1700000000000-0", "notifications", "{\"title\":\"알림\"}".getBytes(StandardCharsets.UTF_8));
+
+            // then
+            assertThat(text(frame)).isEqualTo("id:1700000000000-0\nevent:notifications\ndata:{\"title\":\"알림\"}\n\n");
+            assertThat(frame.id()).isEqualTo("1700000000000-0");
+            assertThat(frame.name()).isEqualTo("notifications");
+            assertThat(frame.size()).isEqualTo(frame.toByteArray().length);
+        }
+
+        @Test
+        @DisplayName("data에 줄바꿈이 있으면 줄마다 data 필드로 나눔")
+        void withMultilineData_splitsDataLines() {
+            // when
+            SseFrame frame = SseFrame.of("1", "message", "first\nsecond".getBytes(StandardCharsets.UTF_8));
+
+            // then
+            assertThat(text(frame)).isEqualTo("id:1\nevent:message\ndata:first\ndata:second\n\n");
+        }
+    }
+
+    @Nested
+    @DisplayName("content()")
+    class ContentTest {
+
+        @Test
+        @DisplayName("인코딩된 바이트 하나를 매번 같은 인스턴스로 반환")
+        void returnsSharedEncodedBytes() {
+            // given
+            SseFrame frame = SseFrame.of("1", "message", "data".getBytes(StandardCharsets.UTF_8));
+
+            // when
+            Set<DataWithMediaType> first = frame.content();
+            Set<DataWithMediaType> second = frame.content();
+
+            // then
+            assertThat(first).isSameAs(second).hasSize(1);
+            assertThat((byte[]) first.iterator().next().getData()).isEqualTo(frame.toByteArray());
+        }
+
+        @Test
+        @DisplayName("heartbeat는 주석 한 줄로 인코딩")
+        void heartbeat_isComment() {
+            // when & then
+            assertThat(text(SseFrame.HEARTBEAT)).isEqualTo(":heartbeat\n\n");
+        }
+    }
+}
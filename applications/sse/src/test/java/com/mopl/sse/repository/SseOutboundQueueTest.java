@@ -0,0 +1,310 @@
+package com.mopl.sse.repository;
+
+import com.mopl.sse.repository.SseOutboundQueue.OfferResult;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("SseOutboundQueue 단위 테스트")
+class SseOutboundQueueTest {
+
+    private static OutboundEvent event(String id, String name) {
+        return event(id, name, null);
+    }
+
+    private static OutboundEvent event(String id, String name, UUID coalesceKey) {
+        return OutboundEvent.of(SseFrame.of(id, name, id.getBytes(StandardCharsets.UTF_8)), coalesceKey);
+    }
+
+    @Nested
+    @DisplayName("offer()")
+    class OfferTest {
+
+        @Test
+        @DisplayName("용량 안에서는 순서대로 쌓음")
+        void withinCapacity_enqueuesInOrder() {
+            // given
+            SseOutboundQueue queue = new SseOutboundQueue(2, OverflowPolicy.DISCONNECT);
+
+            // when
+            OfferResult first = queue.offer(event("1", "notifications"));
+            OfferResult second = queue.offer(event("2", "notifications"));
+
+            // then
+            assertThat(first).isEqualTo(OfferResult.ENQUEUED);
+            assertThat(second).isEqualTo(OfferResult.ENQUEUED);
+            assertThat(queue.poll().id()).isEqualTo("1");
+            assertThat(queue.poll().id()).isEqualTo("2");
+            assertThat(queue.poll()).isNull();
+        }
+
+        @Test
+        @DisplayName("DROP_OLDEST는 가장 오래된 이벤트를 버리고 새 이벤트를 넣음")
+        void dropOldest_replacesHead() {
+            // given
+            SseOutboundQueue queue = new SseOutboundQueue(2, OverflowPolicy.DROP_OLDEST);
+            queue.offer(event("1", "notifications"));
+            queue.offer(event("2", "notifications"));
+
+            // when
+            OfferResult result = queue.offer(event("3", "notifications"));
+
+            // then
+            assertThat(result).isEqualTo(OfferResult.DROPPED_OLDEST);
+            assertThat(queue.poll().id()).isEqualTo("2");
+            assertThat(queue.poll().id()).isEqualTo("3");
+        }
+
+        @Test
+        @DisplayName("COALESCE는 같은 원본을 담은 대기 이벤트를 대체")
+        void coalesce_replacesEventWithSameSource() {
+            // given
+            UUID notificationId = UUID.randomUUID();
+            SseOutboundQueue queue = new SseOutboundQueue(3, OverflowPolicy.COALESCE);
+            queue.offer(event("1", "notifications", notificationId));
+            queue.offer(event("2", "notifications", UUID.randomUUID()));
+            queue.offer(event("3", "direct-messages", UUID.randomUUID()));
+
+            // when
+            OfferResult result = queue.offer(event("4", "notifications", notificationId));
+
+            // then
+            assertThat(result).isEqualTo(OfferResult.COALESCED);
+            assertThat(queue.poll().id()).isEqualTo("2");
+            assertThat(queue.poll().id()).isEqualTo("3");
+            assertThat(queue.poll().id()).isEqualTo("4");
+        }
+
+        @Test
+        @DisplayName("COALESCE는 이름만 같은 다른 원본의 이벤트를 합치지 않고 가장 오래된 이벤트를 버림")
+        void coalesceWithDifferentSource_dropsOldest() {
+            // given
+            SseOutboundQueue queue = new SseOutboundQueue(2, OverflowPolicy.COALESCE);
+            queue.offer(event("1", "notifications", UUID.randomUUID()));
+            queue.offer(event("2", "notifications", UUID.randomUUID()));
+
+            // when
+            OfferResult result = queue.offer(event("3", "notifications", UUID.randomUUID()));
+
+            // then
+            assertThat(result).isEqualTo(OfferResult.DROPPED_OLDEST);
+            assertThat(queue.poll().id()).isEqualTo("2");
+            assertThat(queue.poll().id()).isEqualTo("3");
+        }
+
+        @Test
+        @DisplayName("COALESCE에서 coalesceKey가 없으면 가장 오래된 이벤트를 버림")
+        void coalesceWithoutKey_dropsOldest() {
+            // given
+            SseOutboundQueue queue = new SseOutboundQueue(1, OverflowPolicy.COALESCE);
+            queue.offer(event("1", "notifications"));
+
+            // when
+            OfferResult result = queue.offer(event("2", "notifications"));
+
+            // then
+            assertThat(result).isEqualTo(OfferResult.DROPPED_OLDEST);
+            assertThat(queue.poll().id()).isEqualTo("2");
+        }
+
+        @Test
+        @DisplayName("DISCONNECT는 새 이벤트를 거부하고 대기 이벤트는 유지")
+        void disconnect_rejects() {
+            // given
+            SseOutboundQueue queue = new SseOutboundQueue(1, OverflowPolicy.DISCONNECT);
+            queue.offer(event("1", "notifications"));
+
+            // when
+            OfferResult result = queue.offer(event("2", "notifications"));
+
+            // then
+            assertThat(result).isEqualTo(OfferResult.REJECTED);
+            assertThat(queue.size()).isEqualTo(1);
+        }
+    }
+
+    @Nested
+    @DisplayName("offerHeartbeat()")
+    class OfferHeartbeatTest {
+
+        @Test
+        @DisplayName("비어 있으면 heartbeat를 넣음")
+        void whenEmpty_enqueuesHeartbeat() {
+            // given
+            SseOutboundQueue queue = new SseOutboundQueue(1, OverflowPolicy.DROP_OLDEST);
+
+            // when
+            boolean result = queue.offerHeartbeat(0);
+
+            // then
+            assertThat(result).isTrue();
+            assertThat(queue.poll().isHeartbeat()).isTrue();
+        }
+
+        @Test
+        @DisplayName("대기 이벤트가 있으면 heartbeat를 넣지 않음")
+        void withPendingEvent_skips() {
+            // given
+            SseOutboundQueue queue = new SseOutboundQueue(2, OverflowPolicy.DROP_OLDEST);
+            queue.offer(event("1", "notifications"));
+
+            // when
+            boolean result = queue.offerHeartbeat(0);
+
+            // then
+            assertThat(result).isFalse();
+            assertThat(queue.size()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("마지막 전송 후 idle 기준이 지나지 않았으면 heartbeat를 넣지 않음")
+        void withRecentSend_skips() {
+            // given
+            SseOutboundQueue queue = new SseOutboundQueue(1, OverflowPolicy.DROP_OLDEST);
+            queue.markSent();
+
+            // when
+            boolean result = queue.offerHeartbeat(Duration.ofMinutes(1).toNanos());
+
+            // then
+            assertThat(result).isFalse();
+            assertThat(queue.size()).isZero();
+        }
+    }
+
+    @Nested
+    @DisplayName("hold() / release()")
+    class HoldTest {
+
+        @Test
+        @DisplayName("보류 중에는 이벤트를 쌓기만 하고 drain 권한을 주지 않음")
+        void whileHeld_doesNotStartDrain() {
+            // given
+            SseOutboundQueue queue = new SseOutboundQueue(2, OverflowPolicy.DROP_OLDEST);
+            queue.hold();
+
+            // when
+            OfferResult result = queue.offer(event("live", "notifications"));
+
+            // then
+            assertThat(result).isEqualTo(OfferResult.ENQUEUED);
+            assertThat(queue.tryStartDrain()).isFalse();
+            assertThat(queue.size()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("release 후에는 재전송 이벤트를 보류 중 쌓인 실시간 이벤트보다 먼저 꺼냄")
+        void release_pollsReplayedFirst() {
+            // given
+            SseOutboundQueue queue = new SseOutboundQueue(2, OverflowPolicy.DROP_OLDEST);
+            queue.hold();
+            queue.offer(event("live", "notifications"));
+            queue.addReplayed(List.of(event("replay-1", "notifications"), event("replay-2", "gap")));
+
+            // when
+            queue.release();
+
+            // then
+            assertThat(queue.tryStartDrain()).isTrue();
+            assertThat(queue.poll().id()).isEqualTo("replay-1");
+            assertThat(queue.poll().id()).isEqualTo("replay-2");
+            assertThat(queue.poll().id()).isEqualTo("live");
+        }
+
+        @Test
+        @DisplayName("보류 중에도 재전송 이벤트는 보내고 실시간 이벤트는 release까지 남겨 둠")
+        void whileHeld_drainsOnlyReplayed() {
+            // given
+            SseOutboundQueue queue = new SseOutboundQueue(2, OverflowPolicy.DROP_OLDEST);
+            queue.hold();
+            queue.offer(event("live", "notifications"));
+
+            // when
+            queue.addReplayed(List.of(event("replay-1", "notifications")));
+
+            // then
+            assertThat(queue.tryStartDrain()).isTrue();
+            assertThat(queue.poll().id()).isEqualTo("replay-1");
+            assertThat(queue.poll()).isNull();
+            assertThat(queue.finishDrain()).isFalse();
+            assertThat(queue.size()).isEqualTo(1);
+
+            queue.release();
+            assertThat(queue.tryStartDrain()).isTrue();
+            assertThat(queue.poll().id()).isEqualTo("live");
+        }
+
+        @Test
+        @DisplayName("재전송 이벤트는 capacity를 넘어도 버리지 않음")
+        void release_ignoresCapacityForReplayed() {
+            // given
+            SseOutboundQueue queue = new SseOutboundQueue(1, OverflowPolicy.DISCONNECT);
+            queue.hold();
+            queue.offer(event("live", "notifications"));
+
+            // when
+            queue.addReplayed(List.of(event("replay-1", "notifications"), event("replay-2", "notifications")));
+
+            // then
+            assertThat(queue.size()).isEqualTo(3);
+        }
+    }
+
+    @Nested
+    @DisplayName("tryStartDrain() / finishDrain()")
+    class DrainTest {
+
+        @Test
+        @DisplayName("drain 권한은 한 번에 하나만 얻을 수 있음")
+        void onlyOneDrainer() {
+            // given
+            SseOutboundQueue queue = new SseOutboundQueue(1, OverflowPolicy.DROP_OLDEST);
+
+            // when
+            boolean first = queue.tryStartDrain();
+            boolean second = queue.tryStartDrain();
+
+            // then
+            assertThat(first).isTrue();
+            assertThat(second).isFalse();
+        }
+
+        @Test
+        @DisplayName("반납 시점에 이벤트가 남아 있으면 권한을 다시 얻어 true 반환")
+        void finishWithPendingEvents_reacquires() {
+            // given
+            SseOutboundQueue queue = new SseOutboundQueue(2, OverflowPolicy.DROP_OLDEST);
+            queue.tryStartDrain();
+            queue.offer(event("1", "notifications"));
+
+            // when
+            boolean continueDraining = queue.finishDrain();
+
+            // then
+            assertThat(continueDraining).isTrue();
+            assertThat(queue.tryStartDrain()).isFalse();
+        }
+
+        @Test
+        @DisplayName("비어 있으면 권한을 반납하고 false 반환")
+        void finishWhenEmpty_releases() {
+            // given
+            SseOutboundQueue queue = new SseOutboundQueue(1, OverflowPolicy.DROP_OLDEST);
+            queue.tryStartDrain();
+
+            // when
+            boolean continueDraining = queue.finishDrain();
+
+            // then
+            assertThat(continueDraining).isFalse();
+            assertThat(queue.tryStartDrain()).isTrue();
+        }
+    }
+}
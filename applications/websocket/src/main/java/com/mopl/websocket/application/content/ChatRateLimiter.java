@@ -0,0 +1,59 @@
+package com.mopl.websocket.application.content;
+
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+/**
+ * 사용자마다 초당 ratePerSecond개씩 채워지고 최대 burst개까지 쌓이는 토큰 버킷으로 채팅 전송을 제한합니다.
+ * 버킷은 사용자 키의 compute 안에서만 바뀌므로 같은 사용자의 동시 전송도 잠금 없이 정확히 계산됩니다.
+ */
+final class ChatRateLimiter {
+
+    private final double ratePerNano;
+    private final int burst;
+    private final long refillNanos;
+    private final LongSupplier nanoClock;
+    private final Map<UUID, Bucket> buckets = new ConcurrentHashMap<>();
+
+    ChatRateLimiter(double ratePerSecond, int burst, LongSupplier nanoClock) {
+        this.ratePerNano = ratePerSecond / TimeUnit.SECONDS.toNanos(1);
+        this.burst = burst;
+        this.refillNanos = (long) Math.ceil(burst / ratePerNano);
+        this.nanoClock = nanoClock;
+    }
+
+    boolean tryAcquire(UUID userId) {
+        long now = nanoClock.getAsLong();
+        Bucket bucket = buckets.compute(userId, (id, current) -> {
+            double tokens = current == null
+                ? burst
+                : Math.min(burst, current.tokens() + (now - current.refilledAt()) * ratePerNano);
+            return tokens < 1
+                ? new Bucket(tokens, now, false)
+                : new Bucket(tokens - 1, now, true);
+        });
+        return bucket.acquired();
+    }
+
+    /**
+     * 다시 가득 찰 만큼 오래 쓰지 않은 버킷을 지웁니다. 지운 사용자가 다시 보내면 가득 찬 버킷으로 시작하므로 결과는 같습니다.
+     */
+    void evictIdle() {
+        long now = nanoClock.getAsLong();
+        buckets.values().removeIf(bucket -> now - bucket.refilledAt() >= refillNanos);
+    }
+
+    int size() {
+        return buckets.size();
+    }
+
+    private record Bucket(
+        double tokens,
+        long refilledAt,
+        boolean acquired
+    ) {
+    }
+}
@@ -0,0 +1,252 @@
+package com.mopl.websocket.application.content;
+
+import com.mopl.logging.context.LogContext;
+import com.mopl.websocket.config.WebSocketProperties;
+import com.mopl.websocket.config.WebSocketProperties.ChatConfig;
+import com.mopl.websocket.interfaces.api.content.dto.ContentChatBatchResponse;
+import com.mopl.websocket.interfaces.api.content.dto.ContentChatResponse;
+import com.mopl.websocket.messaging.WebSocketBroadcaster;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.LongSupplier;
+
+/**
+ * 콘텐츠 채팅 메시지를 방마다 batchWindow 동안 모아 한 프레임으로 보냅니다.
+ *
+ * <p>시청자가 많은 방에서 메시지마다 전체 구독자에게 프레임을 보내면 송신 프레임이 시청자 수와 메시지 수의 곱으로 늘어나므로,
+ * 방마다 window당 프레임 한 개로 묶습니다. 한 window에 maxBatchSize개를 넘게 받은 방은 과부하로 보고
+ * reservoir sampling으로 maxBatchSize개만 고르게 남기며, 빠진 수는 batch에 함께 실어 보냅니다.
+ * 메시지가 없는 window를 만난 방은 목록에서 지워 조용한 방이 자리를 차지하지 않게 합니다.
+ */
+@Component
+public class ContentChatAggregator implements DisposableBean {
+
+    private static final String CHAT_DESTINATION_PREFIX = "/sub/contents/";
+    private static final String CHAT_DESTINATION_SUFFIX = "/chat";
+    private static final long RATE_LIMIT_EVICT_INTERVAL_SECONDS = 60;
+
+    private final WebSocketBroadcaster webSocketBroadcaster;
+    private final ChatConfig config;
+    @Nullable
+    private final ChatRateLimiter rateLimiter;
+    private final Map<UUID, RoomBuffer> rooms = new ConcurrentHashMap<>();
+    private final ScheduledExecutorService flusher;
+    private final Counter acceptedMessages;
+    private final Counter rateLimitedMessages;
+    private final Counter sampledOutMessages;
+    private final DistributionSummary batchSize;
+
+    public ContentChatAggregator(WebSocketBroadcaster webSocketBroadcaster, WebSocketProperties webSocketProperties, MeterRegistry meterRegistry) {
+        this(webSocketBroadcaster, webSocketProperties, meterRegistry, System::nanoTime);
+    }
+
+    ContentChatAggregator(
+        WebSocketBroadcaster webSocketBroadcaster,
+        WebSocketProperties webSocketProperties,
+        MeterRegistry meterRegistry,
+        LongSupplier nanoClock
+    ) {
+        this.webSocketBroadcaster = webSocketBroadcaster;
+        this.config = webSocketProperties.chat();
+        this.rateLimiter = config.rateLimited()
+            ? new ChatRateLimiter(config.userMessagesPerSecond(), config.userBurst(), nanoClock)
+            : null;
+        this.flusher = Executors.newSingleThreadScheduledExecutor(
+            Thread.ofPlatform().name("websocket-chat-flusher").daemon().factory()
+        );
+        this.acceptedMessages = Counter.builder("mopl.websocket.chat.messages")
+            .description("Chat messages accepted into room batches")
+            .register(meterRegistry);
+        this.rateLimitedMessages = Counter.builder("mopl.websocket.chat.rejected")
+            .description("Chat messages dropped before delivery")
+            .tag("reason", "rate")
+            .register(meterRegistry);
+        this.sampledOutMessages = Counter.builder("mopl.websocket.chat.rejected")
+            .description("Chat messages dropped before delivery")
+            .tag("reason", "sampled")
+            .register(meterRegistry);
+        this.batchSize = DistributionSummary.builder("mopl.websocket.chat.batch")
+            .description("Chat messages per room frame")
+            .register(meterRegistry);
+        Gauge.builder("mopl.websocket.chat.rooms", rooms, Map::size)
+            .description("Chat rooms with a pending batch")
+            .register(meterRegistry);
+
+        if (config.batching()) {
+            long windowMillis = Math.max(1, config.batchWindow().toMillis());
+            flusher.scheduleWithFixedDelay(this::flushSafely, windowMillis, windowMillis, TimeUnit.MILLISECONDS);
+        }
+        if (rateLimiter != null) {
+            flusher.scheduleWithFixedDelay(
+                rateLimiter::evictIdle,
+                RATE_LIMIT_EVICT_INTERVAL_SECONDS,
+                RATE_LIMIT_EVICT_INTERVAL_SECONDS,
+                TimeUnit.SECONDS
+            );
+        }
+    }
+
+    /**
+     * 사용자의 전송 한도를 확인합니다. 세션 확인 같은 처리 전에 호출해 한도를 넘은 메시지는 비용 없이 거절합니다.
+     * 한도를 설정하지 않았으면 항상 허용합니다.
+     */
+    public boolean tryAcquire(UUID senderId) {
+        if (rateLimiter == null || rateLimiter.tryAcquire(senderId)) {
+            return true;
+        }
+        rateLimitedMessages.increment();
+        LogContext.with("senderId", senderId).debug("Chat message rate limited");
+        return false;
+    }
+
+    public void append(UUID contentId, ContentChatResponse message) {
+        acceptedMessages.increment();
+        if (!config.batching()) {
+            webSocketBroadcaster.broadcast(buildChatDestination(contentId), message);
+            return;
+        }
+
+        RoomBuffer buffer = rooms.computeIfAbsent(contentId, id -> new RoomBuffer(config.maxBatchSize()));
+        while (!buffer.offer(message)) {
+            rooms.remove(contentId, buffer);
+            buffer = rooms.computeIfAbsent(contentId, id -> new RoomBuffer(config.maxBatchSize()));
+        }
+    }
+
+    /**
+     * 방마다 지금까지 모인 메시지를 한 프레임으로 보냅니다. 한 방의 전송 실패는 다른 방에 영향을 주지 않습니다.
+     */
+    public void flush() {
+        rooms.forEach((contentId, buffer) -> {
+            Batch batch = buffer.drain();
+            if (batch == null) {
+                rooms.remove(contentId, buffer);
+                return;
+            }
+            send(contentId, batch);
+        });
+    }
+
+    @Override
+    public void destroy() {
+        flusher.shutdown();
+        flushSafely();
+    }
+
+    private void send(UUID contentId, Batch batch) {
+        batchSize.record(batch.messages().size());
+        if (batch.sampledOut() > 0) {
+            sampledOutMessages.increment(batch.sampledOut());
+            LogContext.with("contentId", contentId).and("sampledOut", batch.sampledOut()).debug("Chat room overloaded, sent sampled batch");
+        }
+
+        try {
+            webSocketBroadcaster.broadcast(buildChatDestination(contentId), new ContentChatBatchResponse(batch.messages(), batch.sampledOut()));
+        } catch (Exception e) {
+            LogContext.with("contentId", contentId).and("messages", batch.messages().size()).warn("Chat batch broadcast failed: " + e.getMessage());
+        }
+    }
+
+    private void flushSafely() {
+        try {
+            flush();
+        } catch (Exception e) {
+            LogContext.with("rooms", rooms.size()).error("Chat batch flush failed", e);
+        }
+    }
+
+    private String buildChatDestination(UUID contentId) {
+        return CHAT_DESTINATION_PREFIX + contentId + CHAT_DESTINATION_SUFFIX;
+    }
+
+    /**
+     * 한 방의 현재 window입니다. 비어 있는 채로 drain되면 retired가 되어 더 받지 않으므로,
+     * 목록에서 지워진 버퍼에 메시지가 남아 사라지는 일이 없습니다.
+     */
+    private static final class RoomBuffer {
+
+        private final int capacity;
+        private final ReentrantLock lock = new ReentrantLock();
+
+        private List<Entry> entries = new ArrayList<>();
+        private long received;
+        private boolean retired;
+
+        RoomBuffer(int capacity) {
+            this.capacity = capacity;
+        }
+
+        boolean offer(ContentChatResponse message) {
+            lock.lock();
+            try {
+                if (retired) {
+                    return false;
+                }
+                long sequence = received++;
+                if (entries.size() < capacity) {
+                    entries.add(new Entry(sequence, message));
+                } else {
+                    long slot = ThreadLocalRandom.current().nextLong(received);
+                    if (slot < capacity) {
+                        entries.set((int) slot, new Entry(sequence, message));
+                    }
+                }
+                return true;
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        @Nullable
+        Batch drain() {
+            List<Entry> drained;
+            long total;
+            lock.lock();
+            try {
+                if (entries.isEmpty()) {
+                    retired = true;
+                    return null;
+                }
+                drained = entries;
+                total = received;
+                entries = new ArrayList<>();
+                received = 0;
+            } finally {
+                lock.unlock();
+            }
+
+            drained.sort(Comparator.comparingLong(Entry::sequence));
+            List<ContentChatResponse> messages = drained.stream().map(Entry::message).toList();
+            return new Batch(messages, total - messages.size());
+        }
+    }
+
+    private record Entry(
+        long sequence,
+        ContentChatResponse message
+    ) {
+    }
+
+    private record Batch(
+        List<ContentChatResponse> messages,
+        long sampledOut
+    ) {
+    }
+}
@@ -3,9 +3,11 @@ package com.mopl.websocket.application.content;
 import com.mopl.domain.model.content.ContentModel;
 import com.mopl.domain.model.user.UserModel;
 import com.mopl.domain.model.watchingsession.WatchingSessionModel;
+import com.mopl.domain.repository.watchingsession.WatchingSessionJoin;
 import com.mopl.domain.repository.watchingsession.WatchingSessionRepository;
 import com.mopl.domain.service.content.ContentService;
 import com.mopl.domain.service.user.UserService;
+import com.mopl.dto.user.UserSummary;
 import com.mopl.dto.user.UserSummaryMapper;
 import com.mopl.dto.watchingsession.WatchingSessionResponseMapper;
 import com.mopl.websocket.interfaces.api.content.dto.ContentChatResponse;
@@ -13,8 +15,10 @@ import com.mopl.websocket.interfaces.event.content.dto.WatchingSessionChangeResp
 import com.mopl.websocket.interfaces.event.content.dto.WatchingSessionChangeType;
 import com.mopl.websocket.messaging.WebSocketBroadcaster;
 import lombok.RequiredArgsConstructor;
+import org.springframework.lang.Nullable;
 import org.springframework.stereotype.Component;
 
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -32,6 +36,18 @@ public class ContentChatFacade {
     private final WatchingSessionResponseMapper watchingSessionResponseMapper;
     private final WebSocketBroadcaster webSocketBroadcaster;
 
+    /**
+     * 세션이 이미 이 방에 참가해 있으면 구독 때 세션 속성에 기록한 보낸 사람 정보로 바로 응답을 만들고,
+     * 참가하지 않은 방이면 시청 세션을 확인하거나 만든 뒤 응답을 만듭니다.
+     */
+    public ContentChatResponse sendChatMessage(UUID userId, UUID contentId, String message, @Nullable Map<String, Object> sessionAttributes) {
+        UserSummary sender = WatchingSessionAttributes.senderIn(sessionAttributes, contentId);
+        if (sender != null) {
+            return new ContentChatResponse(sender, message);
+        }
+        return sendChatMessage(userId, contentId, message);
+    }
+
     public ContentChatResponse sendChatMessage(UUID userId, UUID contentId, String message) {
         ensureWatchingSession(contentId, userId);
         UserModel sender = userService.getById(userId);
@@ -39,20 +55,18 @@ public class ContentChatFacade {
     }
 
     private void ensureWatchingSession(UUID contentId, UUID userId) {
-        Optional<WatchingSessionModel> existingOpt = watchingSessionRepository.findByWatcherId(userId);
-
-        if (existingOpt.isPresent()) {
-            WatchingSessionModel existing = existingOpt.get();
-            if (existing.getContentId().equals(contentId)) {
-                return;
-            }
-            broadcastLeave(existing);
-            watchingSessionRepository.delete(existing);
+        Optional<WatchingSessionModel> existing = watchingSessionRepository.findByWatcherId(userId);
+        if (existing.isPresent() && existing.get().getContentId().equals(contentId)) {
+            return;
         }
 
-        WatchingSessionModel session = createNewSession(contentId, userId);
-        watchingSessionRepository.save(session);
-        broadcastJoin(session);
+        WatchingSessionJoin join = watchingSessionRepository.join(userId, contentId, () -> createNewSession(contentId, userId));
+        if (join.left() != null) {
+            broadcastChange(WatchingSessionChangeType.LEAVE, join.left(), join.leftWatcherCount());
+        }
+        if (join.joined()) {
+            broadcastChange(WatchingSessionChangeType.JOIN, join.session(), join.watcherCount());
+        }
     }
 
     private WatchingSessionModel createNewSession(UUID contentId, UUID userId) {
@@ -67,20 +81,11 @@ public class ContentChatFacade {
         );
     }
 
-    private void broadcastJoin(WatchingSessionModel session) {
-        WatchingSessionChangeResponse response = new WatchingSessionChangeResponse(
-            WatchingSessionChangeType.JOIN,
-            watchingSessionResponseMapper.toResponse(session),
-            watchingSessionRepository.countByContentId(session.getContentId())
-        );
-        webSocketBroadcaster.broadcast(buildWatchDestination(session.getContentId()), response);
-    }
-
-    private void broadcastLeave(WatchingSessionModel session) {
+    private void broadcastChange(WatchingSessionChangeType type, WatchingSessionModel session, long watcherCount) {
         WatchingSessionChangeResponse response = new WatchingSessionChangeResponse(
-            WatchingSessionChangeType.LEAVE,
+            type,
             watchingSessionResponseMapper.toResponse(session),
-            watchingSessionRepository.countByContentId(session.getContentId()) - 1
+            watcherCount
         );
         webSocketBroadcaster.broadcast(buildWatchDestination(session.getContentId()), response);
     }
@@ -0,0 +1,48 @@
+package com.mopl.websocket.application.content;
+
+import com.mopl.dto.user.UserSummary;
+import org.springframework.lang.Nullable;
+
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * 시청 방 구독 때 확인한 방과 보낸 사람 정보를 WebSocket 세션 속성에 보관합니다.
+ * 채팅 메시지마다 시청 세션과 사용자를 다시 조회하지 않도록 구독 때 한 번 기록하고, 구독 해제나 연결 종료 때 지웁니다.
+ */
+public final class WatchingSessionAttributes {
+
+    public static final String CONTENT_ID = "watchingContentId";
+    public static final String SENDER = "watchingSender";
+
+    private WatchingSessionAttributes() {
+    }
+
+    public static void bind(Map<String, Object> sessionAttributes, UUID contentId) {
+        sessionAttributes.put(CONTENT_ID, contentId);
+    }
+
+    public static void bindSender(Map<String, Object> sessionAttributes, UserSummary sender) {
+        sessionAttributes.put(SENDER, sender);
+    }
+
+    /**
+     * 세션이 참가한 방을 지우고 돌려줍니다. 참가한 방이 없으면 null입니다.
+     */
+    @Nullable
+    public static UUID clear(Map<String, Object> sessionAttributes) {
+        sessionAttributes.remove(SENDER);
+        return (UUID) sessionAttributes.remove(CONTENT_ID);
+    }
+
+    /**
+     * 세션이 contentId 방에 참가해 있으면 구독 때 기록한 보낸 사람 정보를, 아니면 null을 돌려줍니다.
+     */
+    @Nullable
+    public static UserSummary senderIn(@Nullable Map<String, Object> sessionAttributes, UUID contentId) {
+        if (sessionAttributes == null || !contentId.equals(sessionAttributes.get(CONTENT_ID))) {
+            return null;
+        }
+        return (UserSummary) sessionAttributes.get(SENDER);
+    }
+}
@@ -3,6 +3,7 @@ package com.mopl.websocket.application.content;
 import com.mopl.domain.model.content.ContentModel;
 import com.mopl.domain.model.user.UserModel;
 import com.mopl.domain.model.watchingsession.WatchingSessionModel;
+import com.mopl.domain.repository.watchingsession.WatchingSessionJoin;
 import com.mopl.domain.repository.watchingsession.WatchingSessionRepository;
 import com.mopl.domain.service.content.ContentService;
 import com.mopl.domain.service.user.UserService;
@@ -13,7 +14,6 @@ import com.mopl.websocket.messaging.WebSocketBroadcaster;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 
-import java.util.Optional;
 import java.util.UUID;
 
 @Component
@@ -30,35 +30,33 @@ public class WatchingSessionFacade {
     private final WebSocketBroadcaster webSocketBroadcaster;
 
     public WatchingSessionChangeResponse joinSession(UUID contentId, UUID userId) {
-        Optional<WatchingSessionModel> existingOpt = watchingSessionRepository.findByWatcherId(userId);
-
-        WatchingSessionModel session;
-        if (existingOpt.isPresent()) {
-            WatchingSessionModel existing = existingOpt.get();
-            if (existing.getContentId().equals(contentId)) {
-                session = existing.incrementConnectionCount();
-            } else {
-                broadcastLeave(existing);
-                watchingSessionRepository.delete(existing);
-                session = createNewSession(contentId, userId);
-            }
-        } else {
-            session = createNewSession(contentId, userId);
+        WatchingSessionJoin join = watchingSessionRepository.join(userId, contentId, () -> createNewSession(contentId, userId));
+        if (join.left() != null) {
+            broadcastLeave(join.left(), join.leftWatcherCount());
         }
-        watchingSessionRepository.save(session);
 
         return new WatchingSessionChangeResponse(
             WatchingSessionChangeType.JOIN,
-            watchingSessionResponseMapper.toResponse(session),
-            watchingSessionRepository.countByContentId(contentId)
+            watchingSessionResponseMapper.toResponse(join.session()),
+            join.watcherCount()
         );
     }
 
-    private void broadcastLeave(WatchingSessionModel session) {
+    public WatchingSessionChangeResponse leaveSession(UUID contentId, UUID userId) {
+        return watchingSessionRepository.leave(userId, contentId)
+            .map(leave -> new WatchingSessionChangeResponse(
+                WatchingSessionChangeType.LEAVE,
+                watchingSessionResponseMapper.toResponse(leave.session()),
+                leave.watcherCount()
+            ))
+            .orElse(null);
+    }
+
+    private void broadcastLeave(WatchingSessionModel session, long watcherCount) {
         WatchingSessionChangeResponse leaveResponse = new WatchingSessionChangeResponse(
             WatchingSessionChangeType.LEAVE,
             watchingSessionResponseMapper.toResponse(session),
-            watchingSessionRepository.countByContentId(session.getContentId()) - 1
+            watcherCount
         );
         webSocketBroadcaster.broadcast(buildWatchDestination(session.getContentId()), leaveResponse);
     }
@@ -67,28 +65,6 @@ public class WatchingSessionFacade {
         return WATCH_DESTINATION_PREFIX + contentId + WATCH_DESTINATION_SUFFIX;
     }
 
-    public WatchingSessionChangeResponse leaveSession(UUID contentId, UUID userId) {
-        Optional<WatchingSessionModel> existingOpt = watchingSessionRepository.findByWatcherId(userId);
-
-        if (existingOpt.isEmpty() || !existingOpt.get().getContentId().equals(contentId)) {
-            return null;
-        }
-
-        WatchingSessionModel session = existingOpt.get().decrementConnectionCount();
-
-        if (session.hasNoConnections()) {
-            watchingSessionRepository.delete(existingOpt.get());
-            return new WatchingSessionChangeResponse(
-                WatchingSessionChangeType.LEAVE,
-                watchingSessionResponseMapper.toResponse(existingOpt.get()),
-                watchingSessionRepository.countByContentId(contentId)
-            );
-        }
-
-        watchingSessionRepository.save(session);
-        return null;
-    }
-
     private WatchingSessionModel createNewSession(UUID contentId, UUID userId) {
         ContentModel content = contentService.getById(contentId);
         UserModel watcher = userService.getById(userId);
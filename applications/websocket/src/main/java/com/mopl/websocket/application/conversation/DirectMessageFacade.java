@@ -65,7 +65,9 @@ public class DirectMessageFacade {
         }));
 
         DirectMessageResponse response = directMessageResponseMapper.toResponse(savedDirectMessage, receiver);
-        directMessagePublisher.publish(response);
+        if (receiver != null) {
+            directMessagePublisher.publish(receiver.getId(), response);
+        }
 
         LogContext.with("senderId", senderId)
             .and("conversationId", conversationId)
@@ -4,6 +4,7 @@ import com.mopl.security.jwt.provider.JwtPayload;
 import com.mopl.security.jwt.provider.JwtProvider;
 import com.mopl.security.jwt.provider.TokenType;
 import com.mopl.security.userdetails.MoplUserDetails;
+import com.mopl.websocket.application.content.WatchingSessionAttributes;
 import lombok.RequiredArgsConstructor;
 import org.springframework.lang.NonNull;
 import org.springframework.messaging.Message;
@@ -93,7 +94,7 @@ public class JwtChannelInterceptor implements ChannelInterceptor {
 
         Map<String, Object> sessionAttributes = accessor.getSessionAttributes();
         if (sessionAttributes != null) {
-            sessionAttributes.put("watchingContentId", contentId);
+            WatchingSessionAttributes.bind(sessionAttributes, contentId);
         }
     }
 
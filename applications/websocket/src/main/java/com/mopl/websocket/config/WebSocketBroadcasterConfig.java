@@ -2,6 +2,7 @@ package com.mopl.websocket.config;
 
 import com.mopl.logging.context.LogContext;
 import com.mopl.redis.pubsub.WebSocketMessagePublisher;
+import com.mopl.websocket.messaging.ClusterWebSocketBroadcaster;
 import com.mopl.websocket.messaging.LocalWebSocketBroadcaster;
 import com.mopl.websocket.messaging.RedisWebSocketBroadcaster;
 import com.mopl.websocket.messaging.WebSocketBroadcaster;
@@ -20,6 +21,16 @@ public class WebSocketBroadcasterConfig {
         return new RedisWebSocketBroadcaster(publisher);
     }
 
+    @Bean
+    @ConditionalOnProperty(name = "websocket.broadcaster", havingValue = "cluster")
+    public WebSocketBroadcaster clusterWebSocketBroadcaster(
+        WebSocketMessagePublisher publisher,
+        SimpMessagingTemplate messagingTemplate
+    ) {
+        LogContext.with("broadcasterType", "cluster").info("WebSocketBroadcaster 초기화 완료");
+        return new ClusterWebSocketBroadcaster(publisher, messagingTemplate);
+    }
+
     @Bean
     @ConditionalOnProperty(name = "websocket.broadcaster", havingValue = "local", matchIfMissing = true)
     public WebSocketBroadcaster localWebSocketBroadcaster(SimpMessagingTemplate messagingTemplate) {
@@ -2,13 +2,63 @@ package com.mopl.websocket.config;
 
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
+import java.time.Duration;
+
 @ConfigurationProperties(prefix = "websocket")
 public record WebSocketProperties(
     String allowedOrigins,
-    BroadcasterType broadcaster
+    BroadcasterType broadcaster,
+    ChatConfig chat
 ) {
 
+    public WebSocketProperties {
+        if (chat == null) {
+            chat = new ChatConfig(null, 0, 0, 0);
+        }
+    }
+
+    /**
+     * redis는 모든 메시지를 전역 채널 하나로 모든 노드에 보내고, cluster는 로컬 구독자가 있는 destination 채널만 노드가 구독합니다.
+     */
     public enum BroadcasterType {
-        local, redis
+        local, redis, cluster
+    }
+
+    /**
+     * 콘텐츠 채팅은 방마다 batchWindow 동안 모아 한 프레임으로 보내며, 한 window에 maxBatchSize개를 넘으면 그만큼만 표본으로 남깁니다.
+     * batchWindow가 0이면 모으지 않고 메시지마다 바로 보냅니다. batch는 /sub/contents/{id}/chat의 payload 형태를 바꾸므로,
+     * 클라이언트가 batch를 읽을 수 있게 된 뒤에만 켜도록 기본값은 0입니다.
+     * userMessagesPerSecond를 지정하면 사용자는 초당 그만큼(최대 userBurst개 몰림 허용)까지 보낼 수 있고, 0이면 제한하지 않습니다.
+     * 한도를 넘은 메시지는 보낸 사용자에게만 오류로 알리므로, 클라이언트가 오류를 표시할 수 있게 된 뒤에 켜도록 기본값은 0입니다.
+     */
+    public record ChatConfig(
+        Duration batchWindow,
+        int maxBatchSize,
+        double userMessagesPerSecond,
+        int userBurst
+    ) {
+
+        public ChatConfig {
+            if (batchWindow == null || batchWindow.isNegative()) {
+                batchWindow = Duration.ZERO;
+            }
+            if (maxBatchSize <= 0) {
+                maxBatchSize = 50;
+            }
+            if (userMessagesPerSecond < 0) {
+                userMessagesPerSecond = 0;
+            }
+            if (userBurst <= 0) {
+                userBurst = 5;
+            }
+        }
+
+        public boolean batching() {
+            return !batchWindow.isZero();
+        }
+
+        public boolean rateLimited() {
+            return userMessagesPerSecond > 0;
+        }
     }
 }
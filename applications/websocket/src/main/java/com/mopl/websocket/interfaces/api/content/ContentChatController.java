@@ -1,12 +1,17 @@
 package com.mopl.websocket.interfaces.api.content;
 
+import com.mopl.domain.exception.ErrorResponse;
+import com.mopl.domain.exception.watchingsession.ChatRateLimitedException;
+import com.mopl.websocket.application.content.ContentChatAggregator;
 import com.mopl.websocket.application.content.ContentChatFacade;
 import com.mopl.websocket.interfaces.api.content.dto.ContentChatRequest;
 import com.mopl.websocket.interfaces.api.content.dto.ContentChatResponse;
-import com.mopl.websocket.messaging.WebSocketBroadcaster;
 import lombok.RequiredArgsConstructor;
 import org.springframework.messaging.handler.annotation.DestinationVariable;
+import org.springframework.messaging.handler.annotation.MessageExceptionHandler;
 import org.springframework.messaging.handler.annotation.MessageMapping;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.annotation.SendToUser;
 import org.springframework.stereotype.Controller;
 
 import java.security.Principal;
@@ -16,20 +21,37 @@ import java.util.UUID;
 @RequiredArgsConstructor
 public class ContentChatController {
 
-    private static final String CHAT_DESTINATION_PREFIX = "/sub/contents/";
-    private static final String CHAT_DESTINATION_SUFFIX = "/chat";
+    public static final String ERROR_DESTINATION = "/sub/errors";
 
     private final ContentChatFacade contentChatFacade;
-    private final WebSocketBroadcaster webSocketBroadcaster;
+    private final ContentChatAggregator contentChatAggregator;
 
     @MessageMapping("/contents/{contentId}/chat")
     public void sendChat(
         Principal principal,
         @DestinationVariable UUID contentId,
-        ContentChatRequest request
+        ContentChatRequest request,
+        SimpMessageHeaderAccessor headerAccessor
     ) {
         UUID senderId = UUID.fromString(principal.getName());
-        ContentChatResponse response = contentChatFacade.sendChatMessage(senderId, contentId, request.content());
-        webSocketBroadcaster.broadcast(CHAT_DESTINATION_PREFIX + contentId + CHAT_DESTINATION_SUFFIX, response);
+        if (!contentChatAggregator.tryAcquire(senderId)) {
+            throw ChatRateLimitedException.withUserId(senderId);
+        }
+        ContentChatResponse response = contentChatFacade.sendChatMessage(
+            senderId,
+            contentId,
+            request.content(),
+            headerAccessor.getSessionAttributes()
+        );
+        contentChatAggregator.append(contentId, response);
+    }
+
+    /**
+     * 한도를 넘은 메시지는 방에 보내지 않고, 보낸 세션에만 /user/sub/errors로 알립니다.
+     */
+    @MessageExceptionHandler(ChatRateLimitedException.class)
+    @SendToUser(destinations = ERROR_DESTINATION, broadcast = false)
+    public ErrorResponse handleRateLimited(ChatRateLimitedException exception) {
+        return ErrorResponse.from(exception);
     }
 }
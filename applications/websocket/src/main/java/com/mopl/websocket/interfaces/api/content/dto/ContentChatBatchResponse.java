@@ -0,0 +1,13 @@
+package com.mopl.websocket.interfaces.api.content.dto;
+
+import java.util.List;
+
+/**
+ * 한 batch window 동안 방에 들어온 채팅 메시지를 보낸 순서대로 담습니다.
+ * 방이 과부하라 표본만 보낼 때는 sampledOut에 빠진 메시지 수를 담습니다.
+ */
+public record ContentChatBatchResponse(
+    List<ContentChatResponse> messages,
+    long sampledOut
+) {
+}
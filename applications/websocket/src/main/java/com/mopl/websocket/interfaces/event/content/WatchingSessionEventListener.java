@@ -1,6 +1,7 @@
 package com.mopl.websocket.interfaces.event.content;
 
 import com.mopl.security.userdetails.MoplUserDetails;
+import com.mopl.websocket.application.content.WatchingSessionAttributes;
 import com.mopl.websocket.application.content.WatchingSessionFacade;
 import com.mopl.websocket.interfaces.event.content.dto.WatchingSessionChangeResponse;
 import com.mopl.websocket.messaging.WebSocketBroadcaster;
@@ -21,7 +22,6 @@ public class WatchingSessionEventListener {
 
     private static final String WATCH_DESTINATION_PREFIX = "/sub/contents/";
     private static final String WATCH_DESTINATION_SUFFIX = "/watch";
-    private static final String SESSION_ATTR_CONTENT_ID = "watchingContentId";
 
     private final WatchingSessionFacade watchingSessionFacade;
     private final WebSocketBroadcaster webSocketBroadcaster;
@@ -45,9 +45,10 @@ public class WatchingSessionEventListener {
         }
 
         MoplUserDetails user = (MoplUserDetails) ((Authentication) accessor.getUser()).getPrincipal();
-        accessor.getSessionAttributes().put(SESSION_ATTR_CONTENT_ID, contentId);
+        WatchingSessionAttributes.bind(accessor.getSessionAttributes(), contentId);
 
         WatchingSessionChangeResponse change = watchingSessionFacade.joinSession(contentId, user.userId());
+        WatchingSessionAttributes.bindSender(accessor.getSessionAttributes(), change.watchingSession().watcher());
         webSocketBroadcaster.broadcast(destination, change);
     }
 
@@ -66,7 +67,7 @@ public class WatchingSessionEventListener {
             return;
         }
 
-        UUID contentId = (UUID) accessor.getSessionAttributes().remove(SESSION_ATTR_CONTENT_ID);
+        UUID contentId = WatchingSessionAttributes.clear(accessor.getSessionAttributes());
         if (contentId == null) {
             return;
         }
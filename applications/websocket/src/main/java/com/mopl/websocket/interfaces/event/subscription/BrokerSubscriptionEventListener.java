@@ -0,0 +1,86 @@
+package com.mopl.websocket.interfaces.event.subscription;
+
+import com.mopl.websocket.interfaces.redis.RedisWebSocketDestinationSubscriber;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.event.EventListener;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+import org.springframework.web.socket.messaging.SessionSubscribeEvent;
+import org.springframework.web.socket.messaging.SessionUnsubscribeEvent;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * STOMP 구독 이벤트를 destination별 Redis 채널 구독 수로 옮깁니다.
+ *
+ * <p>UNSUBSCRIBE에는 destination이 없으므로 세션별로 subscription id와 destination을 기억해 두고,
+ * 연결이 끊기면 그 세션의 남은 구독을 모두 해지합니다. 항목을 꺼낸 쪽만 해지하므로 UNSUBSCRIBE와 연결 종료가 겹쳐도 한 번만 셉니다.
+ */
+@Component
+@ConditionalOnProperty(name = "websocket.broadcaster", havingValue = "cluster")
+@RequiredArgsConstructor
+public class BrokerSubscriptionEventListener {
+
+    private static final String BROKER_DESTINATION_PREFIX = "/sub/";
+
+    private final RedisWebSocketDestinationSubscriber destinationSubscriber;
+    private final Map<String, Map<String, String>> sessionSubscriptions = new ConcurrentHashMap<>();
+
+    @EventListener
+    public void handleSubscribe(SessionSubscribeEvent event) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.wrap(event.getMessage());
+        String sessionId = accessor.getSessionId();
+        String subscriptionId = accessor.getSubscriptionId();
+        String destination = accessor.getDestination();
+
+        if (sessionId == null || subscriptionId == null || destination == null || !destination.startsWith(BROKER_DESTINATION_PREFIX)) {
+            return;
+        }
+
+        String previous = sessionSubscriptions.computeIfAbsent(sessionId, key -> new ConcurrentHashMap<>())
+            .put(subscriptionId, destination);
+        if (destination.equals(previous)) {
+            return;
+        }
+        destinationSubscriber.retain(destination);
+        if (previous != null) {
+            destinationSubscriber.release(previous);
+        }
+    }
+
+    @EventListener
+    public void handleUnsubscribe(SessionUnsubscribeEvent event) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.wrap(event.getMessage());
+        String sessionId = accessor.getSessionId();
+        String subscriptionId = accessor.getSubscriptionId();
+        if (sessionId == null || subscriptionId == null) {
+            return;
+        }
+
+        Map<String, String> subscriptions = sessionSubscriptions.get(sessionId);
+        if (subscriptions == null) {
+            return;
+        }
+        String destination = subscriptions.remove(subscriptionId);
+        if (destination != null) {
+            destinationSubscriber.release(destination);
+        }
+    }
+
+    @EventListener
+    public void handleDisconnect(SessionDisconnectEvent event) {
+        Map<String, String> subscriptions = sessionSubscriptions.remove(event.getSessionId());
+        if (subscriptions == null) {
+            return;
+        }
+        for (String subscriptionId : subscriptions.keySet()) {
+            String destination = subscriptions.remove(subscriptionId);
+            if (destination != null) {
+                destinationSubscriber.release(destination);
+            }
+        }
+    }
+}
@@ -0,0 +1,123 @@
+package com.mopl.websocket.interfaces.redis;
+
+import com.mopl.logging.context.LogContext;
+import com.mopl.redis.pubsub.WebSocketFrame;
+import com.mopl.redis.pubsub.WebSocketMessagePublisher;
+import com.mopl.websocket.messaging.EncodedPayloadMessages;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.lang.NonNull;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 이 노드에 구독자가 있는 destination의 Redis 채널만 구독합니다.
+ *
+ * <p>destination마다 로컬 구독 수를 세어 첫 구독에서 채널을 구독하고 마지막 구독이 빠지면 해지하므로,
+ * 노드가 받는 메시지 양은 전체 트래픽이 아니라 이 노드에 열린 방 수에 비례합니다.
+ * 구독 수 변경과 채널 구독/해지는 destination별 잠금 안에서 순서대로 처리하고, 맵에는 destination 항목을 넣고 빼기만 하므로
+ * Redis 호출이 같은 bin의 다른 destination을 막지 않습니다.
+ */
+@Component
+@ConditionalOnProperty(name = "websocket.broadcaster", havingValue = "cluster")
+@RequiredArgsConstructor
+public class RedisWebSocketDestinationSubscriber implements MessageListener {
+
+    private final RedisMessageListenerContainer redisMessageListenerContainer;
+    private final SimpMessagingTemplate messagingTemplate;
+    private final WebSocketMessagePublisher webSocketMessagePublisher;
+    private final Map<String, Subscription> localSubscriptions = new ConcurrentHashMap<>();
+
+    /**
+     * 해지 중인 항목을 잡으면 해지가 끝나 맵에서 빠진 뒤이므로 새 항목으로 다시 시도합니다.
+     */
+    public void retain(String destination) {
+        Subscription subscription;
+        do {
+            subscription = localSubscriptions.computeIfAbsent(destination, Subscription::new);
+        } while (!subscription.retain());
+    }
+
+    public void release(String destination) {
+        Subscription subscription = localSubscriptions.get(destination);
+        if (subscription != null) {
+            subscription.release();
+        }
+    }
+
+    public int subscribedChannelCount() {
+        return localSubscriptions.size();
+    }
+
+    @Override
+    public void onMessage(@NonNull Message message, byte[] pattern) {
+        try {
+            WebSocketFrame frame = WebSocketFrame.decode(message.getBody());
+            if (webSocketMessagePublisher.nodeId().equals(frame.origin())) {
+                return;
+            }
+
+            messagingTemplate.send(frame.destination(), EncodedPayloadMessages.json(frame.payload()));
+            LogContext.with("destination", frame.destination()).debug("Forwarded Redis message to WebSocket");
+        } catch (Exception e) {
+            LogContext.with("subscriber", "websocket-destination").error("Failed to process Redis message", e);
+        }
+    }
+
+    /**
+     * destination 하나의 로컬 구독 수. 해지하면 closed가 되어 맵에서 빠지고 다시 쓰이지 않습니다.
+     */
+    private final class Subscription {
+
+        private final String destination;
+        private final ChannelTopic topic;
+        private final ReentrantLock lock = new ReentrantLock();
+        private int count;
+        private boolean closed;
+
+        private Subscription(String destination) {
+            this.destination = destination;
+            this.topic = new ChannelTopic(WebSocketMessagePublisher.destinationChannel(destination));
+        }
+
+        private boolean retain() {
+            lock.lock();
+            try {
+                if (closed) {
+                    return false;
+                }
+                if (count == 0) {
+                    redisMessageListenerContainer.addMessageListener(RedisWebSocketDestinationSubscriber.this, topic);
+                    LogContext.with("channel", topic.getTopic()).debug("Subscribed to Redis destination channel");
+                }
+                count++;
+                return true;
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        private void release() {
+            lock.lock();
+            try {
+                if (closed || --count > 0) {
+                    return;
+                }
+                closed = true;
+                localSubscriptions.remove(destination, this);
+                redisMessageListenerContainer.removeMessageListener(RedisWebSocketDestinationSubscriber.this, topic);
+                LogContext.with("channel", topic.getTopic()).debug("Unsubscribed from Redis destination channel");
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+}
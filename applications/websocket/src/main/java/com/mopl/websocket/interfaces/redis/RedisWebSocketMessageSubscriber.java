@@ -3,7 +3,9 @@ package com.mopl.websocket.interfaces.redis;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.mopl.logging.context.LogContext;
+import com.mopl.redis.pubsub.WebSocketFrame;
 import com.mopl.redis.pubsub.WebSocketMessagePublisher;
+import com.mopl.websocket.messaging.EncodedPayloadMessages;
 import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
@@ -15,6 +17,8 @@ import org.springframework.lang.NonNull;
 import org.springframework.messaging.simp.SimpMessagingTemplate;
 import org.springframework.stereotype.Component;
 
+import java.io.IOException;
+
 @Component
 @ConditionalOnProperty(name = "websocket.broadcaster", havingValue = "redis")
 @RequiredArgsConstructor
@@ -36,14 +40,29 @@ public class RedisWebSocketMessageSubscriber implements MessageListener {
     @Override
     public void onMessage(@NonNull Message message, byte[] pattern) {
         try {
-            JsonNode rootNode = objectMapper.readTree(message.getBody());
-            String destination = rootNode.get("destination").asText();
-            JsonNode payload = rootNode.get("payload");
+            byte[] body = message.getBody();
+            if (!WebSocketFrame.isFrame(body)) {
+                forwardLegacyMessage(body);
+                return;
+            }
 
-            messagingTemplate.convertAndSend(destination, payload);
-            LogContext.with("destination", destination).debug("Forwarded Redis message to WebSocket");
+            WebSocketFrame frame = WebSocketFrame.decode(body);
+            messagingTemplate.send(frame.destination(), EncodedPayloadMessages.json(frame.payload()));
+            LogContext.with("destination", frame.destination()).debug("Forwarded Redis message to WebSocket");
         } catch (Exception e) {
             LogContext.with("subscriber", "websocket").error("Failed to process Redis message", e);
         }
     }
+
+    /**
+     * 배포 중 이전 버전 노드가 보낸 JSON 메시지를 처리합니다.
+     */
+    private void forwardLegacyMessage(byte[] body) throws IOException {
+        JsonNode rootNode = objectMapper.readTree(body);
+        String destination = rootNode.get("destination").asText();
+        JsonNode payload = rootNode.get("payload");
+
+        messagingTemplate.convertAndSend(destination, payload);
+        LogContext.with("destination", destination).debug("Forwarded legacy Redis message to WebSocket");
+    }
 }
@@ -0,0 +1,26 @@
+package com.mopl.websocket.messaging;
+
+import com.mopl.logging.context.LogContext;
+import com.mopl.redis.pubsub.WebSocketMessagePublisher;
+import lombok.RequiredArgsConstructor;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+
+/**
+ * 이 노드의 구독자에게는 바로 전달하고, 다른 노드에는 destination 전용 채널로 발행합니다.
+ * 자기 노드가 보낸 메시지는 구독 채널에서 다시 받아도 건너뛰므로 한 번만 전달됩니다.
+ * payload는 한 번만 인코딩해 로컬 전달과 발행에 같은 바이트를 씁니다.
+ */
+@RequiredArgsConstructor
+public class ClusterWebSocketBroadcaster implements WebSocketBroadcaster {
+
+    private final WebSocketMessagePublisher webSocketMessagePublisher;
+    private final SimpMessagingTemplate messagingTemplate;
+
+    @Override
+    public void broadcast(String destination, Object payload) {
+        byte[] encoded = webSocketMessagePublisher.encodePayload(payload);
+        messagingTemplate.send(destination, EncodedPayloadMessages.json(encoded));
+        webSocketMessagePublisher.publishToDestination(destination, encoded);
+        LogContext.with("destination", destination).debug("Broadcast to local WebSocket and Redis destination channel");
+    }
+}
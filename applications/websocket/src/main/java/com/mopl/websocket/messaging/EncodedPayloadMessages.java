@@ -0,0 +1,26 @@
+package com.mopl.websocket.messaging;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.util.MimeTypeUtils;
+
+/**
+ * 이미 JSON으로 인코딩된 payload를 브로커에 바로 넘길 메시지로 감쌉니다. 메시지 컨버터를 거치지 않으므로 payload를 다시 직렬화하지 않습니다.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class EncodedPayloadMessages {
+
+    /**
+     * 헤더를 변경 가능한 상태로 두어 {@code SimpMessagingTemplate.send}가 destination을 설정할 때 메시지를 복사하지 않게 합니다.
+     */
+    public static Message<byte[]> json(byte[] payload) {
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+        accessor.setContentType(MimeTypeUtils.APPLICATION_JSON);
+        accessor.setLeaveMutable(true);
+        return MessageBuilder.createMessage(payload, accessor.getMessageHeaders());
+    }
+}
@@ -0,0 +1,89 @@
+package com.mopl.websocket.application.content;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("ChatRateLimiter 단위 테스트")
+class ChatRateLimiterTest {
+
+    private final AtomicLong nanoTime = new AtomicLong();
+
+    private ChatRateLimiter rateLimiter;
+
+    @BeforeEach
+    void setUp() {
+        rateLimiter = new ChatRateLimiter(1, 2, nanoTime::get);
+    }
+
+    @Nested
+    @DisplayName("tryAcquire()")
+    class TryAcquireTest {
+
+        @Test
+        @DisplayName("burst만큼 바로 보낸 뒤에는 거절하고 토큰이 다시 차면 허용")
+        void overBurst_rejectsUntilRefilled() {
+            // given
+            UUID userId = UUID.randomUUID();
+
+            // when & then
+            assertThat(rateLimiter.tryAcquire(userId)).isTrue();
+            assertThat(rateLimiter.tryAcquire(userId)).isTrue();
+            assertThat(rateLimiter.tryAcquire(userId)).isFalse();
+
+            nanoTime.addAndGet(TimeUnit.SECONDS.toNanos(1));
+            assertThat(rateLimiter.tryAcquire(userId)).isTrue();
+            assertThat(rateLimiter.tryAcquire(userId)).isFalse();
+        }
+
+        @Test
+        @DisplayName("사용자마다 한도를 따로 계산")
+        void perUser_isIndependent() {
+            // given
+            UUID first = UUID.randomUUID();
+            UUID second = UUID.randomUUID();
+            rateLimiter.tryAcquire(first);
+            rateLimiter.tryAcquire(first);
+
+            // when
+            boolean result = rateLimiter.tryAcquire(second);
+
+            // then
+            assertThat(result).isTrue();
+            assertThat(rateLimiter.tryAcquire(first)).isFalse();
+        }
+    }
+
+    @Nested
+    @DisplayName("evictIdle()")
+    class EvictIdleTest {
+
+        @Test
+        @DisplayName("다시 가득 찰 만큼 쉬었던 사용자 버킷만 제거")
+        void removesOnlyRefilledBuckets() {
+            // given
+            UUID idle = UUID.randomUUID();
+            UUID active = UUID.randomUUID();
+            rateLimiter.tryAcquire(idle);
+            nanoTime.addAndGet(TimeUnit.SECONDS.toNanos(1));
+            rateLimiter.tryAcquire(active);
+            nanoTime.addAndGet(TimeUnit.SECONDS.toNanos(1));
+
+            // when
+            rateLimiter.evictIdle();
+
+            // then
+            assertThat(rateLimiter.size()).isEqualTo(1);
+            assertThat(rateLimiter.tryAcquire(active)).isTrue();
+            assertThat(rateLimiter.tryAcquire(active)).isTrue();
+            assertThat(rateLimiter.tryAcquire(active)).isFalse();
+        }
+    }
+}
@@ -0,0 +1,237 @@
+package com.mopl.websocket.application.content;
+
+import com.mopl.dto.user.UserSummary;
+import com.mopl.websocket.config.WebSocketProperties;
+import com.mopl.websocket.config.WebSocketProperties.BroadcasterType;
+import com.mopl.websocket.config.WebSocketProperties.ChatConfig;
+import com.mopl.websocket.interfaces.api.content.dto.ContentChatBatchResponse;
+import com.mopl.websocket.interfaces.api.content.dto.ContentChatResponse;
+import com.mopl.websocket.messaging.WebSocketBroadcaster;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.times;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ContentChatAggregator 단위 테스트")
+class ContentChatAggregatorTest {
+
+    private static final Duration LONG_WINDOW = Duration.ofHours(1);
+
+    @Mock
+    private WebSocketBroadcaster webSocketBroadcaster;
+
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final AtomicLong nanoTime = new AtomicLong();
+
+    private ContentChatAggregator aggregator;
+
+    private ContentChatAggregator aggregator(Duration batchWindow, int maxBatchSize) {
+        ChatConfig chat = new ChatConfig(batchWindow, maxBatchSize, 1, 1);
+        aggregator = new ContentChatAggregator(webSocketBroadcaster, new WebSocketProperties("*", BroadcasterType.local, chat), meterRegistry, nanoTime::get);
+        return aggregator;
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (aggregator != null) {
+            aggregator.destroy();
+        }
+    }
+
+    private static ContentChatResponse message(String content) {
+        return new ContentChatResponse(new UserSummary(UUID.randomUUID(), "사용자", null), content);
+    }
+
+    private static String chatDestination(UUID contentId) {
+        return "/sub/contents/" + contentId + "/chat";
+    }
+
+    @Nested
+    @DisplayName("flush()")
+    class FlushTest {
+
+        @Test
+        @DisplayName("window 동안 모인 메시지를 방마다 보낸 순서대로 한 프레임으로 전송")
+        void withPendingMessages_sendsOneFramePerRoom() {
+            // given
+            ContentChatAggregator chatAggregator = aggregator(LONG_WINDOW, 50);
+            UUID hotRoom = UUID.randomUUID();
+            UUID quietRoom = UUID.randomUUID();
+            ContentChatResponse first = message("1");
+            ContentChatResponse second = message("2");
+            ContentChatResponse other = message("other");
+            chatAggregator.append(hotRoom, first);
+            chatAggregator.append(hotRoom, second);
+            chatAggregator.append(quietRoom, other);
+
+            // when
+            chatAggregator.flush();
+
+            // then
+            then(webSocketBroadcaster).should().broadcast(chatDestination(hotRoom), new ContentChatBatchResponse(List.of(first, second), 0));
+            then(webSocketBroadcaster).should().broadcast(chatDestination(quietRoom), new ContentChatBatchResponse(List.of(other), 0));
+            assertThat(meterRegistry.get("mopl.websocket.chat.messages").counter().count()).isEqualTo(3.0);
+            assertThat(meterRegistry.get("mopl.websocket.chat.batch").summary().count()).isEqualTo(2);
+            assertThat(meterRegistry.get("mopl.websocket.chat.batch").summary().totalAmount()).isEqualTo(3.0);
+        }
+
+        @Test
+        @DisplayName("한 window에 maxBatchSize를 넘으면 순서를 유지한 표본만 보내고 빠진 수를 함께 전송")
+        void overMaxBatchSize_sendsSampledBatch() {
+            // given
+            ContentChatAggregator chatAggregator = aggregator(LONG_WINDOW, 2);
+            UUID contentId = UUID.randomUUID();
+            List<ContentChatResponse> sent = new ArrayList<>();
+            for (int i = 0; i < 5; i++) {
+                ContentChatResponse message = message(String.valueOf(i));
+                sent.add(message);
+                chatAggregator.append(contentId, message);
+            }
+
+            // when
+            chatAggregator.flush();
+
+            // then
+            ArgumentCaptor<ContentChatBatchResponse> batchCaptor = ArgumentCaptor.forClass(ContentChatBatchResponse.class);
+            then(webSocketBroadcaster).should().broadcast(eq(chatDestination(contentId)), batchCaptor.capture());
+            ContentChatBatchResponse batch = batchCaptor.getValue();
+            assertThat(batch.messages()).hasSize(2).isSubsetOf(sent);
+            assertThat(sent.indexOf(batch.messages().get(0))).isLessThan(sent.indexOf(batch.messages().get(1)));
+            assertThat(batch.sampledOut()).isEqualTo(3);
+            assertThat(meterRegistry.get("mopl.websocket.chat.rejected").tag("reason", "sampled").counter().count()).isEqualTo(3.0);
+        }
+
+        @Test
+        @DisplayName("메시지가 없는 window에는 보내지 않고 방을 목록에서 제거")
+        void withEmptyWindow_removesRoom() {
+            // given
+            ContentChatAggregator chatAggregator = aggregator(LONG_WINDOW, 50);
+            UUID contentId = UUID.randomUUID();
+            chatAggregator.append(contentId, message("1"));
+            chatAggregator.flush();
+
+            // when
+            chatAggregator.flush();
+
+            // then
+            then(webSocketBroadcaster).should(times(1)).broadcast(any(), any());
+            assertThat(meterRegistry.get("mopl.websocket.chat.rooms").gauge().value()).isZero();
+        }
+
+        @Test
+        @DisplayName("제거된 방에 다시 메시지가 오면 새 window로 전송")
+        void afterRoomRemoved_acceptsNewMessages() {
+            // given
+            ContentChatAggregator chatAggregator = aggregator(LONG_WINDOW, 50);
+            UUID contentId = UUID.randomUUID();
+            chatAggregator.flush();
+            chatAggregator.append(contentId, message("1"));
+            chatAggregator.flush();
+            chatAggregator.flush();
+            ContentChatResponse late = message("late");
+
+            // when
+            chatAggregator.append(contentId, late);
+            chatAggregator.flush();
+
+            // then
+            then(webSocketBroadcaster).should().broadcast(chatDestination(contentId), new ContentChatBatchResponse(List.of(late), 0));
+        }
+
+        @Test
+        @DisplayName("한 방의 전송이 실패해도 다른 방은 전송")
+        void withBroadcastFailure_sendsOtherRooms() {
+            // given
+            ContentChatAggregator chatAggregator = aggregator(LONG_WINDOW, 50);
+            UUID failingRoom = UUID.randomUUID();
+            UUID healthyRoom = UUID.randomUUID();
+            willThrow(new RuntimeException("Redis down"))
+                .given(webSocketBroadcaster).broadcast(eq(chatDestination(failingRoom)), any());
+            chatAggregator.append(failingRoom, message("1"));
+            chatAggregator.append(healthyRoom, message("2"));
+
+            // when
+            chatAggregator.flush();
+
+            // then
+            then(webSocketBroadcaster).should().broadcast(eq(chatDestination(healthyRoom)), any(ContentChatBatchResponse.class));
+        }
+    }
+
+    @Nested
+    @DisplayName("append()")
+    class AppendTest {
+
+        @Test
+        @DisplayName("batchWindow가 0이면 모으지 않고 메시지를 바로 전송")
+        void withZeroWindow_broadcastsImmediately() {
+            // given
+            ContentChatAggregator chatAggregator = aggregator(Duration.ZERO, 50);
+            UUID contentId = UUID.randomUUID();
+            ContentChatResponse message = message("1");
+
+            // when
+            chatAggregator.append(contentId, message);
+
+            // then
+            then(webSocketBroadcaster).should().broadcast(chatDestination(contentId), message);
+        }
+    }
+
+    @Nested
+    @DisplayName("tryAcquire()")
+    class TryAcquireTest {
+
+        @Test
+        @DisplayName("사용자 전송 한도를 넘으면 거절하고 거절 수를 기록")
+        void overUserLimit_rejectsAndCounts() {
+            // given
+            ContentChatAggregator chatAggregator = aggregator(LONG_WINDOW, 50);
+            UUID senderId = UUID.randomUUID();
+
+            // when
+            boolean first = chatAggregator.tryAcquire(senderId);
+            boolean second = chatAggregator.tryAcquire(senderId);
+
+            // then
+            assertThat(first).isTrue();
+            assertThat(second).isFalse();
+            assertThat(meterRegistry.get("mopl.websocket.chat.rejected").tag("reason", "rate").counter().count()).isEqualTo(1.0);
+        }
+
+        @Test
+        @DisplayName("사용자 전송 한도를 설정하지 않으면 제한하지 않음")
+        void withoutUserLimit_alwaysAccepts() {
+            // given
+            ChatConfig chat = new ChatConfig(Duration.ZERO, 50, 0, 0);
+            aggregator = new ContentChatAggregator(webSocketBroadcaster, new WebSocketProperties("*", BroadcasterType.local, chat), meterRegistry, nanoTime::get);
+            UUID senderId = UUID.randomUUID();
+
+            // when & then
+            for (int i = 0; i < 10; i++) {
+                assertThat(aggregator.tryAcquire(senderId)).isTrue();
+            }
+            assertThat(meterRegistry.get("mopl.websocket.chat.rejected").tag("reason", "rate").counter().count()).isZero();
+        }
+    }
+}
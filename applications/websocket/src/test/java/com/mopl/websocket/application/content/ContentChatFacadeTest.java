@@ -6,6 +6,7 @@ import com.mopl.domain.fixture.WatchingSessionModelFixture;
 import com.mopl.domain.model.content.ContentModel;
 import com.mopl.domain.model.user.UserModel;
 import com.mopl.domain.model.watchingsession.WatchingSessionModel;
+import com.mopl.domain.repository.watchingsession.WatchingSessionJoin;
 import com.mopl.domain.repository.watchingsession.WatchingSessionRepository;
 import com.mopl.domain.service.content.ContentService;
 import com.mopl.domain.service.user.UserService;
@@ -28,8 +29,11 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.time.Instant;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.function.Supplier;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
@@ -122,8 +126,7 @@ class ContentChatFacadeTest {
             assertThat(result.sender()).isEqualTo(userSummary);
             assertThat(result.content()).isEqualTo(message);
 
-            then(watchingSessionRepository).should(never()).save(any());
-            then(watchingSessionRepository).should(never()).delete(any());
+            then(watchingSessionRepository).should(never()).join(any(), any(), any());
             then(webSocketBroadcaster).shouldHaveNoInteractions();
         }
 
@@ -134,11 +137,9 @@ class ContentChatFacadeTest {
             String message = "첫 메시지입니다";
 
             given(watchingSessionRepository.findByWatcherId(userId)).willReturn(Optional.empty());
+            givenJoinCreatingSession(1L, null, 0L);
             given(contentService.getById(contentId)).willReturn(content);
             given(userService.getById(userId)).willReturn(user);
-            given(watchingSessionRepository.save(any(WatchingSessionModel.class)))
-                .willAnswer(inv -> inv.getArgument(0));
-            given(watchingSessionRepository.countByContentId(contentId)).willReturn(1L);
             given(watchingSessionResponseMapper.toResponse(any(WatchingSessionModel.class)))
                 .willReturn(mockWatchingSessionResponse);
             given(userSummaryMapper.toSummary(user)).willReturn(userSummary);
@@ -150,7 +151,7 @@ class ContentChatFacadeTest {
             assertThat(result.sender()).isEqualTo(userSummary);
             assertThat(result.content()).isEqualTo(message);
 
-            then(watchingSessionRepository).should().save(any(WatchingSessionModel.class));
+            then(watchingSessionRepository).should().join(eq(userId), eq(contentId), any());
             then(webSocketBroadcaster).should().broadcast(
                 eq("/sub/contents/" + contentId + "/watch"),
                 any(WatchingSessionChangeResponse.class)
@@ -158,8 +159,8 @@ class ContentChatFacadeTest {
         }
 
         @Test
-        @DisplayName("다른 콘텐츠에 기존 세션이 있으면 기존 세션 삭제 후 새 세션 생성")
-        void withExistingSessionDifferentContent_deletesOldAndCreatesNewSession() {
+        @DisplayName("다른 콘텐츠에 기존 세션이 있으면 새 방으로 옮겨 참가")
+        void withExistingSessionDifferentContent_switchesRoom() {
             // given
             String message = "다른 콘텐츠에서 왔어요";
             UUID oldContentId = UUID.randomUUID();
@@ -169,13 +170,10 @@ class ContentChatFacadeTest {
                 .sample();
 
             given(watchingSessionRepository.findByWatcherId(userId)).willReturn(Optional.of(existingSession));
-            given(watchingSessionRepository.countByContentId(oldContentId)).willReturn(0L);
-            given(watchingSessionResponseMapper.toResponse(existingSession)).willReturn(mockWatchingSessionResponse);
+            givenJoinCreatingSession(1L, existingSession, 0L);
+            given(watchingSessionResponseMapper.toResponse(any(WatchingSessionModel.class))).willReturn(mockWatchingSessionResponse);
             given(contentService.getById(contentId)).willReturn(content);
             given(userService.getById(userId)).willReturn(user);
-            given(watchingSessionRepository.save(any(WatchingSessionModel.class)))
-                .willAnswer(inv -> inv.getArgument(0));
-            given(watchingSessionRepository.countByContentId(contentId)).willReturn(1L);
             given(userSummaryMapper.toSummary(user)).willReturn(userSummary);
 
             // when
@@ -185,8 +183,7 @@ class ContentChatFacadeTest {
             assertThat(result.sender()).isEqualTo(userSummary);
             assertThat(result.content()).isEqualTo(message);
 
-            then(watchingSessionRepository).should().delete(existingSession);
-            then(watchingSessionRepository).should().save(any(WatchingSessionModel.class));
+            then(watchingSessionRepository).should().join(eq(userId), eq(contentId), any());
         }
 
         @Test
@@ -201,13 +198,10 @@ class ContentChatFacadeTest {
                 .sample();
 
             given(watchingSessionRepository.findByWatcherId(userId)).willReturn(Optional.of(existingSession));
-            given(watchingSessionRepository.countByContentId(oldContentId)).willReturn(3L);
-            given(watchingSessionResponseMapper.toResponse(existingSession)).willReturn(mockWatchingSessionResponse);
+            givenJoinCreatingSession(1L, existingSession, 2L);
+            given(watchingSessionResponseMapper.toResponse(any(WatchingSessionModel.class))).willReturn(mockWatchingSessionResponse);
             given(contentService.getById(contentId)).willReturn(content);
             given(userService.getById(userId)).willReturn(user);
-            given(watchingSessionRepository.save(any(WatchingSessionModel.class)))
-                .willAnswer(inv -> inv.getArgument(0));
-            given(watchingSessionRepository.countByContentId(contentId)).willReturn(1L);
             given(userSummaryMapper.toSummary(user)).willReturn(userSummary);
 
             // when
@@ -222,7 +216,7 @@ class ContentChatFacadeTest {
 
             WatchingSessionChangeResponse leaveResponse = responseCaptor.getValue();
             assertThat(leaveResponse.type()).isEqualTo(WatchingSessionChangeType.LEAVE);
-            assertThat(leaveResponse.watcherCount()).isEqualTo(2L); // 3 - 1 = 2
+            assertThat(leaveResponse.watcherCount()).isEqualTo(2L);
         }
 
         @Test
@@ -232,11 +226,9 @@ class ContentChatFacadeTest {
             String message = "새로 참여했어요";
 
             given(watchingSessionRepository.findByWatcherId(userId)).willReturn(Optional.empty());
+            givenJoinCreatingSession(5L, null, 0L);
             given(contentService.getById(contentId)).willReturn(content);
             given(userService.getById(userId)).willReturn(user);
-            given(watchingSessionRepository.save(any(WatchingSessionModel.class)))
-                .willAnswer(inv -> inv.getArgument(0));
-            given(watchingSessionRepository.countByContentId(contentId)).willReturn(5L);
             given(watchingSessionResponseMapper.toResponse(any(WatchingSessionModel.class)))
                 .willReturn(mockWatchingSessionResponse);
             given(userSummaryMapper.toSummary(user)).willReturn(userSummary);
@@ -256,4 +248,59 @@ class ContentChatFacadeTest {
             assertThat(joinResponse.watcherCount()).isEqualTo(5L);
         }
     }
+
+    @Nested
+    @DisplayName("sendChatMessage() - 세션 속성 사용")
+    class SendChatMessageWithSessionAttributesTest {
+
+        @Test
+        @DisplayName("세션이 같은 방에 참가해 있으면 조회 없이 기록된 보낸 사람으로 응답")
+        void withJoinedRoom_usesSessionSenderWithoutLookup() {
+            // given
+            Map<String, Object> sessionAttributes = new HashMap<>();
+            WatchingSessionAttributes.bind(sessionAttributes, contentId);
+            WatchingSessionAttributes.bindSender(sessionAttributes, userSummary);
+
+            // when
+            ContentChatResponse result = contentChatFacade.sendChatMessage(userId, contentId, "안녕하세요!", sessionAttributes);
+
+            // then
+            assertThat(result.sender()).isEqualTo(userSummary);
+            assertThat(result.content()).isEqualTo("안녕하세요!");
+            then(watchingSessionRepository).shouldHaveNoInteractions();
+            then(userService).shouldHaveNoInteractions();
+            then(contentService).shouldHaveNoInteractions();
+        }
+
+        @Test
+        @DisplayName("세션이 다른 방에 참가해 있으면 시청 세션을 확인한 뒤 응답")
+        void withOtherRoom_fallsBackToSessionLookup() {
+            // given
+            Map<String, Object> sessionAttributes = new HashMap<>();
+            WatchingSessionAttributes.bind(sessionAttributes, UUID.randomUUID());
+            WatchingSessionAttributes.bindSender(sessionAttributes, userSummary);
+            WatchingSessionModel existingSession = WatchingSessionModelFixture.builder()
+                .set("watcherId", userId)
+                .set("contentId", contentId)
+                .sample();
+
+            given(watchingSessionRepository.findByWatcherId(userId)).willReturn(Optional.of(existingSession));
+            given(userService.getById(userId)).willReturn(user);
+            given(userSummaryMapper.toSummary(user)).willReturn(userSummary);
+
+            // when
+            ContentChatResponse result = contentChatFacade.sendChatMessage(userId, contentId, "안녕하세요!", sessionAttributes);
+
+            // then
+            assertThat(result.sender()).isEqualTo(userSummary);
+            then(watchingSessionRepository).should().findByWatcherId(userId);
+        }
+    }
+
+    private void givenJoinCreatingSession(long watcherCount, WatchingSessionModel left, long leftWatcherCount) {
+        given(watchingSessionRepository.join(eq(userId), eq(contentId), any())).willAnswer(invocation -> {
+            Supplier<WatchingSessionModel> sessionFactory = invocation.getArgument(2);
+            return new WatchingSessionJoin(sessionFactory.get(), watcherCount, true, left, leftWatcherCount);
+        });
+    }
 }
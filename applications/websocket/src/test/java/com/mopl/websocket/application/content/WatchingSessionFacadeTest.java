@@ -6,6 +6,8 @@ import com.mopl.domain.fixture.WatchingSessionModelFixture;
 import com.mopl.domain.model.content.ContentModel;
 import com.mopl.domain.model.user.UserModel;
 import com.mopl.domain.model.watchingsession.WatchingSessionModel;
+import com.mopl.domain.repository.watchingsession.WatchingSessionJoin;
+import com.mopl.domain.repository.watchingsession.WatchingSessionLeave;
 import com.mopl.domain.repository.watchingsession.WatchingSessionRepository;
 import com.mopl.domain.service.content.ContentService;
 import com.mopl.domain.service.user.UserService;
@@ -27,13 +29,13 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import java.time.Instant;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.function.Supplier;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.then;
-import static org.mockito.Mockito.never;
 
 @ExtendWith(MockitoExtension.class)
 @DisplayName("WatchingSessionFacade 단위 테스트")
@@ -92,17 +94,16 @@ class WatchingSessionFacadeTest {
     class JoinSessionTest {
 
         @Test
-        @DisplayName("기존 세션이 없으면 새로운 세션 생성")
-        void withNoExistingSession_createsNewSession() {
+        @DisplayName("새로 참가하면 콘텐츠와 사용자로 세션을 만들고 참가 후 시청자 수로 JOIN 응답")
+        void withNewWatcher_createsSessionAndJoins() {
             // given
-            given(watchingSessionRepository.findByWatcherId(userId)).willReturn(Optional.empty());
+            given(watchingSessionRepository.join(eq(userId), eq(contentId), any())).willAnswer(invocation -> {
+                Supplier<WatchingSessionModel> sessionFactory = invocation.getArgument(2);
+                return new WatchingSessionJoin(sessionFactory.get(), 1L, true, null, 0L);
+            });
             given(contentService.getById(contentId)).willReturn(content);
             given(userService.getById(userId)).willReturn(user);
-            given(watchingSessionRepository.save(any(WatchingSessionModel.class)))
-                .willAnswer(inv -> inv.getArgument(0));
-            given(watchingSessionRepository.countByContentId(contentId)).willReturn(1L);
-            given(watchingSessionResponseMapper.toResponse(any(WatchingSessionModel.class)))
-                .willReturn(mockResponse);
+            given(watchingSessionResponseMapper.toResponse(any(WatchingSessionModel.class))).willReturn(mockResponse);
 
             // when
             WatchingSessionChangeResponse result = watchingSessionFacade.joinSession(contentId, userId);
@@ -111,110 +112,67 @@ class WatchingSessionFacadeTest {
             assertThat(result.type()).isEqualTo(WatchingSessionChangeType.JOIN);
             assertThat(result.watcherCount()).isEqualTo(1L);
 
-            then(watchingSessionRepository).should().save(any(WatchingSessionModel.class));
-            then(contentService).should().getById(contentId);
-            then(userService).should().getById(userId);
+            ArgumentCaptor<WatchingSessionModel> sessionCaptor = ArgumentCaptor.forClass(WatchingSessionModel.class);
+            then(watchingSessionResponseMapper).should().toResponse(sessionCaptor.capture());
+            assertThat(sessionCaptor.getValue().getWatcherId()).isEqualTo(userId);
+            assertThat(sessionCaptor.getValue().getContentId()).isEqualTo(contentId);
+            then(webSocketBroadcaster).shouldHaveNoInteractions();
         }
 
         @Test
-        @DisplayName("같은 콘텐츠에 기존 세션이 있으면 연결 카운트 증가")
-        void withExistingSessionSameContent_incrementsConnectionCount() {
+        @DisplayName("같은 방에 이미 있으면 조회 없이 저장소가 돌려준 세션과 시청자 수로 JOIN 응답")
+        void withSameRoom_respondsWithoutLookup() {
             // given
-            WatchingSessionModel existingSession = WatchingSessionModelFixture.builder()
+            WatchingSessionModel existing = WatchingSessionModelFixture.builder()
                 .set("watcherId", userId)
                 .set("contentId", contentId)
-                .set("connectionCount", 1)
+                .set("connectionCount", 2)
                 .sample();
-
-            given(watchingSessionRepository.findByWatcherId(userId)).willReturn(Optional.of(existingSession));
-            given(watchingSessionRepository.save(any(WatchingSessionModel.class)))
-                .willAnswer(inv -> inv.getArgument(0));
-            given(watchingSessionRepository.countByContentId(contentId)).willReturn(1L);
-            given(watchingSessionResponseMapper.toResponse(any(WatchingSessionModel.class)))
-                .willReturn(mockResponse);
+            given(watchingSessionRepository.join(eq(userId), eq(contentId), any()))
+                .willReturn(new WatchingSessionJoin(existing, 7L, false, null, 0L));
+            given(watchingSessionResponseMapper.toResponse(existing)).willReturn(mockResponse);
 
             // when
             WatchingSessionChangeResponse result = watchingSessionFacade.joinSession(contentId, userId);
 
             // then
-            assertThat(result.type()).isEqualTo(WatchingSessionChangeType.JOIN);
-
-            ArgumentCaptor<WatchingSessionModel> captor = ArgumentCaptor.forClass(WatchingSessionModel.class);
-            then(watchingSessionRepository).should().save(captor.capture());
-            assertThat(captor.getValue().getConnectionCount()).isEqualTo(2);
-
+            assertThat(result.watcherCount()).isEqualTo(7L);
             then(contentService).shouldHaveNoInteractions();
             then(userService).shouldHaveNoInteractions();
+            then(webSocketBroadcaster).shouldHaveNoInteractions();
         }
 
         @Test
-        @DisplayName("다른 콘텐츠에 기존 세션이 있으면 기존 세션 삭제 후 새로운 세션 생성")
-        void withExistingSessionDifferentContent_deletesOldAndCreatesNew() {
+        @DisplayName("다른 방에서 옮겨 오면 떠난 방에 남은 시청자 수로 LEAVE 브로드캐스트")
+        void withOtherRoom_broadcastsLeaveToPreviousRoom() {
             // given
-            UUID oldContentId = UUID.randomUUID();
-            WatchingSessionModel existingSession = WatchingSessionModelFixture.builder()
+            UUID previousContentId = UUID.randomUUID();
+            WatchingSessionModel previous = WatchingSessionModelFixture.builder()
                 .set("watcherId", userId)
-                .set("contentId", oldContentId)
-                .set("connectionCount", 1)
+                .set("contentId", previousContentId)
                 .sample();
-
-            given(watchingSessionRepository.findByWatcherId(userId)).willReturn(Optional.of(existingSession));
-            given(watchingSessionResponseMapper.toResponse(existingSession)).willReturn(mockResponse);
-            given(watchingSessionRepository.countByContentId(oldContentId)).willReturn(1L);
-            given(contentService.getById(contentId)).willReturn(content);
-            given(userService.getById(userId)).willReturn(user);
-            given(watchingSessionRepository.save(any(WatchingSessionModel.class)))
-                .willAnswer(inv -> inv.getArgument(0));
-            given(watchingSessionRepository.countByContentId(contentId)).willReturn(1L);
+            WatchingSessionModel joined = WatchingSessionModelFixture.builder()
+                .set("watcherId", userId)
+                .set("contentId", contentId)
+                .sample();
+            given(watchingSessionRepository.join(eq(userId), eq(contentId), any()))
+                .willReturn(new WatchingSessionJoin(joined, 3L, true, previous, 4L));
+            given(watchingSessionResponseMapper.toResponse(any(WatchingSessionModel.class))).willReturn(mockResponse);
 
             // when
             WatchingSessionChangeResponse result = watchingSessionFacade.joinSession(contentId, userId);
 
             // then
             assertThat(result.type()).isEqualTo(WatchingSessionChangeType.JOIN);
+            assertThat(result.watcherCount()).isEqualTo(3L);
 
-            then(watchingSessionRepository).should().delete(existingSession);
-            then(webSocketBroadcaster).should().broadcast(
-                eq("/sub/contents/" + oldContentId + "/watch"),
-                any(WatchingSessionChangeResponse.class)
-            );
-            then(contentService).should().getById(contentId);
-            then(userService).should().getById(userId);
-        }
-
-        @Test
-        @DisplayName("다른 콘텐츠 떠날 때 LEAVE 메시지 브로드캐스트")
-        void withDifferentContent_broadcastsLeaveMessage() {
-            // given
-            UUID oldContentId = UUID.randomUUID();
-            WatchingSessionModel existingSession = WatchingSessionModelFixture.builder()
-                .set("watcherId", userId)
-                .set("contentId", oldContentId)
-                .set("connectionCount", 1)
-                .sample();
-
-            given(watchingSessionRepository.findByWatcherId(userId)).willReturn(Optional.of(existingSession));
-            given(watchingSessionResponseMapper.toResponse(existingSession)).willReturn(mockResponse);
-            given(watchingSessionRepository.countByContentId(oldContentId)).willReturn(2L);
-            given(contentService.getById(contentId)).willReturn(content);
-            given(userService.getById(userId)).willReturn(user);
-            given(watchingSessionRepository.save(any(WatchingSessionModel.class)))
-                .willAnswer(inv -> inv.getArgument(0));
-            given(watchingSessionRepository.countByContentId(contentId)).willReturn(1L);
-
-            // when
-            watchingSessionFacade.joinSession(contentId, userId);
-
-            // then
-            ArgumentCaptor<WatchingSessionChangeResponse> responseCaptor = ArgumentCaptor.forClass(WatchingSessionChangeResponse.class);
+            ArgumentCaptor<WatchingSessionChangeResponse> leaveCaptor = ArgumentCaptor.forClass(WatchingSessionChangeResponse.class);
             then(webSocketBroadcaster).should().broadcast(
-                eq("/sub/contents/" + oldContentId + "/watch"),
-                responseCaptor.capture()
+                eq("/sub/contents/" + previousContentId + "/watch"),
+                leaveCaptor.capture()
             );
-
-            WatchingSessionChangeResponse leaveResponse = responseCaptor.getValue();
-            assertThat(leaveResponse.type()).isEqualTo(WatchingSessionChangeType.LEAVE);
-            assertThat(leaveResponse.watcherCount()).isEqualTo(1L); // 2 - 1 = 1
+            assertThat(leaveCaptor.getValue().type()).isEqualTo(WatchingSessionChangeType.LEAVE);
+            assertThat(leaveCaptor.getValue().watcherCount()).isEqualTo(4L);
         }
     }
 
@@ -223,56 +181,16 @@ class WatchingSessionFacadeTest {
     class LeaveSessionTest {
 
         @Test
-        @DisplayName("세션이 없으면 null 반환")
-        void withNoSession_returnsNull() {
+        @DisplayName("마지막 연결이 빠지면 남은 시청자 수로 LEAVE 응답")
+        void withLastConnection_returnsLeaveResponse() {
             // given
-            given(watchingSessionRepository.findByWatcherId(userId)).willReturn(Optional.empty());
-
-            // when
-            WatchingSessionChangeResponse result = watchingSessionFacade.leaveSession(contentId, userId);
-
-            // then
-            assertThat(result).isNull();
-
-            then(watchingSessionRepository).should(never()).delete(any());
-            then(watchingSessionRepository).should(never()).save(any());
-        }
-
-        @Test
-        @DisplayName("다른 콘텐츠의 세션이면 null 반환")
-        void withDifferentContentSession_returnsNull() {
-            // given
-            UUID otherContentId = UUID.randomUUID();
-            WatchingSessionModel existingSession = WatchingSessionModelFixture.builder()
-                .set("watcherId", userId)
-                .set("contentId", otherContentId)
-                .sample();
-
-            given(watchingSessionRepository.findByWatcherId(userId)).willReturn(Optional.of(existingSession));
-
-            // when
-            WatchingSessionChangeResponse result = watchingSessionFacade.leaveSession(contentId, userId);
-
-            // then
-            assertThat(result).isNull();
-
-            then(watchingSessionRepository).should(never()).delete(any());
-            then(watchingSessionRepository).should(never()).save(any());
-        }
-
-        @Test
-        @DisplayName("연결이 하나 남으면 세션 삭제 후 LEAVE 응답 반환")
-        void withOneConnection_deletesSessionAndReturnsLeave() {
-            // given
-            WatchingSessionModel existingSession = WatchingSessionModelFixture.builder()
+            WatchingSessionModel session = WatchingSessionModelFixture.builder()
                 .set("watcherId", userId)
                 .set("contentId", contentId)
-                .set("connectionCount", 1)
                 .sample();
-
-            given(watchingSessionRepository.findByWatcherId(userId)).willReturn(Optional.of(existingSession));
-            given(watchingSessionRepository.countByContentId(contentId)).willReturn(0L);
-            given(watchingSessionResponseMapper.toResponse(existingSession)).willReturn(mockResponse);
+            given(watchingSessionRepository.leave(userId, contentId))
+                .willReturn(Optional.of(new WatchingSessionLeave(session, 2L)));
+            given(watchingSessionResponseMapper.toResponse(session)).willReturn(mockResponse);
 
             // when
             WatchingSessionChangeResponse result = watchingSessionFacade.leaveSession(contentId, userId);
@@ -280,62 +198,21 @@ class WatchingSessionFacadeTest {
             // then
             assertThat(result).isNotNull();
             assertThat(result.type()).isEqualTo(WatchingSessionChangeType.LEAVE);
-            assertThat(result.watcherCount()).isZero();
-
-            then(watchingSessionRepository).should().delete(existingSession);
-            then(watchingSessionRepository).should(never()).save(any());
+            assertThat(result.watcherCount()).isEqualTo(2L);
         }
 
         @Test
-        @DisplayName("연결이 여러 개면 연결 카운트 감소 후 null 반환")
-        void withMultipleConnections_decrementsCountAndReturnsNull() {
+        @DisplayName("연결이 남았거나 참가하지 않은 방이면 null 반환")
+        void withoutLeave_returnsNull() {
             // given
-            WatchingSessionModel existingSession = WatchingSessionModelFixture.builder()
-                .set("watcherId", userId)
-                .set("contentId", contentId)
-                .set("connectionCount", 3)
-                .sample();
-
-            given(watchingSessionRepository.findByWatcherId(userId)).willReturn(Optional.of(existingSession));
-            given(watchingSessionRepository.save(any(WatchingSessionModel.class)))
-                .willAnswer(inv -> inv.getArgument(0));
+            given(watchingSessionRepository.leave(userId, contentId)).willReturn(Optional.empty());
 
             // when
             WatchingSessionChangeResponse result = watchingSessionFacade.leaveSession(contentId, userId);
 
             // then
             assertThat(result).isNull();
-
-            ArgumentCaptor<WatchingSessionModel> captor = ArgumentCaptor.forClass(WatchingSessionModel.class);
-            then(watchingSessionRepository).should().save(captor.capture());
-            assertThat(captor.getValue().getConnectionCount()).isEqualTo(2);
-
-            then(watchingSessionRepository).should(never()).delete(any());
-        }
-
-        @Test
-        @DisplayName("연결 카운트가 0이 되면 세션 삭제")
-        void withConnectionCountBecomingZero_deletesSession() {
-            // given
-            WatchingSessionModel existingSession = WatchingSessionModelFixture.builder()
-                .set("watcherId", userId)
-                .set("contentId", contentId)
-                .set("connectionCount", 1)
-                .sample();
-
-            given(watchingSessionRepository.findByWatcherId(userId)).willReturn(Optional.of(existingSession));
-            given(watchingSessionRepository.countByContentId(contentId)).willReturn(5L);
-            given(watchingSessionResponseMapper.toResponse(existingSession)).willReturn(mockResponse);
-
-            // when
-            WatchingSessionChangeResponse result = watchingSessionFacade.leaveSession(contentId, userId);
-
-            // then
-            assertThat(result).isNotNull();
-            assertThat(result.type()).isEqualTo(WatchingSessionChangeType.LEAVE);
-            assertThat(result.watcherCount()).isEqualTo(5L);
-
-            then(watchingSessionRepository).should().delete(existingSession);
+            then(watchingSessionResponseMapper).shouldHaveNoInteractions();
         }
     }
 }
@@ -173,11 +173,11 @@ class DirectMessageFacadeTest {
 
             then(directMessageService).should().save(any(DirectMessageModel.class));
             then(outboxService).should().save(outboxModel);
-            then(directMessagePublisher).should().publish(expectedResponse);
+            then(directMessagePublisher).should().publish(receiverId, expectedResponse);
         }
 
         @Test
-        @DisplayName("상대방이 없는 대화에서는 Outbox 저장하지 않음")
+        @DisplayName("상대방이 없는 대화에서는 Outbox 저장과 Redis 발행을 하지 않음")
         void withNoReceiver_doesNotSaveOutbox() {
             // given
             DirectMessageSendRequest request = new DirectMessageSendRequest("Hello");
@@ -223,7 +223,7 @@ class DirectMessageFacadeTest {
             assertThat(result.receiver()).isNull();
 
             then(outboxService).should(never()).save(any());
-            then(directMessagePublisher).should().publish(expectedResponse);
+            then(directMessagePublisher).shouldHaveNoInteractions();
         }
     }
 }
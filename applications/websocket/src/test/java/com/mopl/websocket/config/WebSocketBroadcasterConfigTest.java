@@ -1,6 +1,7 @@
 package com.mopl.websocket.config;
 
 import com.mopl.redis.pubsub.WebSocketMessagePublisher;
+import com.mopl.websocket.messaging.ClusterWebSocketBroadcaster;
 import com.mopl.websocket.messaging.LocalWebSocketBroadcaster;
 import com.mopl.websocket.messaging.RedisWebSocketBroadcaster;
 import com.mopl.websocket.messaging.WebSocketBroadcaster;
@@ -30,6 +31,20 @@ class WebSocketBroadcasterConfigTest {
         assertThat(broadcaster).isInstanceOf(RedisWebSocketBroadcaster.class);
     }
 
+    @Test
+    @DisplayName("clusterWebSocketBroadcaster - Cluster 브로드캐스터 빈 생성")
+    void clusterWebSocketBroadcaster_createsClusterBean() {
+        // given
+        WebSocketMessagePublisher publisher = mock(WebSocketMessagePublisher.class);
+        SimpMessagingTemplate messagingTemplate = mock(SimpMessagingTemplate.class);
+
+        // when
+        WebSocketBroadcaster broadcaster = config.clusterWebSocketBroadcaster(publisher, messagingTemplate);
+
+        // then
+        assertThat(broadcaster).isInstanceOf(ClusterWebSocketBroadcaster.class);
+    }
+
     @Test
     @DisplayName("localWebSocketBroadcaster - Local 브로드캐스터 빈 생성")
     void localWebSocketBroadcaster_createsLocalBean() {
@@ -54,7 +54,8 @@ class WebSocketConfigTest {
     void setUp() {
         WebSocketProperties properties = new WebSocketProperties(
             "http://localhost:3000,http://localhost:8080",
-            BroadcasterType.local
+            BroadcasterType.local,
+            null
         );
         config = new WebSocketConfig(jwtChannelInterceptor, webSocketMetrics, properties);
     }
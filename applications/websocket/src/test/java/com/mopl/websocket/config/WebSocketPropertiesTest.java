@@ -1,10 +1,13 @@
 package com.mopl.websocket.config;
 
 import com.mopl.websocket.config.WebSocketProperties.BroadcasterType;
+import com.mopl.websocket.config.WebSocketProperties.ChatConfig;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 
+import java.time.Duration;
+
 import static org.assertj.core.api.Assertions.assertThat;
 
 @DisplayName("WebSocketProperties 단위 테스트")
@@ -22,7 +25,7 @@ class WebSocketPropertiesTest {
             BroadcasterType broadcaster = BroadcasterType.local;
 
             // when
-            WebSocketProperties properties = new WebSocketProperties(allowedOrigins, broadcaster);
+            WebSocketProperties properties = new WebSocketProperties(allowedOrigins, broadcaster, null);
 
             // then
             assertThat(properties).isNotNull();
@@ -38,7 +41,7 @@ class WebSocketPropertiesTest {
             BroadcasterType broadcaster = BroadcasterType.redis;
 
             // when
-            WebSocketProperties properties = new WebSocketProperties(allowedOrigins, broadcaster);
+            WebSocketProperties properties = new WebSocketProperties(allowedOrigins, broadcaster, null);
 
             // then
             assertThat(properties).isNotNull();
@@ -50,8 +53,8 @@ class WebSocketPropertiesTest {
         @DisplayName("equals - 동일한 값으로 생성된 레코드는 동일함")
         void equalsTest() {
             // given
-            WebSocketProperties properties1 = new WebSocketProperties("http://localhost:3000", BroadcasterType.local);
-            WebSocketProperties properties2 = new WebSocketProperties("http://localhost:3000", BroadcasterType.local);
+            WebSocketProperties properties1 = new WebSocketProperties("http://localhost:3000", BroadcasterType.local, null);
+            WebSocketProperties properties2 = new WebSocketProperties("http://localhost:3000", BroadcasterType.local, null);
 
             // then
             assertThat(properties1).isEqualTo(properties2);
@@ -61,8 +64,8 @@ class WebSocketPropertiesTest {
         @DisplayName("hashCode - 동일한 값으로 생성된 레코드는 동일한 해시코드")
         void hashCodeTest() {
             // given
-            WebSocketProperties properties1 = new WebSocketProperties("http://localhost:3000", BroadcasterType.local);
-            WebSocketProperties properties2 = new WebSocketProperties("http://localhost:3000", BroadcasterType.local);
+            WebSocketProperties properties1 = new WebSocketProperties("http://localhost:3000", BroadcasterType.local, null);
+            WebSocketProperties properties2 = new WebSocketProperties("http://localhost:3000", BroadcasterType.local, null);
 
             // then
             assertThat(properties1.hashCode()).isEqualTo(properties2.hashCode());
@@ -72,7 +75,7 @@ class WebSocketPropertiesTest {
         @DisplayName("toString - 레코드 문자열 표현")
         void toStringTest() {
             // given
-            WebSocketProperties properties = new WebSocketProperties("http://localhost:3000", BroadcasterType.local);
+            WebSocketProperties properties = new WebSocketProperties("http://localhost:3000", BroadcasterType.local, null);
 
             // when
             String result = properties.toString();
@@ -84,6 +87,58 @@ class WebSocketPropertiesTest {
         }
     }
 
+    @Nested
+    @DisplayName("ChatConfig")
+    class ChatConfigTest {
+
+        @Test
+        @DisplayName("chat 설정이 없으면 기본값으로 batching과 사용자 전송 한도를 끔")
+        void withoutChat_usesDefaults() {
+            // when
+            WebSocketProperties properties = new WebSocketProperties("http://localhost:3000", BroadcasterType.local, null);
+
+            // then
+            ChatConfig chat = properties.chat();
+            assertThat(chat.batchWindow()).isEqualTo(Duration.ZERO);
+            assertThat(chat.maxBatchSize()).isEqualTo(50);
+            assertThat(chat.userMessagesPerSecond()).isZero();
+            assertThat(chat.userBurst()).isEqualTo(5);
+            assertThat(chat.batching()).isFalse();
+            assertThat(chat.rateLimited()).isFalse();
+        }
+
+        @Test
+        @DisplayName("userMessagesPerSecond를 지정하면 사용자 전송 한도를 켬")
+        void withUserRate_enablesRateLimit() {
+            // when
+            ChatConfig chat = new ChatConfig(Duration.ZERO, 0, 3, 0);
+
+            // then
+            assertThat(chat.rateLimited()).isTrue();
+            assertThat(chat.userBurst()).isEqualTo(5);
+        }
+
+        @Test
+        @DisplayName("batchWindow를 지정하면 batching을 켬")
+        void withWindow_enablesBatching() {
+            // when
+            ChatConfig chat = new ChatConfig(Duration.ofMillis(50), 0, 0, 0);
+
+            // then
+            assertThat(chat.batching()).isTrue();
+        }
+
+        @Test
+        @DisplayName("batchWindow가 0이면 batching을 끔")
+        void withZeroWindow_disablesBatching() {
+            // when
+            ChatConfig chat = new ChatConfig(Duration.ZERO, 0, 0, 0);
+
+            // then
+            assertThat(chat.batching()).isFalse();
+        }
+    }
+
     @Nested
     @DisplayName("BroadcasterType Enum")
     class BroadcasterTypeTest {
@@ -129,8 +184,8 @@ class WebSocketPropertiesTest {
             BroadcasterType[] values = BroadcasterType.values();
 
             // then
-            assertThat(values).hasSize(2);
-            assertThat(values).containsExactlyInAnyOrder(BroadcasterType.local, BroadcasterType.redis);
+            assertThat(values).hasSize(3);
+            assertThat(values).containsExactlyInAnyOrder(BroadcasterType.local, BroadcasterType.redis, BroadcasterType.cluster);
         }
     }
 }
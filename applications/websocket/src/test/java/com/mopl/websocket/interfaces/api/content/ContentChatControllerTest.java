@@ -1,10 +1,12 @@
 package com.mopl.websocket.interfaces.api.content;
 
+import com.mopl.domain.exception.ErrorResponse;
+import com.mopl.domain.exception.watchingsession.ChatRateLimitedException;
 import com.mopl.dto.user.UserSummary;
+import com.mopl.websocket.application.content.ContentChatAggregator;
 import com.mopl.websocket.application.content.ContentChatFacade;
 import com.mopl.websocket.interfaces.api.content.dto.ContentChatRequest;
 import com.mopl.websocket.interfaces.api.content.dto.ContentChatResponse;
-import com.mopl.websocket.messaging.WebSocketBroadcaster;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -13,14 +15,20 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
 
 import java.security.Principal;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.then;
 import static org.mockito.Mockito.eq;
+import static org.mockito.Mockito.never;
 
 @ExtendWith(MockitoExtension.class)
 @DisplayName("ContentChatController 슬라이스 테스트")
@@ -30,7 +38,7 @@ class ContentChatControllerTest {
     private ContentChatFacade contentChatFacade;
 
     @Mock
-    private WebSocketBroadcaster webSocketBroadcaster;
+    private ContentChatAggregator contentChatAggregator;
 
     @Mock
     private Principal principal;
@@ -39,13 +47,18 @@ class ContentChatControllerTest {
 
     private UUID senderId;
     private UUID contentId;
+    private Map<String, Object> sessionAttributes;
+    private SimpMessageHeaderAccessor headerAccessor;
 
     @BeforeEach
     void setUp() {
-        contentChatController = new ContentChatController(contentChatFacade, webSocketBroadcaster);
+        contentChatController = new ContentChatController(contentChatFacade, contentChatAggregator);
 
         senderId = UUID.randomUUID();
         contentId = UUID.randomUUID();
+        sessionAttributes = new HashMap<>();
+        headerAccessor = SimpMessageHeaderAccessor.create();
+        headerAccessor.setSessionAttributes(sessionAttributes);
 
         given(principal.getName()).willReturn(senderId.toString());
     }
@@ -55,7 +68,7 @@ class ContentChatControllerTest {
     class SendChatTest {
 
         @Test
-        @DisplayName("유효한 요청 시 WebSocket 메시지 발행")
+        @DisplayName("유효한 요청 시 방 batch에 메시지 추가")
         void withValidRequest_publishesWebSocketMessage() {
             // given
             String content = "안녕하세요";
@@ -64,18 +77,19 @@ class ContentChatControllerTest {
             UserSummary senderSummary = new UserSummary(senderId, "테스트 사용자", null);
             ContentChatResponse expectedResponse = new ContentChatResponse(senderSummary, content);
 
-            given(contentChatFacade.sendChatMessage(senderId, contentId, content))
+            given(contentChatAggregator.tryAcquire(senderId)).willReturn(true);
+            given(contentChatFacade.sendChatMessage(senderId, contentId, content, sessionAttributes))
                 .willReturn(expectedResponse);
 
             // when
-            contentChatController.sendChat(principal, contentId, request);
+            contentChatController.sendChat(principal, contentId, request, headerAccessor);
 
             // then
-            then(contentChatFacade).should().sendChatMessage(senderId, contentId, content);
+            then(contentChatFacade).should().sendChatMessage(senderId, contentId, content, sessionAttributes);
 
             ArgumentCaptor<ContentChatResponse> responseCaptor = ArgumentCaptor.forClass(ContentChatResponse.class);
-            then(webSocketBroadcaster).should().broadcast(
-                eq("/sub/contents/" + contentId + "/chat"),
+            then(contentChatAggregator).should().append(
+                eq(contentId),
                 responseCaptor.capture()
             );
 
@@ -94,16 +108,17 @@ class ContentChatControllerTest {
             UserSummary senderSummary = new UserSummary(senderId, "테스트 사용자", null);
             ContentChatResponse expectedResponse = new ContentChatResponse(senderSummary, content);
 
-            given(contentChatFacade.sendChatMessage(senderId, contentId, content))
+            given(contentChatAggregator.tryAcquire(senderId)).willReturn(true);
+            given(contentChatFacade.sendChatMessage(senderId, contentId, content, sessionAttributes))
                 .willReturn(expectedResponse);
 
             // when
-            contentChatController.sendChat(principal, contentId, request);
+            contentChatController.sendChat(principal, contentId, request, headerAccessor);
 
             // then
-            then(contentChatFacade).should().sendChatMessage(senderId, contentId, content);
-            then(webSocketBroadcaster).should().broadcast(
-                eq("/sub/contents/" + contentId + "/chat"),
+            then(contentChatFacade).should().sendChatMessage(senderId, contentId, content, sessionAttributes);
+            then(contentChatAggregator).should().append(
+                eq(contentId),
                 eq(expectedResponse)
             );
         }
@@ -118,20 +133,55 @@ class ContentChatControllerTest {
             UserSummary senderSummary = new UserSummary(senderId, "테스트 사용자", null);
             ContentChatResponse expectedResponse = new ContentChatResponse(senderSummary, content);
 
-            given(contentChatFacade.sendChatMessage(senderId, contentId, content))
+            given(contentChatAggregator.tryAcquire(senderId)).willReturn(true);
+            given(contentChatFacade.sendChatMessage(senderId, contentId, content, sessionAttributes))
                 .willReturn(expectedResponse);
 
             // when
-            contentChatController.sendChat(principal, contentId, request);
+            contentChatController.sendChat(principal, contentId, request, headerAccessor);
 
             // then
             ArgumentCaptor<ContentChatResponse> responseCaptor = ArgumentCaptor.forClass(ContentChatResponse.class);
-            then(webSocketBroadcaster).should().broadcast(
-                eq("/sub/contents/" + contentId + "/chat"),
+            then(contentChatAggregator).should().append(
+                eq(contentId),
                 responseCaptor.capture()
             );
 
             assertThat(responseCaptor.getValue().content()).hasSize(1000);
         }
+
+        @Test
+        @DisplayName("전송 한도를 넘으면 facade를 호출하지 않고 ChatRateLimitedException 발생")
+        void withRateLimitExceeded_throwsWithoutSending() {
+            // given
+            ContentChatRequest request = new ContentChatRequest("안녕하세요");
+            given(contentChatAggregator.tryAcquire(senderId)).willReturn(false);
+
+            // when & then
+            assertThatThrownBy(() -> contentChatController.sendChat(principal, contentId, request, headerAccessor))
+                .isInstanceOf(ChatRateLimitedException.class);
+            then(contentChatFacade).shouldHaveNoInteractions();
+            then(contentChatAggregator).should(never()).append(any(), any());
+        }
+    }
+
+    @Nested
+    @DisplayName("handleRateLimited() - 전송 한도 초과 알림")
+    class HandleRateLimitedTest {
+
+        @Test
+        @DisplayName("보낸 사용자에게 돌려줄 오류 응답을 만듦")
+        void returnsErrorResponseForSender() {
+            // given
+            ChatRateLimitedException exception = ChatRateLimitedException.withUserId(senderId);
+
+            // when
+            ErrorResponse response = contentChatController.handleRateLimited(exception);
+
+            // then
+            assertThat(response.exceptionName()).isEqualTo("ChatRateLimitedException");
+            assertThat(response.message()).isEqualTo("채팅 전송 한도를 초과했습니다.");
+            assertThat(response.details()).containsEntry("userId", senderId);
+        }
     }
 }
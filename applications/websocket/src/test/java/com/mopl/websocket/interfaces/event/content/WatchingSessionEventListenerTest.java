@@ -112,6 +112,9 @@ class WatchingSessionEventListenerTest {
 
             assertThat(destinationCaptor.getValue()).isEqualTo(destination);
             assertThat(responseCaptor.getValue()).isEqualTo(changeResponse);
+            assertThat(StompHeaderAccessor.wrap(event.getMessage()).getSessionAttributes())
+                .containsEntry("watchingContentId", contentId)
+                .containsEntry("watchingSender", userSummary);
         }
 
         @Test
@@ -214,6 +217,7 @@ class WatchingSessionEventListenerTest {
             // given
             Map<String, Object> sessionAttributes = new HashMap<>();
             sessionAttributes.put("watchingContentId", contentId);
+            sessionAttributes.put("watchingSender", new UserSummary(userId, "테스트 사용자", null));
             SessionUnsubscribeEvent event = createUnsubscribeEvent(sessionAttributes);
 
             UserSummary userSummary = new UserSummary(userId, "테스트 사용자", null);
@@ -241,6 +245,7 @@ class WatchingSessionEventListenerTest {
 
             assertThat(destinationCaptor.getValue()).isEqualTo("/sub/contents/" + contentId + "/watch");
             assertThat(responseCaptor.getValue()).isEqualTo(changeResponse);
+            assertThat(sessionAttributes).isEmpty();
         }
 
         @Test
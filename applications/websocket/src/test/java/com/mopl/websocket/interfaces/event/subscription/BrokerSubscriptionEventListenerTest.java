@@ -0,0 +1,139 @@
+package com.mopl.websocket.interfaces.event.subscription;
+
+import com.mopl.websocket.interfaces.redis.RedisWebSocketDestinationSubscriber;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.GenericMessage;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+import org.springframework.web.socket.messaging.SessionSubscribeEvent;
+import org.springframework.web.socket.messaging.SessionUnsubscribeEvent;
+
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.times;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("BrokerSubscriptionEventListener 단위 테스트")
+class BrokerSubscriptionEventListenerTest {
+
+    private static final String SESSION_ID = "session-1";
+    private static final String WATCH = "/sub/contents/123/watch";
+    private static final String CHAT = "/sub/contents/123/chat";
+
+    @Mock
+    private RedisWebSocketDestinationSubscriber destinationSubscriber;
+
+    @InjectMocks
+    private BrokerSubscriptionEventListener listener;
+
+    @Nested
+    @DisplayName("handleSubscribe()")
+    class HandleSubscribeTest {
+
+        @Test
+        @DisplayName("/sub destination 구독 시 destination 채널 구독 수 증가")
+        void withBrokerDestination_retains() {
+            // when
+            listener.handleSubscribe(subscribeEvent("sub-0", WATCH));
+
+            // then
+            then(destinationSubscriber).should().retain(WATCH);
+        }
+
+        @Test
+        @DisplayName("/sub 이외의 destination은 무시")
+        void withOtherDestination_ignores() {
+            // when
+            listener.handleSubscribe(subscribeEvent("sub-0", "/user/queue/errors"));
+
+            // then
+            then(destinationSubscriber).shouldHaveNoInteractions();
+        }
+
+        @Test
+        @DisplayName("같은 subscription id로 같은 destination을 다시 구독하면 한 번만 셈")
+        void withDuplicateSubscription_retainsOnce() {
+            // when
+            listener.handleSubscribe(subscribeEvent("sub-0", WATCH));
+            listener.handleSubscribe(subscribeEvent("sub-0", WATCH));
+
+            // then
+            then(destinationSubscriber).should(times(1)).retain(WATCH);
+        }
+    }
+
+    @Nested
+    @DisplayName("handleUnsubscribe()")
+    class HandleUnsubscribeTest {
+
+        @Test
+        @DisplayName("구독했던 destination의 구독 수 감소")
+        void withKnownSubscription_releasesDestination() {
+            // given
+            listener.handleSubscribe(subscribeEvent("sub-0", WATCH));
+
+            // when
+            listener.handleUnsubscribe(unsubscribeEvent("sub-0"));
+            listener.handleUnsubscribe(unsubscribeEvent("sub-0"));
+
+            // then
+            then(destinationSubscriber).should(times(1)).release(WATCH);
+        }
+    }
+
+    @Nested
+    @DisplayName("handleDisconnect()")
+    class HandleDisconnectTest {
+
+        @Test
+        @DisplayName("세션의 남은 구독을 모두 해지")
+        void releasesAllSessionSubscriptions() {
+            // given
+            listener.handleSubscribe(subscribeEvent("sub-0", WATCH));
+            listener.handleSubscribe(subscribeEvent("sub-1", CHAT));
+
+            // when
+            listener.handleDisconnect(disconnectEvent());
+            listener.handleDisconnect(disconnectEvent());
+
+            // then
+            then(destinationSubscriber).should(times(1)).release(WATCH);
+            then(destinationSubscriber).should(times(1)).release(CHAT);
+        }
+    }
+
+    private SessionSubscribeEvent subscribeEvent(String subscriptionId, String destination) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.create(StompCommand.SUBSCRIBE);
+        accessor.setSessionId(SESSION_ID);
+        accessor.setSubscriptionId(subscriptionId);
+        accessor.setDestination(destination);
+
+        Message<byte[]> message = new GenericMessage<>(new byte[0], accessor.getMessageHeaders());
+        return new SessionSubscribeEvent(this, message);
+    }
+
+    private SessionUnsubscribeEvent unsubscribeEvent(String subscriptionId) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.create(StompCommand.UNSUBSCRIBE);
+        accessor.setSessionId(SESSION_ID);
+        accessor.setSubscriptionId(subscriptionId);
+
+        Message<byte[]> message = new GenericMessage<>(new byte[0], accessor.getMessageHeaders());
+        return new SessionUnsubscribeEvent(this, message);
+    }
+
+    @SuppressWarnings("DataFlowIssue")
+    private SessionDisconnectEvent disconnectEvent() {
+        StompHeaderAccessor accessor = StompHeaderAccessor.create(StompCommand.DISCONNECT);
+        accessor.setSessionId(SESSION_ID);
+
+        Message<byte[]> message = new GenericMessage<>(new byte[0], accessor.getMessageHeaders());
+        return new SessionDisconnectEvent(this, message, SESSION_ID, null);
+    }
+}
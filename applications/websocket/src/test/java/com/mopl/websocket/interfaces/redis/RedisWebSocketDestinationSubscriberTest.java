@@ -0,0 +1,181 @@
+package com.mopl.websocket.interfaces.redis;
+
+import com.mopl.redis.pubsub.WebSocketFrame;
+import com.mopl.redis.pubsub.WebSocketMessagePublisher;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.messaging.MessageHeaders;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.util.MimeTypeUtils;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("RedisWebSocketDestinationSubscriber 단위 테스트")
+class RedisWebSocketDestinationSubscriberTest {
+
+    private static final String DESTINATION = "/sub/contents/123/watch";
+    private static final ChannelTopic TOPIC = new ChannelTopic("websocket:messages:" + DESTINATION);
+
+    @Mock
+    private RedisMessageListenerContainer redisMessageListenerContainer;
+
+    @Mock
+    private SimpMessagingTemplate messagingTemplate;
+
+    @Mock
+    private WebSocketMessagePublisher webSocketMessagePublisher;
+
+    private RedisWebSocketDestinationSubscriber subscriber;
+
+    @BeforeEach
+    void setUp() {
+        subscriber = new RedisWebSocketDestinationSubscriber(
+            redisMessageListenerContainer,
+            messagingTemplate,
+            webSocketMessagePublisher
+        );
+    }
+
+    @Nested
+    @DisplayName("retain() / release()")
+    class RefCountTest {
+
+        @Test
+        @DisplayName("같은 destination을 여러 번 구독해도 Redis 채널은 첫 구독에서 한 번만 구독")
+        void multipleRetains_subscribeOnce() {
+            // when
+            subscriber.retain(DESTINATION);
+            subscriber.retain(DESTINATION);
+
+            // then
+            then(redisMessageListenerContainer).should(times(1)).addMessageListener(subscriber, TOPIC);
+            assertThat(subscriber.subscribedChannelCount()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("마지막 로컬 구독이 빠질 때만 Redis 채널 구독 해지")
+        void lastRelease_unsubscribes() {
+            // given
+            subscriber.retain(DESTINATION);
+            subscriber.retain(DESTINATION);
+
+            // when
+            subscriber.release(DESTINATION);
+
+            // then
+            then(redisMessageListenerContainer).should(never()).removeMessageListener(any(), any(ChannelTopic.class));
+
+            // when
+            subscriber.release(DESTINATION);
+
+            // then
+            then(redisMessageListenerContainer).should().removeMessageListener(subscriber, TOPIC);
+            assertThat(subscriber.subscribedChannelCount()).isZero();
+        }
+
+        @Test
+        @DisplayName("마지막 해지 후 다시 구독하면 Redis 채널을 다시 구독")
+        void retainAfterLastRelease_resubscribes() {
+            // given
+            subscriber.retain(DESTINATION);
+            subscriber.release(DESTINATION);
+
+            // when
+            subscriber.retain(DESTINATION);
+
+            // then
+            then(redisMessageListenerContainer).should(times(2)).addMessageListener(subscriber, TOPIC);
+            assertThat(subscriber.subscribedChannelCount()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("구독하지 않은 destination 해지는 무시")
+        void releaseWithoutRetain_isIgnored() {
+            // when
+            subscriber.release(DESTINATION);
+
+            // then
+            then(redisMessageListenerContainer).shouldHaveNoInteractions();
+        }
+    }
+
+    @Nested
+    @DisplayName("onMessage()")
+    class OnMessageTest {
+
+        @Test
+        @DisplayName("다른 노드가 보낸 frame은 payload를 파싱하지 않고 JSON 메시지로 WebSocket에 전달")
+        void fromOtherNode_forwardsEncodedPayload() {
+            // given
+            given(webSocketMessagePublisher.nodeId()).willReturn("node-a");
+            byte[] payload = "{\"type\":\"JOIN\"}".getBytes(StandardCharsets.UTF_8);
+            Message message = createRedisMessage(new WebSocketFrame(DESTINATION, "node-b", payload).encode());
+
+            // when
+            subscriber.onMessage(message, null);
+
+            // then
+            ArgumentCaptor<org.springframework.messaging.Message<byte[]>> messageCaptor = stompMessageCaptor();
+            then(messagingTemplate).should().send(eq(DESTINATION), messageCaptor.capture());
+            assertThat(messageCaptor.getValue().getPayload()).isEqualTo(payload);
+            assertThat(messageCaptor.getValue().getHeaders().get(MessageHeaders.CONTENT_TYPE)).isEqualTo(MimeTypeUtils.APPLICATION_JSON);
+        }
+
+        @Test
+        @DisplayName("이 노드가 보낸 frame은 이미 로컬로 전달했으므로 건너뜀")
+        void fromSelf_skips() {
+            // given
+            given(webSocketMessagePublisher.nodeId()).willReturn("node-a");
+            Message message = createRedisMessage(new WebSocketFrame(DESTINATION, "node-a", new byte[0]).encode());
+
+            // when
+            subscriber.onMessage(message, null);
+
+            // then
+            then(messagingTemplate).shouldHaveNoInteractions();
+        }
+
+        @Test
+        @DisplayName("frame이 아닌 메시지 수신 시 예외 처리하고 전달하지 않음")
+        void withInvalidFrame_doesNotForward() {
+            // given
+            Message message = createRedisMessage("{ invalid json }".getBytes(StandardCharsets.UTF_8));
+
+            // when
+            subscriber.onMessage(message, null);
+
+            // then
+            then(messagingTemplate).shouldHaveNoInteractions();
+        }
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static ArgumentCaptor<org.springframework.messaging.Message<byte[]>> stompMessageCaptor() {
+        return (ArgumentCaptor) ArgumentCaptor.forClass(org.springframework.messaging.Message.class);
+    }
+
+    private Message createRedisMessage(byte[] body) {
+        Message message = mock(Message.class);
+        given(message.getBody()).willReturn(body);
+        return message;
+    }
+}
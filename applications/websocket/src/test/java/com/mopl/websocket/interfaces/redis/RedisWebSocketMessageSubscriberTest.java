@@ -1,6 +1,7 @@
 package com.mopl.websocket.interfaces.redis;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mopl.redis.pubsub.WebSocketFrame;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -13,7 +14,9 @@ import org.springframework.data.redis.connection.Message;
 import org.springframework.data.redis.connection.MessageListener;
 import org.springframework.data.redis.listener.ChannelTopic;
 import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.messaging.MessageHeaders;
 import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.util.MimeTypeUtils;
 
 import java.nio.charset.StandardCharsets;
 
@@ -103,6 +106,26 @@ class RedisWebSocketMessageSubscriberTest {
             assertThat(capturedPayload).isNotNull();
         }
 
+        @Test
+        @DisplayName("frame 수신 시 payload를 파싱하지 않고 인코딩된 바이트를 JSON 메시지로 전달")
+        void withFrame_forwardsEncodedPayload() {
+            // given
+            String destination = "/sub/contents/123/watch";
+            byte[] payload = "{\"type\":\"USER_JOINED\"}".getBytes(StandardCharsets.UTF_8);
+            Message message = mock(Message.class);
+            when(message.getBody()).thenReturn(new WebSocketFrame(destination, null, payload).encode());
+
+            // when
+            subscriber.onMessage(message, null);
+
+            // then
+            ArgumentCaptor<org.springframework.messaging.Message<byte[]>> messageCaptor = stompMessageCaptor();
+            then(messagingTemplate).should().send(eq(destination), messageCaptor.capture());
+            assertThat(messageCaptor.getValue().getPayload()).isEqualTo(payload);
+            assertThat(messageCaptor.getValue().getHeaders().get(MessageHeaders.CONTENT_TYPE)).isEqualTo(MimeTypeUtils.APPLICATION_JSON);
+            then(messagingTemplate).should(never()).convertAndSend(any(String.class), any(Object.class));
+        }
+
         @Test
         @DisplayName("복잡한 payload 메시지 정상 처리")
         void withComplexPayload_forwardsCorrectly() {
@@ -200,6 +223,11 @@ class RedisWebSocketMessageSubscriberTest {
         }
     }
 
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static ArgumentCaptor<org.springframework.messaging.Message<byte[]>> stompMessageCaptor() {
+        return (ArgumentCaptor) ArgumentCaptor.forClass(org.springframework.messaging.Message.class);
+    }
+
     private Message createRedisMessage(String body) {
         Message message = mock(Message.class);
         when(message.getBody()).thenReturn(body.getBytes(StandardCharsets.UTF_8));
@@ -0,0 +1,51 @@
+package com.mopl.websocket.messaging;
+
+import com.mopl.redis.pubsub.WebSocketMessagePublisher;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.inOrder;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ClusterWebSocketBroadcaster 단위 테스트")
+class ClusterWebSocketBroadcasterTest {
+
+    @Mock
+    private WebSocketMessagePublisher webSocketMessagePublisher;
+
+    @Mock
+    private SimpMessagingTemplate messagingTemplate;
+
+    @InjectMocks
+    private ClusterWebSocketBroadcaster broadcaster;
+
+    @Test
+    @DisplayName("broadcast() 호출 시 payload를 한 번 인코딩해 로컬 구독자에게 먼저 전달하고 같은 바이트를 destination 채널로 발행")
+    void broadcast_encodesOnceSendsLocallyThenPublishes() {
+        // given
+        String destination = "/sub/contents/123/watch";
+        Map<String, Object> payload = Map.of("type", "JOIN");
+        byte[] encoded = "{\"type\":\"JOIN\"}".getBytes(StandardCharsets.UTF_8);
+        given(webSocketMessagePublisher.encodePayload(payload)).willReturn(encoded);
+
+        // when
+        broadcaster.broadcast(destination, payload);
+
+        // then
+        InOrder inOrder = inOrder(messagingTemplate, webSocketMessagePublisher);
+        inOrder.verify(messagingTemplate).send(eq(destination), argThat(message -> message.getPayload() == encoded));
+        inOrder.verify(webSocketMessagePublisher).publishToDestination(destination, encoded);
+    }
+}
@@ -0,0 +1,19 @@
+package com.mopl.domain.exception.watchingsession;
+
+import com.mopl.domain.exception.ErrorCode;
+
+import java.util.Map;
+import java.util.UUID;
+
+public class ChatRateLimitedException extends WatchingSessionException {
+
+    private static final ErrorCode ERROR_CODE = WatchingSessionErrorCode.CHAT_RATE_LIMITED;
+
+    private ChatRateLimitedException(Map<String, Object> details) {
+        super(ERROR_CODE, details);
+    }
+
+    public static ChatRateLimitedException withUserId(UUID userId) {
+        return new ChatRateLimitedException(Map.of("userId", userId));
+    }
+}
@@ -11,5 +11,9 @@ public interface NotificationQueryRepository {
 
     CursorResponse<NotificationModel> findAll(UUID receiverId, NotificationQueryRequest request);
 
-    List<NotificationModel> findByReceiverIdAndCreatedAtAfter(UUID receiverId, Instant createdAfter);
+    /**
+     * (createdAt, id) 오름차순 keyset으로 createdAfter 이후 알림을 최대 limit개 조회합니다.
+     * idAfter가 있으면 createdAt이 createdAfter와 같은 알림 중 idAfter보다 큰 것도 포함합니다.
+     */
+    List<NotificationModel> findByReceiverIdAndCreatedAtAfter(UUID receiverId, Instant createdAfter, UUID idAfter, int limit);
 }
@@ -0,0 +1,16 @@
+package com.mopl.domain.repository.watchingsession;
+
+import com.mopl.domain.model.watchingsession.WatchingSessionModel;
+
+/**
+ * 시청 방 참가 결과입니다. joined가 false면 이미 같은 방에 있던 세션에 연결만 더한 것입니다.
+ * 다른 방에서 옮겨 왔으면 left에 떠난 세션을, leftWatcherCount에 떠난 방의 남은 시청자 수를 담고, 아니면 left는 null입니다.
+ */
+public record WatchingSessionJoin(
+    WatchingSessionModel session,
+    long watcherCount,
+    boolean joined,
+    WatchingSessionModel left,
+    long leftWatcherCount
+) {
+}
@@ -0,0 +1,12 @@
+package com.mopl.domain.repository.watchingsession;
+
+import com.mopl.domain.model.watchingsession.WatchingSessionModel;
+
+/**
+ * 마지막 연결이 빠져 방을 떠난 세션과 떠난 뒤 방에 남은 시청자 수입니다.
+ */
+public record WatchingSessionLeave(
+    WatchingSessionModel session,
+    long watcherCount
+) {
+}
@@ -6,6 +6,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.function.Supplier;
 
 public interface WatchingSessionRepository {
 
@@ -15,7 +16,15 @@ public interface WatchingSessionRepository {
 
     Map<UUID, Long> countByContentIdIn(List<UUID> contentIds);
 
-    WatchingSessionModel save(WatchingSessionModel model);
-
-    void delete(WatchingSessionModel model);
+    /**
+     * 시청자를 contentId 방에 참가시킵니다. 다른 방에 있었으면 그 방을 떠나는 것까지 한 번에 처리합니다.
+     * 이미 같은 방에 있으면 연결 수만 늘리고, 새로 참가하거나 방을 옮길 때만 sessionFactory로 세션을 만듭니다.
+     * 세션을 만드는 경우에는 구현에 따라 저장소 왕복이 한 번 더 들 수 있습니다.
+     */
+    WatchingSessionJoin join(UUID watcherId, UUID contentId, Supplier<WatchingSessionModel> sessionFactory);
+
+    /**
+     * contentId 방에서 연결 하나를 뺍니다. 마지막 연결이 빠져 방을 떠났을 때만 결과를 돌려줍니다.
+     */
+    Optional<WatchingSessionLeave> leave(UUID watcherId, UUID contentId);
 }
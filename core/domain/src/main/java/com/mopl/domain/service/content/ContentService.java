@@ -24,7 +24,7 @@ public class ContentService {
         return contentQueryRepository.findAll(request);
     }
 
-    @Cacheable(cacheNames = CacheName.CONTENTS, key = "#contentId")
+    @Cacheable(cacheNames = CacheName.CONTENTS, key = "#contentId", sync = true)
     public ContentModel getById(UUID contentId) {
         return contentRepository.findById(contentId)
             .orElseThrow(() -> ContentNotFoundException.withId(contentId));
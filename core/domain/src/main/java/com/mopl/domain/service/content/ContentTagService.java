@@ -8,6 +8,8 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.Cacheable;
 
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -34,6 +36,16 @@ public class ContentTagService {
         return contentTagRepository.findTagsByContentIdIn(contentIds);
     }
 
+    /**
+     * 캐시 bulk 로더용으로, 태그가 없는 콘텐츠도 빈 목록으로 채워 반환합니다.
+     * 빈 목록도 캐시되므로 다음 조회에서 같은 콘텐츠를 다시 로드하지 않습니다.
+     */
+    public Map<UUID, List<TagModel>> loadTagsByContentIdIn(Set<UUID> contentIds) {
+        Map<UUID, List<TagModel>> tagsByContentId = new HashMap<>(getTagsByContentIdIn(List.copyOf(contentIds)));
+        contentIds.forEach(contentId -> tagsByContentId.putIfAbsent(contentId, new ArrayList<>()));
+        return tagsByContentId;
+    }
+
     @CacheEvict(cacheNames = CacheName.CONTENT_TAGS, key = "#contentId")
     public void applyTags(UUID contentId, List<String> tagNames) {
         if (tagNames == null || tagNames.isEmpty()) {
@@ -17,9 +17,12 @@ import org.springframework.cache.annotation.CachePut;
 import org.springframework.cache.annotation.Cacheable;
 import org.springframework.cache.annotation.Caching;
 
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
 
 @RequiredArgsConstructor
@@ -33,7 +36,7 @@ public class PlaylistService {
         return playlistQueryRepository.findAll(request);
     }
 
-    @Cacheable(cacheNames = CacheName.PLAYLISTS, key = "#playlistId")
+    @Cacheable(cacheNames = CacheName.PLAYLISTS, key = "#playlistId", sync = true)
     public PlaylistModel getById(UUID playlistId) {
         return playlistRepository.findById(playlistId)
             .orElseThrow(() -> PlaylistNotFoundException.withId(playlistId));
@@ -48,6 +51,16 @@ public class PlaylistService {
         return playlistContentRepository.findContentsByPlaylistIdIn(playlistIds);
     }
 
+    /**
+     * 캐시 bulk 로더용으로, 콘텐츠가 없는 플레이리스트도 빈 목록으로 채워 반환합니다.
+     * 빈 목록도 캐시되므로 다음 조회에서 같은 플레이리스트를 다시 로드하지 않습니다.
+     */
+    public Map<UUID, List<ContentModel>> loadContentsByPlaylistIdIn(Set<UUID> playlistIds) {
+        Map<UUID, List<ContentModel>> contentsByPlaylistId = new HashMap<>(getContentsByPlaylistIdIn(List.copyOf(playlistIds)));
+        playlistIds.forEach(playlistId -> contentsByPlaylistId.putIfAbsent(playlistId, new ArrayList<>()));
+        return contentsByPlaylistId;
+    }
+
     @CachePut(cacheNames = CacheName.PLAYLISTS, key = "#result.id")
     public PlaylistModel create(PlaylistModel playlistModel) {
         return playlistRepository.save(playlistModel);
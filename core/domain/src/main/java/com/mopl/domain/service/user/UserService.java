@@ -25,7 +25,7 @@ public class UserService {
         return userQueryRepository.findAll(request);
     }
 
-    @Cacheable(cacheNames = CacheName.USERS, key = "#userId")
+    @Cacheable(cacheNames = CacheName.USERS, key = "#userId", sync = true)
     public UserModel getById(UUID userId) {
         return userRepository.findById(userId)
             .orElseThrow(() -> UserNotFoundException.withId(userId));
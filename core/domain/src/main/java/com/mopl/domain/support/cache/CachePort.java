@@ -1,6 +1,17 @@
 package com.mopl.domain.support.cache;
 
+import java.util.Collection;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
 public interface CachePort {
 
     void put(String cacheName, Object key, Object value);
+
+    /**
+     * 캐시에 없는 키만 모아 bulkLoader를 한 번 호출하고 그 결과를 캐시에 채웁니다.
+     * bulkLoader가 반환하지 않은 키는 결과에 포함되지 않습니다.
+     */
+    <K, V> Map<K, V> getAll(String cacheName, Collection<K> keys, Function<Set<K>, Map<K, V>> bulkLoader);
 }
@@ -18,11 +18,13 @@ import java.util.Arrays;
 import java.util.Collection;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.then;
@@ -138,6 +140,29 @@ class ContentTagServiceTest {
         }
     }
 
+    @Nested
+    @DisplayName("loadTagsByContentIdIn()")
+    class LoadTagsByContentIdInTest {
+
+        @Test
+        @DisplayName("태그가 없는 콘텐츠는 빈 목록으로 채워 반환")
+        void withContentWithoutTags_fillsEmptyList() {
+            // given
+            UUID taggedId = UUID.randomUUID();
+            UUID untaggedId = UUID.randomUUID();
+            TagModel tag = TagModelFixture.create();
+
+            given(contentTagRepository.findTagsByContentIdIn(anyList())).willReturn(Map.of(taggedId, List.of(tag)));
+
+            // when
+            Map<UUID, List<TagModel>> result = contentTagService.loadTagsByContentIdIn(Set.of(taggedId, untaggedId));
+
+            // then
+            assertThat(result).containsEntry(taggedId, List.of(tag));
+            assertThat(result).containsEntry(untaggedId, List.of());
+        }
+    }
+
     @Nested
     @DisplayName("applyTags()")
     class ApplyTagsTest {
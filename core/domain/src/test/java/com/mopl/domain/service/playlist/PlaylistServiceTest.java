@@ -26,11 +26,13 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.then;
 import static org.mockito.Mockito.never;
@@ -207,6 +209,29 @@ class PlaylistServiceTest {
         }
     }
 
+    @Nested
+    @DisplayName("loadContentsByPlaylistIdIn()")
+    class LoadContentsByPlaylistIdInTest {
+
+        @Test
+        @DisplayName("콘텐츠가 없는 플레이리스트는 빈 목록으로 채워 반환")
+        void withPlaylistWithoutContents_fillsEmptyList() {
+            // given
+            UUID filledId = UUID.randomUUID();
+            UUID emptyId = UUID.randomUUID();
+            ContentModel content = ContentModelFixture.create();
+
+            given(playlistContentRepository.findContentsByPlaylistIdIn(anyList())).willReturn(Map.of(filledId, List.of(content)));
+
+            // when
+            Map<UUID, List<ContentModel>> result = playlistService.loadContentsByPlaylistIdIn(Set.of(filledId, emptyId));
+
+            // then
+            assertThat(result).containsEntry(filledId, List.of(content));
+            assertThat(result).containsEntry(emptyId, List.of());
+        }
+    }
+
     @Nested
     @DisplayName("create()")
     class CreateTest {
@@ -14,4 +14,5 @@ dependencies {
     implementation("org.springframework.boot:spring-boot-starter-validation")
     // metrics
     implementation("io.micrometer:micrometer-core")
+    implementation("org.springframework.boot:spring-boot-actuator")
 }
@@ -1,11 +1,18 @@
 package com.mopl.cache;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.mopl.cache.hotkey.HotKeyTracker;
 import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
 import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
 import io.micrometer.core.instrument.Timer;
-import org.springframework.stereotype.Component;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+import java.time.Duration;
+import java.util.function.Supplier;
 
-@Component
 public class CacheMetrics {
 
     private final MeterRegistry registry;
@@ -30,6 +37,31 @@ public class CacheMetrics {
             .increment();
     }
 
+    public void recordPinnedHit(String cacheName) {
+        Counter.builder("mopl.cache.hit")
+            .tag("cache", cacheName)
+            .tag("level", "pinned")
+            .register(registry)
+            .increment();
+    }
+
+    /**
+     * 존재하지 않음이 확인된 키(tombstone) 조회. 일반 히트율을 왜곡하지 않도록 mopl.cache.hit과 분리해 기록합니다.
+     */
+    public void recordNegativeHit(String cacheName) {
+        Counter.builder("mopl.cache.negative.hit")
+            .tag("cache", cacheName)
+            .register(registry)
+            .increment();
+    }
+
+    public void recordNegativePut(String cacheName) {
+        Counter.builder("mopl.cache.negative.put")
+            .tag("cache", cacheName)
+            .register(registry)
+            .increment();
+    }
+
     public void recordMiss(String cacheName) {
         Counter.builder("mopl.cache.miss")
             .tag("cache", cacheName)
@@ -51,6 +83,93 @@ public class CacheMetrics {
             .increment();
     }
 
+    public void recordCoalesced(String cacheName, String scope) {
+        Counter.builder("mopl.cache.load.coalesced")
+            .tag("cache", cacheName)
+            .tag("scope", scope)
+            .register(registry)
+            .increment();
+    }
+
+    /**
+     * refresh-ahead 결과(success/failure/rejected)와 재로드 트리거부터 L2 반영까지의 지연을 기록합니다.
+     */
+    public void recordRefresh(String cacheName, String result) {
+        Counter.builder("mopl.cache.refresh")
+            .tag("cache", cacheName)
+            .tag("result", result)
+            .register(registry)
+            .increment();
+    }
+
+    public void recordRefreshLag(String cacheName, Duration lag) {
+        Timer.builder("mopl.cache.refresh.lag")
+            .tag("cache", cacheName)
+            .register(registry)
+            .record(lag);
+    }
+
+    /**
+     * clear 진행 상황. 파이프라인 UNLINK 배치마다 삭제한 키 수를 누적하고, 완료 시 결과(success/failure/rejected)와 소요 시간을 기록합니다.
+     */
+    public void recordClearProgress(String cacheName, long unlinkedKeys) {
+        Counter.builder("mopl.cache.clear.keys")
+            .tag("cache", cacheName)
+            .register(registry)
+            .increment(unlinkedKeys);
+    }
+
+    public void recordClear(String cacheName, String result, Duration elapsed) {
+        Timer.builder("mopl.cache.clear.duration")
+            .tag("cache", cacheName)
+            .tag("result", result)
+            .register(registry)
+            .record(elapsed);
+    }
+
+    public void monitorClearsInProgress(Supplier<Number> inProgress) {
+        Gauge.builder("mopl.cache.clear.active", inProgress)
+            .register(registry);
+    }
+
+    /**
+     * 핫 키 고정 이벤트(pinned/valid/stale/cooled)를 기록합니다.
+     */
+    public void recordHotKey(String cacheName, String event) {
+        Counter.builder("mopl.cache.hotkey")
+            .tag("cache", cacheName)
+            .tag("event", event)
+            .register(registry)
+            .increment();
+    }
+
+    /**
+     * 고정된 핫 키 수와 순위별 추정 빈도를 gauge로 노출합니다. 키 자체는 태그 카디널리티를 늘리므로 actuator hotkeys 엔드포인트로 조회합니다.
+     */
+    public void monitorHotKeys(String cacheName, HotKeyTracker tracker, int topK) {
+        Gauge.builder("mopl.cache.hotkey.pinned", tracker, HotKeyTracker::pinnedCount)
+            .tag("cache", cacheName)
+            .register(registry);
+        for (int rank = 0; rank < topK; rank++) {
+            int index = rank;
+            Gauge.builder("mopl.cache.hotkey.frequency", tracker, t -> t.frequencyAt(index))
+                .tag("cache", cacheName)
+                .tag("rank", String.valueOf(rank + 1))
+                .register(registry);
+        }
+    }
+
+    public void recordInvalidation(String direction, int entries) {
+        Counter.builder("mopl.cache.invalidation")
+            .tag("direction", direction)
+            .register(registry)
+            .increment(entries);
+        DistributionSummary.builder("mopl.cache.invalidation.batch.size")
+            .tag("direction", direction)
+            .register(registry)
+            .record(entries);
+    }
+
     public void recordRedisError(String cacheName, String operation) {
         Counter.builder("mopl.cache.redis.error")
             .tag("cache", cacheName)
@@ -59,6 +178,13 @@ public class CacheMetrics {
             .increment();
     }
 
+    /**
+     * L1 Caffeine 통계(hit/miss/eviction/size/weight)를 cache.* 메트릭으로 노출합니다.
+     */
+    public void monitorL1(String cacheName, Cache<String, Object> cache) {
+        CaffeineCacheMetrics.monitor(registry, cache, cacheName, Tags.of("level", "l1"));
+    }
+
     public Timer.Sample startTimer() {
         return Timer.start(registry);
     }
@@ -1,27 +1,81 @@
 package com.mopl.cache;
 
 import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.mopl.cache.clear.RedisCacheClearer;
 import com.mopl.cache.config.CacheProperties;
+import com.mopl.cache.hotkey.HotKeyTracker;
+import com.mopl.cache.invalidation.CacheInvalidationBus;
+import com.mopl.cache.negative.Tombstone;
+import com.mopl.cache.refresh.RefreshAheadExecutor;
+import com.mopl.domain.exception.MoplException;
 import com.mopl.logging.context.LogContext;
 import io.micrometer.core.instrument.Timer;
 import org.springframework.cache.support.AbstractValueAdaptingCache;
-import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisOperations;
 import org.springframework.data.redis.core.RedisTemplate;
-import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
 import org.springframework.lang.NonNull;
 import org.springframework.lang.Nullable;
 
+import java.nio.charset.StandardCharsets;
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
 import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.function.Function;
 
 public class TwoLevelCache extends AbstractValueAdaptingCache {
 
+    private static final String LEASE_KEY_SEGMENT = "lease:";
+
+    private static final RedisScript<Long> RELEASE_LEASE_SCRIPT = new DefaultRedisScript<>(
+        "if redis.call('get', KEYS[1]) == ARGV[1] then return redis.call('del', KEYS[1]) else return 0 end",
+        Long.class
+    );
+
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> GET_WITH_VERSION_SCRIPT = new DefaultRedisScript<>(
+        "return {redis.call('get', KEYS[1]), redis.call('pexpiretime', KEYS[1])}",
+        List.class
+    );
+
+    private static final RedisScript<Long> GET_VERSION_SCRIPT = new DefaultRedisScript<>(
+        "return redis.call('pexpiretime', KEYS[1])",
+        Long.class
+    );
+
     private final String name;
     private final Cache<String, Object> l1Cache;
     private final RedisTemplate<String, Object> redisTemplate;
     private final CacheProperties properties;
     private final Duration ttl;
     private final CacheMetrics metrics;
+    private final CacheInvalidationBus invalidationBus;
+    private final RefreshAheadExecutor refreshExecutor;
+    private final RedisCacheClearer clearer;
+    private final HotKeyTracker hotKeys;
+    private final Duration negativeTtl;
+    private final Cache<String, Tombstone> negatives;
+    private final Duration refreshAheadThreshold;
+    private final Cache<String, Long> l2ExpiresAt;
+    private final ConcurrentMap<String, CompletableFuture<Object>> inFlightLoads = new ConcurrentHashMap<>();
 
     public TwoLevelCache(
         String name,
@@ -29,7 +83,10 @@ public class TwoLevelCache extends AbstractValueAdaptingCache {
         @Nullable RedisTemplate<String, Object> redisTemplate,
         CacheProperties properties,
         Duration ttl,
-        @Nullable CacheMetrics metrics
+        @Nullable CacheMetrics metrics,
+        @Nullable CacheInvalidationBus invalidationBus,
+        @Nullable RefreshAheadExecutor refreshExecutor,
+        @Nullable RedisCacheClearer clearer
     ) {
         super(true);
         this.name = name;
@@ -38,6 +95,57 @@ public class TwoLevelCache extends AbstractValueAdaptingCache {
         this.properties = properties;
         this.ttl = ttl;
         this.metrics = metrics;
+        this.invalidationBus = invalidationBus;
+        this.refreshExecutor = refreshExecutor;
+        this.clearer = resolveClearer(redisTemplate, clearer, properties, metrics);
+        this.hotKeys = properties.getHotKeys().enabled() ? new HotKeyTracker(properties.getHotKeys()) : null;
+        if (hotKeys != null && metrics != null) {
+            metrics.monitorHotKeys(name, hotKeys, properties.getHotKeys().topK());
+        }
+        this.negativeTtl = properties.getSpecFor(name).negativeTtl();
+        this.negatives = negativeTtl != null ? createNegativeCache(negativeTtl, properties.l1().maximumSize()) : null;
+        this.refreshAheadThreshold = resolveRefreshAheadThreshold(properties.getSpecFor(name).refreshAheadRatio(), ttl);
+        this.l2ExpiresAt = isRefreshAheadEnabled() ? createExpiresAtCache(ttl, properties.l1().maximumSize()) : null;
+    }
+
+    /**
+     * tombstone은 L1과 TTL이 다르므로 negativeTtl로 만료되는 별도 로컬 캐시에 둡니다.
+     */
+    private static Cache<String, Tombstone> createNegativeCache(Duration negativeTtl, long maximumSize) {
+        return Caffeine.newBuilder()
+            .expireAfterWrite(negativeTtl)
+            .maximumSize(maximumSize)
+            .build();
+    }
+
+    /**
+     * L1이나 고정 값으로 응답할 때도 refresh-ahead를 판단할 수 있도록 키별 L2 만료 시각(epoch ms)을 기억합니다.
+     * L2 TTL보다 오래 남지 않도록 같은 TTL로 만료됩니다.
+     */
+    private static Cache<String, Long> createExpiresAtCache(Duration ttl, long maximumSize) {
+        return Caffeine.newBuilder()
+            .expireAfterWrite(ttl)
+            .maximumSize(maximumSize)
+            .build();
+    }
+
+    /**
+     * 별도 clearer가 없으면 호출 스레드에서 바로 삭제하는 clearer를 사용합니다.
+     */
+    @Nullable
+    private static RedisCacheClearer resolveClearer(
+        @Nullable RedisTemplate<String, Object> redisTemplate,
+        @Nullable RedisCacheClearer clearer,
+        CacheProperties properties,
+        @Nullable CacheMetrics metrics
+    ) {
+        if (redisTemplate == null) {
+            return null;
+        }
+        if (clearer != null) {
+            return clearer;
+        }
+        return new RedisCacheClearer(redisTemplate, properties.getClear(), metrics, Runnable::run);
     }
 
     @Override
@@ -52,23 +160,77 @@ public class TwoLevelCache extends AbstractValueAdaptingCache {
         return l1Cache;
     }
 
+    @Nullable
+    public HotKeyTracker getHotKeys() {
+        return hotKeys;
+    }
+
+    /**
+     * tombstone은 일반 조회에서는 미스로 취급합니다. not-found 예외를 다시 던지는 것은 {@link #get(Object, Callable)}뿐입니다.
+     */
     @Override
     @Nullable
     protected Object lookup(@NonNull Object key) {
+        Object value = lookup(key, null);
+        return value instanceof Tombstone ? null : value;
+    }
+
+    /**
+     * @return 캐시된 값, 존재하지 않음이 확인된 키면 {@link Tombstone}, 없으면 null
+     */
+    @Nullable
+    private Object lookup(Object key, @Nullable Callable<?> refreshLoader) {
         String fullKey = generateKey(key);
+        boolean hot = hotKeys != null && hotKeys.recordAccess(fullKey);
+
+        HotKeyTracker.Pinned pinned = hotKeys != null ? getPinned(fullKey) : null;
+        if (pinned != null) {
+            LogContext.with("cache", name).and("key", key).debug("Pinned hit");
+            recordPinnedHit();
+            if (refreshLoader != null && isRefreshAheadEnabled()) {
+                refreshAheadIfDue(key, fullKey, pinned.version(), refreshLoader);
+            }
+            return pinned.value();
+        }
+
+        Tombstone tombstone = negatives != null ? negatives.getIfPresent(fullKey) : null;
+        if (tombstone != null) {
+            LogContext.with("cache", name).and("key", key).debug("Negative hit");
+            recordNegativeHit();
+            return tombstone;
+        }
 
         Object l1Value = l1Cache.getIfPresent(fullKey);
         if (l1Value != null) {
             LogContext.with("cache", name).and("key", key).debug("L1 hit");
             recordL1Hit();
+            if (refreshLoader != null && isRefreshAheadEnabled()) {
+                refreshAheadFromL1(key, fullKey, refreshLoader);
+            }
+            if (hot) {
+                pinHotKey(fullKey);
+            }
             return l1Value;
         }
 
-        Object l2Value = getFromRedis(fullKey);
+        Object l2Value = refreshLoader != null && isRefreshAheadEnabled()
+            ? getFromRedisWithRefreshAhead(key, fullKey, refreshLoader)
+            : getFromRedis(fullKey);
+        if (l2Value instanceof Tombstone l2Tombstone) {
+            LogContext.with("cache", name).and("key", key).debug("Negative hit");
+            recordNegativeHit();
+            if (negatives != null) {
+                negatives.put(fullKey, l2Tombstone);
+            }
+            return l2Tombstone;
+        }
         if (l2Value != null) {
             LogContext.with("cache", name).and("key", key).debug("L2 hit");
             recordL2Hit();
             l1Cache.put(fullKey, l2Value);
+            if (hot) {
+                pinHotKey(fullKey);
+            }
             return l2Value;
         }
 
@@ -80,21 +242,122 @@ public class TwoLevelCache extends AbstractValueAdaptingCache {
     @Nullable
     @SuppressWarnings("unchecked")
     public <T> T get(@NonNull Object key, @NonNull Callable<T> valueLoader) {
-        Object cached = lookup(key);
-        if (cached != null) {
+        String fullKey = generateKey(key);
+        Object cached = lookup(key, valueLoader);
+        if (cached instanceof Tombstone tombstone) {
+            MoplException notFound = rebuildOrDiscard(fullKey, tombstone);
+            if (notFound != null) {
+                throw new ValueRetrievalException(key, valueLoader, notFound);
+            }
+        } else if (cached != null) {
             return (T) cached;
         }
 
+        CompletableFuture<Object> flight = new CompletableFuture<>();
+        CompletableFuture<Object> inFlight = inFlightLoads.putIfAbsent(fullKey, flight);
+        if (inFlight != null) {
+            recordCoalesced("local");
+            LogContext.with("cache", name).and("key", key).debug("Joined in-flight load");
+            return (T) awaitInFlight(key, inFlight, valueLoader);
+        }
+
         try {
-            T loadedValue = valueLoader.call();
-            if (loadedValue != null) {
-                put(key, loadedValue);
-            }
+            Object loadedValue = loadExclusively(key, fullKey, valueLoader);
+            flight.complete(loadedValue);
             LogContext.with("cache", name).and("key", key).debug("Cache loaded");
-            return loadedValue;
+            return (T) loadedValue;
         } catch (Exception e) {
+            flight.completeExceptionally(e);
             throw new ValueRetrievalException(key, valueLoader, e);
+        } finally {
+            inFlightLoads.remove(fullKey, flight);
+        }
+    }
+
+    /**
+     * 여러 키를 한 번에 조회합니다. L1에서 찾지 못한 키는 L2에서 MGET 한 번으로 가져오고,
+     * 그래도 없는 키만 모아 bulkLoader를 한 번 호출합니다. 로드한 값은 파이프라인 한 번으로 L2에 저장합니다.
+     * bulkLoader가 반환하지 않은 키는 결과와 캐시 모두에 포함되지 않습니다.
+     * tombstone이 있는 키는 로드하지 않고 결과에서 제외합니다.
+     */
+    @SuppressWarnings("unchecked")
+    public <K, V> Map<K, V> getAll(Collection<K> keys, Function<? super Set<K>, ? extends Map<K, ? extends V>> bulkLoader) {
+        Map<K, V> result = new HashMap<>();
+        if (keys.isEmpty()) {
+            return result;
+        }
+
+        Map<K, String> fullKeys = new LinkedHashMap<>();
+        for (K key : keys) {
+            fullKeys.put(key, generateKey(key));
+        }
+
+        Map<String, Object> l1Values = l1Cache.getAllPresent(new ArrayList<>(fullKeys.values()));
+        List<K> l1Misses = new ArrayList<>();
+        fullKeys.forEach((key, fullKey) -> {
+            Object value = l1Values.get(fullKey);
+            if (value instanceof Tombstone) {
+                l1Cache.invalidate(fullKey);
+                recordNegativeHit();
+            } else if (value != null) {
+                recordL1Hit();
+                result.put(key, (V) value);
+            } else if (negatives != null && negatives.getIfPresent(fullKey) != null) {
+                recordNegativeHit();
+            } else {
+                l1Misses.add(key);
+            }
+        });
+        if (l1Misses.isEmpty()) {
+            return result;
+        }
+
+        List<String> l2Keys = l1Misses.stream().map(fullKeys::get).toList();
+        List<Object> l2Values = multiGetFromRedis(l2Keys);
+        Set<K> missing = new LinkedHashSet<>();
+        for (int i = 0; i < l1Misses.size(); i++) {
+            K key = l1Misses.get(i);
+            Object value = l2Values.get(i);
+            if (value instanceof Tombstone) {
+                recordNegativeHit();
+            } else if (value != null) {
+                recordL2Hit();
+                l1Cache.put(l2Keys.get(i), value);
+                result.put(key, (V) value);
+            } else {
+                recordMiss();
+                missing.add(key);
+            }
+        }
+        if (missing.isEmpty()) {
+            return result;
+        }
+
+        Map<String, Object> loadedEntries = new LinkedHashMap<>();
+        bulkLoader.apply(missing).forEach((key, value) -> {
+            if (value != null && missing.contains(key)) {
+                result.put(key, value);
+                loadedEntries.put(fullKeys.get(key), value);
+            }
+        });
+        if (!loadedEntries.isEmpty()) {
+            putAllToRedis(loadedEntries);
+            l1Cache.putAll(loadedEntries);
+            loadedEntries.keySet().forEach(fullKey -> recordL2ExpiresAt(fullKey, System.currentTimeMillis() + ttl.toMillis()));
+            loadedEntries.keySet().forEach(this::unpin);
+            for (int i = 0; i < loadedEntries.size(); i++) {
+                recordPut();
+            }
+            missing.stream().filter(result::containsKey).forEach(this::publishEvict);
         }
+
+        LogContext.with("cache", name)
+            .and("requested", fullKeys.size())
+            .and("l1Hits", fullKeys.size() - l1Misses.size())
+            .and("l2Hits", l1Misses.size() - missing.size())
+            .and("loaded", loadedEntries.size())
+            .debug("Cache getAll");
+        return result;
     }
 
     @Override
@@ -105,8 +368,16 @@ public class TwoLevelCache extends AbstractValueAdaptingCache {
         }
 
         String fullKey = generateKey(key);
-        boolean redisSuccess = putToRedis(fullKey, value);
+        boolean redisSuccess = putToRedis(fullKey, value, ttl);
         l1Cache.put(fullKey, value);
+        if (redisSuccess) {
+            recordL2ExpiresAt(fullKey, System.currentTimeMillis() + ttl.toMillis());
+        } else {
+            invalidateExpiresAt(fullKey);
+        }
+        invalidateNegative(fullKey);
+        unpin(fullKey);
+        publishEvict(key);
         recordPut();
 
         LogContext.with("cache", name).and("key", key).and("ttl", ttl).and("redis", redisSuccess).debug("Cache put");
@@ -117,29 +388,461 @@ public class TwoLevelCache extends AbstractValueAdaptingCache {
         String fullKey = generateKey(key);
         deleteFromRedis(fullKey);
         l1Cache.invalidate(fullKey);
+        invalidateExpiresAt(fullKey);
+        invalidateNegative(fullKey);
+        unpin(fullKey);
+        publishEvict(key);
         recordEvict();
 
         LogContext.with("cache", name).and("key", key).debug("Cache evict");
     }
 
+    /**
+     * L1은 즉시 비우고, L2는 {@link RedisCacheClearer}가 백그라운드에서 삭제합니다.
+     * L2 삭제가 끝나기 전에 다른 노드가 남은 L2 값을 다시 L1에 올릴 수 있으므로 완료 후 한 번 더 무효화를 발행합니다.
+     */
     @Override
     public void clear() {
-        String prefix = properties.keyPrefix() + name + "::";
+        l1Cache.invalidateAll();
+        invalidateAllExpiresAt();
+        invalidateAllNegatives();
+        unpinAll();
+        publishClear();
+
+        if (clearer == null) {
+            LogContext.with("cache", name).debug("Cache clear");
+            return;
+        }
+        clearer.clear(name, keyPrefix()).whenComplete((unlinked, e) -> {
+            if (e != null) {
+                recordRedisError("clear");
+                LogContext.with("cache", name).warn("Redis clear failed: " + e.getMessage());
+                return;
+            }
+            l1Cache.invalidateAll();
+            invalidateAllExpiresAt();
+            invalidateAllNegatives();
+            unpinAll();
+            publishClear();
+            LogContext.with("cache", name).and("unlinked", unlinked).debug("Cache clear");
+        });
+    }
 
-        l1Cache.asMap().keySet().stream()
-            .filter(k -> k.startsWith(prefix))
-            .forEach(l1Cache::invalidate);
+    /**
+     * {@link #clear()}와 달리 L2 삭제가 끝난 뒤에 반환합니다.
+     */
+    @Override
+    public boolean invalidate() {
+        l1Cache.invalidateAll();
+        invalidateAllExpiresAt();
+        invalidateAllNegatives();
+        unpinAll();
+
+        boolean hadEntries = false;
+        if (clearer != null) {
+            try {
+                hadEntries = clearer.clearNow(name, keyPrefix()) > 0;
+            } catch (Exception e) {
+                recordRedisError("clear");
+                LogContext.with("cache", name).warn("Redis clear failed: " + e.getMessage());
+            }
+        }
+        publishClear();
 
-        clearRedis(prefix);
+        LogContext.with("cache", name).and("hadEntries", hadEntries).debug("Cache invalidate");
+        return hadEntries;
+    }
 
-        LogContext.with("cache", name).debug("Cache clear");
+    /**
+     * 다른 노드에서 값이 바뀌었을 때 로컬 L1만 무효화합니다. L2와 무효화 채널에는 전파하지 않습니다.
+     */
+    public void evictLocal(String key) {
+        l1Cache.invalidate(keyPrefix() + key);
+        invalidateExpiresAt(keyPrefix() + key);
+        invalidateNegative(keyPrefix() + key);
+        unpin(keyPrefix() + key);
+    }
+
+    /**
+     * L1은 캐시 이름마다 따로 있으므로 키를 훑지 않고 전부 비웁니다.
+     */
+    public void clearLocal() {
+        l1Cache.invalidateAll();
+        invalidateAllExpiresAt();
+        invalidateAllNegatives();
+        unpinAll();
+    }
+
+    private String keyPrefix() {
+        return properties.keyPrefix() + name + "::";
     }
 
     private String generateKey(Object key) {
         if (key == null) {
             throw new IllegalArgumentException("Cache key must not be null");
         }
-        return properties.keyPrefix() + name + "::" + key;
+        return keyPrefix() + key;
+    }
+
+    private void publishClear() {
+        if (invalidationBus != null) {
+            invalidationBus.publishClear(name);
+        }
+    }
+
+    private void publishEvict(Object key) {
+        if (invalidationBus != null) {
+            invalidationBus.publishEvict(name, key);
+        }
+    }
+
+    /**
+     * 고정된 항목을 반환합니다. 재검증 시각이 지났으면 L2 버전을 확인하고, 바뀌었으면 고정을 풀고 null을 반환합니다.
+     */
+    @Nullable
+    private HotKeyTracker.Pinned getPinned(String fullKey) {
+        HotKeyTracker.Pinned pinned = hotKeys.getPinned(fullKey);
+        if (pinned == null) {
+            return null;
+        }
+        if (hotKeys.tryStartRevalidation(pinned) && !revalidatePinned(fullKey, pinned)) {
+            return null;
+        }
+        return pinned;
+    }
+
+    private boolean revalidatePinned(String fullKey, HotKeyTracker.Pinned pinned) {
+        if (!hotKeys.isHot(fullKey)) {
+            hotKeys.unpin(fullKey);
+            recordHotKey("cooled");
+            return false;
+        }
+        Timer.Sample sample = startTimer();
+        try {
+            Long version = redisTemplate.execute(GET_VERSION_SCRIPT, List.of(fullKey));
+            recordRedisLatency(sample, "revalidate");
+            if (version != null && version == pinned.version()) {
+                recordHotKey("valid");
+                return true;
+            }
+            hotKeys.unpin(fullKey);
+            l1Cache.invalidate(fullKey);
+            recordHotKey("stale");
+            return false;
+        } catch (Exception e) {
+            recordRedisLatency(sample, "revalidate");
+            recordRedisError("revalidate");
+            LogContext.with("key", fullKey).warn("Redis revalidate failed: " + e.getMessage());
+            return true;
+        }
+    }
+
+    /**
+     * 값과 L2 만료 시각을 Lua로 함께 읽어 고정합니다. 만료 시각은 SET마다 새로 정해지므로 값의 버전 역할을 합니다.
+     */
+    private void pinHotKey(String fullKey) {
+        if (redisTemplate == null || !hotKeys.tryStartPin(fullKey)) {
+            return;
+        }
+        Timer.Sample sample = startTimer();
+        try {
+            List<?> result = redisTemplate.execute(GET_WITH_VERSION_SCRIPT, List.of(fullKey));
+            recordRedisLatency(sample, "pin");
+            if (result != null && result.size() == 2 && result.get(0) != null && !(result.get(0) instanceof Tombstone)
+                && result.get(1) instanceof Long version && version > 0) {
+                hotKeys.pin(fullKey, result.get(0), version);
+                recordHotKey("pinned");
+                LogContext.with("cache", name).and("key", fullKey).debug("Hot key pinned");
+                return;
+            }
+        } catch (Exception e) {
+            recordRedisLatency(sample, "pin");
+            recordRedisError("pin");
+            LogContext.with("key", fullKey).warn("Redis pin failed: " + e.getMessage());
+        }
+        hotKeys.cancelPin(fullKey);
+    }
+
+    /**
+     * 예외를 다시 만들 수 없는 tombstone(배포로 예외 타입이 바뀐 경우 등)은 로컬에서 버리고 일반 미스로 로드합니다.
+     * 로드 결과가 L2의 tombstone을 덮어씁니다.
+     */
+    @Nullable
+    private MoplException rebuildOrDiscard(String fullKey, Tombstone tombstone) {
+        MoplException notFound = tombstone.toException();
+        if (notFound == null) {
+            invalidateNegative(fullKey);
+            LogContext.with("cache", name).and("key", fullKey).and("errorCode", tombstone.getErrorCode()).warn("Discarded unreadable tombstone");
+        }
+        return notFound;
+    }
+
+    /**
+     * 로더가 not-found 예외를 던진 키에 negativeTtl 동안 유지되는 tombstone을 L2와 로컬에 기록합니다.
+     * 같은 키에 값이 put되면 L2 값은 덮어써지고 로컬 tombstone은 put과 무효화 메시지로 지워집니다.
+     */
+    private void putTombstone(Object key, String fullKey, MoplException notFound) {
+        Tombstone tombstone = Tombstone.of(notFound);
+        putToRedis(fullKey, tombstone, negativeTtl);
+        negatives.put(fullKey, tombstone);
+        unpin(fullKey);
+        recordNegativePut();
+
+        LogContext.with("cache", name).and("key", key).and("ttl", negativeTtl).debug("Tombstone put");
+    }
+
+    private void invalidateNegative(String fullKey) {
+        if (negatives != null) {
+            negatives.invalidate(fullKey);
+        }
+    }
+
+    private void invalidateAllNegatives() {
+        if (negatives != null) {
+            negatives.invalidateAll();
+        }
+    }
+
+    private void unpin(String fullKey) {
+        if (hotKeys != null) {
+            hotKeys.unpin(fullKey);
+        }
+    }
+
+    private void unpinAll() {
+        if (hotKeys != null) {
+            hotKeys.unpinAll();
+        }
+    }
+
+    private String generateLeaseKey(Object key) {
+        return properties.keyPrefix() + LEASE_KEY_SEGMENT + name + "::" + key;
+    }
+
+    private Object awaitInFlight(Object key, CompletableFuture<Object> inFlight, Callable<?> valueLoader) {
+        try {
+            return inFlight.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ValueRetrievalException(key, valueLoader, e);
+        } catch (ExecutionException e) {
+            throw new ValueRetrievalException(key, valueLoader, e.getCause());
+        }
+    }
+
+    /**
+     * 노드 간 single-flight: lease를 얻은 노드만 valueLoader를 호출하고,
+     * 나머지 노드는 lease가 풀리거나 L2에 값이 채워질 때까지 대기합니다.
+     * Redis 장애나 대기 시간 초과 시에는 직접 로드합니다.
+     */
+    @Nullable
+    private Object loadExclusively(Object key, String fullKey, Callable<?> valueLoader) throws Exception {
+        String leaseKey = generateLeaseKey(key);
+        String leaseToken = acquireLease(leaseKey);
+
+        if (leaseToken == null) {
+            Object loadedByPeer = awaitPeerLoad(fullKey, leaseKey);
+            if (loadedByPeer instanceof Tombstone tombstone) {
+                recordCoalesced("remote");
+                MoplException notFound = rebuildOrDiscard(fullKey, tombstone);
+                if (notFound != null) {
+                    if (negatives != null) {
+                        negatives.put(fullKey, tombstone);
+                    }
+                    throw notFound;
+                }
+            } else if (loadedByPeer != null) {
+                recordCoalesced("remote");
+                l1Cache.put(fullKey, loadedByPeer);
+                return loadedByPeer;
+            }
+        }
+
+        try {
+            Object loadedValue = valueLoader.call();
+            if (loadedValue != null) {
+                put(key, loadedValue);
+            }
+            return loadedValue;
+        } catch (Exception e) {
+            MoplException notFound = negatives != null ? Tombstone.findNotFound(e) : null;
+            if (notFound != null) {
+                putTombstone(key, fullKey, notFound);
+            }
+            throw e;
+        } finally {
+            if (leaseToken != null) {
+                releaseLease(leaseKey, leaseToken);
+            }
+        }
+    }
+
+    @Nullable
+    private String acquireLease(String leaseKey) {
+        CacheProperties.SingleFlightConfig config = properties.getSingleFlight();
+        if (redisTemplate == null || !config.distributed()) {
+            return null;
+        }
+        String token = UUID.randomUUID().toString();
+        try {
+            Boolean acquired = redisTemplate.opsForValue().setIfAbsent(leaseKey, token, config.leaseTtl());
+            return Boolean.TRUE.equals(acquired) ? token : null;
+        } catch (Exception e) {
+            recordRedisError("lease");
+            LogContext.with("key", leaseKey).warn("Redis lease acquire failed: " + e.getMessage());
+            return null;
+        }
+    }
+
+    private void releaseLease(String leaseKey, String token) {
+        try {
+            redisTemplate.execute(RELEASE_LEASE_SCRIPT, List.of(leaseKey), token);
+        } catch (Exception e) {
+            recordRedisError("lease");
+            LogContext.with("key", leaseKey).warn("Redis lease release failed: " + e.getMessage());
+        }
+    }
+
+    @Nullable
+    private Object awaitPeerLoad(String fullKey, String leaseKey) {
+        CacheProperties.SingleFlightConfig config = properties.getSingleFlight();
+        if (redisTemplate == null || !config.distributed()) {
+            return null;
+        }
+        long deadline = System.nanoTime() + config.waitTimeout().toNanos();
+        try {
+            while (System.nanoTime() < deadline) {
+                Thread.sleep(config.pollInterval().toMillis());
+
+                Object value = getFromRedis(fullKey);
+                if (value != null) {
+                    return value;
+                }
+                if (!Boolean.TRUE.equals(redisTemplate.hasKey(leaseKey))) {
+                    return null;
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (Exception e) {
+            recordRedisError("lease");
+            LogContext.with("key", leaseKey).warn("Redis lease wait failed: " + e.getMessage());
+        }
+        return null;
+    }
+
+    @Nullable
+    private static Duration resolveRefreshAheadThreshold(@Nullable Double ratio, Duration ttl) {
+        if (ratio == null || ratio <= 0 || ratio >= 1) {
+            return null;
+        }
+        return Duration.ofMillis((long) (ttl.toMillis() * (1 - ratio)));
+    }
+
+    private boolean isRefreshAheadEnabled() {
+        return redisTemplate != null && refreshExecutor != null && refreshAheadThreshold != null;
+    }
+
+    /**
+     * stale-while-revalidate: L2 값과 남은 TTL을 한 번의 파이프라인으로 읽고,
+     * 남은 TTL이 임계값 이하면 현재 값을 그대로 반환하면서 백그라운드에서 다시 로드합니다.
+     */
+    @Nullable
+    private Object getFromRedisWithRefreshAhead(Object key, String fullKey, Callable<?> valueLoader) {
+        Timer.Sample sample = startTimer();
+        try {
+            byte[] rawKey = fullKey.getBytes(StandardCharsets.UTF_8);
+            List<Object> results = redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                connection.stringCommands().get(rawKey);
+                connection.keyCommands().pTtl(rawKey);
+                return null;
+            });
+            recordRedisLatency(sample, "get");
+
+            Object value = results.get(0);
+            if (value != null && !(value instanceof Tombstone) && results.get(1) instanceof Long remainingMillis
+                && remainingMillis >= 0) {
+                long expiresAt = System.currentTimeMillis() + remainingMillis;
+                recordL2ExpiresAt(fullKey, expiresAt);
+                refreshAheadIfDue(key, fullKey, expiresAt, valueLoader);
+            }
+            return value;
+        } catch (Exception e) {
+            recordRedisLatency(sample, "get");
+            recordRedisError("get");
+            LogContext.with("key", fullKey).warn("Redis get failed: " + e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * L1 히트에서는 기억해 둔 L2 만료 시각으로 판단하고, 모르는 키만 PEXPIRETIME을 한 번 조회합니다.
+     * L1이 refresh-after-write로 계속 살아 있어도 L2가 만료되기 전에 다시 로드됩니다.
+     */
+    private void refreshAheadFromL1(Object key, String fullKey, Callable<?> valueLoader) {
+        Long expiresAt = l2ExpiresAt.get(fullKey, this::fetchL2ExpiresAt);
+        if (expiresAt != null) {
+            refreshAheadIfDue(key, fullKey, expiresAt, valueLoader);
+        }
+    }
+
+    @Nullable
+    private Long fetchL2ExpiresAt(String fullKey) {
+        Timer.Sample sample = startTimer();
+        try {
+            Long expiresAt = redisTemplate.execute(GET_VERSION_SCRIPT, List.of(fullKey));
+            recordRedisLatency(sample, "expiretime");
+            return expiresAt != null && expiresAt > 0 ? expiresAt : null;
+        } catch (Exception e) {
+            recordRedisLatency(sample, "expiretime");
+            recordRedisError("expiretime");
+            LogContext.with("key", fullKey).warn("Redis expiretime failed: " + e.getMessage());
+            return null;
+        }
+    }
+
+    private void refreshAheadIfDue(Object key, String fullKey, long expiresAtMillis, Callable<?> valueLoader) {
+        if (expiresAtMillis - System.currentTimeMillis() <= refreshAheadThreshold.toMillis()) {
+            refreshAhead(key, fullKey, valueLoader);
+        }
+    }
+
+    private void recordL2ExpiresAt(String fullKey, long expiresAtMillis) {
+        if (l2ExpiresAt != null) {
+            l2ExpiresAt.put(fullKey, expiresAtMillis);
+        }
+    }
+
+    private void invalidateExpiresAt(String fullKey) {
+        if (l2ExpiresAt != null) {
+            l2ExpiresAt.invalidate(fullKey);
+        }
+    }
+
+    private void invalidateAllExpiresAt() {
+        if (l2ExpiresAt != null) {
+            l2ExpiresAt.invalidateAll();
+        }
+    }
+
+    private void refreshAhead(Object key, String fullKey, Callable<?> valueLoader) {
+        long triggeredAt = System.nanoTime();
+        boolean submitted = refreshExecutor.submit(fullKey, () -> {
+            try {
+                Object refreshedValue = valueLoader.call();
+                if (refreshedValue != null) {
+                    put(key, refreshedValue);
+                }
+                recordRefresh("success", triggeredAt);
+                LogContext.with("cache", name).and("key", key).debug("Cache refreshed ahead");
+            } catch (Exception e) {
+                recordRefresh("failure", triggeredAt);
+                LogContext.with("cache", name).and("key", key).warn("Cache refresh-ahead failed: " + e.getMessage());
+            }
+        });
+        if (!submitted && metrics != null) {
+            metrics.recordRefresh(name, "rejected");
+        }
     }
 
     @Nullable
@@ -160,7 +863,47 @@ public class TwoLevelCache extends AbstractValueAdaptingCache {
         }
     }
 
-    private boolean putToRedis(String key, Object value) {
+    private List<Object> multiGetFromRedis(List<String> keys) {
+        if (redisTemplate == null) {
+            return Collections.nCopies(keys.size(), null);
+        }
+        Timer.Sample sample = startTimer();
+        try {
+            List<Object> values = redisTemplate.opsForValue().multiGet(keys);
+            recordRedisLatency(sample, "mget");
+            return values != null && values.size() == keys.size() ? values : Collections.nCopies(keys.size(), null);
+        } catch (Exception e) {
+            recordRedisLatency(sample, "mget");
+            recordRedisError("mget");
+            LogContext.with("cache", name).and("keys", keys.size()).warn("Redis mget failed: " + e.getMessage());
+            return Collections.nCopies(keys.size(), null);
+        }
+    }
+
+    private void putAllToRedis(Map<String, Object> entries) {
+        if (redisTemplate == null) {
+            return;
+        }
+        Timer.Sample sample = startTimer();
+        try {
+            redisTemplate.executePipelined(new SessionCallback<Object>() {
+                @Override
+                @SuppressWarnings("unchecked")
+                public <RK, RV> Object execute(@NonNull RedisOperations<RK, RV> operations) {
+                    ValueOperations<String, Object> valueOperations = (ValueOperations<String, Object>) operations.opsForValue();
+                    entries.forEach((fullKey, value) -> valueOperations.set(fullKey, value, ttl));
+                    return null;
+                }
+            });
+            recordRedisLatency(sample, "mset");
+        } catch (Exception e) {
+            recordRedisLatency(sample, "mset");
+            recordRedisError("mset");
+            LogContext.with("cache", name).and("keys", entries.size()).error("Redis bulk put failed", e);
+        }
+    }
+
+    private boolean putToRedis(String key, Object value, Duration ttl) {
         if (redisTemplate == null) {
             return false;
         }
@@ -192,29 +935,21 @@ public class TwoLevelCache extends AbstractValueAdaptingCache {
         }
     }
 
-    private void clearRedis(String prefix) {
-        if (redisTemplate == null) {
-            return;
+    private void recordL1Hit() {
+        if (metrics != null) {
+            metrics.recordL1Hit(name);
         }
-        try {
-            ScanOptions scanOptions = ScanOptions.scanOptions()
-                .match(prefix + "*")
-                .count(100)
-                .build();
-
-            try (Cursor<String> cursor = redisTemplate.scan(scanOptions)) {
-                while (cursor.hasNext()) {
-                    redisTemplate.delete(cursor.next());
-                }
-            }
-        } catch (Exception e) {
-            LogContext.with("prefix", prefix).warn("Redis clear failed: " + e.getMessage());
+    }
+
+    private void recordPinnedHit() {
+        if (metrics != null) {
+            metrics.recordPinnedHit(name);
         }
     }
 
-    private void recordL1Hit() {
+    private void recordHotKey(String event) {
         if (metrics != null) {
-            metrics.recordL1Hit(name);
+            metrics.recordHotKey(name, event);
         }
     }
 
@@ -224,6 +959,18 @@ public class TwoLevelCache extends AbstractValueAdaptingCache {
         }
     }
 
+    private void recordNegativeHit() {
+        if (metrics != null) {
+            metrics.recordNegativeHit(name);
+        }
+    }
+
+    private void recordNegativePut() {
+        if (metrics != null) {
+            metrics.recordNegativePut(name);
+        }
+    }
+
     private void recordMiss() {
         if (metrics != null) {
             metrics.recordMiss(name);
@@ -242,6 +989,19 @@ public class TwoLevelCache extends AbstractValueAdaptingCache {
         }
     }
 
+    private void recordCoalesced(String scope) {
+        if (metrics != null) {
+            metrics.recordCoalesced(name, scope);
+        }
+    }
+
+    private void recordRefresh(String result, long triggeredAt) {
+        if (metrics != null) {
+            metrics.recordRefresh(name, result);
+            metrics.recordRefreshLag(name, Duration.ofNanos(System.nanoTime() - triggeredAt));
+        }
+    }
+
     private void recordRedisError(String operation) {
         if (metrics != null) {
             metrics.recordRedisError(name, operation);
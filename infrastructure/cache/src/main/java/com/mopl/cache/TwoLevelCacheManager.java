@@ -1,7 +1,10 @@
 package com.mopl.cache;
 
-import com.github.benmanes.caffeine.cache.Cache;
+import com.mopl.cache.clear.RedisCacheClearer;
 import com.mopl.cache.config.CacheProperties;
+import com.mopl.cache.invalidation.CacheInvalidationBus;
+import com.mopl.cache.l1.L1CacheFactory;
+import com.mopl.cache.refresh.RefreshAheadExecutor;
 import com.mopl.domain.support.cache.CacheName;
 import com.mopl.logging.context.LogContext;
 import org.springframework.cache.CacheManager;
@@ -12,32 +15,50 @@ import org.springframework.lang.Nullable;
 import java.util.Collection;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
 
 public class TwoLevelCacheManager implements CacheManager {
 
-    private final Cache<String, Object> l1Cache;
+    private final L1CacheFactory l1CacheFactory;
     private final RedisTemplate<String, Object> redisTemplate;
     private final CacheProperties properties;
     private final CacheMetrics metrics;
+    private final CacheInvalidationBus invalidationBus;
+    private final RefreshAheadExecutor refreshExecutor;
+    private final Function<String, RedisTemplate<String, Object>> redisTemplateResolver;
+    private final RedisCacheClearer clearer;
     private final Map<String, TwoLevelCache> caches = new ConcurrentHashMap<>();
 
     public TwoLevelCacheManager(
-        Cache<String, Object> l1Cache,
+        L1CacheFactory l1CacheFactory,
         @Nullable RedisTemplate<String, Object> redisTemplate,
         CacheProperties properties,
-        @Nullable CacheMetrics metrics
+        @Nullable CacheMetrics metrics,
+        @Nullable CacheInvalidationBus invalidationBus,
+        @Nullable RefreshAheadExecutor refreshExecutor,
+        @Nullable Function<String, RedisTemplate<String, Object>> redisTemplateResolver,
+        @Nullable RedisCacheClearer clearer
     ) {
-        this.l1Cache = l1Cache;
+        this.l1CacheFactory = l1CacheFactory;
         this.redisTemplate = redisTemplate;
         this.properties = properties;
         this.metrics = metrics;
+        this.invalidationBus = invalidationBus;
+        this.refreshExecutor = refreshExecutor;
+        this.redisTemplateResolver = redisTemplateResolver;
+        this.clearer = clearer;
 
         for (String cacheName : CacheName.all()) {
             caches.put(cacheName, createCache(cacheName));
         }
 
+        if (invalidationBus != null) {
+            invalidationBus.register(this::invalidateLocal);
+        }
+
         LogContext.with("caches", caches.keySet())
             .and("redisEnabled", redisTemplate != null)
+            .and("invalidationEnabled", invalidationBus != null)
             .info("TwoLevelCacheManager initialized");
     }
 
@@ -53,14 +74,37 @@ public class TwoLevelCacheManager implements CacheManager {
         return caches.keySet();
     }
 
+    void invalidateLocal(String cacheName, @Nullable String key) {
+        TwoLevelCache cache = caches.get(cacheName);
+        if (cache == null) {
+            return;
+        }
+        if (key == null) {
+            cache.clearLocal();
+        } else {
+            cache.evictLocal(key);
+        }
+    }
+
+    @Nullable
+    private RedisTemplate<String, Object> resolveRedisTemplate(String cacheName) {
+        if (redisTemplate == null || redisTemplateResolver == null) {
+            return redisTemplate;
+        }
+        return redisTemplateResolver.apply(cacheName);
+    }
+
     private TwoLevelCache createCache(String name) {
         return new TwoLevelCache(
             name,
-            l1Cache,
-            redisTemplate,
+            l1CacheFactory.create(name),
+            resolveRedisTemplate(name),
             properties,
             properties.getTtlFor(name),
-            metrics
+            metrics,
+            invalidationBus,
+            refreshExecutor,
+            clearer
         );
     }
 }
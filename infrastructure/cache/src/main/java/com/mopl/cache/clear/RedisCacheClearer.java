@@ -0,0 +1,166 @@
+package com.mopl.cache.clear;
+
+import com.mopl.cache.CacheMetrics;
+import com.mopl.cache.config.CacheProperties.ClearConfig;
+import com.mopl.logging.context.LogContext;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.lang.Nullable;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 캐시 이름 prefix에 해당하는 L2 키를 SCAN하고 batchSize 단위의 파이프라인 UNLINK로 삭제합니다.
+ *
+ * <p>UNLINK는 메모리 해제를 Redis 백그라운드 스레드에 넘기므로 큰 값이 많아도 Redis를 오래 막지 않습니다.
+ * {@link #clear}는 가상 스레드에서 실행되어 호출자를 막지 않으며, 진행 상황은 배치마다 메트릭으로 기록합니다.
+ */
+public class RedisCacheClearer implements DisposableBean {
+
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final ClearConfig config;
+    private final CacheMetrics metrics;
+    private final Executor executor;
+    private final AtomicInteger inProgress = new AtomicInteger();
+
+    public RedisCacheClearer(
+        RedisTemplate<String, Object> redisTemplate,
+        ClearConfig config,
+        @Nullable CacheMetrics metrics
+    ) {
+        this(redisTemplate, config, metrics, Executors.newThreadPerTaskExecutor(
+            Thread.ofVirtual().name("cache-clear-", 0).factory()
+        ));
+    }
+
+    public RedisCacheClearer(
+        RedisTemplate<String, Object> redisTemplate,
+        ClearConfig config,
+        @Nullable CacheMetrics metrics,
+        Executor executor
+    ) {
+        this.redisTemplate = redisTemplate;
+        this.config = config;
+        this.metrics = metrics;
+        this.executor = executor;
+        if (metrics != null) {
+            metrics.monitorClearsInProgress(inProgress::get);
+        }
+    }
+
+    /**
+     * @return 삭제한 키 개수로 완료되는 future. 실패하면 예외로 완료됩니다.
+     */
+    public CompletableFuture<Long> clear(String cacheName, String keyPrefix) {
+        CompletableFuture<Long> result = new CompletableFuture<>();
+        try {
+            executor.execute(() -> {
+                try {
+                    result.complete(clearNow(cacheName, keyPrefix));
+                } catch (Exception e) {
+                    result.completeExceptionally(e);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            recordClear(cacheName, "rejected", Duration.ZERO);
+            result.completeExceptionally(e);
+        }
+        return result;
+    }
+
+    /**
+     * 호출한 스레드에서 바로 삭제합니다. 반환 시점에는 prefix에 해당하는 키가 모두 삭제되어 있습니다.
+     *
+     * @return 삭제한 키 개수
+     */
+    public long clearNow(String cacheName, String keyPrefix) {
+        long startedAt = System.nanoTime();
+        inProgress.incrementAndGet();
+        try {
+            long unlinked = unlinkByPrefix(cacheName, keyPrefix);
+            recordClear(cacheName, "success", Duration.ofNanos(System.nanoTime() - startedAt));
+            LogContext.with("cache", cacheName)
+                .and("unlinked", unlinked)
+                .and("elapsedMs", Duration.ofNanos(System.nanoTime() - startedAt).toMillis())
+                .debug("Redis clear completed");
+            return unlinked;
+        } catch (RuntimeException e) {
+            recordClear(cacheName, "failure", Duration.ofNanos(System.nanoTime() - startedAt));
+            throw e;
+        } finally {
+            inProgress.decrementAndGet();
+        }
+    }
+
+    public int inProgress() {
+        return inProgress.get();
+    }
+
+    @Override
+    public void destroy() {
+        if (executor instanceof ExecutorService executorService) {
+            executorService.shutdown();
+        }
+    }
+
+    private long unlinkByPrefix(String cacheName, String keyPrefix) {
+        ScanOptions scanOptions = ScanOptions.scanOptions()
+            .match(keyPrefix + "*")
+            .count(config.scanCount())
+            .build();
+
+        long unlinked = 0;
+        List<String> batch = new ArrayList<>(config.batchSize());
+        try (Cursor<String> cursor = redisTemplate.scan(scanOptions)) {
+            while (cursor.hasNext()) {
+                batch.add(cursor.next());
+                if (batch.size() >= config.batchSize()) {
+                    unlinked += unlinkBatch(cacheName, batch);
+                    batch.clear();
+                }
+            }
+        }
+        if (!batch.isEmpty()) {
+            unlinked += unlinkBatch(cacheName, batch);
+        }
+        return unlinked;
+    }
+
+    private long unlinkBatch(String cacheName, List<String> keys) {
+        List<Object> results = redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            for (String key : keys) {
+                connection.keyCommands().unlink(key.getBytes(StandardCharsets.UTF_8));
+            }
+            return null;
+        });
+
+        long unlinked = 0;
+        for (Object result : results) {
+            if (result instanceof Long count) {
+                unlinked += count;
+            }
+        }
+        if (metrics != null) {
+            metrics.recordClearProgress(cacheName, unlinked);
+        }
+        return unlinked;
+    }
+
+    private void recordClear(String cacheName, String result, Duration elapsed) {
+        if (metrics != null) {
+            metrics.recordClear(cacheName, result, elapsed);
+        }
+    }
+}
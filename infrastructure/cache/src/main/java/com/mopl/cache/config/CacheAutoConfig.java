@@ -1,9 +1,21 @@
 package com.mopl.cache.config;
 
+import com.mopl.cache.CacheMetrics;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Import;
 
-@AutoConfiguration
+@AutoConfiguration(afterName = "org.springframework.boot.actuate.autoconfigure.metrics.CompositeMeterRegistryAutoConfiguration")
 @Import(CacheConfig.class)
 public class CacheAutoConfig {
+
+    @Bean
+    @ConditionalOnBean(MeterRegistry.class)
+    @ConditionalOnMissingBean
+    public CacheMetrics cacheMetrics(MeterRegistry meterRegistry) {
+        return new CacheMetrics(meterRegistry);
+    }
 }
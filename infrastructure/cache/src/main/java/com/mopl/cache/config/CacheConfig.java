@@ -1,47 +1,115 @@
 package com.mopl.cache.config;
 
-import com.github.benmanes.caffeine.cache.Cache;
-import com.github.benmanes.caffeine.cache.Caffeine;
 import com.mopl.cache.CacheMetrics;
 import com.mopl.cache.TwoLevelCacheManager;
+import com.mopl.cache.clear.RedisCacheClearer;
+import com.mopl.cache.hotkey.HotKeyEndpoint;
+import com.mopl.cache.invalidation.CacheInvalidationBus;
+import com.mopl.cache.l1.CaffeineL1CacheFactory;
+import com.mopl.cache.l1.L1CacheFactory;
+import com.mopl.cache.refresh.RefreshAheadExecutor;
+import com.mopl.redis.codec.RedisCodecTemplates;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.EnableCaching;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.lang.Nullable;
 
+import java.util.function.Function;
+
 @Configuration
 @EnableConfigurationProperties(CacheProperties.class)
 @EnableCaching
 public class CacheConfig {
 
     @Bean
-    public Cache<String, Object> caffeineCache(CacheProperties properties) {
-        Caffeine<Object, Object> builder = Caffeine.newBuilder()
-            .maximumSize(properties.l1().maximumSize())
-            .expireAfterWrite(properties.l1().ttl());
+    public L1CacheFactory l1CacheFactory(
+        CacheProperties properties,
+        @Nullable RedisTemplate<String, Object> redisTemplate,
+        @Nullable CacheMetrics cacheMetrics,
+        @Nullable RedisCodecTemplates redisCodecTemplates
+    ) {
+        return new CaffeineL1CacheFactory(
+            properties,
+            properties.redisEnabled() ? redisTemplate : null,
+            cacheMetrics,
+            redisTemplateResolver(properties, redisCodecTemplates)
+        );
+    }
 
-        if (properties.l1().recordStats()) {
-            builder.recordStats();
-        }
+    @Bean
+    @ConditionalOnProperty(prefix = "mopl.cache", name = {"redis-enabled", "invalidation.enabled"}, havingValue = "true")
+    public CacheInvalidationBus cacheInvalidationBus(
+        RedisTemplate<String, Object> redisTemplate,
+        RedisMessageListenerContainer redisMessageListenerContainer,
+        CacheProperties properties,
+        @Nullable CacheMetrics cacheMetrics
+    ) {
+        return new CacheInvalidationBus(
+            redisTemplate,
+            redisMessageListenerContainer,
+            properties.getInvalidation(),
+            cacheMetrics
+        );
+    }
 
-        return builder.build();
+    @Bean
+    @ConditionalOnProperty(prefix = "mopl.cache", name = "redis-enabled", havingValue = "true")
+    public RefreshAheadExecutor refreshAheadExecutor(CacheProperties properties) {
+        return new RefreshAheadExecutor(properties.getRefreshAhead().maxConcurrentRefreshes());
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "mopl.cache", name = "redis-enabled", havingValue = "true")
+    public RedisCacheClearer redisCacheClearer(
+        RedisTemplate<String, Object> redisTemplate,
+        CacheProperties properties,
+        @Nullable CacheMetrics cacheMetrics
+    ) {
+        return new RedisCacheClearer(redisTemplate, properties.getClear(), cacheMetrics);
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "mopl.cache", name = "hot-keys.enabled", havingValue = "true")
+    public HotKeyEndpoint hotKeyEndpoint(CacheManager cacheManager) {
+        return new HotKeyEndpoint(cacheManager);
     }
 
     @Bean
     public CacheManager cacheManager(
-        Cache<String, Object> caffeineCache,
+        L1CacheFactory l1CacheFactory,
         @Nullable RedisTemplate<String, Object> redisTemplate,
         CacheProperties properties,
-        @Nullable CacheMetrics cacheMetrics
+        @Nullable CacheMetrics cacheMetrics,
+        @Nullable CacheInvalidationBus cacheInvalidationBus,
+        @Nullable RefreshAheadExecutor refreshAheadExecutor,
+        @Nullable RedisCodecTemplates redisCodecTemplates,
+        @Nullable RedisCacheClearer redisCacheClearer
     ) {
         return new TwoLevelCacheManager(
-            caffeineCache,
+            l1CacheFactory,
             properties.redisEnabled() ? redisTemplate : null,
             properties,
-            cacheMetrics
+            cacheMetrics,
+            cacheInvalidationBus,
+            refreshAheadExecutor,
+            redisTemplateResolver(properties, redisCodecTemplates),
+            redisCacheClearer
         );
     }
+
+    @Nullable
+    private static Function<String, RedisTemplate<String, Object>> redisTemplateResolver(
+        CacheProperties properties,
+        @Nullable RedisCodecTemplates redisCodecTemplates
+    ) {
+        if (redisCodecTemplates == null) {
+            return null;
+        }
+        return cacheName -> redisCodecTemplates.get(properties.getSpecFor(cacheName).codec());
+    }
 }
@@ -1,10 +1,14 @@
 package com.mopl.cache.config;
 
+import com.mopl.redis.codec.RedisCodec;
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.DecimalMax;
+import jakarta.validation.constraints.DecimalMin;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Positive;
 import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
 import org.springframework.validation.annotation.Validated;
 
 import java.time.Duration;
@@ -17,7 +21,13 @@ public record CacheProperties(
     @NotNull @Valid L1Config l1,
     @NotNull @Valid L2Config l2,
     boolean redisEnabled,
-    Map<String, Duration> ttl
+    Map<String, Duration> ttl,
+    @Valid SingleFlightConfig singleFlight,
+    @Valid InvalidationConfig invalidation,
+    @Valid Map<String, CacheSpec> caches,
+    @Valid RefreshAheadConfig refreshAhead,
+    @Valid ClearConfig clear,
+    @Valid HotKeyConfig hotKeys
 ) {
 
     public record L1Config(
@@ -32,10 +42,143 @@ public record CacheProperties(
     ) {
     }
 
+    /**
+     * 캐시 미스 시 동일 키에 대한 로드를 하나로 합치는 설정.
+     * distributed가 true면 Redis lease 키로 노드 간에도 한 번만 로드합니다.
+     */
+    public record SingleFlightConfig(
+        boolean distributed,
+        @NotNull Duration leaseTtl,
+        @NotNull Duration waitTimeout,
+        @NotNull Duration pollInterval
+    ) {
+
+        public static final SingleFlightConfig DEFAULT = new SingleFlightConfig(
+            true,
+            Duration.ofSeconds(5),
+            Duration.ofSeconds(2),
+            Duration.ofMillis(50)
+        );
+    }
+
+    /**
+     * 노드 간 L1 무효화 설정. 무효화 메시지는 batchWindow 동안 모아 maxBatchSize 단위로 발행합니다.
+     */
+    public record InvalidationConfig(
+        boolean enabled,
+        @NotBlank String channel,
+        @NotNull Duration batchWindow,
+        @Positive int maxBatchSize
+    ) {
+
+        public static final InvalidationConfig DEFAULT = new InvalidationConfig(
+            false,
+            "cache:invalidation",
+            Duration.ofMillis(10),
+            256
+        );
+    }
+
+    /**
+     * 캐시 이름별 L1 정책. 지정하지 않은 항목은 {@link L1Config} 기본값을 따릅니다.
+     * maximumWeight를 지정하면 엔트리 개수 대신 추정 바이트 크기로 용량을 제한합니다.
+     * refreshAheadRatio를 지정하면 L2 TTL의 해당 비율이 지난 엔트리를 반환하면서 백그라운드에서 다시 로드합니다.
+     * codec을 지정하면 해당 캐시의 L2 값만 그 코덱으로 저장하고, 지정하지 않으면 mopl.redis.codec 기본값을 따릅니다.
+     * negativeTtl을 지정하면 로더가 not-found 예외를 던진 키를 그 시간 동안 tombstone으로 캐시합니다.
+     */
+    public record CacheSpec(
+        DataSize maximumWeight,
+        Expiry expiry,
+        Duration l1Ttl,
+        Duration refreshAfterWrite,
+        @DecimalMin("0.0") @DecimalMax("1.0") Double refreshAheadRatio,
+        RedisCodec codec,
+        Duration negativeTtl
+    ) {
+
+        public static final CacheSpec EMPTY = new CacheSpec(null, null, null, null, null, null, null);
+
+        public enum Expiry {
+            AFTER_WRITE,
+            AFTER_ACCESS
+        }
+    }
+
+    /**
+     * refresh-ahead 재로드를 동시에 몇 개까지 실행할지 제한합니다.
+     */
+    public record RefreshAheadConfig(
+        @Positive int maxConcurrentRefreshes
+    ) {
+
+        public static final RefreshAheadConfig DEFAULT = new RefreshAheadConfig(64);
+    }
+
+    /**
+     * clear 시 SCAN 한 번에 요청할 키 수(scanCount)와 파이프라인 UNLINK 한 번에 보낼 키 수(batchSize).
+     */
+    public record ClearConfig(
+        @Positive int batchSize,
+        @Positive int scanCount
+    ) {
+
+        public static final ClearConfig DEFAULT = new ClearConfig(500, 1000);
+    }
+
+    /**
+     * 핫 키 감지와 L1 고정 설정. 접근 빈도 추정치가 threshold 이상이고 상위 topK 안에 드는 키를 핫 키로 봅니다.
+     * 핫 키는 최대 pinTtl 동안 L1에 고정되며, revalidateInterval마다 L2 버전만 확인하고 바뀌었을 때만 다시 읽습니다.
+     */
+    public record HotKeyConfig(
+        boolean enabled,
+        @Positive int threshold,
+        @Positive int topK,
+        @NotNull Duration pinTtl,
+        @NotNull Duration revalidateInterval,
+        @Positive int sketchWidth
+    ) {
+
+        public static final HotKeyConfig DEFAULT = new HotKeyConfig(
+            false,
+            100,
+            16,
+            Duration.ofMinutes(10),
+            Duration.ofSeconds(5),
+            4096
+        );
+    }
+
     public Duration getTtlFor(String cacheName) {
         if (ttl == null) {
             return l2.defaultTtl();
         }
         return ttl.getOrDefault(cacheName, l2.defaultTtl());
     }
+
+    public SingleFlightConfig getSingleFlight() {
+        return singleFlight != null ? singleFlight : SingleFlightConfig.DEFAULT;
+    }
+
+    public InvalidationConfig getInvalidation() {
+        return invalidation != null ? invalidation : InvalidationConfig.DEFAULT;
+    }
+
+    public CacheSpec getSpecFor(String cacheName) {
+        if (caches == null) {
+            return CacheSpec.EMPTY;
+        }
+        return caches.getOrDefault(cacheName, CacheSpec.EMPTY);
+    }
+
+    public RefreshAheadConfig getRefreshAhead() {
+        return refreshAhead != null ? refreshAhead : RefreshAheadConfig.DEFAULT;
+    }
+
+    public ClearConfig getClear() {
+        return clear != null ? clear : ClearConfig.DEFAULT;
+    }
+
+    public HotKeyConfig getHotKeys() {
+        return hotKeys != null ? hotKeys : HotKeyConfig.DEFAULT;
+    }
 }
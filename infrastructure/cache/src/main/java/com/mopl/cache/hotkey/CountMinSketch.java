@@ -0,0 +1,63 @@
+package com.mopl.cache.hotkey;
+
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+/**
+ * 키별 접근 횟수를 고정 메모리로 추정하는 count-min sketch.
+ *
+ * <p>추정치는 실제 횟수보다 작지 않으며, 해시 충돌이 있을 때만 크게 나옵니다.
+ * {@link #halve()}로 주기적으로 모든 카운터를 절반으로 줄여 오래된 접근의 영향을 낮춥니다.
+ */
+class CountMinSketch {
+
+    private static final int DEPTH = 4;
+    private static final int[] SEEDS = {0x9E3779B9, 0x85EBCA6B, 0xC2B2AE35, 0x27D4EB2F};
+
+    private final int width;
+    private final int mask;
+    private final AtomicIntegerArray counters;
+
+    CountMinSketch(int minimumWidth) {
+        this.width = Integer.highestOneBit(Math.max(minimumWidth - 1, 1)) << 1;
+        this.mask = width - 1;
+        this.counters = new AtomicIntegerArray(DEPTH * width);
+    }
+
+    /**
+     * @return 증가시킨 뒤의 추정 접근 횟수
+     */
+    int increment(String key) {
+        int hash = key.hashCode();
+        int estimate = Integer.MAX_VALUE;
+        for (int row = 0; row < DEPTH; row++) {
+            int count = counters.incrementAndGet(indexOf(row, hash));
+            estimate = Math.min(estimate, count);
+        }
+        return estimate;
+    }
+
+    int estimate(String key) {
+        int hash = key.hashCode();
+        int estimate = Integer.MAX_VALUE;
+        for (int row = 0; row < DEPTH; row++) {
+            estimate = Math.min(estimate, counters.get(indexOf(row, hash)));
+        }
+        return estimate;
+    }
+
+    void halve() {
+        for (int i = 0; i < counters.length(); i++) {
+            counters.getAndUpdate(i, count -> count >>> 1);
+        }
+    }
+
+    int width() {
+        return width;
+    }
+
+    private int indexOf(int row, int hash) {
+        int h = hash * SEEDS[row];
+        h ^= h >>> 16;
+        return row * width + (h & mask);
+    }
+}
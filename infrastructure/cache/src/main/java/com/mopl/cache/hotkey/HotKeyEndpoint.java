@@ -0,0 +1,72 @@
+package com.mopl.cache.hotkey;
+
+import com.mopl.cache.TwoLevelCache;
+import com.mopl.cache.hotkey.HotKeyTracker.HotKey;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * 캐시별 현재 핫 키와 추정 빈도, L1 고정 여부를 조회하는 actuator 엔드포인트({@code /actuator/hotkeys}).
+ *
+ * <p>캐시 키에는 이메일 같은 개인정보가 들어갈 수 있으므로 캐시 이름까지만 그대로 두고 나머지는 SHA-256 앞 16자리로 바꿔 돌려줍니다.
+ * 기본으로 노출하지 않으며, 노출할 때는 관리자만 접근하도록 보안 설정을 함께 둡니다.
+ */
+@Endpoint(id = "hotkeys")
+public class HotKeyEndpoint {
+
+    private static final String KEY_SEPARATOR = "::";
+    private static final int HASH_LENGTH = 16;
+
+    private final CacheManager cacheManager;
+
+    public HotKeyEndpoint(CacheManager cacheManager) {
+        this.cacheManager = cacheManager;
+    }
+
+    @ReadOperation
+    public Map<String, List<HotKey>> hotKeys() {
+        Map<String, List<HotKey>> hotKeys = new TreeMap<>();
+        for (String cacheName : cacheManager.getCacheNames()) {
+            hotKeys.put(cacheName, hotKeysOf(cacheName));
+        }
+        return hotKeys;
+    }
+
+    @ReadOperation
+    public List<HotKey> hotKeysOf(@Selector String cacheName) {
+        Cache cache = cacheManager.getCache(cacheName);
+        if (cache instanceof TwoLevelCache twoLevelCache && twoLevelCache.getHotKeys() != null) {
+            return twoLevelCache.getHotKeys().topKeys().stream()
+                .map(hotKey -> new HotKey(maskKey(hotKey.key()), hotKey.frequency(), hotKey.pinned()))
+                .toList();
+        }
+        return List.of();
+    }
+
+    static String maskKey(String fullKey) {
+        int separator = fullKey.indexOf(KEY_SEPARATOR);
+        String prefix = separator < 0 ? "" : fullKey.substring(0, separator + KEY_SEPARATOR.length());
+        String key = fullKey.substring(prefix.length());
+        return prefix + sha256(key).substring(0, HASH_LENGTH);
+    }
+
+    private static String sha256(String value) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(value.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+}
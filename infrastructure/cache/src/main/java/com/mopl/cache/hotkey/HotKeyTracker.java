@@ -0,0 +1,219 @@
+package com.mopl.cache.hotkey;
+
+import com.mopl.cache.config.CacheProperties.HotKeyConfig;
+import org.springframework.lang.Nullable;
+
+import java.time.Clock;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 캐시 하나의 핫 키 추적기.
+ *
+ * <p>모든 조회를 {@link CountMinSketch}에 기록하고, 추정치가 threshold 이상인 키 중 상위 topK개만 후보로 유지합니다.
+ * 핫 키로 판정된 키는 값과 L2 버전(만료 시각)을 함께 L1과 별도로 고정해 두고,
+ * 호출자는 revalidateInterval마다 버전만 비교해 바뀌었을 때만 다시 읽습니다.
+ * 샘플 수가 sketch 폭의 10배에 이를 때마다 카운터를 절반으로 줄여 식은 키가 자연스럽게 빠지도록 합니다.
+ *
+ * <p>조회 경로에서 후보 전체를 훑지 않도록, 후보가 가득 찬 뒤에는 마지막으로 계산한 최소 빈도(admissionFloor)보다
+ * 추정치가 큰 새 키만 받아들입니다. 이미 후보인 키는 빈도만 갱신하므로 잠금 없이 처리됩니다.
+ */
+public class HotKeyTracker {
+
+    private static final int SAMPLE_FACTOR = 10;
+
+    private final HotKeyConfig config;
+    private final Clock clock;
+    private final CountMinSketch sketch;
+    private final long sampleSize;
+    private final AtomicLong samples = new AtomicLong();
+    private final ConcurrentMap<String, Integer> candidates = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, Pinned> pinned = new ConcurrentHashMap<>();
+    private final Set<String> pinning = ConcurrentHashMap.newKeySet();
+    private volatile int admissionFloor;
+
+    public HotKeyTracker(HotKeyConfig config) {
+        this(config, Clock.systemUTC());
+    }
+
+    public HotKeyTracker(HotKeyConfig config, Clock clock) {
+        this.config = config;
+        this.clock = clock;
+        this.sketch = new CountMinSketch(config.sketchWidth());
+        this.sampleSize = (long) sketch.width() * SAMPLE_FACTOR;
+    }
+
+    /**
+     * 조회 한 번을 기록합니다.
+     *
+     * @return 기록 후 핫 키이면 true
+     */
+    public boolean recordAccess(String fullKey) {
+        int estimate = sketch.increment(fullKey);
+        if (samples.incrementAndGet() % sampleSize == 0) {
+            age();
+        }
+        if (estimate < config.threshold()) {
+            return false;
+        }
+        if (candidates.replace(fullKey, estimate) != null) {
+            return true;
+        }
+        if (candidates.size() >= config.topK() && estimate <= admissionFloor) {
+            return false;
+        }
+        candidates.put(fullKey, estimate);
+        if (candidates.size() > config.topK()) {
+            evictColdest();
+        }
+        return candidates.containsKey(fullKey);
+    }
+
+    public boolean isHot(String fullKey) {
+        return candidates.containsKey(fullKey);
+    }
+
+    /**
+     * 고정된 값이 있고 고정 기한이 지나지 않았으면 반환합니다. 기한이 지났으면 고정을 해제합니다.
+     */
+    @Nullable
+    public Pinned getPinned(String fullKey) {
+        Pinned entry = pinned.get(fullKey);
+        if (entry == null) {
+            return null;
+        }
+        if (clock.millis() >= entry.pinnedUntilMillis()) {
+            pinned.remove(fullKey, entry);
+            return null;
+        }
+        return entry;
+    }
+
+    /**
+     * 같은 키를 여러 스레드가 동시에 고정하지 않도록 한 스레드에만 true를 반환합니다.
+     * true를 받은 호출자는 {@link #pin} 또는 {@link #cancelPin}을 반드시 호출해야 합니다.
+     */
+    public boolean tryStartPin(String fullKey) {
+        return !pinned.containsKey(fullKey) && pinning.add(fullKey);
+    }
+
+    /**
+     * @param version L2 엔트리의 절대 만료 시각(ms). 값이 다시 기록되면 바뀌므로 버전으로 사용합니다.
+     */
+    public void pin(String fullKey, Object value, long version) {
+        try {
+            long now = clock.millis();
+            long pinnedUntil = Math.min(now + config.pinTtl().toMillis(), version);
+            if (pinnedUntil > now) {
+                pinned.put(fullKey, new Pinned(value, version, pinnedUntil, now + config.revalidateInterval().toMillis()));
+            }
+        } finally {
+            pinning.remove(fullKey);
+        }
+    }
+
+    public void cancelPin(String fullKey) {
+        pinning.remove(fullKey);
+    }
+
+    public void unpin(String fullKey) {
+        pinned.remove(fullKey);
+    }
+
+    public void unpinAll() {
+        pinned.clear();
+    }
+
+    /**
+     * 재검증 시각이 지났으면 한 스레드만 true를 받고 다음 재검증 시각을 미룹니다.
+     */
+    public boolean tryStartRevalidation(Pinned entry) {
+        long now = clock.millis();
+        long next = entry.nextRevalidationAt.get();
+        return now >= next && entry.nextRevalidationAt.compareAndSet(next, now + config.revalidateInterval().toMillis());
+    }
+
+    public int pinnedCount() {
+        return pinned.size();
+    }
+
+    /**
+     * 현재 핫 키 후보를 추정 빈도 내림차순으로 반환합니다.
+     */
+    public List<HotKey> topKeys() {
+        return candidates.entrySet().stream()
+            .sorted(Map.Entry.<String, Integer>comparingByValue(Comparator.reverseOrder()))
+            .map(entry -> new HotKey(entry.getKey(), entry.getValue(), pinned.containsKey(entry.getKey())))
+            .toList();
+    }
+
+    /**
+     * @param rank 0부터 시작하는 순위
+     * @return 해당 순위 키의 추정 빈도. 후보가 그보다 적으면 0
+     */
+    public int frequencyAt(int rank) {
+        List<HotKey> topKeys = topKeys();
+        return rank < topKeys.size() ? topKeys.get(rank).frequency() : 0;
+    }
+
+    private synchronized void evictColdest() {
+        while (candidates.size() > config.topK()) {
+            candidates.entrySet().stream()
+                .min(Map.Entry.comparingByValue())
+                .ifPresent(coldest -> candidates.remove(coldest.getKey(), coldest.getValue()));
+        }
+        admissionFloor = minFrequency();
+    }
+
+    private synchronized void age() {
+        sketch.halve();
+        candidates.replaceAll((key, frequency) -> frequency >>> 1);
+        candidates.values().removeIf(frequency -> frequency < config.threshold());
+        admissionFloor = minFrequency();
+    }
+
+    private int minFrequency() {
+        return candidates.values().stream()
+            .min(Integer::compare)
+            .orElse(0);
+    }
+
+    public record HotKey(
+        String key,
+        int frequency,
+        boolean pinned
+    ) {
+    }
+
+    public static final class Pinned {
+
+        private final Object value;
+        private final long version;
+        private final long pinnedUntilMillis;
+        private final AtomicLong nextRevalidationAt;
+
+        Pinned(Object value, long version, long pinnedUntilMillis, long nextRevalidationAt) {
+            this.value = value;
+            this.version = version;
+            this.pinnedUntilMillis = pinnedUntilMillis;
+            this.nextRevalidationAt = new AtomicLong(nextRevalidationAt);
+        }
+
+        public Object value() {
+            return value;
+        }
+
+        public long version() {
+            return version;
+        }
+
+        long pinnedUntilMillis() {
+            return pinnedUntilMillis;
+        }
+    }
+}
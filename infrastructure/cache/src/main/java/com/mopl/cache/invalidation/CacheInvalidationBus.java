@@ -0,0 +1,155 @@
+package com.mopl.cache.invalidation;
+
+import com.mopl.cache.CacheMetrics;
+import com.mopl.cache.config.CacheProperties.InvalidationConfig;
+import com.mopl.logging.context.LogContext;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.Queue;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Redis pub/sub 기반 L1 무효화 채널.
+ *
+ * <p>put/evict/clear 시 캐시 이름과 키를 큐에 쌓아 두고 batchWindow마다 한 번에 발행합니다.
+ * 수신 측은 자신의 L1만 무효화하며, 자신이 발행한 메시지는 origin으로 걸러냅니다.
+ */
+public class CacheInvalidationBus implements MessageListener, DisposableBean {
+
+    @FunctionalInterface
+    public interface Handler {
+
+        void invalidateLocal(String cacheName, @Nullable String key);
+    }
+
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final RedisMessageListenerContainer listenerContainer;
+    private final InvalidationConfig config;
+    private final CacheMetrics metrics;
+    private final String nodeId = UUID.randomUUID().toString();
+    private final byte[] channel;
+    private final Queue<CacheInvalidationMessage.Entry> pending = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger pendingCount = new AtomicInteger();
+    private final ScheduledExecutorService flusher;
+
+    private volatile Handler handler;
+
+    public CacheInvalidationBus(
+        RedisTemplate<String, Object> redisTemplate,
+        RedisMessageListenerContainer listenerContainer,
+        InvalidationConfig config,
+        @Nullable CacheMetrics metrics
+    ) {
+        this.redisTemplate = redisTemplate;
+        this.listenerContainer = listenerContainer;
+        this.config = config;
+        this.metrics = metrics;
+        this.channel = config.channel().getBytes(StandardCharsets.UTF_8);
+        this.flusher = Executors.newSingleThreadScheduledExecutor(
+            Thread.ofPlatform().name("cache-invalidation-flusher").daemon().factory()
+        );
+
+        long windowMillis = Math.max(1, config.batchWindow().toMillis());
+        flusher.scheduleWithFixedDelay(this::flushSafely, windowMillis, windowMillis, TimeUnit.MILLISECONDS);
+    }
+
+    public void register(Handler handler) {
+        this.handler = handler;
+        listenerContainer.addMessageListener(this, new ChannelTopic(config.channel()));
+        LogContext.with("channel", config.channel()).and("nodeId", nodeId).info("Subscribed to cache invalidation channel");
+    }
+
+    public void publishEvict(String cacheName, Object key) {
+        enqueue(CacheInvalidationMessage.Entry.evict(cacheName, key));
+    }
+
+    public void publishClear(String cacheName) {
+        enqueue(CacheInvalidationMessage.Entry.clear(cacheName));
+    }
+
+    public String getNodeId() {
+        return nodeId;
+    }
+
+    @Override
+    public void onMessage(@NonNull Message message, byte[] pattern) {
+        Handler current = handler;
+        if (current == null) {
+            return;
+        }
+        try {
+            CacheInvalidationMessage received = CacheInvalidationMessage.decode(message.getBody());
+            if (nodeId.equals(received.origin())) {
+                return;
+            }
+            for (CacheInvalidationMessage.Entry entry : received.entries()) {
+                current.invalidateLocal(entry.cacheName(), entry.key());
+            }
+            recordInvalidation("received", received.entries().size());
+        } catch (Exception e) {
+            LogContext.with("channel", config.channel()).error("Failed to apply cache invalidation", e);
+        }
+    }
+
+    @Override
+    public void destroy() {
+        flusher.shutdown();
+        flushSafely();
+    }
+
+    void flush() {
+        while (pendingCount.get() > 0) {
+            Set<CacheInvalidationMessage.Entry> batch = new LinkedHashSet<>();
+            CacheInvalidationMessage.Entry entry;
+            while (batch.size() < config.maxBatchSize() && (entry = pending.poll()) != null) {
+                pendingCount.decrementAndGet();
+                batch.add(entry);
+            }
+            if (batch.isEmpty()) {
+                return;
+            }
+
+            byte[] body = new CacheInvalidationMessage(nodeId, new ArrayList<>(batch)).encode();
+            redisTemplate.execute((RedisCallback<Long>) connection -> connection.publish(channel, body));
+            recordInvalidation("sent", batch.size());
+        }
+    }
+
+    private void enqueue(CacheInvalidationMessage.Entry entry) {
+        pending.add(entry);
+        if (pendingCount.incrementAndGet() >= config.maxBatchSize() && !flusher.isShutdown()) {
+            flusher.execute(this::flushSafely);
+        }
+    }
+
+    private void flushSafely() {
+        try {
+            flush();
+        } catch (Exception e) {
+            LogContext.with("channel", config.channel()).warn("Cache invalidation publish failed: " + e.getMessage());
+        }
+    }
+
+    private void recordInvalidation(String direction, int entries) {
+        if (metrics != null) {
+            metrics.recordInvalidation(direction, entries);
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package com.mopl.cache.invalidation;
+
+import org.springframework.lang.Nullable;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 노드 간 L1 무효화 메시지.
+ *
+ * <pre>
+ * [origin: UTF][count: int]{[cacheName: UTF][clear: boolean][key: UTF]}*
+ * </pre>
+ * JSON 대신 고정 바이너리 포맷을 사용해 클래스 정보 없이 캐시 이름과 키만 전송합니다.
+ */
+public record CacheInvalidationMessage(
+    String origin,
+    List<Entry> entries
+) {
+
+    public record Entry(
+        String cacheName,
+        @Nullable String key
+    ) {
+
+        public static Entry evict(String cacheName, Object key) {
+            return new Entry(cacheName, String.valueOf(key));
+        }
+
+        public static Entry clear(String cacheName) {
+            return new Entry(cacheName, null);
+        }
+
+        public boolean isClear() {
+            return key == null;
+        }
+    }
+
+    public byte[] encode() {
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream(64 + entries.size() * 48);
+        try (DataOutputStream out = new DataOutputStream(buffer)) {
+            out.writeUTF(origin);
+            out.writeInt(entries.size());
+            for (Entry entry : entries) {
+                out.writeUTF(entry.cacheName());
+                out.writeBoolean(entry.isClear());
+                out.writeUTF(entry.isClear() ? "" : entry.key());
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return buffer.toByteArray();
+    }
+
+    public static CacheInvalidationMessage decode(byte[] body) {
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(body))) {
+            String origin = in.readUTF();
+            int count = in.readInt();
+            List<Entry> entries = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                String cacheName = in.readUTF();
+                boolean clear = in.readBoolean();
+                String key = in.readUTF();
+                entries.add(new Entry(cacheName, clear ? null : key));
+            }
+            return new CacheInvalidationMessage(origin, entries);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,16 @@
+package com.mopl.cache.l1;
+
+import com.github.benmanes.caffeine.cache.Weigher;
+import org.springframework.lang.NonNull;
+
+/**
+ * 키와 값의 추정 바이트 크기로 L1 엔트리 가중치를 계산합니다.
+ */
+public class ByteSizeWeigher implements Weigher<String, Object> {
+
+    @Override
+    public int weigh(@NonNull String key, @NonNull Object value) {
+        long bytes = 40L + key.length() + ObjectSizeEstimator.estimate(value);
+        return (int) Math.min(Integer.MAX_VALUE, bytes);
+    }
+}
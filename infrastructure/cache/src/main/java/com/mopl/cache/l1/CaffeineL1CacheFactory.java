@@ -0,0 +1,115 @@
+package com.mopl.cache.l1;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.mopl.cache.CacheMetrics;
+import com.mopl.cache.config.CacheProperties;
+import com.mopl.cache.config.CacheProperties.CacheSpec;
+import com.mopl.cache.negative.Tombstone;
+import com.mopl.logging.context.LogContext;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.lang.Nullable;
+
+import java.time.Duration;
+import java.util.function.Function;
+
+/**
+ * {@link CacheProperties}의 캐시별 정책({@link CacheSpec})으로 Caffeine L1을 생성합니다.
+ *
+ * <p>refreshAfterWrite가 지정되면 L2(Redis)에서 값을 다시 읽어오는 LoadingCache로 만들고,
+ * Redis가 비활성화된 경우에는 refreshAfterWrite를 적용하지 않습니다.
+ * 캐시마다 코덱이 다를 수 있으므로 L2는 redisTemplateResolver가 돌려주는 그 캐시의 템플릿으로 읽습니다.
+ * L2에 tombstone이 있으면 null을 돌려 L1 항목을 지웁니다.
+ */
+public class CaffeineL1CacheFactory implements L1CacheFactory {
+
+    private final CacheProperties properties;
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final CacheMetrics metrics;
+    private final Function<String, RedisTemplate<String, Object>> redisTemplateResolver;
+
+    public CaffeineL1CacheFactory(
+        CacheProperties properties,
+        @Nullable RedisTemplate<String, Object> redisTemplate,
+        @Nullable CacheMetrics metrics
+    ) {
+        this(properties, redisTemplate, metrics, null);
+    }
+
+    public CaffeineL1CacheFactory(
+        CacheProperties properties,
+        @Nullable RedisTemplate<String, Object> redisTemplate,
+        @Nullable CacheMetrics metrics,
+        @Nullable Function<String, RedisTemplate<String, Object>> redisTemplateResolver
+    ) {
+        this.properties = properties;
+        this.redisTemplate = redisTemplate;
+        this.metrics = metrics;
+        this.redisTemplateResolver = redisTemplateResolver;
+    }
+
+    @Override
+    public Cache<String, Object> create(String cacheName) {
+        CacheProperties.L1Config defaults = properties.l1();
+        CacheSpec spec = properties.getSpecFor(cacheName);
+        Duration ttl = spec.l1Ttl() != null ? spec.l1Ttl() : defaults.ttl();
+
+        Caffeine<Object, Object> builder = Caffeine.newBuilder();
+
+        if (spec.maximumWeight() != null) {
+            builder.maximumWeight(spec.maximumWeight().toBytes()).weigher(new ByteSizeWeigher());
+        } else {
+            builder.maximumSize(defaults.maximumSize());
+        }
+
+        if (spec.expiry() == CacheSpec.Expiry.AFTER_ACCESS) {
+            builder.expireAfterAccess(ttl);
+        } else {
+            builder.expireAfterWrite(ttl);
+        }
+
+        if (defaults.recordStats()) {
+            builder.recordStats();
+        }
+
+        Cache<String, Object> cache = buildCache(builder, cacheName, spec.refreshAfterWrite());
+        if (metrics != null && defaults.recordStats()) {
+            metrics.monitorL1(cacheName, cache);
+        }
+
+        LogContext.with("cache", cacheName)
+            .and("maximumWeight", spec.maximumWeight())
+            .and("expiry", spec.expiry())
+            .and("ttl", ttl)
+            .and("refreshAfterWrite", spec.refreshAfterWrite())
+            .debug("L1 cache created");
+        return cache;
+    }
+
+    private Cache<String, Object> buildCache(
+        Caffeine<Object, Object> builder,
+        String cacheName,
+        @Nullable Duration refreshAfterWrite
+    ) {
+        if (refreshAfterWrite == null || redisTemplate == null) {
+            return builder.build();
+        }
+        RedisTemplate<String, Object> l2Template = resolveRedisTemplate(cacheName);
+        return builder
+            .refreshAfterWrite(refreshAfterWrite)
+            .build(key -> reloadFromL2(l2Template, key));
+    }
+
+    @Nullable
+    private static Object reloadFromL2(RedisTemplate<String, Object> l2Template, String key) {
+        Object value = l2Template.opsForValue().get(key);
+        return value instanceof Tombstone ? null : value;
+    }
+
+    private RedisTemplate<String, Object> resolveRedisTemplate(String cacheName) {
+        if (redisTemplateResolver == null) {
+            return redisTemplate;
+        }
+        return redisTemplateResolver.apply(cacheName);
+    }
+}
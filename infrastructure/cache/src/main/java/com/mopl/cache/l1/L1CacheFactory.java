@@ -0,0 +1,12 @@
+package com.mopl.cache.l1;
+
+import com.github.benmanes.caffeine.cache.Cache;
+
+/**
+ * 캐시 이름별로 독립된 L1(Caffeine) 인스턴스를 생성합니다.
+ */
+@FunctionalInterface
+public interface L1CacheFactory {
+
+    Cache<String, Object> create(String cacheName);
+}
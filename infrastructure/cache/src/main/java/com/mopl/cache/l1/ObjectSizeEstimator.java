@@ -0,0 +1,137 @@
+package com.mopl.cache.l1;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+import java.lang.reflect.Array;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.time.Duration;
+import java.time.temporal.TemporalAccessor;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * L1 weigher용 힙 사용량 근사치 계산기.
+ *
+ * <p>정확한 측정 대신 64bit JVM(compressed oops) 기준 고정 비용을 더하는 방식이며,
+ * 캐시 간 상대적인 크기를 비교하기 위한 용도입니다. 애플리케이션 클래스는 필드를 따라가고,
+ * named module(JDK, 외부 라이브러리)에 속한 알 수 없는 타입은 고정 크기로 취급합니다.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+final class ObjectSizeEstimator {
+
+    private static final int OBJECT_HEADER = 16;
+    private static final int REFERENCE = 4;
+    private static final int OPAQUE_OBJECT = 64;
+    private static final int MAX_DEPTH = 8;
+
+    private static final ClassValue<Field[]> INSTANCE_FIELDS = new ClassValue<>() {
+        @Override
+        protected Field[] computeValue(Class<?> type) {
+            List<Field> fields = new ArrayList<>();
+            for (Class<?> current = type; current != null && current != Object.class; current = current.getSuperclass()) {
+                for (Field field : current.getDeclaredFields()) {
+                    if (Modifier.isStatic(field.getModifiers()) || !field.trySetAccessible()) {
+                        continue;
+                    }
+                    fields.add(field);
+                }
+            }
+            return fields.toArray(Field[]::new);
+        }
+    };
+
+    static long estimate(Object value) {
+        return estimate(value, 0);
+    }
+
+    private static long estimate(Object value, int depth) {
+        if (value == null || value instanceof Enum<?>) {
+            return 0;
+        }
+        if (value instanceof CharSequence text) {
+            return 40L + text.length();
+        }
+        if (value instanceof Number || value instanceof Boolean || value instanceof Character) {
+            return OBJECT_HEADER;
+        }
+        if (value instanceof UUID) {
+            return 32;
+        }
+        if (value instanceof TemporalAccessor || value instanceof Duration) {
+            return 24;
+        }
+        if (depth >= MAX_DEPTH) {
+            return OBJECT_HEADER;
+        }
+        if (value instanceof Collection<?> collection) {
+            long size = 40L + (long) collection.size() * REFERENCE;
+            for (Object element : collection) {
+                size += estimate(element, depth + 1);
+            }
+            return size;
+        }
+        if (value instanceof Map<?, ?> map) {
+            long size = 48L + map.size() * 32L;
+            for (Map.Entry<?, ?> entry : map.entrySet()) {
+                size += estimate(entry.getKey(), depth + 1) + estimate(entry.getValue(), depth + 1);
+            }
+            return size;
+        }
+        if (value.getClass().isArray()) {
+            return estimateArray(value, depth);
+        }
+        if (value.getClass().getModule().isNamed()) {
+            return OPAQUE_OBJECT;
+        }
+        return estimateFields(value, depth);
+    }
+
+    private static long estimateArray(Object array, int depth) {
+        int length = Array.getLength(array);
+        Class<?> componentType = array.getClass().getComponentType();
+        if (componentType.isPrimitive()) {
+            return OBJECT_HEADER + (long) length * primitiveSize(componentType);
+        }
+        long size = OBJECT_HEADER + (long) length * REFERENCE;
+        for (int i = 0; i < length; i++) {
+            size += estimate(Array.get(array, i), depth + 1);
+        }
+        return size;
+    }
+
+    private static long estimateFields(Object value, int depth) {
+        long size = OBJECT_HEADER;
+        for (Field field : INSTANCE_FIELDS.get(value.getClass())) {
+            Class<?> type = field.getType();
+            if (type.isPrimitive()) {
+                size += primitiveSize(type);
+                continue;
+            }
+            size += REFERENCE;
+            try {
+                size += estimate(field.get(value), depth + 1);
+            } catch (IllegalAccessException e) {
+                size += OPAQUE_OBJECT;
+            }
+        }
+        return size;
+    }
+
+    private static int primitiveSize(Class<?> type) {
+        if (type == long.class || type == double.class) {
+            return 8;
+        }
+        if (type == int.class || type == float.class) {
+            return 4;
+        }
+        if (type == short.class || type == char.class) {
+            return 2;
+        }
+        return 1;
+    }
+}
@@ -0,0 +1,112 @@
+package com.mopl.cache.negative;
+
+import com.mopl.domain.exception.ErrorCode;
+import com.mopl.domain.exception.MoplException;
+import com.mopl.domain.exception.content.ContentErrorCode;
+import com.mopl.domain.exception.content.ContentNotFoundException;
+import com.mopl.domain.exception.playlist.PlaylistContentNotFoundException;
+import com.mopl.domain.exception.playlist.PlaylistErrorCode;
+import com.mopl.domain.exception.playlist.PlaylistNotFoundException;
+import com.mopl.domain.exception.user.UserErrorCode;
+import com.mopl.domain.exception.user.UserNotFoundException;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.springframework.lang.Nullable;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Function;
+
+/**
+ * 존재하지 않음이 확인된 키 자리에 저장하는 값.
+ *
+ * <p>로더가 404 {@link MoplException}을 던지면 에러 코드와 details만 저장해 두고,
+ * negative TTL 동안은 로더를 호출하지 않고 같은 예외를 다시 만들어 던집니다.
+ * 예외는 에러 코드별로 등록한 팩토리로만 다시 만들며, 등록되지 않은 에러 코드는 tombstone을 남기지 않습니다.
+ * L2를 거친 details 값은 JSON 기본 타입으로 복원되므로 팩토리가 UUID 같은 타입을 다시 맞춥니다.
+ * Jackson 기본 타이핑은 final 클래스에 타입 정보를 남기지 않으므로 final로 선언하지 않습니다.
+ */
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class Tombstone {
+
+    private static final int NOT_FOUND = 404;
+    private static final int MAX_CAUSE_DEPTH = 4;
+    private static final Map<String, Function<Map<String, Object>, MoplException>> FACTORIES = Map.of(
+        codeOf(UserErrorCode.USER_NOT_FOUND), details -> details.containsKey("email")
+            ? UserNotFoundException.withEmail(stringOf(details, "email"))
+            : UserNotFoundException.withId(uuidOf(details, "id")),
+        codeOf(ContentErrorCode.CONTENT_NOT_FOUND), details -> ContentNotFoundException.withId(uuidOf(details, "id")),
+        codeOf(PlaylistErrorCode.PLAYLIST_NOT_FOUND), details -> PlaylistNotFoundException.withId(uuidOf(details, "id")),
+        codeOf(PlaylistErrorCode.PLAYLIST_CONTENT_NOT_FOUND), details -> PlaylistContentNotFoundException.withPlaylistIdAndContentId(
+            uuidOf(details, "playlistId"),
+            uuidOf(details, "contentId")
+        )
+    );
+
+    private String errorCode;
+    private Map<String, Object> details;
+
+    Tombstone(String errorCode, Map<String, Object> details) {
+        this.errorCode = errorCode;
+        this.details = details;
+    }
+
+    public static Tombstone of(MoplException exception) {
+        return new Tombstone(codeOf(exception.getErrorCode()), new HashMap<>(exception.getDetails()));
+    }
+
+    /**
+     * 로더 예외의 cause 체인에서 다시 만들 수 있는 404 {@link MoplException}을 찾습니다.
+     * Spring 캐시 인터셉터는 로더 예외를 한 번 감싸서 전달하므로 예외 자신만 보지 않습니다.
+     */
+    @Nullable
+    public static MoplException findNotFound(@Nullable Throwable throwable) {
+        Throwable current = throwable;
+        for (int depth = 0; current != null && depth < MAX_CAUSE_DEPTH; depth++) {
+            if (current instanceof MoplException exception
+                && exception.getErrorCode().getStatus() == NOT_FOUND
+                && FACTORIES.containsKey(codeOf(exception.getErrorCode()))) {
+                return exception;
+            }
+            current = current.getCause();
+        }
+        return null;
+    }
+
+    /**
+     * 저장된 에러 코드의 팩토리로 예외를 다시 만듭니다.
+     * 등록되지 않은 에러 코드이거나 details가 맞지 않으면 null을 반환하며, 호출자는 일반 미스로 처리합니다.
+     */
+    @Nullable
+    public MoplException toException() {
+        Function<Map<String, Object>, MoplException> factory = errorCode != null ? FACTORIES.get(errorCode) : null;
+        if (factory == null) {
+            return null;
+        }
+        try {
+            return factory.apply(details != null ? details : Map.of());
+        } catch (RuntimeException e) {
+            return null;
+        }
+    }
+
+    private static String codeOf(ErrorCode errorCode) {
+        return errorCode instanceof Enum<?> constant ? constant.name() : errorCode.getClass().getName();
+    }
+
+    private static String stringOf(Map<String, Object> details, String key) {
+        Object value = details.get(key);
+        if (value == null) {
+            throw new IllegalArgumentException("Missing detail: " + key);
+        }
+        return value.toString();
+    }
+
+    private static UUID uuidOf(Map<String, Object> details, String key) {
+        Object value = details.get(key);
+        return value instanceof UUID uuid ? uuid : UUID.fromString(stringOf(details, key));
+    }
+}
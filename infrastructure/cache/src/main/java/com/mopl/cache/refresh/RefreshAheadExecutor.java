@@ -0,0 +1,74 @@
+package com.mopl.cache.refresh;
+
+import org.springframework.beans.factory.DisposableBean;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+
+/**
+ * refresh-ahead 백그라운드 재로드 실행기.
+ *
+ * <p>가상 스레드에서 실행하되 동시 재로드 수를 permit으로 제한하고, 같은 키의 재로드는 한 번만 허용합니다.
+ * permit이 없으면 재로드를 건너뛰며, 이 경우 엔트리는 L2 TTL 만료 후 일반 로드 경로로 갱신됩니다.
+ */
+public class RefreshAheadExecutor implements DisposableBean {
+
+    private final ExecutorService executor;
+    private final Semaphore permits;
+    private final Set<String> refreshingKeys = ConcurrentHashMap.newKeySet();
+
+    public RefreshAheadExecutor(int maxConcurrentRefreshes) {
+        this(maxConcurrentRefreshes, Executors.newThreadPerTaskExecutor(
+            Thread.ofVirtual().name("cache-refresh-", 0).factory()
+        ));
+    }
+
+    public RefreshAheadExecutor(int maxConcurrentRefreshes, ExecutorService executor) {
+        this.executor = executor;
+        this.permits = new Semaphore(maxConcurrentRefreshes);
+    }
+
+    /**
+     * @return 재로드가 예약되었으면 true, 이미 진행 중이거나 permit이 없으면 false
+     */
+    public boolean submit(String fullKey, Runnable refresh) {
+        if (!refreshingKeys.add(fullKey)) {
+            return false;
+        }
+        if (!permits.tryAcquire()) {
+            refreshingKeys.remove(fullKey);
+            return false;
+        }
+        try {
+            executor.execute(() -> {
+                try {
+                    refresh.run();
+                } finally {
+                    release(fullKey);
+                }
+            });
+            return true;
+        } catch (RejectedExecutionException e) {
+            release(fullKey);
+            return false;
+        }
+    }
+
+    public int inFlight() {
+        return refreshingKeys.size();
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdown();
+    }
+
+    private void release(String fullKey) {
+        permits.release();
+        refreshingKeys.remove(fullKey);
+    }
+}
@@ -1,5 +1,7 @@
 package com.mopl.cache;
 
+import com.mopl.cache.config.CacheProperties.HotKeyConfig;
+import com.mopl.cache.hotkey.HotKeyTracker;
 import io.micrometer.core.instrument.Counter;
 import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.core.instrument.Timer;
@@ -9,6 +11,8 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 
+import java.time.Duration;
+
 import static org.assertj.core.api.Assertions.assertThat;
 
 @DisplayName("CacheMetrics 단위 테스트")
@@ -64,6 +68,32 @@ class CacheMetricsTest {
         }
     }
 
+    @Nested
+    @DisplayName("recordNegativeHit()")
+    class RecordNegativeHitTest {
+
+        @Test
+        @DisplayName("일반 히트와 분리된 negative 히트 카운터 증가")
+        void withCacheName_incrementsNegativeHitCounterOnly() {
+            // when
+            metrics.recordNegativeHit("users");
+            metrics.recordNegativePut("users");
+
+            // then
+            Counter hit = registry.find("mopl.cache.negative.hit")
+                .tag("cache", "users")
+                .counter();
+            Counter put = registry.find("mopl.cache.negative.put")
+                .tag("cache", "users")
+                .counter();
+            assertThat(hit).isNotNull();
+            assertThat(hit.count()).isEqualTo(1.0);
+            assertThat(put).isNotNull();
+            assertThat(put.count()).isEqualTo(1.0);
+            assertThat(registry.find("mopl.cache.hit").counter()).isNull();
+        }
+    }
+
     @Nested
     @DisplayName("recordMiss()")
     class RecordMissTest {
@@ -121,6 +151,140 @@ class CacheMetricsTest {
         }
     }
 
+    @Nested
+    @DisplayName("recordCoalesced()")
+    class RecordCoalescedTest {
+
+        @Test
+        @DisplayName("scope별 coalesced 카운터 증가")
+        void withCacheNameAndScope_incrementsCoalescedCounter() {
+            // when
+            metrics.recordCoalesced("contents", "local");
+            metrics.recordCoalesced("contents", "local");
+            metrics.recordCoalesced("contents", "remote");
+
+            // then
+            Counter local = registry.find("mopl.cache.load.coalesced")
+                .tag("cache", "contents")
+                .tag("scope", "local")
+                .counter();
+            Counter remote = registry.find("mopl.cache.load.coalesced")
+                .tag("cache", "contents")
+                .tag("scope", "remote")
+                .counter();
+            assertThat(local).isNotNull();
+            assertThat(local.count()).isEqualTo(2.0);
+            assertThat(remote).isNotNull();
+            assertThat(remote.count()).isEqualTo(1.0);
+        }
+    }
+
+    @Nested
+    @DisplayName("recordRefresh()")
+    class RecordRefreshTest {
+
+        @Test
+        @DisplayName("결과별 refresh 카운터와 지연 타이머 기록")
+        void withResult_incrementsCounterAndRecordsLag() {
+            // when
+            metrics.recordRefresh("users", "success");
+            metrics.recordRefresh("users", "failure");
+            metrics.recordRefreshLag("users", Duration.ofMillis(120));
+
+            // then
+            Counter success = registry.find("mopl.cache.refresh")
+                .tag("cache", "users")
+                .tag("result", "success")
+                .counter();
+            Counter failure = registry.find("mopl.cache.refresh")
+                .tag("cache", "users")
+                .tag("result", "failure")
+                .counter();
+            Timer lag = registry.find("mopl.cache.refresh.lag")
+                .tag("cache", "users")
+                .timer();
+            assertThat(success).isNotNull();
+            assertThat(success.count()).isEqualTo(1.0);
+            assertThat(failure).isNotNull();
+            assertThat(failure.count()).isEqualTo(1.0);
+            assertThat(lag).isNotNull();
+            assertThat(lag.count()).isEqualTo(1);
+        }
+    }
+
+    @Nested
+    @DisplayName("recordClear()")
+    class RecordClearTest {
+
+        @Test
+        @DisplayName("배치별 삭제 키 수를 누적하고 결과별 소요 시간과 진행 중 gauge 기록")
+        void withProgress_recordsKeysDurationAndActive() {
+            // when
+            metrics.recordClearProgress("presigned-urls", 500);
+            metrics.recordClearProgress("presigned-urls", 120);
+            metrics.recordClear("presigned-urls", "success", Duration.ofMillis(40));
+            metrics.monitorClearsInProgress(() -> 2);
+
+            // then
+            Counter keys = registry.find("mopl.cache.clear.keys")
+                .tag("cache", "presigned-urls")
+                .counter();
+            Timer duration = registry.find("mopl.cache.clear.duration")
+                .tag("cache", "presigned-urls")
+                .tag("result", "success")
+                .timer();
+            assertThat(keys).isNotNull();
+            assertThat(keys.count()).isEqualTo(620.0);
+            assertThat(duration).isNotNull();
+            assertThat(duration.count()).isEqualTo(1);
+            assertThat(registry.get("mopl.cache.clear.active").gauge().value()).isEqualTo(2.0);
+        }
+    }
+
+    @Nested
+    @DisplayName("hot keys")
+    class HotKeyMetricsTest {
+
+        @Test
+        @DisplayName("고정 히트는 pinned 레벨 히트로, 고정 이벤트는 이벤트별 카운터로 기록")
+        void withPinnedHitAndEvent_incrementsCounters() {
+            // when
+            metrics.recordPinnedHit("contents");
+            metrics.recordHotKey("contents", "stale");
+
+            // then
+            Counter hit = registry.find("mopl.cache.hit")
+                .tag("cache", "contents")
+                .tag("level", "pinned")
+                .counter();
+            Counter stale = registry.find("mopl.cache.hotkey")
+                .tag("cache", "contents")
+                .tag("event", "stale")
+                .counter();
+            assertThat(hit).isNotNull();
+            assertThat(hit.count()).isEqualTo(1.0);
+            assertThat(stale).isNotNull();
+            assertThat(stale.count()).isEqualTo(1.0);
+        }
+
+        @Test
+        @DisplayName("고정 개수와 순위별 빈도 gauge 등록")
+        void withTracker_registersGauges() {
+            // given
+            HotKeyTracker tracker = new HotKeyTracker(new HotKeyConfig(true, 1, 2, Duration.ofMinutes(1), Duration.ofSeconds(5), 64));
+            tracker.recordAccess("mopl:contents::1");
+            tracker.recordAccess("mopl:contents::1");
+
+            // when
+            metrics.monitorHotKeys("contents", tracker, 2);
+
+            // then
+            assertThat(registry.get("mopl.cache.hotkey.pinned").tag("cache", "contents").gauge().value()).isZero();
+            assertThat(registry.get("mopl.cache.hotkey.frequency").tag("rank", "1").gauge().value()).isEqualTo(2.0);
+            assertThat(registry.get("mopl.cache.hotkey.frequency").tag("rank", "2").gauge().value()).isZero();
+        }
+    }
+
     @Nested
     @DisplayName("recordRedisError()")
     class RecordRedisErrorTest {
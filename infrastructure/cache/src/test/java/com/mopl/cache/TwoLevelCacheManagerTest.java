@@ -4,20 +4,26 @@ import com.github.benmanes.caffeine.cache.Cache;
 import com.mopl.cache.config.CacheProperties;
 import com.mopl.cache.config.CacheProperties.L1Config;
 import com.mopl.cache.config.CacheProperties.L2Config;
+import com.mopl.cache.invalidation.CacheInvalidationBus;
 import com.mopl.domain.support.cache.CacheName;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.redis.core.RedisTemplate;
 
 import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.then;
 
 @ExtendWith(MockitoExtension.class)
 @DisplayName("TwoLevelCacheManager 단위 테스트")
@@ -39,9 +45,15 @@ class TwoLevelCacheManagerTest {
             new L1Config(10000, Duration.ofSeconds(30), true),
             new L2Config(Duration.ofMinutes(10)),
             false,
+            null,
+            null,
+            null,
+            null,
+            null,
+            null,
             null
         );
-        cacheManager = new TwoLevelCacheManager(l1Cache, redisTemplate, properties, null);
+        cacheManager = new TwoLevelCacheManager(cacheName -> l1Cache, redisTemplate, properties, null, null, null, null, null);
     }
 
     @Nested
@@ -79,6 +91,64 @@ class TwoLevelCacheManagerTest {
         }
     }
 
+    @Nested
+    @DisplayName("L1 per cache")
+    class L1PerCacheTest {
+
+        @Test
+        @DisplayName("캐시 이름마다 L1CacheFactory로 L1을 생성")
+        void withInitialization_createsL1PerCacheName() {
+            // given
+            List<String> createdFor = new ArrayList<>();
+
+            // when
+            new TwoLevelCacheManager(cacheName -> {
+                createdFor.add(cacheName);
+                return l1Cache;
+            }, null, properties, null, null, null, null, null);
+
+            // then
+            assertThat(createdFor).containsExactlyInAnyOrder(CacheName.all());
+        }
+    }
+
+    @Nested
+    @DisplayName("redis template per cache")
+    class RedisTemplatePerCacheTest {
+
+        @Test
+        @DisplayName("resolver가 있으면 캐시 이름마다 RedisTemplate을 선택")
+        void withResolver_resolvesTemplatePerCacheName() {
+            // given
+            List<String> resolvedFor = new ArrayList<>();
+
+            // when
+            new TwoLevelCacheManager(cacheName -> l1Cache, redisTemplate, properties, null, null, null, cacheName -> {
+                resolvedFor.add(cacheName);
+                return redisTemplate;
+            }, null);
+
+            // then
+            assertThat(resolvedFor).containsExactlyInAnyOrder(CacheName.all());
+        }
+
+        @Test
+        @DisplayName("Redis가 비활성화되면 resolver를 호출하지 않음")
+        void withoutRedis_skipsResolver() {
+            // given
+            List<String> resolvedFor = new ArrayList<>();
+
+            // when
+            new TwoLevelCacheManager(cacheName -> l1Cache, null, properties, null, null, null, cacheName -> {
+                resolvedFor.add(cacheName);
+                return redisTemplate;
+            }, null);
+
+            // then
+            assertThat(resolvedFor).isEmpty();
+        }
+    }
+
     @Nested
     @DisplayName("getCache()")
     class GetCacheTest {
@@ -127,7 +197,7 @@ class TwoLevelCacheManagerTest {
 
         @BeforeEach
         void setUp() {
-            cacheManager = new TwoLevelCacheManager(l1Cache, null, properties, null);
+            cacheManager = new TwoLevelCacheManager(cacheName -> l1Cache, null, properties, null, null, null, null, null);
         }
 
         @Test
@@ -147,4 +217,40 @@ class TwoLevelCacheManagerTest {
             assertThat(cache).isNotNull();
         }
     }
+
+    @Nested
+    @DisplayName("invalidation bus")
+    class InvalidationBusTest {
+
+        @Mock
+        private CacheInvalidationBus invalidationBus;
+
+        @Test
+        @DisplayName("버스가 있으면 로컬 무효화 핸들러를 등록")
+        void withInvalidationBus_registersHandler() {
+            // when
+            cacheManager = new TwoLevelCacheManager(cacheName -> l1Cache, null, properties, null, invalidationBus, null, null, null);
+
+            // then
+            then(invalidationBus).should().register(any(CacheInvalidationBus.Handler.class));
+        }
+
+        @Test
+        @DisplayName("원격 무효화 수신시 해당 캐시의 L1 키를 무효화")
+        void withRemoteInvalidation_invalidatesL1Key() {
+            // given
+            cacheManager = new TwoLevelCacheManager(cacheName -> l1Cache, null, properties, null, invalidationBus, null, null, null);
+            ArgumentCaptor<CacheInvalidationBus.Handler> handlerCaptor =
+                ArgumentCaptor.forClass(CacheInvalidationBus.Handler.class);
+            then(invalidationBus).should().register(handlerCaptor.capture());
+
+            // when
+            handlerCaptor.getValue().invalidateLocal(CacheName.USERS, "1");
+            handlerCaptor.getValue().invalidateLocal("unknown-cache", "1");
+
+            // then
+            then(l1Cache).should().invalidate("mopl:" + CacheName.USERS + "::1");
+            then(l1Cache).shouldHaveNoMoreInteractions();
+        }
+    }
 }
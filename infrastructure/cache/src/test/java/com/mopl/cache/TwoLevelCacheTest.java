@@ -1,26 +1,48 @@
 package com.mopl.cache;
 
 import com.github.benmanes.caffeine.cache.Cache;
+import com.mopl.cache.clear.RedisCacheClearer;
 import com.mopl.cache.config.CacheProperties;
+import com.mopl.cache.config.CacheProperties.CacheSpec;
+import com.mopl.cache.config.CacheProperties.HotKeyConfig;
 import com.mopl.cache.config.CacheProperties.L1Config;
 import com.mopl.cache.config.CacheProperties.L2Config;
+import com.mopl.cache.config.CacheProperties.SingleFlightConfig;
+import com.mopl.cache.hotkey.HotKeyTracker;
+import com.mopl.cache.invalidation.CacheInvalidationBus;
+import com.mopl.cache.negative.Tombstone;
+import com.mopl.cache.refresh.RefreshAheadExecutor;
+import com.mopl.domain.exception.user.UserNotFoundException;
 import io.micrometer.core.instrument.Timer;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisCallback;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.SessionCallback;
 import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.script.RedisScript;
 
 import java.time.Duration;
+import java.util.Arrays;
 import java.util.List;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.ConcurrentMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
@@ -31,6 +53,8 @@ import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.then;
 import static org.mockito.BDDMockito.willThrow;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
 
 @ExtendWith(MockitoExtension.class)
 @DisplayName("TwoLevelCache 단위 테스트")
@@ -50,6 +74,7 @@ class TwoLevelCacheTest {
     private static final String CACHE_NAME = "users";
     private static final String KEY_PREFIX = "mopl:";
     private static final Duration TTL = Duration.ofMinutes(10);
+    private static final String LEASE_KEY_PREFIX = KEY_PREFIX + "lease:" + CACHE_NAME + "::";
 
     @BeforeEach
     void setUp() {
@@ -58,9 +83,15 @@ class TwoLevelCacheTest {
             new L1Config(10000, Duration.ofSeconds(30), true),
             new L2Config(TTL),
             false,
+            null,
+            null,
+            null,
+            null,
+            null,
+            null,
             null
         );
-        cache = new TwoLevelCache(CACHE_NAME, l1Cache, redisTemplate, properties, TTL, null);
+        cache = new TwoLevelCache(CACHE_NAME, l1Cache, redisTemplate, properties, TTL, null, null, null, null);
     }
 
     @Nested
@@ -159,6 +190,8 @@ class TwoLevelCacheTest {
             given(l1Cache.getIfPresent(fullKey)).willReturn(null);
             given(redisTemplate.opsForValue()).willReturn(valueOperations);
             given(valueOperations.get(fullKey)).willReturn(null);
+            given(valueOperations.setIfAbsent(eq(LEASE_KEY_PREFIX + key), anyString(), any(Duration.class)))
+                .willReturn(true);
 
             // when
             Object result = cache.get(key, () -> expectedValue);
@@ -167,6 +200,7 @@ class TwoLevelCacheTest {
             assertThat(result).isEqualTo(expectedValue);
             then(valueOperations).should().set(eq(fullKey), eq(expectedValue), eq(TTL));
             then(l1Cache).should().put(fullKey, expectedValue);
+            then(redisTemplate).should().execute(any(RedisScript.class), eq(List.of(LEASE_KEY_PREFIX + key)), anyString());
         }
 
         @Test
@@ -178,6 +212,8 @@ class TwoLevelCacheTest {
             given(l1Cache.getIfPresent(fullKey)).willReturn(null);
             given(redisTemplate.opsForValue()).willReturn(valueOperations);
             given(valueOperations.get(fullKey)).willReturn(null);
+            given(valueOperations.setIfAbsent(eq(LEASE_KEY_PREFIX + key), anyString(), any(Duration.class)))
+                .willReturn(true);
 
             // when & then
             assertThatThrownBy(() -> cache.get(key, () -> {
@@ -222,6 +258,252 @@ class TwoLevelCacheTest {
         }
     }
 
+    @Nested
+    @DisplayName("single-flight load")
+    class SingleFlightTest {
+
+        @Mock
+        private CacheMetrics metrics;
+
+        private CacheProperties properties;
+
+        @BeforeEach
+        void setUp() {
+            properties = new CacheProperties(
+                KEY_PREFIX,
+                new L1Config(10000, Duration.ofSeconds(30), true),
+                new L2Config(TTL),
+                true,
+                null,
+                new SingleFlightConfig(true, Duration.ofSeconds(5), Duration.ofMillis(500), Duration.ofMillis(10)),
+                null,
+                null,
+                null,
+                null,
+                null
+            );
+        }
+
+        @Test
+        @DisplayName("같은 키를 동시에 로드하면 valueLoader는 한 번만 호출되고 대기자는 같은 결과를 받음")
+        void withConcurrentMisses_callsLoaderOnce() throws Exception {
+            // given
+            TwoLevelCache localCache = new TwoLevelCache(CACHE_NAME, l1Cache, null, properties, TTL, metrics, null, null, null);
+            String key = "1";
+            CountDownLatch loaderStarted = new CountDownLatch(1);
+            CountDownLatch releaseLoader = new CountDownLatch(1);
+            AtomicInteger loadCount = new AtomicInteger();
+            Callable<String> loader = () -> {
+                loadCount.incrementAndGet();
+                loaderStarted.countDown();
+                releaseLoader.await();
+                return "user1";
+            };
+
+            try (ExecutorService executor = Executors.newFixedThreadPool(2)) {
+                // when
+                Future<Object> leader = executor.submit(() -> localCache.get(key, loader));
+                assertThat(loaderStarted.await(1, TimeUnit.SECONDS)).isTrue();
+                Future<Object> waiter = executor.submit(() -> localCache.get(key, loader));
+                then(metrics).should(timeout(1000)).recordCoalesced(CACHE_NAME, "local");
+                releaseLoader.countDown();
+
+                // then
+                assertThat(leader.get(1, TimeUnit.SECONDS)).isEqualTo("user1");
+                assertThat(waiter.get(1, TimeUnit.SECONDS)).isEqualTo("user1");
+                assertThat(loadCount).hasValue(1);
+            }
+        }
+
+        @Test
+        @DisplayName("valueLoader 실패시 대기자도 ValueRetrievalException을 받음")
+        void withLoaderFailure_propagatesToWaiters() throws Exception {
+            // given
+            TwoLevelCache localCache = new TwoLevelCache(CACHE_NAME, l1Cache, null, properties, TTL, metrics, null, null, null);
+            String key = "1";
+            CountDownLatch loaderStarted = new CountDownLatch(1);
+            CountDownLatch releaseLoader = new CountDownLatch(1);
+            Callable<String> loader = () -> {
+                loaderStarted.countDown();
+                releaseLoader.await();
+                throw new IllegalStateException("DB error");
+            };
+
+            try (ExecutorService executor = Executors.newFixedThreadPool(2)) {
+                // when
+                Future<Object> leader = executor.submit(() -> localCache.get(key, loader));
+                assertThat(loaderStarted.await(1, TimeUnit.SECONDS)).isTrue();
+                Future<Object> waiter = executor.submit(() -> localCache.get(key, loader));
+                then(metrics).should(timeout(1000)).recordCoalesced(CACHE_NAME, "local");
+                releaseLoader.countDown();
+
+                // then
+                assertThatThrownBy(() -> leader.get(1, TimeUnit.SECONDS))
+                    .hasCauseInstanceOf(org.springframework.cache.Cache.ValueRetrievalException.class);
+                assertThatThrownBy(() -> waiter.get(1, TimeUnit.SECONDS))
+                    .hasCauseInstanceOf(org.springframework.cache.Cache.ValueRetrievalException.class);
+            }
+        }
+
+        @Test
+        @DisplayName("다른 노드가 lease를 보유하면 L2에 채워진 값을 사용하고 valueLoader를 호출하지 않음")
+        void withPeerHoldingLease_usesValueLoadedByPeer() {
+            // given
+            TwoLevelCache distributedCache = new TwoLevelCache(CACHE_NAME, l1Cache, redisTemplate, properties, TTL, metrics, null, null, null);
+            String key = "1";
+            String fullKey = KEY_PREFIX + CACHE_NAME + "::" + key;
+            given(redisTemplate.opsForValue()).willReturn(valueOperations);
+            given(valueOperations.get(fullKey)).willReturn(null, "user1");
+            given(valueOperations.setIfAbsent(eq(LEASE_KEY_PREFIX + key), anyString(), any(Duration.class)))
+                .willReturn(false);
+            AtomicInteger loadCount = new AtomicInteger();
+
+            // when
+            Object result = distributedCache.get(key, () -> {
+                loadCount.incrementAndGet();
+                return "loaded";
+            });
+
+            // then
+            assertThat(result).isEqualTo("user1");
+            assertThat(loadCount).hasValue(0);
+            then(l1Cache).should().put(fullKey, "user1");
+            then(metrics).should().recordCoalesced(CACHE_NAME, "remote");
+        }
+
+        @Test
+        @DisplayName("lease 보유 노드가 값 없이 lease를 해제하면 직접 로드")
+        void withPeerReleasingLeaseWithoutValue_loadsItself() {
+            // given
+            TwoLevelCache distributedCache = new TwoLevelCache(CACHE_NAME, l1Cache, redisTemplate, properties, TTL, metrics, null, null, null);
+            String key = "1";
+            String fullKey = KEY_PREFIX + CACHE_NAME + "::" + key;
+            given(redisTemplate.opsForValue()).willReturn(valueOperations);
+            given(valueOperations.get(fullKey)).willReturn(null);
+            given(valueOperations.setIfAbsent(eq(LEASE_KEY_PREFIX + key), anyString(), any(Duration.class)))
+                .willReturn(false);
+            given(redisTemplate.hasKey(LEASE_KEY_PREFIX + key)).willReturn(false);
+
+            // when
+            Object result = distributedCache.get(key, () -> "loaded");
+
+            // then
+            assertThat(result).isEqualTo("loaded");
+            then(valueOperations).should().set(fullKey, "loaded", TTL);
+            then(metrics).should(never()).recordCoalesced(anyString(), anyString());
+        }
+    }
+
+    @Nested
+    @DisplayName("getAll()")
+    class GetAllTest {
+
+        private final String prefix = KEY_PREFIX + CACHE_NAME + "::";
+
+        @Test
+        @DisplayName("모든 키가 L1에 있으면 Redis와 bulkLoader를 호출하지 않음")
+        void withAllL1Hits_returnsFromL1() {
+            // given
+            given(l1Cache.getAllPresent(List.of(prefix + "1", prefix + "2")))
+                .willReturn(Map.of(prefix + "1", "user1", prefix + "2", "user2"));
+
+            // when
+            Map<String, String> result = cache.getAll(List.of("1", "2"), missing -> {
+                throw new AssertionError("bulkLoader must not be called");
+            });
+
+            // then
+            assertThat(result).containsExactlyInAnyOrderEntriesOf(Map.of("1", "user1", "2", "user2"));
+            then(redisTemplate).shouldHaveNoInteractions();
+        }
+
+        @Test
+        @DisplayName("L1 미스는 MGET 한 번으로 조회하고 남은 키만 bulkLoader로 로드")
+        void withPartialHits_usesSingleMgetAndSingleBulkLoad() {
+            // given
+            given(l1Cache.getAllPresent(List.of(prefix + "1", prefix + "2", prefix + "3")))
+                .willReturn(Map.of(prefix + "1", "user1"));
+            given(redisTemplate.opsForValue()).willReturn(valueOperations);
+            given(valueOperations.multiGet(List.of(prefix + "2", prefix + "3"))).willReturn(Arrays.asList("user2", null));
+            AtomicInteger loaderCalls = new AtomicInteger();
+
+            // when
+            Map<String, String> result = cache.getAll(List.of("1", "2", "3"), missing -> {
+                loaderCalls.incrementAndGet();
+                assertThat(missing).containsExactly("3");
+                return Map.of("3", "user3");
+            });
+
+            // then
+            assertThat(result).containsExactlyInAnyOrderEntriesOf(Map.of("1", "user1", "2", "user2", "3", "user3"));
+            assertThat(loaderCalls.get()).isEqualTo(1);
+            then(l1Cache).should().put(prefix + "2", "user2");
+            then(l1Cache).should().putAll(Map.of(prefix + "3", "user3"));
+            then(redisTemplate).should().executePipelined(any(SessionCallback.class));
+        }
+
+        @Test
+        @DisplayName("L1에 tombstone이 있으면 값으로 반환하지 않고 L1에서 제거")
+        void withL1Tombstone_excludesFromResult() {
+            // given
+            given(l1Cache.getAllPresent(List.of(prefix + "1", prefix + "2")))
+                .willReturn(Map.of(prefix + "1", Tombstone.of(UserNotFoundException.withId(UUID.randomUUID())), prefix + "2", "user2"));
+
+            // when
+            Map<String, String> result = cache.getAll(List.of("1", "2"), missing -> {
+                throw new AssertionError("bulkLoader must not be called");
+            });
+
+            // then
+            assertThat(result).containsExactly(Map.entry("2", "user2"));
+            then(l1Cache).should().invalidate(prefix + "1");
+            then(redisTemplate).shouldHaveNoInteractions();
+        }
+
+        @Test
+        @DisplayName("bulkLoader가 반환하지 않은 키는 결과와 캐시에서 제외")
+        void withUnloadedKey_excludesFromResult() {
+            // given
+            given(l1Cache.getAllPresent(List.of(prefix + "1"))).willReturn(Map.of());
+            given(redisTemplate.opsForValue()).willReturn(valueOperations);
+            given(valueOperations.multiGet(List.of(prefix + "1"))).willReturn(Arrays.asList((Object) null));
+
+            // when
+            Map<String, String> result = cache.getAll(List.of("1"), missing -> Map.of());
+
+            // then
+            assertThat(result).isEmpty();
+            then(l1Cache).should(never()).putAll(any());
+            then(redisTemplate).should(never()).executePipelined(any(SessionCallback.class));
+        }
+
+        @Test
+        @DisplayName("Redis MGET 실패시 bulkLoader로 폴백")
+        void withMgetFailure_fallsBackToBulkLoader() {
+            // given
+            given(l1Cache.getAllPresent(List.of(prefix + "1"))).willReturn(Map.of());
+            given(redisTemplate.opsForValue()).willReturn(valueOperations);
+            given(valueOperations.multiGet(List.of(prefix + "1"))).willThrow(new RuntimeException("Redis down"));
+
+            // when
+            Map<String, String> result = cache.getAll(List.of("1"), missing -> Map.of("1", "user1"));
+
+            // then
+            assertThat(result).containsEntry("1", "user1");
+        }
+
+        @Test
+        @DisplayName("빈 키 목록이면 빈 맵 반환")
+        void withEmptyKeys_returnsEmptyMap() {
+            // when
+            Map<String, String> result = cache.getAll(List.of(), missing -> Map.of());
+
+            // then
+            assertThat(result).isEmpty();
+            then(l1Cache).shouldHaveNoInteractions();
+        }
+    }
+
     @Nested
     @DisplayName("put()")
     class PutTest {
@@ -341,10 +623,6 @@ class TwoLevelCacheTest {
         @DisplayName("Redis clear 실패시 L1만 클리어하고 서비스 계속")
         void withRedisClearFailure_clearsL1OnlyAndContinues() {
             // given
-            String prefix = KEY_PREFIX + CACHE_NAME + "::";
-            ConcurrentMap<String, Object> l1Map = new ConcurrentHashMap<>();
-            l1Map.put(prefix + "1", "value1");
-            given(l1Cache.asMap()).willReturn(l1Map);
             willThrow(new RuntimeException("Redis connection failed"))
                 .given(redisTemplate).scan(any(ScanOptions.class));
 
@@ -352,7 +630,7 @@ class TwoLevelCacheTest {
             cache.clear();
 
             // then
-            then(l1Cache).should().invalidate(prefix + "1");
+            then(l1Cache).should().invalidateAll();
         }
     }
 
@@ -367,9 +645,15 @@ class TwoLevelCacheTest {
                 new L1Config(10000, Duration.ofSeconds(30), true),
                 new L2Config(TTL),
                 false,
+                null,
+                null,
+                null,
+                null,
+                null,
+                null,
                 null
             );
-            cache = new TwoLevelCache(CACHE_NAME, l1Cache, null, properties, TTL, null);
+            cache = new TwoLevelCache(CACHE_NAME, l1Cache, null, properties, TTL, null, null, null, null);
         }
 
         @Test
@@ -422,25 +706,298 @@ class TwoLevelCacheTest {
         @Test
         @DisplayName("RedisTemplate이 null이면 L1만 사용하여 clear")
         void withNullRedisTemplate_usesL1OnlyForClear() {
-            // given
-            String prefix = KEY_PREFIX + CACHE_NAME + "::";
-            ConcurrentMap<String, Object> l1Map = new ConcurrentHashMap<>();
-            l1Map.put(prefix + "1", "value1");
-            l1Map.put(prefix + "2", "value2");
-            l1Map.put("other::key", "otherValue");
-            given(l1Cache.asMap()).willReturn(l1Map);
-
             // when
             cache.clear();
 
             // then
-            then(l1Cache).should().invalidate(prefix + "1");
-            then(l1Cache).should().invalidate(prefix + "2");
-            then(l1Cache).should(never()).invalidate("other::key");
+            then(l1Cache).should().invalidateAll();
             then(redisTemplate).shouldHaveNoInteractions();
         }
     }
 
+    @Nested
+    @DisplayName("invalidation bus")
+    class InvalidationBusTest {
+
+        @Mock
+        private CacheInvalidationBus invalidationBus;
+
+        private TwoLevelCache cacheWithBus;
+
+        @BeforeEach
+        void setUp() {
+            CacheProperties properties = new CacheProperties(
+                KEY_PREFIX,
+                new L1Config(10000, Duration.ofSeconds(30), true),
+                new L2Config(TTL),
+                false,
+                null,
+                null,
+                null,
+                null,
+                null,
+                null,
+                null
+            );
+            cacheWithBus = new TwoLevelCache(CACHE_NAME, l1Cache, null, properties, TTL, null, invalidationBus, null, null);
+        }
+
+        @Test
+        @DisplayName("put시 다른 노드 L1 무효화를 발행")
+        void withPut_publishesEvict() {
+            // when
+            cacheWithBus.put("1", "user1");
+
+            // then
+            then(invalidationBus).should().publishEvict(CACHE_NAME, "1");
+        }
+
+        @Test
+        @DisplayName("evict시 다른 노드 L1 무효화를 발행")
+        void withEvict_publishesEvict() {
+            // when
+            cacheWithBus.evict("1");
+
+            // then
+            then(invalidationBus).should().publishEvict(CACHE_NAME, "1");
+        }
+
+        @Test
+        @DisplayName("clear시 캐시 전체 무효화를 발행")
+        void withClear_publishesClear() {
+            // when
+            cacheWithBus.clear();
+
+            // then
+            then(invalidationBus).should().publishClear(CACHE_NAME);
+        }
+
+        @Test
+        @DisplayName("evictLocal은 로컬 L1만 무효화하고 발행하지 않음")
+        void withEvictLocal_invalidatesL1Only() {
+            // when
+            cacheWithBus.evictLocal("1");
+
+            // then
+            then(l1Cache).should().invalidate(KEY_PREFIX + CACHE_NAME + "::1");
+            then(invalidationBus).shouldHaveNoInteractions();
+        }
+
+        @Test
+        @DisplayName("clearLocal은 키를 훑지 않고 이 캐시의 L1 전체를 비움")
+        void withClearLocal_invalidatesWholeL1() {
+            // when
+            cacheWithBus.clearLocal();
+
+            // then
+            then(l1Cache).should().invalidateAll();
+            then(l1Cache).should(never()).asMap();
+            then(invalidationBus).shouldHaveNoInteractions();
+        }
+    }
+
+    @Nested
+    @DisplayName("refresh-ahead")
+    class RefreshAheadTest {
+
+        @Mock
+        private RefreshAheadExecutor refreshExecutor;
+
+        private TwoLevelCache refreshingCache;
+
+        private final String fullKey = KEY_PREFIX + CACHE_NAME + "::1";
+
+        @BeforeEach
+        void setUp() {
+            CacheProperties properties = new CacheProperties(
+                KEY_PREFIX,
+                new L1Config(10000, Duration.ofSeconds(30), true),
+                new L2Config(TTL),
+                true,
+                null,
+                null,
+                null,
+                Map.of(CACHE_NAME, new CacheSpec(null, null, null, null, 0.8, null, null)),
+                null,
+                null,
+                null
+            );
+            refreshingCache = new TwoLevelCache(CACHE_NAME, l1Cache, redisTemplate, properties, TTL, null, null, refreshExecutor, null);
+        }
+
+        @Test
+        @DisplayName("TTL의 refreshAheadRatio가 지난 L2 값은 즉시 반환하고 백그라운드 재로드를 예약")
+        void withStaleL2Hit_returnsValueAndSchedulesRefresh() {
+            // given
+            given(l1Cache.getIfPresent(fullKey)).willReturn(null);
+            given(redisTemplate.executePipelined(any(RedisCallback.class))).willReturn(List.of("user1", Duration.ofMinutes(1).toMillis()));
+            given(refreshExecutor.submit(eq(fullKey), any(Runnable.class))).willReturn(true);
+
+            // when
+            String result = refreshingCache.get("1", () -> "reloaded");
+
+            // then
+            assertThat(result).isEqualTo("user1");
+            then(l1Cache).should().put(fullKey, "user1");
+
+            ArgumentCaptor<Runnable> refreshCaptor = ArgumentCaptor.forClass(Runnable.class);
+            then(refreshExecutor).should().submit(eq(fullKey), refreshCaptor.capture());
+
+            given(redisTemplate.opsForValue()).willReturn(valueOperations);
+            refreshCaptor.getValue().run();
+            then(valueOperations).should().set(fullKey, "reloaded", TTL);
+            then(l1Cache).should().put(fullKey, "reloaded");
+        }
+
+        @Test
+        @DisplayName("남은 TTL이 충분하면 재로드하지 않음")
+        void withFreshL2Hit_doesNotRefresh() {
+            // given
+            given(l1Cache.getIfPresent(fullKey)).willReturn(null);
+            given(redisTemplate.executePipelined(any(RedisCallback.class))).willReturn(List.of("user1", Duration.ofMinutes(9).toMillis()));
+
+            // when
+            String result = refreshingCache.get("1", () -> "reloaded");
+
+            // then
+            assertThat(result).isEqualTo("user1");
+            then(refreshExecutor).shouldHaveNoInteractions();
+        }
+
+        @Test
+        @DisplayName("L2 만료 시각을 아는 L1 히트는 Redis를 조회하지 않음")
+        void withL1Hit_skipsRedis() {
+            // given
+            given(l1Cache.getIfPresent(fullKey)).willReturn(null, "user1");
+            given(redisTemplate.executePipelined(any(RedisCallback.class))).willReturn(List.of("user1", Duration.ofMinutes(9).toMillis()));
+            refreshingCache.get("1", () -> "reloaded");
+
+            // when
+            String result = refreshingCache.get("1", () -> "reloaded");
+
+            // then
+            assertThat(result).isEqualTo("user1");
+            then(redisTemplate).should(times(1)).executePipelined(any(RedisCallback.class));
+            then(redisTemplate).should(never()).execute(any(RedisScript.class), any(List.class));
+            then(refreshExecutor).shouldHaveNoInteractions();
+        }
+
+        @Test
+        @DisplayName("L1이 계속 히트해도 L2 만료가 가까우면 백그라운드 재로드를 예약")
+        void withWarmL1AndExpiringL2_schedulesRefresh() {
+            // given
+            given(l1Cache.getIfPresent(fullKey)).willReturn("user1");
+            given(redisTemplate.execute(any(RedisScript.class), eq(List.of(fullKey))))
+                .willReturn(System.currentTimeMillis() + Duration.ofMinutes(1).toMillis());
+            given(refreshExecutor.submit(eq(fullKey), any(Runnable.class))).willReturn(true);
+
+            // when
+            String result = refreshingCache.get("1", () -> "reloaded");
+
+            // then
+            assertThat(result).isEqualTo("user1");
+            then(redisTemplate).should(never()).executePipelined(any(RedisCallback.class));
+
+            ArgumentCaptor<Runnable> refreshCaptor = ArgumentCaptor.forClass(Runnable.class);
+            then(refreshExecutor).should().submit(eq(fullKey), refreshCaptor.capture());
+
+            given(redisTemplate.opsForValue()).willReturn(valueOperations);
+            refreshCaptor.getValue().run();
+            then(valueOperations).should().set(fullKey, "reloaded", TTL);
+        }
+
+        @Test
+        @DisplayName("L1 히트에서 L2 만료 시각은 키마다 한 번만 조회")
+        void withRepeatedL1Hits_fetchesExpireTimeOnce() {
+            // given
+            given(l1Cache.getIfPresent(fullKey)).willReturn("user1");
+            given(redisTemplate.execute(any(RedisScript.class), eq(List.of(fullKey))))
+                .willReturn(System.currentTimeMillis() + Duration.ofMinutes(9).toMillis());
+
+            // when
+            refreshingCache.get("1", () -> "reloaded");
+            refreshingCache.get("1", () -> "reloaded");
+
+            // then
+            then(redisTemplate).should(times(1)).execute(any(RedisScript.class), eq(List.of(fullKey)));
+            then(refreshExecutor).shouldHaveNoInteractions();
+        }
+
+        @Test
+        @DisplayName("고정된 핫 키도 L2 버전(만료 시각)이 가까우면 백그라운드 재로드를 예약")
+        void withPinnedHotKeyNearExpiry_schedulesRefresh() {
+            // given
+            CacheProperties properties = new CacheProperties(
+                KEY_PREFIX,
+                new L1Config(10000, Duration.ofSeconds(30), true),
+                new L2Config(TTL),
+                true,
+                null,
+                null,
+                null,
+                Map.of(CACHE_NAME, new CacheSpec(null, null, null, null, 0.8, null, null)),
+                null,
+                null,
+                new HotKeyConfig(true, 1, 4, Duration.ofMinutes(10), Duration.ofMinutes(1), 64)
+            );
+            TwoLevelCache hotCache = new TwoLevelCache(CACHE_NAME, l1Cache, redisTemplate, properties, TTL, null, null, refreshExecutor, null);
+            long expiresAt = System.currentTimeMillis() + Duration.ofMinutes(1).toMillis();
+            given(l1Cache.getIfPresent(fullKey)).willReturn(null);
+            given(redisTemplate.opsForValue()).willReturn(valueOperations);
+            given(valueOperations.get(fullKey)).willReturn("user1");
+            given(redisTemplate.execute(any(RedisScript.class), eq(List.of(fullKey)))).willReturn(List.of("user1", expiresAt));
+            hotCache.get("1");
+            given(refreshExecutor.submit(eq(fullKey), any(Runnable.class))).willReturn(true);
+
+            // when
+            String result = hotCache.get("1", () -> "reloaded");
+
+            // then
+            assertThat(result).isEqualTo("user1");
+            then(l1Cache).should(times(1)).getIfPresent(fullKey);
+            then(refreshExecutor).should().submit(eq(fullKey), any(Runnable.class));
+        }
+
+        @Test
+        @DisplayName("valueLoader 없는 get(key)는 refresh-ahead를 적용하지 않음")
+        void withoutLoader_usesPlainGet() {
+            // given
+            given(l1Cache.getIfPresent(fullKey)).willReturn(null);
+            given(redisTemplate.opsForValue()).willReturn(valueOperations);
+            given(valueOperations.get(fullKey)).willReturn("user1");
+
+            // when
+            org.springframework.cache.Cache.ValueWrapper result = refreshingCache.get("1");
+
+            // then
+            assertThat(result).isNotNull();
+            assertThat(result.get()).isEqualTo("user1");
+            then(refreshExecutor).shouldHaveNoInteractions();
+        }
+
+        @Test
+        @DisplayName("백그라운드 재로드 실패시 기존 값을 유지")
+        void withRefreshFailure_keepsExistingValue() {
+            // given
+            given(l1Cache.getIfPresent(fullKey)).willReturn(null);
+            given(redisTemplate.executePipelined(any(RedisCallback.class))).willReturn(List.of("user1", 1000L));
+            given(refreshExecutor.submit(eq(fullKey), any(Runnable.class))).willReturn(true);
+
+            refreshingCache.get("1", () -> {
+                throw new IllegalStateException("DB down");
+            });
+            ArgumentCaptor<Runnable> refreshCaptor = ArgumentCaptor.forClass(Runnable.class);
+            then(refreshExecutor).should().submit(eq(fullKey), refreshCaptor.capture());
+
+            // when
+            refreshCaptor.getValue().run();
+
+            // then
+            then(redisTemplate).should(never()).opsForValue();
+            then(l1Cache).should(never()).invalidate(fullKey);
+        }
+    }
+
     @Nested
     @DisplayName("clear()")
     class ClearTest {
@@ -448,36 +1005,36 @@ class TwoLevelCacheTest {
         @Mock
         private Cursor<String> cursor;
 
+        @Mock
+        private RedisCacheClearer clearer;
+
+        @Mock
+        private CacheInvalidationBus invalidationBus;
+
+        private final String prefix = KEY_PREFIX + CACHE_NAME + "::";
+
         @Test
-        @DisplayName("L1과 L2를 모두 클리어")
+        @DisplayName("L1을 비우고 L2 키를 파이프라인 UNLINK로 삭제")
         void withClear_clearsBothL1AndL2() {
             // given
-            String prefix = KEY_PREFIX + CACHE_NAME + "::";
-            List<String> keys = List.of(prefix + "1", prefix + "2");
-            given(l1Cache.asMap()).willReturn(new ConcurrentHashMap<>());
             given(redisTemplate.scan(any(ScanOptions.class))).willReturn(cursor);
             given(cursor.hasNext()).willReturn(true, true, false);
-            given(cursor.next()).willReturn(keys.getFirst(), keys.get(1));
+            given(cursor.next()).willReturn(prefix + "1", prefix + "2");
+            given(redisTemplate.executePipelined(any(RedisCallback.class))).willReturn(List.of(1L, 1L));
 
             // when
             cache.clear();
 
             // then
-            then(redisTemplate).should().scan(any(ScanOptions.class));
-            then(redisTemplate).should().delete(keys.getFirst());
-            then(redisTemplate).should().delete(keys.get(1));
+            then(l1Cache).should(times(2)).invalidateAll();
+            then(redisTemplate).should().executePipelined(any(RedisCallback.class));
+            then(redisTemplate).should(never()).delete(anyString());
         }
 
         @Test
-        @DisplayName("L1에서 prefix가 일치하는 키만 삭제")
-        void withClear_deletesOnlyMatchingPrefixFromL1() {
+        @DisplayName("L1은 키를 훑지 않고 invalidateAll로 비움")
+        void withClear_doesNotScanL1() {
             // given
-            String prefix = KEY_PREFIX + CACHE_NAME + "::";
-            ConcurrentMap<String, Object> l1Map = new ConcurrentHashMap<>();
-            l1Map.put(prefix + "1", "value1");
-            l1Map.put(prefix + "2", "value2");
-            l1Map.put("other:cache::key", "otherValue");
-            given(l1Cache.asMap()).willReturn(l1Map);
             given(redisTemplate.scan(any(ScanOptions.class))).willReturn(cursor);
             given(cursor.hasNext()).willReturn(false);
 
@@ -485,9 +1042,296 @@ class TwoLevelCacheTest {
             cache.clear();
 
             // then
-            then(l1Cache).should().invalidate(prefix + "1");
-            then(l1Cache).should().invalidate(prefix + "2");
-            then(l1Cache).should(never()).invalidate("other:cache::key");
+            then(l1Cache).should(never()).asMap();
+            then(redisTemplate).should(never()).executePipelined(any(RedisCallback.class));
+        }
+
+        @Test
+        @DisplayName("clearer가 있으면 L2 삭제를 기다리지 않고 반환하고, 완료 후 다시 무효화")
+        void withClearer_returnsBeforeL2Completes() {
+            // given
+            CompletableFuture<Long> pending = new CompletableFuture<>();
+            given(clearer.clear(CACHE_NAME, prefix)).willReturn(pending);
+            TwoLevelCache asyncCache = new TwoLevelCache(
+                CACHE_NAME, l1Cache, redisTemplate, properties(), TTL, null, invalidationBus, null, clearer
+            );
+
+            // when
+            asyncCache.clear();
+
+            // then
+            then(l1Cache).should().invalidateAll();
+            then(invalidationBus).should().publishClear(CACHE_NAME);
+
+            // when
+            pending.complete(2L);
+
+            // then
+            then(l1Cache).should(times(2)).invalidateAll();
+            then(invalidationBus).should(times(2)).publishClear(CACHE_NAME);
+        }
+
+        @Test
+        @DisplayName("invalidate는 L2 삭제가 끝난 뒤 반환하고 삭제 여부를 반환")
+        void withInvalidate_clearsSynchronously() {
+            // given
+            given(clearer.clearNow(CACHE_NAME, prefix)).willReturn(3L);
+            TwoLevelCache asyncCache = new TwoLevelCache(
+                CACHE_NAME, l1Cache, redisTemplate, properties(), TTL, null, invalidationBus, null, clearer
+            );
+
+            // when
+            boolean result = asyncCache.invalidate();
+
+            // then
+            assertThat(result).isTrue();
+            then(clearer).should(never()).clear(anyString(), anyString());
+            then(l1Cache).should().invalidateAll();
+            then(invalidationBus).should().publishClear(CACHE_NAME);
+        }
+
+        private CacheProperties properties() {
+            return new CacheProperties(
+                KEY_PREFIX,
+                new L1Config(10000, Duration.ofSeconds(30), true),
+                new L2Config(TTL),
+                true,
+                null,
+                null,
+                null,
+                null,
+                null,
+                null,
+                null
+            );
+        }
+    }
+
+    @Nested
+    @DisplayName("hot keys")
+    class HotKeyTest {
+
+        private final String fullKey = KEY_PREFIX + CACHE_NAME + "::1";
+        private final long version = System.currentTimeMillis() + TTL.toMillis();
+
+        private TwoLevelCache hotKeyCache(Duration revalidateInterval) {
+            CacheProperties properties = new CacheProperties(
+                KEY_PREFIX,
+                new L1Config(10000, Duration.ofSeconds(30), true),
+                new L2Config(TTL),
+                true,
+                null,
+                null,
+                null,
+                null,
+                null,
+                null,
+                new HotKeyConfig(true, 1, 4, Duration.ofMinutes(10), revalidateInterval, 64)
+            );
+            return new TwoLevelCache(CACHE_NAME, l1Cache, redisTemplate, properties, TTL, null, null, null, null);
+        }
+
+        @Test
+        @DisplayName("핫 키는 L2 버전과 함께 고정되고 이후 조회는 L1/L2를 거치지 않음")
+        void withHotKey_pinsAndServesFromPin() {
+            // given
+            TwoLevelCache hotCache = hotKeyCache(Duration.ofMinutes(1));
+            given(l1Cache.getIfPresent(fullKey)).willReturn(null);
+            given(redisTemplate.opsForValue()).willReturn(valueOperations);
+            given(valueOperations.get(fullKey)).willReturn("user1");
+            given(redisTemplate.execute(any(RedisScript.class), eq(List.of(fullKey)))).willReturn(List.of("user1", version));
+
+            // when
+            hotCache.get("1");
+            org.springframework.cache.Cache.ValueWrapper second = hotCache.get("1");
+
+            // then
+            assertThat(second).isNotNull();
+            assertThat(second.get()).isEqualTo("user1");
+            then(l1Cache).should(times(1)).getIfPresent(fullKey);
+            assertThat(hotCache.getHotKeys().topKeys()).extracting(HotKeyTracker.HotKey::pinned).containsExactly(true);
+        }
+
+        @Test
+        @DisplayName("재검증에서 L2 버전이 바뀌었으면 고정을 풀고 다시 읽음")
+        void withChangedVersion_unpinsAndReloads() {
+            // given
+            TwoLevelCache hotCache = hotKeyCache(Duration.ZERO);
+            given(l1Cache.getIfPresent(fullKey)).willReturn(null);
+            given(redisTemplate.opsForValue()).willReturn(valueOperations);
+            given(valueOperations.get(fullKey)).willReturn("user1", "user2");
+            given(redisTemplate.execute(any(RedisScript.class), eq(List.of(fullKey))))
+                .willReturn(List.of("user1", version), version + 1, List.of("user2", version + 1));
+
+            // when
+            hotCache.get("1");
+            org.springframework.cache.Cache.ValueWrapper reloaded = hotCache.get("1");
+
+            // then
+            assertThat(reloaded).isNotNull();
+            assertThat(reloaded.get()).isEqualTo("user2");
+            then(l1Cache).should().invalidate(fullKey);
+        }
+
+        @Test
+        @DisplayName("재검증에서 L2 버전이 같으면 값을 다시 읽지 않음")
+        void withSameVersion_keepsPin() {
+            // given
+            TwoLevelCache hotCache = hotKeyCache(Duration.ZERO);
+            given(l1Cache.getIfPresent(fullKey)).willReturn(null);
+            given(redisTemplate.opsForValue()).willReturn(valueOperations);
+            given(valueOperations.get(fullKey)).willReturn("user1");
+            given(redisTemplate.execute(any(RedisScript.class), eq(List.of(fullKey))))
+                .willReturn(List.of("user1", version), version);
+
+            // when
+            hotCache.get("1");
+            org.springframework.cache.Cache.ValueWrapper second = hotCache.get("1");
+
+            // then
+            assertThat(second).isNotNull();
+            assertThat(second.get()).isEqualTo("user1");
+            then(valueOperations).should(times(1)).get(fullKey);
+        }
+
+        @Test
+        @DisplayName("다른 노드의 무효화를 받으면 고정을 해제")
+        void withEvictLocal_unpins() {
+            // given
+            TwoLevelCache hotCache = hotKeyCache(Duration.ofMinutes(1));
+            given(l1Cache.getIfPresent(fullKey)).willReturn(null);
+            given(redisTemplate.opsForValue()).willReturn(valueOperations);
+            given(valueOperations.get(fullKey)).willReturn("user1");
+            given(redisTemplate.execute(any(RedisScript.class), eq(List.of(fullKey)))).willReturn(List.of("user1", version));
+            hotCache.get("1");
+
+            // when
+            hotCache.evictLocal("1");
+
+            // then
+            assertThat(hotCache.getHotKeys().pinnedCount()).isZero();
+        }
+    }
+
+    @Nested
+    @DisplayName("negative caching")
+    class NegativeCacheTest {
+
+        private static final Duration NEGATIVE_TTL = Duration.ofSeconds(30);
+
+        @Mock
+        private CacheMetrics metrics;
+
+        private TwoLevelCache negativeCache;
+
+        private final UUID userId = UUID.randomUUID();
+        private final String fullKey = KEY_PREFIX + CACHE_NAME + "::" + userId;
+
+        @BeforeEach
+        void setUp() {
+            CacheProperties properties = new CacheProperties(
+                KEY_PREFIX,
+                new L1Config(10000, Duration.ofSeconds(30), true),
+                new L2Config(TTL),
+                true,
+                null,
+                new SingleFlightConfig(false, Duration.ofSeconds(5), Duration.ofMillis(500), Duration.ofMillis(10)),
+                null,
+                Map.of(CACHE_NAME, new CacheSpec(null, null, null, null, null, null, NEGATIVE_TTL)),
+                null,
+                null,
+                null
+            );
+            negativeCache = new TwoLevelCache(CACHE_NAME, l1Cache, redisTemplate, properties, TTL, metrics, null, null, null);
+        }
+
+        @Test
+        @DisplayName("로더가 not-found 예외를 던지면 tombstone을 negativeTtl로 저장하고 이후 조회는 로더 없이 같은 예외")
+        void withNotFound_storesTombstoneAndRethrows() {
+            // given
+            given(redisTemplate.opsForValue()).willReturn(valueOperations);
+            AtomicInteger loads = new AtomicInteger();
+            Callable<String> loader = () -> {
+                loads.incrementAndGet();
+                throw UserNotFoundException.withId(userId);
+            };
+
+            // when & then
+            assertThatThrownBy(() -> negativeCache.get(userId, loader))
+                .isInstanceOf(org.springframework.cache.Cache.ValueRetrievalException.class)
+                .hasCauseInstanceOf(UserNotFoundException.class);
+            assertThatThrownBy(() -> negativeCache.get(userId, loader))
+                .isInstanceOf(org.springframework.cache.Cache.ValueRetrievalException.class)
+                .cause()
+                .isInstanceOf(UserNotFoundException.class)
+                .hasFieldOrPropertyWithValue("details", Map.of("id", userId));
+
+            assertThat(loads).hasValue(1);
+            then(valueOperations).should().set(eq(fullKey), any(Tombstone.class), eq(NEGATIVE_TTL));
+            then(valueOperations).should(times(1)).get(fullKey);
+            then(metrics).should().recordNegativePut(CACHE_NAME);
+            then(metrics).should().recordNegativeHit(CACHE_NAME);
+            then(metrics).should(never()).recordL1Hit(CACHE_NAME);
+        }
+
+        @Test
+        @DisplayName("다른 노드가 L2에 남긴 tombstone은 예외를 다시 만들어 던짐")
+        void withL2Tombstone_rebuildsException() {
+            // given
+            given(redisTemplate.opsForValue()).willReturn(valueOperations);
+            given(valueOperations.get(fullKey)).willReturn(Tombstone.of(UserNotFoundException.withId(userId)));
+
+            // when & then
+            assertThatThrownBy(() -> negativeCache.get(userId, () -> "user1"))
+                .hasCauseInstanceOf(UserNotFoundException.class);
+            then(l1Cache).should(never()).put(anyString(), any());
+            then(metrics).should().recordNegativeHit(CACHE_NAME);
+        }
+
+        @Test
+        @DisplayName("같은 키에 put하면 tombstone이 지워져 다시 로드")
+        void withPutAfterTombstone_loadsValue() {
+            // given
+            given(redisTemplate.opsForValue()).willReturn(valueOperations);
+            assertThatThrownBy(() -> negativeCache.get(userId, () -> {
+                throw UserNotFoundException.withId(userId);
+            })).hasCauseInstanceOf(UserNotFoundException.class);
+
+            // when
+            negativeCache.put(userId, "user1");
+            String result = negativeCache.get(userId, () -> "reloaded");
+
+            // then
+            assertThat(result).isEqualTo("reloaded");
+            then(valueOperations).should().set(fullKey, "user1", TTL);
+        }
+
+        @Test
+        @DisplayName("not-found가 아닌 예외는 tombstone을 남기지 않음")
+        void withOtherException_doesNotStoreTombstone() {
+            // given
+            given(redisTemplate.opsForValue()).willReturn(valueOperations);
+
+            // when & then
+            assertThatThrownBy(() -> negativeCache.get(userId, () -> {
+                throw new IllegalStateException("DB down");
+            })).hasCauseInstanceOf(IllegalStateException.class);
+            then(valueOperations).should(never()).set(anyString(), any(), any(Duration.class));
+            then(metrics).should(never()).recordNegativePut(CACHE_NAME);
+        }
+
+        @Test
+        @DisplayName("valueLoader 없는 get(key)는 tombstone을 미스로 반환")
+        void withoutLoader_treatsTombstoneAsMiss() {
+            // given
+            given(redisTemplate.opsForValue()).willReturn(valueOperations);
+            given(valueOperations.get(fullKey)).willReturn(Tombstone.of(UserNotFoundException.withId(userId)));
+
+            // when
+            org.springframework.cache.Cache.ValueWrapper result = negativeCache.get(userId);
+
+            // then
+            assertThat(result).isNull();
         }
     }
 
@@ -524,9 +1368,15 @@ class TwoLevelCacheTest {
                 new L1Config(10000, Duration.ofSeconds(30), true),
                 new L2Config(TTL),
                 false,
+                null,
+                null,
+                null,
+                null,
+                null,
+                null,
                 null
             );
-            cacheWithMetrics = new TwoLevelCache(CACHE_NAME, l1Cache, redisTemplate, properties, TTL, metrics);
+            cacheWithMetrics = new TwoLevelCache(CACHE_NAME, l1Cache, redisTemplate, properties, TTL, metrics, null, null, null);
         }
 
         @Test
@@ -0,0 +1,151 @@
+package com.mopl.cache.clear;
+
+import com.mopl.cache.CacheMetrics;
+import com.mopl.cache.config.CacheProperties.ClearConfig;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("RedisCacheClearer 단위 테스트")
+class RedisCacheClearerTest {
+
+    private static final String CACHE_NAME = "presigned-urls";
+    private static final String PREFIX = "mopl:" + CACHE_NAME + "::";
+
+    @Mock
+    private RedisTemplate<String, Object> redisTemplate;
+
+    @Mock
+    private Cursor<String> cursor;
+
+    @Mock
+    private CacheMetrics metrics;
+
+    @Nested
+    @DisplayName("clearNow()")
+    class ClearNowTest {
+
+        @Test
+        @DisplayName("SCAN한 키를 batchSize 단위 파이프라인 UNLINK로 삭제하고 배치마다 진행 상황 기록")
+        void withKeys_unlinksInBatches() {
+            // given
+            RedisCacheClearer clearer = new RedisCacheClearer(redisTemplate, new ClearConfig(2, 100), metrics, Runnable::run);
+            given(redisTemplate.scan(any(ScanOptions.class))).willReturn(cursor);
+            given(cursor.hasNext()).willReturn(true, true, true, false);
+            given(cursor.next()).willReturn(PREFIX + "1", PREFIX + "2", PREFIX + "3");
+            given(redisTemplate.executePipelined(any(RedisCallback.class)))
+                .willReturn(List.of(1L, 1L), List.of(1L));
+
+            // when
+            long unlinked = clearer.clearNow(CACHE_NAME, PREFIX);
+
+            // then
+            assertThat(unlinked).isEqualTo(3);
+            then(redisTemplate).should(times(2)).executePipelined(any(RedisCallback.class));
+            then(metrics).should().recordClearProgress(CACHE_NAME, 2);
+            then(metrics).should().recordClearProgress(CACHE_NAME, 1);
+            then(metrics).should().recordClear(eq(CACHE_NAME), eq("success"), any(Duration.class));
+            then(cursor).should().close();
+        }
+
+        @Test
+        @DisplayName("키가 없으면 파이프라인을 실행하지 않음")
+        void withNoKeys_skipsPipeline() {
+            // given
+            RedisCacheClearer clearer = new RedisCacheClearer(redisTemplate, ClearConfig.DEFAULT, null, Runnable::run);
+            given(redisTemplate.scan(any(ScanOptions.class))).willReturn(cursor);
+            given(cursor.hasNext()).willReturn(false);
+
+            // when
+            long unlinked = clearer.clearNow(CACHE_NAME, PREFIX);
+
+            // then
+            assertThat(unlinked).isZero();
+            then(redisTemplate).should(never()).executePipelined(any(RedisCallback.class));
+        }
+
+        @Test
+        @DisplayName("Redis 실패시 failure를 기록하고 예외를 전파")
+        void withRedisFailure_recordsFailureAndThrows() {
+            // given
+            RedisCacheClearer clearer = new RedisCacheClearer(redisTemplate, ClearConfig.DEFAULT, metrics, Runnable::run);
+            given(redisTemplate.scan(any(ScanOptions.class))).willThrow(new RuntimeException("Redis down"));
+
+            // when & then
+            assertThatThrownBy(() -> clearer.clearNow(CACHE_NAME, PREFIX))
+                .isInstanceOf(RuntimeException.class);
+            then(metrics).should().recordClear(eq(CACHE_NAME), eq("failure"), any(Duration.class));
+            assertThat(clearer.inProgress()).isZero();
+        }
+    }
+
+    @Nested
+    @DisplayName("clear()")
+    class ClearTest {
+
+        @Test
+        @DisplayName("호출 스레드를 막지 않고 executor에서 삭제")
+        void withExecutor_runsAsynchronously() {
+            // given
+            AtomicReference<Runnable> scheduled = new AtomicReference<>();
+            Executor deferred = scheduled::set;
+            RedisCacheClearer clearer = new RedisCacheClearer(redisTemplate, ClearConfig.DEFAULT, null, deferred);
+            given(redisTemplate.scan(any(ScanOptions.class))).willReturn(cursor);
+            given(cursor.hasNext()).willReturn(false);
+
+            // when
+            CompletableFuture<Long> result = clearer.clear(CACHE_NAME, PREFIX);
+
+            // then
+            assertThat(result).isNotDone();
+            then(redisTemplate).shouldHaveNoInteractions();
+
+            // when
+            scheduled.get().run();
+
+            // then
+            assertThat(result).isCompletedWithValue(0L);
+        }
+
+        @Test
+        @DisplayName("executor가 거부하면 rejected를 기록하고 예외로 완료")
+        void withRejectedExecution_completesExceptionally() {
+            // given
+            Executor rejecting = command -> {
+                throw new RejectedExecutionException("shutdown");
+            };
+            RedisCacheClearer clearer = new RedisCacheClearer(redisTemplate, ClearConfig.DEFAULT, metrics, rejecting);
+
+            // when
+            CompletableFuture<Long> result = clearer.clear(CACHE_NAME, PREFIX);
+
+            // then
+            assertThat(result).isCompletedExceptionally();
+            then(metrics).should().recordClear(CACHE_NAME, "rejected", Duration.ZERO);
+        }
+    }
+}
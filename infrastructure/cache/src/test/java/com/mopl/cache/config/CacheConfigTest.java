@@ -2,6 +2,7 @@ package com.mopl.cache.config;
 
 import com.github.benmanes.caffeine.cache.Cache;
 import com.mopl.cache.TwoLevelCacheManager;
+import com.mopl.cache.l1.L1CacheFactory;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
@@ -10,6 +11,7 @@ import org.springframework.cache.CacheManager;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.util.unit.DataSize;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.mock;
@@ -29,16 +31,30 @@ class CacheConfigTest {
         );
 
     @Nested
-    @DisplayName("caffeineCache()")
-    class CaffeineCacheTest {
+    @DisplayName("l1CacheFactory()")
+    class L1CacheFactoryTest {
 
         @Test
-        @DisplayName("CacheProperties로 Caffeine 캐시 생성")
-        void withProperties_createsCaffeineCache() {
+        @DisplayName("CacheProperties로 L1CacheFactory 생성")
+        void withProperties_createsL1CacheFactory() {
             contextRunner.run(context -> {
-                assertThat(context).hasSingleBean(Cache.class);
-                @SuppressWarnings("unchecked") Cache<String, Object> cache = context.getBean(Cache.class);
-                assertThat(cache).isNotNull();
+                assertThat(context).hasSingleBean(L1CacheFactory.class);
+                assertThat(context.getBean(L1CacheFactory.class).create("users")).isNotNull();
+            });
+        }
+
+        @Test
+        @DisplayName("캐시 이름마다 별도의 L1 인스턴스 생성")
+        void withDifferentCacheNames_createsSeparateInstances() {
+            contextRunner.run(context -> {
+                L1CacheFactory factory = context.getBean(L1CacheFactory.class);
+                Cache<String, Object> users = factory.create("users");
+                Cache<String, Object> presignedUrls = factory.create("presigned-urls");
+
+                presignedUrls.put("key", "value");
+
+                assertThat(users).isNotSameAs(presignedUrls);
+                assertThat(users.getIfPresent("key")).isNull();
             });
         }
 
@@ -46,7 +62,7 @@ class CacheConfigTest {
         @DisplayName("recordStats가 true면 통계 기록 활성화")
         void withRecordStatsTrue_enablesStats() {
             contextRunner.run(context -> {
-                @SuppressWarnings("unchecked") Cache<String, Object> cache = context.getBean(Cache.class);
+                Cache<String, Object> cache = context.getBean(L1CacheFactory.class).create("users");
                 cache.put("key", "value");
                 cache.getIfPresent("key");
                 assertThat(cache.stats().hitCount()).isEqualTo(1);
@@ -67,12 +83,40 @@ class CacheConfigTest {
                     "mopl.cache.redis-enabled=false"
                 )
                 .run(context -> {
-                    @SuppressWarnings("unchecked") Cache<String, Object> cache = context.getBean(Cache.class);
+                    Cache<String, Object> cache = context.getBean(L1CacheFactory.class).create("users");
                     cache.put("key", "value");
                     cache.getIfPresent("key");
                     assertThat(cache.stats().hitCount()).isZero();
                 });
         }
+
+        @Test
+        @DisplayName("캐시별 maximum-weight 설정을 바인딩")
+        void withCacheSpec_bindsMaximumWeight() {
+            new ApplicationContextRunner()
+                .withUserConfiguration(CacheConfig.class)
+                .withPropertyValues(
+                    "mopl.cache.key-prefix=mopl:",
+                    "mopl.cache.l1.maximum-size=10000",
+                    "mopl.cache.l1.ttl=30s",
+                    "mopl.cache.l1.record-stats=false",
+                    "mopl.cache.l2.default-ttl=10m",
+                    "mopl.cache.redis-enabled=false",
+                    "mopl.cache.caches.presigned-urls.maximum-weight=1024",
+                    "mopl.cache.caches.presigned-urls.expiry=after-access"
+                )
+                .run(context -> {
+                    CacheProperties properties = context.getBean(CacheProperties.class);
+                    assertThat(properties.getSpecFor("presigned-urls").maximumWeight()).isEqualTo(DataSize.ofBytes(1024));
+                    assertThat(properties.getSpecFor("presigned-urls").expiry())
+                        .isEqualTo(CacheProperties.CacheSpec.Expiry.AFTER_ACCESS);
+
+                    Cache<String, Object> cache = context.getBean(L1CacheFactory.class).create("presigned-urls");
+                    assertThat(cache.policy().eviction()).isPresent();
+                    assertThat(cache.policy().eviction().get().isWeighted()).isTrue();
+                    assertThat(cache.policy().expireAfterAccess()).isPresent();
+                });
+        }
     }
 
     @Nested
@@ -1,10 +1,13 @@
 package com.mopl.cache.config;
 
+import com.mopl.cache.config.CacheProperties.CacheSpec;
 import com.mopl.cache.config.CacheProperties.L1Config;
 import com.mopl.cache.config.CacheProperties.L2Config;
+import com.mopl.cache.config.CacheProperties.RefreshAheadConfig;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
+import org.springframework.util.unit.DataSize;
 
 import java.time.Duration;
 import java.util.Map;
@@ -29,7 +32,13 @@ class CachePropertiesTest {
                 new L1Config(10000, Duration.ofSeconds(30), true),
                 new L2Config(defaultTtl),
                 true,
-                Map.of("users", usersTtl)
+                Map.of("users", usersTtl),
+                null,
+                null,
+                null,
+                null,
+                null,
+                null
             );
 
             // when
@@ -49,7 +58,13 @@ class CachePropertiesTest {
                 new L1Config(10000, Duration.ofSeconds(30), true),
                 new L2Config(defaultTtl),
                 true,
-                Map.of("users", Duration.ofMinutes(5))
+                Map.of("users", Duration.ofMinutes(5)),
+                null,
+                null,
+                null,
+                null,
+                null,
+                null
             );
 
             // when
@@ -69,6 +84,12 @@ class CachePropertiesTest {
                 new L1Config(10000, Duration.ofSeconds(30), true),
                 new L2Config(defaultTtl),
                 true,
+                null,
+                null,
+                null,
+                null,
+                null,
+                null,
                 null
             );
 
@@ -80,6 +101,107 @@ class CachePropertiesTest {
         }
     }
 
+    @Nested
+    @DisplayName("getSpecFor()")
+    class GetSpecForTest {
+
+        @Test
+        @DisplayName("caches 맵에 캐시 이름이 있으면 해당 CacheSpec 반환")
+        void withExistingCacheName_returnsConfiguredSpec() {
+            // given
+            CacheSpec spec = new CacheSpec(DataSize.ofBytes(1024), CacheSpec.Expiry.AFTER_ACCESS, Duration.ofMinutes(1), null, null, null, null);
+            CacheProperties properties = new CacheProperties(
+                "mopl:",
+                new L1Config(10000, Duration.ofSeconds(30), true),
+                new L2Config(Duration.ofMinutes(10)),
+                true,
+                null,
+                null,
+                null,
+                Map.of("presigned-urls", spec),
+                null,
+                null,
+                null
+            );
+
+            // when & then
+            assertThat(properties.getSpecFor("presigned-urls")).isEqualTo(spec);
+            assertThat(properties.getSpecFor("users")).isEqualTo(CacheSpec.EMPTY);
+        }
+
+        @Test
+        @DisplayName("caches 맵이 null이면 빈 CacheSpec 반환")
+        void withNullCaches_returnsEmptySpec() {
+            // given
+            CacheProperties properties = new CacheProperties(
+                "mopl:",
+                new L1Config(10000, Duration.ofSeconds(30), true),
+                new L2Config(Duration.ofMinutes(10)),
+                true,
+                null,
+                null,
+                null,
+                null,
+                null,
+                null,
+                null
+            );
+
+            // when & then
+            assertThat(properties.getSpecFor("users")).isEqualTo(CacheSpec.EMPTY);
+        }
+    }
+
+    @Nested
+    @DisplayName("getRefreshAhead()")
+    class GetRefreshAheadTest {
+
+        @Test
+        @DisplayName("refreshAhead가 null이면 기본 설정 반환")
+        void withNullRefreshAhead_returnsDefault() {
+            // given
+            CacheProperties properties = new CacheProperties(
+                "mopl:",
+                new L1Config(10000, Duration.ofSeconds(30), true),
+                new L2Config(Duration.ofMinutes(10)),
+                true,
+                null,
+                null,
+                null,
+                null,
+                null,
+                null,
+                null
+            );
+
+            // when & then
+            assertThat(properties.getRefreshAhead()).isEqualTo(RefreshAheadConfig.DEFAULT);
+        }
+
+        @Test
+        @DisplayName("refreshAhead가 있으면 해당 설정 반환")
+        void withRefreshAhead_returnsConfigured() {
+            // given
+            RefreshAheadConfig refreshAhead = new RefreshAheadConfig(8);
+            CacheProperties properties = new CacheProperties(
+                "mopl:",
+                new L1Config(10000, Duration.ofSeconds(30), true),
+                new L2Config(Duration.ofMinutes(10)),
+                true,
+                null,
+                null,
+                null,
+                null,
+                refreshAhead,
+                null,
+                null
+            );
+
+            // when & then
+            assertThat(properties.getRefreshAhead().maxConcurrentRefreshes()).isEqualTo(8);
+        }
+    }
+
     @Nested
     @DisplayName("record accessors")
     class RecordAccessorsTest {
@@ -94,7 +216,7 @@ class CachePropertiesTest {
             boolean redisEnabled = true;
             Map<String, Duration> ttl = Map.of("users", Duration.ofMinutes(5));
 
-            CacheProperties properties = new CacheProperties(keyPrefix, l1, l2, redisEnabled, ttl);
+            CacheProperties properties = new CacheProperties(keyPrefix, l1, l2, redisEnabled, ttl, null, null, null, null, null, null);
 
             // then
             assertThat(properties.keyPrefix()).isEqualTo(keyPrefix);
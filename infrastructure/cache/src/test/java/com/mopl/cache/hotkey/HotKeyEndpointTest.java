@@ -0,0 +1,69 @@
+package com.mopl.cache.hotkey;
+
+import com.mopl.cache.TwoLevelCache;
+import com.mopl.cache.config.CacheProperties.HotKeyConfig;
+import com.mopl.cache.hotkey.HotKeyTracker.HotKey;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("HotKeyEndpoint 단위 테스트")
+class HotKeyEndpointTest {
+
+    @Mock
+    private CacheManager cacheManager;
+
+    @Mock
+    private TwoLevelCache contentsCache;
+
+    @Mock
+    private Cache otherCache;
+
+    @InjectMocks
+    private HotKeyEndpoint endpoint;
+
+    @Test
+    @DisplayName("캐시별 핫 키를 반환하고 추적하지 않는 캐시는 빈 목록")
+    void withCaches_returnsHotKeysPerCache() {
+        // given
+        HotKeyTracker tracker = new HotKeyTracker(new HotKeyConfig(true, 1, 4, Duration.ofMinutes(1), Duration.ofSeconds(5), 64));
+        tracker.recordAccess("mopl:contents::1");
+        given(cacheManager.getCacheNames()).willReturn(List.of("contents", "other"));
+        given(cacheManager.getCache("contents")).willReturn(contentsCache);
+        given(cacheManager.getCache("other")).willReturn(otherCache);
+        given(contentsCache.getHotKeys()).willReturn(tracker);
+
+        // when
+        Map<String, List<HotKey>> result = endpoint.hotKeys();
+
+        // then
+        assertThat(result.get("contents")).containsExactly(new HotKey(HotKeyEndpoint.maskKey("mopl:contents::1"), 1, false));
+        assertThat(result.get("other")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("캐시 이름까지만 남기고 키는 해시로 가려서 반환")
+    void maskKey_hidesRawKey() {
+        // when
+        String masked = HotKeyEndpoint.maskKey("mopl:users-by-email::user@example.com");
+
+        // then
+        assertThat(masked).startsWith("mopl:users-by-email::");
+        assertThat(masked).doesNotContain("user@example.com");
+        assertThat(masked).hasSize("mopl:users-by-email::".length() + 16);
+        assertThat(masked).isEqualTo(HotKeyEndpoint.maskKey("mopl:users-by-email::user@example.com"));
+    }
+}
@@ -0,0 +1,192 @@
+package com.mopl.cache.hotkey;
+
+import com.mopl.cache.config.CacheProperties.HotKeyConfig;
+import com.mopl.cache.hotkey.HotKeyTracker.HotKey;
+import com.mopl.cache.hotkey.HotKeyTracker.Pinned;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("HotKeyTracker 단위 테스트")
+class HotKeyTrackerTest {
+
+    private static final HotKeyConfig CONFIG = new HotKeyConfig(
+        true,
+        3,
+        2,
+        Duration.ofMinutes(10),
+        Duration.ofSeconds(5),
+        1024
+    );
+
+    @Mock
+    private Clock clock;
+
+    private HotKeyTracker tracker;
+
+    @BeforeEach
+    void setUp() {
+        tracker = new HotKeyTracker(CONFIG, clock);
+    }
+
+    @Nested
+    @DisplayName("recordAccess()")
+    class RecordAccessTest {
+
+        @Test
+        @DisplayName("추정 빈도가 threshold 미만이면 핫 키가 아님")
+        void withBelowThreshold_returnsFalse() {
+            // when
+            tracker.recordAccess("mopl:contents::1");
+            boolean hot = tracker.recordAccess("mopl:contents::1");
+
+            // then
+            assertThat(hot).isFalse();
+            assertThat(tracker.topKeys()).isEmpty();
+        }
+
+        @Test
+        @DisplayName("추정 빈도가 threshold 이상이면 핫 키로 판정")
+        void withThresholdReached_returnsTrue() {
+            // when
+            tracker.recordAccess("mopl:contents::1");
+            tracker.recordAccess("mopl:contents::1");
+            boolean hot = tracker.recordAccess("mopl:contents::1");
+
+            // then
+            assertThat(hot).isTrue();
+            assertThat(tracker.isHot("mopl:contents::1")).isTrue();
+        }
+
+        @Test
+        @DisplayName("후보가 topK를 넘으면 가장 덜 쓰인 키를 제외")
+        void withMoreThanTopK_keepsMostFrequent() {
+            // given
+            access("mopl:contents::1", 10);
+            access("mopl:contents::2", 6);
+
+            // when
+            access("mopl:contents::3", 3);
+
+            // then
+            List<HotKey> topKeys = tracker.topKeys();
+            assertThat(topKeys).extracting(HotKey::key)
+                .containsExactly("mopl:contents::1", "mopl:contents::2");
+            assertThat(tracker.isHot("mopl:contents::3")).isFalse();
+        }
+
+        @Test
+        @DisplayName("후보가 가득 차면 최소 빈도보다 자주 쓰인 새 키만 받아 가장 덜 쓰인 키와 교체")
+        void withFullCandidates_admitsOnlyAboveFloor() {
+            // given
+            access("mopl:contents::1", 10);
+            access("mopl:contents::2", 6);
+            access("mopl:contents::3", 3);
+
+            // when
+            access("mopl:contents::4", 7);
+
+            // then
+            assertThat(tracker.topKeys()).extracting(HotKey::key)
+                .containsExactly("mopl:contents::1", "mopl:contents::4");
+            assertThat(tracker.isHot("mopl:contents::2")).isFalse();
+        }
+    }
+
+    @Nested
+    @DisplayName("pin()")
+    class PinTest {
+
+        @Test
+        @DisplayName("고정한 값과 버전을 반환")
+        void withPinned_returnsValueAndVersion() {
+            // given
+            given(clock.millis()).willReturn(1_000L);
+            assertThat(tracker.tryStartPin("mopl:contents::1")).isTrue();
+
+            // when
+            tracker.pin("mopl:contents::1", "content", 600_000L);
+            Pinned pinned = tracker.getPinned("mopl:contents::1");
+
+            // then
+            assertThat(pinned).isNotNull();
+            assertThat(pinned.value()).isEqualTo("content");
+            assertThat(pinned.version()).isEqualTo(600_000L);
+            assertThat(tracker.pinnedCount()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("고정 기한은 L2 만료 시각을 넘지 않음")
+        void withL2ExpiringSoon_expiresWithL2() {
+            // given
+            given(clock.millis()).willReturn(1_000L, 2_000L);
+            tracker.tryStartPin("mopl:contents::1");
+            tracker.pin("mopl:contents::1", "content", 2_000L);
+
+            // when
+            Pinned pinned = tracker.getPinned("mopl:contents::1");
+
+            // then
+            assertThat(pinned).isNull();
+            assertThat(tracker.pinnedCount()).isZero();
+        }
+
+        @Test
+        @DisplayName("고정 중인 키는 다른 스레드가 다시 고정하지 않음")
+        void withPinInProgress_rejectsSecondPin() {
+            // when
+            boolean first = tracker.tryStartPin("mopl:contents::1");
+            boolean second = tracker.tryStartPin("mopl:contents::1");
+            tracker.cancelPin("mopl:contents::1");
+            boolean afterCancel = tracker.tryStartPin("mopl:contents::1");
+
+            // then
+            assertThat(first).isTrue();
+            assertThat(second).isFalse();
+            assertThat(afterCancel).isTrue();
+        }
+    }
+
+    @Nested
+    @DisplayName("tryStartRevalidation()")
+    class TryStartRevalidationTest {
+
+        @Test
+        @DisplayName("재검증 시각이 지나면 한 번만 true를 반환하고 다음 시각으로 미룸")
+        void withRevalidationDue_allowsOnlyOnce() {
+            // given
+            given(clock.millis()).willReturn(0L, 1_000L, 4_000L, 5_000L, 9_000L);
+            tracker.tryStartPin("mopl:contents::1");
+            tracker.pin("mopl:contents::1", "content", 600_000L);
+            Pinned pinned = tracker.getPinned("mopl:contents::1");
+
+            // when
+            boolean beforeDue = tracker.tryStartRevalidation(pinned);
+            boolean due = tracker.tryStartRevalidation(pinned);
+            boolean again = tracker.tryStartRevalidation(pinned);
+
+            // then
+            assertThat(beforeDue).isFalse();
+            assertThat(due).isTrue();
+            assertThat(again).isFalse();
+        }
+    }
+
+    private void access(String key, int times) {
+        for (int i = 0; i < times; i++) {
+            tracker.recordAccess(key);
+        }
+    }
+}
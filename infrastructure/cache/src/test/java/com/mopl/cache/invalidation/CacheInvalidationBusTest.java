@@ -0,0 +1,183 @@
+package com.mopl.cache.invalidation;
+
+import com.mopl.cache.config.CacheProperties.InvalidationConfig;
+import com.mopl.cache.invalidation.CacheInvalidationMessage.Entry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("CacheInvalidationBus 단위 테스트")
+class CacheInvalidationBusTest {
+
+    private static final String CHANNEL = "cache:invalidation";
+
+    @Mock
+    private RedisTemplate<String, Object> redisTemplate;
+
+    @Mock
+    private RedisMessageListenerContainer listenerContainer;
+
+    @Mock
+    private CacheInvalidationBus.Handler handler;
+
+    private CacheInvalidationBus bus;
+
+    @BeforeEach
+    void setUp() {
+        InvalidationConfig config = new InvalidationConfig(true, CHANNEL, Duration.ofHours(1), 100);
+        bus = new CacheInvalidationBus(redisTemplate, listenerContainer, config, null);
+    }
+
+    @AfterEach
+    void tearDown() {
+        bus.destroy();
+    }
+
+    @Nested
+    @DisplayName("register()")
+    class RegisterTest {
+
+        @Test
+        @DisplayName("무효화 채널을 구독")
+        void withHandler_subscribesChannel() {
+            // when
+            bus.register(handler);
+
+            // then
+            then(listenerContainer).should().addMessageListener(bus, new ChannelTopic(CHANNEL));
+        }
+    }
+
+    @Nested
+    @DisplayName("flush()")
+    class FlushTest {
+
+        @Test
+        @DisplayName("대기 중인 무효화를 중복 제거 후 한 번에 발행")
+        @SuppressWarnings("unchecked")
+        void withPendingEntries_publishesSingleBatch() {
+            // given
+            bus.publishEvict("users", "1");
+            bus.publishEvict("users", "1");
+            bus.publishEvict("contents", "2");
+            bus.publishClear("presigned-urls");
+
+            // when
+            bus.flush();
+
+            // then
+            ArgumentCaptor<RedisCallback<Long>> callbackCaptor = ArgumentCaptor.forClass(RedisCallback.class);
+            then(redisTemplate).should().execute(callbackCaptor.capture());
+
+            RedisConnection connection = mock(RedisConnection.class);
+            callbackCaptor.getValue().doInRedis(connection);
+
+            ArgumentCaptor<byte[]> bodyCaptor = ArgumentCaptor.forClass(byte[].class);
+            then(connection).should().publish(eq(CHANNEL.getBytes(StandardCharsets.UTF_8)), bodyCaptor.capture());
+
+            CacheInvalidationMessage published = CacheInvalidationMessage.decode(bodyCaptor.getValue());
+            assertThat(published.origin()).isEqualTo(bus.getNodeId());
+            assertThat(published.entries()).containsExactly(
+                new Entry("users", "1"),
+                new Entry("contents", "2"),
+                new Entry("presigned-urls", null)
+            );
+        }
+
+        @Test
+        @DisplayName("대기 중인 무효화가 없으면 발행하지 않음")
+        void withNoPendingEntries_doesNotPublish() {
+            // when
+            bus.flush();
+
+            // then
+            then(redisTemplate).should(never()).execute(any(RedisCallback.class));
+        }
+    }
+
+    @Nested
+    @DisplayName("onMessage()")
+    class OnMessageTest {
+
+        @Mock
+        private Message message;
+
+        @BeforeEach
+        void setUp() {
+            bus.register(handler);
+        }
+
+        @Test
+        @DisplayName("다른 노드의 메시지면 엔트리마다 로컬 무효화 호출")
+        void withRemoteMessage_invalidatesLocalEntries() {
+            // given
+            CacheInvalidationMessage remote = new CacheInvalidationMessage(
+                "other-node",
+                List.of(Entry.evict("users", "1"), Entry.clear("contents"))
+            );
+            given(message.getBody()).willReturn(remote.encode());
+
+            // when
+            bus.onMessage(message, null);
+
+            // then
+            then(handler).should().invalidateLocal("users", "1");
+            then(handler).should().invalidateLocal("contents", null);
+        }
+
+        @Test
+        @DisplayName("자신이 발행한 메시지는 무시")
+        void withOwnMessage_ignores() {
+            // given
+            CacheInvalidationMessage own = new CacheInvalidationMessage(
+                bus.getNodeId(),
+                List.of(Entry.evict("users", "1"))
+            );
+            given(message.getBody()).willReturn(own.encode());
+
+            // when
+            bus.onMessage(message, null);
+
+            // then
+            then(handler).shouldHaveNoInteractions();
+        }
+
+        @Test
+        @DisplayName("잘못된 메시지면 예외 없이 무시")
+        void withMalformedMessage_ignores() {
+            // given
+            given(message.getBody()).willReturn(new byte[]{1, 2});
+
+            // when
+            bus.onMessage(message, null);
+
+            // then
+            then(handler).shouldHaveNoInteractions();
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package com.mopl.cache.invalidation;
+
+import com.mopl.cache.invalidation.CacheInvalidationMessage.Entry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("CacheInvalidationMessage 단위 테스트")
+class CacheInvalidationMessageTest {
+
+    @Test
+    @DisplayName("encode 후 decode하면 origin과 엔트리가 그대로 복원됨")
+    void withEncodedMessage_decodesSameEntries() {
+        // given
+        UUID contentId = UUID.randomUUID();
+        CacheInvalidationMessage message = new CacheInvalidationMessage(
+            "node-1",
+            List.of(
+                Entry.evict("contents", contentId),
+                Entry.evict("users-by-email", "user@mopl.com"),
+                Entry.clear("presigned-urls")
+            )
+        );
+
+        // when
+        CacheInvalidationMessage decoded = CacheInvalidationMessage.decode(message.encode());
+
+        // then
+        assertThat(decoded.origin()).isEqualTo("node-1");
+        assertThat(decoded.entries()).containsExactly(
+            new Entry("contents", contentId.toString()),
+            new Entry("users-by-email", "user@mopl.com"),
+            new Entry("presigned-urls", null)
+        );
+        assertThat(decoded.entries().get(2).isClear()).isTrue();
+    }
+
+    @Test
+    @DisplayName("빈 엔트리 목록도 encode/decode 가능")
+    void withEmptyEntries_roundTrips() {
+        // given
+        CacheInvalidationMessage message = new CacheInvalidationMessage("node-1", List.of());
+
+        // when
+        CacheInvalidationMessage decoded = CacheInvalidationMessage.decode(message.encode());
+
+        // then
+        assertThat(decoded.entries()).isEmpty();
+    }
+}
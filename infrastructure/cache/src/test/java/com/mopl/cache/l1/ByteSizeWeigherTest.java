@@ -0,0 +1,77 @@
+package com.mopl.cache.l1;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("ByteSizeWeigher 단위 테스트")
+class ByteSizeWeigherTest {
+
+    private final ByteSizeWeigher weigher = new ByteSizeWeigher();
+
+    @Test
+    @DisplayName("긴 문자열일수록 가중치가 큼")
+    void withLongerString_weighsMore() {
+        // when
+        int shortWeight = weigher.weigh("key", "a");
+        int longWeight = weigher.weigh("key", "a".repeat(1000));
+
+        // then
+        assertThat(longWeight).isGreaterThan(shortWeight);
+        assertThat(longWeight - shortWeight).isEqualTo(999);
+    }
+
+    @Test
+    @DisplayName("컬렉션은 원소 크기의 합을 반영")
+    void withCollection_sumsElements() {
+        // when
+        int oneElement = weigher.weigh("key", List.of(UUID.randomUUID()));
+        int threeElements = weigher.weigh("key", List.of(UUID.randomUUID(), UUID.randomUUID(), UUID.randomUUID()));
+
+        // then
+        assertThat(threeElements).isGreaterThan(oneElement);
+    }
+
+    @Test
+    @DisplayName("애플리케이션 객체는 필드 크기를 따라가며 계산")
+    void withApplicationObject_followsFields() {
+        // given
+        Sample small = new Sample(UUID.randomUUID(), "title", Instant.now(), 1L);
+        Sample large = new Sample(UUID.randomUUID(), "title".repeat(100), Instant.now(), 1L);
+
+        // when
+        int smallWeight = weigher.weigh("key", small);
+        int largeWeight = weigher.weigh("key", large);
+
+        // then
+        assertThat(smallWeight).isPositive();
+        assertThat(largeWeight).isGreaterThan(smallWeight);
+    }
+
+    @Test
+    @DisplayName("자기 자신을 참조하는 객체도 깊이 제한으로 종료")
+    void withSelfReferencingObject_terminates() {
+        // given
+        Node node = new Node();
+        node.next = node;
+
+        // when
+        int weight = weigher.weigh("key", node);
+
+        // then
+        assertThat(weight).isPositive();
+    }
+
+    private record Sample(UUID id, String title, Instant createdAt, long count) {
+    }
+
+    private static class Node {
+
+        private Node next;
+    }
+}
@@ -0,0 +1,245 @@
+package com.mopl.cache.l1;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import com.mopl.cache.CacheMetrics;
+import com.mopl.cache.config.CacheProperties;
+import com.mopl.cache.config.CacheProperties.CacheSpec;
+import com.mopl.cache.config.CacheProperties.L1Config;
+import com.mopl.cache.config.CacheProperties.L2Config;
+import com.mopl.cache.negative.Tombstone;
+import com.mopl.domain.exception.user.UserNotFoundException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("CaffeineL1CacheFactory 단위 테스트")
+class CaffeineL1CacheFactoryTest {
+
+    @Mock
+    private RedisTemplate<String, Object> redisTemplate;
+
+    @Mock
+    private RedisTemplate<String, Object> codecTemplate;
+
+    @Mock
+    private ValueOperations<String, Object> valueOperations;
+
+    @Mock
+    private CacheMetrics metrics;
+
+    private CacheProperties properties(boolean recordStats, Map<String, CacheSpec> caches) {
+        return new CacheProperties(
+            "mopl:",
+            new L1Config(1000, Duration.ofSeconds(30), recordStats),
+            new L2Config(Duration.ofMinutes(10)),
+            true,
+            null,
+            null,
+            null,
+            caches,
+            null,
+            null,
+            null
+        );
+    }
+
+    @Nested
+    @DisplayName("create()")
+    class CreateTest {
+
+        @Test
+        @DisplayName("CacheSpec이 없으면 maximumSize와 expireAfterWrite 기본값 사용")
+        void withoutSpec_usesL1Defaults() {
+            // given
+            CaffeineL1CacheFactory factory = new CaffeineL1CacheFactory(properties(false, null), redisTemplate, null);
+
+            // when
+            Cache<String, Object> cache = factory.create("users");
+
+            // then
+            assertThat(cache.policy().eviction()).isPresent();
+            assertThat(cache.policy().eviction().get().isWeighted()).isFalse();
+            assertThat(cache.policy().eviction().get().getMaximum()).isEqualTo(1000);
+            assertThat(cache.policy().expireAfterWrite()).isPresent();
+            assertThat(cache.policy().expireAfterWrite().get().getExpiresAfter()).isEqualTo(Duration.ofSeconds(30));
+            assertThat(cache.policy().refreshAfterWrite()).isEmpty();
+        }
+
+        @Test
+        @DisplayName("maximumWeight와 expireAfterAccess, l1Ttl을 캐시별로 적용")
+        void withSpec_appliesPerCachePolicy() {
+            // given
+            CacheSpec spec = new CacheSpec(DataSize.ofBytes(4096), CacheSpec.Expiry.AFTER_ACCESS, Duration.ofMinutes(2), null, null, null, null);
+            CaffeineL1CacheFactory factory = new CaffeineL1CacheFactory(
+                properties(false, Map.of("presigned-urls", spec)),
+                redisTemplate,
+                null
+            );
+
+            // when
+            Cache<String, Object> cache = factory.create("presigned-urls");
+
+            // then
+            assertThat(cache.policy().eviction().get().isWeighted()).isTrue();
+            assertThat(cache.policy().eviction().get().getMaximum()).isEqualTo(4096);
+            assertThat(cache.policy().expireAfterAccess().get().getExpiresAfter()).isEqualTo(Duration.ofMinutes(2));
+            assertThat(cache.policy().expireAfterWrite()).isEmpty();
+        }
+
+        @Test
+        @DisplayName("maximumWeight를 넘으면 다른 캐시에 영향 없이 해당 캐시에서만 축출")
+        void withWeightExceeded_evictsOnlyWithinCache() {
+            // given
+            CacheSpec spec = new CacheSpec(DataSize.ofBytes(2048), null, null, null, null, null, null);
+            CaffeineL1CacheFactory factory = new CaffeineL1CacheFactory(
+                properties(false, Map.of("presigned-urls", spec)),
+                null,
+                null
+            );
+            Cache<String, Object> users = factory.create("users");
+            Cache<String, Object> presignedUrls = factory.create("presigned-urls");
+            users.put("user", "value");
+
+            // when
+            for (int i = 0; i < 100; i++) {
+                presignedUrls.put("url-" + i, "x".repeat(200));
+            }
+            presignedUrls.cleanUp();
+
+            // then
+            assertThat(presignedUrls.policy().eviction().get().weightedSize().orElseThrow()).isLessThanOrEqualTo(2048);
+            assertThat(users.getIfPresent("user")).isEqualTo("value");
+        }
+
+        @Test
+        @DisplayName("refreshAfterWrite가 있고 Redis가 활성화되면 LoadingCache 생성")
+        void withRefreshAfterWrite_createsLoadingCache() {
+            // given
+            CacheSpec spec = new CacheSpec(null, null, Duration.ofMinutes(5), Duration.ofMinutes(1), null, null, null);
+            CaffeineL1CacheFactory factory = new CaffeineL1CacheFactory(
+                properties(false, Map.of("users", spec)),
+                redisTemplate,
+                null
+            );
+
+            // when
+            Cache<String, Object> cache = factory.create("users");
+
+            // then
+            assertThat(cache).isInstanceOf(LoadingCache.class);
+            assertThat(cache.policy().refreshAfterWrite()).isPresent();
+        }
+
+        @Test
+        @DisplayName("refreshAfterWrite 로더는 캐시별로 해석한 템플릿으로 L2를 읽음")
+        void withRedisTemplateResolver_loadsFromCacheTemplate() {
+            // given
+            CacheSpec spec = new CacheSpec(null, null, Duration.ofMinutes(5), Duration.ofMinutes(1), null, null, null);
+            given(codecTemplate.opsForValue()).willReturn(valueOperations);
+            given(valueOperations.get("users::1")).willReturn("value");
+            CaffeineL1CacheFactory factory = new CaffeineL1CacheFactory(
+                properties(false, Map.of("users", spec)),
+                redisTemplate,
+                null,
+                cacheName -> codecTemplate
+            );
+
+            // when
+            Object loaded = ((LoadingCache<String, Object>) factory.create("users")).get("users::1");
+
+            // then
+            assertThat(loaded).isEqualTo("value");
+            then(redisTemplate).shouldHaveNoInteractions();
+        }
+
+        @Test
+        @DisplayName("refreshAfterWrite 로더는 L2의 tombstone을 L1에 올리지 않음")
+        void withL2Tombstone_loadsNull() {
+            // given
+            CacheSpec spec = new CacheSpec(null, null, Duration.ofMinutes(5), Duration.ofMinutes(1), null, null, null);
+            given(redisTemplate.opsForValue()).willReturn(valueOperations);
+            given(valueOperations.get("users::1")).willReturn(Tombstone.of(UserNotFoundException.withId(UUID.randomUUID())));
+            CaffeineL1CacheFactory factory = new CaffeineL1CacheFactory(
+                properties(false, Map.of("users", spec)),
+                redisTemplate,
+                null
+            );
+            LoadingCache<String, Object> cache = (LoadingCache<String, Object>) factory.create("users");
+
+            // when
+            Object loaded = cache.get("users::1");
+
+            // then
+            assertThat(loaded).isNull();
+            assertThat(cache.getIfPresent("users::1")).isNull();
+        }
+
+        @Test
+        @DisplayName("Redis가 비활성화되면 refreshAfterWrite를 적용하지 않음")
+        void withoutRedis_skipsRefreshAfterWrite() {
+            // given
+            CacheSpec spec = new CacheSpec(null, null, Duration.ofMinutes(5), Duration.ofMinutes(1), null, null, null);
+            CaffeineL1CacheFactory factory = new CaffeineL1CacheFactory(
+                properties(false, Map.of("users", spec)),
+                null,
+                null
+            );
+
+            // when
+            Cache<String, Object> cache = factory.create("users");
+
+            // then
+            assertThat(cache.policy().refreshAfterWrite()).isEmpty();
+        }
+    }
+
+    @Nested
+    @DisplayName("metrics")
+    class MetricsTest {
+
+        @Test
+        @DisplayName("recordStats가 true면 캐시별로 Micrometer에 등록")
+        void withRecordStats_monitorsCache() {
+            // given
+            CaffeineL1CacheFactory factory = new CaffeineL1CacheFactory(properties(true, null), redisTemplate, metrics);
+
+            // when
+            Cache<String, Object> cache = factory.create("users");
+
+            // then
+            then(metrics).should().monitorL1(eq("users"), eq(cache));
+        }
+
+        @Test
+        @DisplayName("recordStats가 false면 Micrometer에 등록하지 않음")
+        void withoutRecordStats_doesNotMonitor() {
+            // given
+            CaffeineL1CacheFactory factory = new CaffeineL1CacheFactory(properties(false, null), redisTemplate, metrics);
+
+            // when
+            factory.create("users");
+
+            // then
+            then(metrics).should(never()).monitorL1(any(), any());
+        }
+    }
+}
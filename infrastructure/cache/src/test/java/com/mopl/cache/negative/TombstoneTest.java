@@ -0,0 +1,125 @@
+package com.mopl.cache.negative;
+
+import com.mopl.domain.exception.MoplException;
+import com.mopl.domain.exception.content.ContentNotFoundException;
+import com.mopl.domain.exception.notification.NotificationNotFoundException;
+import com.mopl.domain.exception.user.UserNotFoundException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("Tombstone 단위 테스트")
+class TombstoneTest {
+
+    @Nested
+    @DisplayName("toException()")
+    class ToExceptionTest {
+
+        @Test
+        @DisplayName("에러 코드와 details로 같은 예외를 다시 생성")
+        void withStoredException_rebuildsSameType() {
+            // given
+            UUID contentId = UUID.randomUUID();
+            Tombstone tombstone = Tombstone.of(ContentNotFoundException.withId(contentId));
+
+            // when
+            MoplException rebuilt = tombstone.toException();
+
+            // then
+            assertThat(rebuilt).isInstanceOf(ContentNotFoundException.class);
+            assertThat(rebuilt.getDetails()).containsEntry("id", contentId);
+        }
+
+        @Test
+        @DisplayName("L2를 거쳐 문자열이 된 UUID details도 UUID로 복원")
+        void withStringDetails_restoresUuid() {
+            // given
+            UUID userId = UUID.randomUUID();
+            Tombstone tombstone = new Tombstone("USER_NOT_FOUND", Map.of("id", userId.toString()));
+
+            // when
+            MoplException rebuilt = tombstone.toException();
+
+            // then
+            assertThat(rebuilt).isInstanceOf(UserNotFoundException.class);
+            assertThat(rebuilt.getDetails()).containsEntry("id", userId);
+        }
+
+        @Test
+        @DisplayName("등록되지 않은 에러 코드나 맞지 않는 details면 null")
+        void withUnknownCodeOrInvalidDetails_returnsNull() {
+            // when & then
+            assertThat(new Tombstone("UNKNOWN_NOT_FOUND", Map.of()).toException()).isNull();
+            assertThat(new Tombstone("CONTENT_NOT_FOUND", Map.of("id", "not-a-uuid")).toException()).isNull();
+        }
+
+        @Test
+        @DisplayName("에러 코드가 없으면 null")
+        void withoutType_returnsNull() {
+            // given
+            Tombstone tombstone = new Tombstone();
+
+            // when
+            MoplException rebuilt = tombstone.toException();
+
+            // then
+            assertThat(rebuilt).isNull();
+        }
+    }
+
+    @Nested
+    @DisplayName("findNotFound()")
+    class FindNotFoundTest {
+
+        @Test
+        @DisplayName("감싼 예외의 cause에서 404 예외를 찾음")
+        void withWrappedNotFound_returnsCause() {
+            // given
+            UserNotFoundException notFound = UserNotFoundException.withId(UUID.randomUUID());
+            RuntimeException wrapped = new RuntimeException(notFound);
+
+            // when
+            MoplException result = Tombstone.findNotFound(wrapped);
+
+            // then
+            assertThat(result).isSameAs(notFound);
+        }
+
+        @Test
+        @DisplayName("다시 만들 팩토리가 없는 404 예외는 null")
+        void withUnregisteredNotFound_returnsNull() {
+            // when
+            MoplException result = Tombstone.findNotFound(NotificationNotFoundException.withId(UUID.randomUUID()));
+
+            // then
+            assertThat(result).isNull();
+        }
+
+        @Test
+        @DisplayName("404가 아닌 예외는 null")
+        void withOtherException_returnsNull() {
+            // when
+            MoplException result = Tombstone.findNotFound(new IllegalStateException("DB down", new RuntimeException()));
+
+            // then
+            assertThat(result).isNull();
+            assertThat(Tombstone.findNotFound(null)).isNull();
+        }
+    }
+
+    @Test
+    @DisplayName("에러 코드와 details를 저장")
+    void of_copiesDetails() {
+        // when
+        Tombstone tombstone = Tombstone.of(UserNotFoundException.withEmail("a@mopl.com"));
+
+        // then
+        assertThat(tombstone.getErrorCode()).isEqualTo("USER_NOT_FOUND");
+        assertThat(tombstone.getDetails()).isEqualTo(Map.of("email", "a@mopl.com"));
+    }
+}
@@ -0,0 +1,112 @@
+package com.mopl.cache.refresh;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("RefreshAheadExecutor 단위 테스트")
+class RefreshAheadExecutorTest {
+
+    private final ExecutorService delegate = Executors.newCachedThreadPool();
+
+    @AfterEach
+    void tearDown() {
+        delegate.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("같은 키의 재로드가 진행 중이면 중복 예약하지 않음")
+    void withSameKeyInFlight_rejectsDuplicate() throws InterruptedException {
+        // given
+        RefreshAheadExecutor executor = new RefreshAheadExecutor(4, delegate);
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(1);
+        AtomicInteger runs = new AtomicInteger();
+
+        // when
+        boolean first = executor.submit("mopl:users::1", () -> {
+            runs.incrementAndGet();
+            awaitQuietly(release);
+            done.countDown();
+        });
+        boolean duplicate = executor.submit("mopl:users::1", runs::incrementAndGet);
+        release.countDown();
+
+        // then
+        assertThat(first).isTrue();
+        assertThat(duplicate).isFalse();
+        assertThat(done.await(1, TimeUnit.SECONDS)).isTrue();
+        assertThat(runs.get()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("동시 재로드 수를 넘으면 예약하지 않음")
+    void withNoPermits_rejects() {
+        // given
+        RefreshAheadExecutor executor = new RefreshAheadExecutor(1, delegate);
+        CountDownLatch release = new CountDownLatch(1);
+
+        // when
+        boolean first = executor.submit("mopl:users::1", () -> awaitQuietly(release));
+        boolean second = executor.submit("mopl:users::2", () -> {
+        });
+        release.countDown();
+
+        // then
+        assertThat(first).isTrue();
+        assertThat(second).isFalse();
+    }
+
+    @Test
+    @DisplayName("재로드가 끝나면 같은 키를 다시 예약할 수 있음")
+    void afterCompletion_allowsResubmit() throws InterruptedException {
+        // given
+        RefreshAheadExecutor executor = new RefreshAheadExecutor(1, delegate);
+        CountDownLatch done = new CountDownLatch(1);
+        executor.submit("mopl:users::1", done::countDown);
+        assertThat(done.await(1, TimeUnit.SECONDS)).isTrue();
+
+        // when & then
+        awaitIdle(executor);
+        assertThat(executor.submit("mopl:users::1", () -> {
+        })).isTrue();
+    }
+
+    @Test
+    @DisplayName("종료 후에는 예약하지 않음")
+    void afterDestroy_rejects() {
+        // given
+        RefreshAheadExecutor executor = new RefreshAheadExecutor(1, delegate);
+
+        // when
+        executor.destroy();
+
+        // then
+        assertThat(executor.submit("mopl:users::1", () -> {
+        })).isFalse();
+        assertThat(executor.inFlight()).isZero();
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await(1, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void awaitIdle(RefreshAheadExecutor executor) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(1);
+        while (executor.inFlight() > 0 && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+        }
+    }
+}
@@ -79,14 +79,20 @@ public class NotificationQueryRepositoryImpl implements NotificationQueryReposit
     }
 
     @Override
-    public List<NotificationModel> findByReceiverIdAndCreatedAtAfter(UUID receiverId, Instant createdAfter) {
+    public List<NotificationModel> findByReceiverIdAndCreatedAtAfter(
+        UUID receiverId,
+        Instant createdAfter,
+        UUID idAfter,
+        int limit
+    ) {
         List<NotificationEntity> entities = queryFactory
             .selectFrom(notificationEntity)
             .where(
                 receiverIdEqual(receiverId),
-                notificationEntity.createdAt.after(createdAfter)
+                createdAtAfter(createdAfter, idAfter)
             )
-            .orderBy(notificationEntity.createdAt.asc())
+            .orderBy(notificationEntity.createdAt.asc(), notificationEntity.id.asc())
+            .limit(limit)
             .fetch();
 
         return entities.stream()
@@ -94,6 +100,14 @@ public class NotificationQueryRepositoryImpl implements NotificationQueryReposit
             .toList();
     }
 
+    private BooleanExpression createdAtAfter(Instant createdAfter, UUID idAfter) {
+        BooleanExpression after = notificationEntity.createdAt.after(createdAfter);
+        if (idAfter == null) {
+            return after;
+        }
+        return after.or(notificationEntity.createdAt.eq(createdAfter).and(notificationEntity.id.gt(idAfter)));
+    }
+
     private BooleanExpression receiverIdEqual(UUID receiverId) {
         return receiverId != null ? notificationEntity.receiverId.eq(receiverId) : null;
     }
@@ -407,7 +407,7 @@ class NotificationQueryRepositoryImplTest {
         //
         //     // when
         //     List<NotificationModel> notifications = notificationQueryRepository.findByReceiverIdAndCreatedAtAfter(
-        //         user1.getId(), createdAfter
+        //         user1.getId(), createdAfter, null, 100
         //     );
         //
         //     // then
@@ -425,7 +425,7 @@ class NotificationQueryRepositoryImplTest {
 
             // when
             List<NotificationModel> notifications = notificationQueryRepository.findByReceiverIdAndCreatedAtAfter(
-                user1.getId(), futureTime
+                user1.getId(), futureTime, null, 100
             );
 
             // then
@@ -441,7 +441,7 @@ class NotificationQueryRepositoryImplTest {
 
             // when
             List<NotificationModel> notifications = notificationQueryRepository.findByReceiverIdAndCreatedAtAfter(
-                user1.getId(), createdAfter
+                user1.getId(), createdAfter, null, 100
             );
 
             // then
@@ -459,7 +459,7 @@ class NotificationQueryRepositoryImplTest {
 
             // when
             List<NotificationModel> notifications = notificationQueryRepository.findByReceiverIdAndCreatedAtAfter(
-                user2.getId(), createdAfter
+                user2.getId(), createdAfter, null, 100
             );
 
             // then
@@ -477,11 +477,45 @@ class NotificationQueryRepositoryImplTest {
 
             // when
             List<NotificationModel> notifications = notificationQueryRepository.findByReceiverIdAndCreatedAtAfter(
-                nonExistentUserId, createdAfter
+                nonExistentUserId, createdAfter, null, 100
             );
 
             // then
             assertThat(notifications).isEmpty();
         }
+
+        @Test
+        @DisplayName("limit개까지만 조회")
+        void withLimit_returnsAtMostLimit() {
+            // when
+            List<NotificationModel> notifications = notificationQueryRepository.findByReceiverIdAndCreatedAtAfter(
+                user1.getId(), Instant.EPOCH, null, 2
+            );
+
+            // then
+            assertThat(notifications)
+                .extracting(NotificationModel::getTitle)
+                .containsExactly("알림1", "알림2");
+        }
+
+        @Test
+        @DisplayName("이전 페이지 마지막 알림을 keyset으로 넘기면 그 다음 알림부터 조회")
+        void withKeyset_continuesAfterLastNotification() {
+            // given
+            List<NotificationModel> firstPage = notificationQueryRepository.findByReceiverIdAndCreatedAtAfter(
+                user1.getId(), Instant.EPOCH, null, 2
+            );
+            NotificationModel last = firstPage.getLast();
+
+            // when
+            List<NotificationModel> secondPage = notificationQueryRepository.findByReceiverIdAndCreatedAtAfter(
+                user1.getId(), last.getCreatedAt(), last.getId(), 2
+            );
+
+            // then
+            assertThat(secondPage)
+                .extracting(NotificationModel::getTitle)
+                .containsExactly("알림3", "알림4");
+        }
     }
 }
@@ -1,5 +1,6 @@
 plugins {
     `java-library`
+    id("me.champeau.jmh") version "0.7.3"
 }
 
 dependencies {
@@ -8,4 +9,16 @@ dependencies {
     implementation(project(":shared:jackson"))
     // redis
     api("org.springframework.boot:spring-boot-starter-data-redis")
+    // codec
+    implementation("com.fasterxml.jackson.dataformat:jackson-dataformat-smile")
+    implementation("org.lz4:lz4-java:${project.properties["lz4JavaVersion"]}")
+}
+
+// ./gradlew :infrastructure:redis:jmh (src/jmh, 단위 테스트와 분리)
+jmh {
+    fork = 1
+    warmupIterations = 3
+    iterations = 5
+    benchmarkMode = listOf("avgt")
+    timeUnit = "ns"
 }
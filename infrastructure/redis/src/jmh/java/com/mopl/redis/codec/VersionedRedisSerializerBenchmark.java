@@ -0,0 +1,100 @@
+package com.mopl.redis.codec;
+
+import com.fasterxml.jackson.annotation.JsonTypeInfo;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.jsontype.BasicPolymorphicTypeValidator;
+import com.fasterxml.jackson.databind.jsontype.PolymorphicTypeValidator;
+import com.mopl.domain.model.content.ContentModel;
+import com.mopl.domain.model.content.ContentModel.ContentType;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 코덱별 직렬화 크기와 ns/op를 비교합니다. {@code json}은 기존 {@link GenericJackson2JsonRedisSerializer} 경로입니다.
+ *
+ * <p>값은 playlist-contents 캐시처럼 {@link ContentModel} 목록을 사용하고, 직렬화 크기는 trial 시작 시 한 번 출력합니다.
+ * 실행: {@code ./gradlew :infrastructure:redis:jmh}
+ */
+@State(Scope.Benchmark)
+public class VersionedRedisSerializerBenchmark {
+
+    private static final int COMPRESSION_THRESHOLD = 1024;
+
+    @Param({"json", "smile", "smile-lz4"})
+    private String codec;
+
+    @Param({"1", "20"})
+    private int contentCount;
+
+    private VersionedRedisSerializer serializer;
+    private Object value;
+    private byte[] bytes;
+
+    @Setup
+    public void setUp() {
+        PolymorphicTypeValidator ptv = BasicPolymorphicTypeValidator.builder()
+            .allowIfSubType("com.mopl.")
+            .allowIfSubType("java.util.")
+            .allowIfSubTypeIsArray()
+            .build();
+        ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+        ObjectMapper legacyMapper = objectMapper.copy();
+        legacyMapper.activateDefaultTyping(ptv, ObjectMapper.DefaultTyping.NON_FINAL, JsonTypeInfo.As.PROPERTY);
+        GenericJackson2JsonRedisSerializer legacySerializer = new GenericJackson2JsonRedisSerializer(legacyMapper);
+        ObjectMapper compactMapper = VersionedRedisSerializer.createCompactObjectMapper(
+            objectMapper,
+            ptv,
+            RedisTypeRegistry.withDefaults()
+        );
+
+        serializer = switch (codec) {
+            case "json" -> new VersionedRedisSerializer(RedisCodec.JSON, legacySerializer, compactMapper, COMPRESSION_THRESHOLD);
+            case "smile" -> new VersionedRedisSerializer(RedisCodec.SMILE, legacySerializer, compactMapper, 0);
+            case "smile-lz4" -> new VersionedRedisSerializer(RedisCodec.SMILE, legacySerializer, compactMapper, COMPRESSION_THRESHOLD);
+            default -> throw new IllegalArgumentException("Unknown codec: " + codec);
+        };
+        value = contents(contentCount);
+        bytes = serializer.serialize(value);
+
+        System.out.printf("%n%-10s contents=%2d bytes=%6d%n", codec, contentCount, bytes.length);
+    }
+
+    @Benchmark
+    public byte[] serialize() {
+        return serializer.serialize(value);
+    }
+
+    @Benchmark
+    public Object deserialize() {
+        return serializer.deserialize(bytes);
+    }
+
+    private static List<ContentModel> contents(int count) {
+        List<ContentModel> contents = new ArrayList<>(count);
+        Instant now = Instant.parse("2026-01-01T00:00:00Z");
+        for (int i = 0; i < count; i++) {
+            contents.add(ContentModel.builder()
+                .id(UUID.randomUUID())
+                .createdAt(now)
+                .updatedAt(now)
+                .type(ContentType.movie)
+                .title("content-title-" + i)
+                .description("콘텐츠 설명 " + i + " ".repeat(200))
+                .thumbnailPath("contents/thumbnail-" + i + ".jpg")
+                .reviewCount(i)
+                .averageRating(4.2)
+                .popularityScore(87.5)
+                .build());
+        }
+        return contents;
+    }
+}
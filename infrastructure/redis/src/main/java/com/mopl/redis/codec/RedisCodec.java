@@ -0,0 +1,14 @@
+package com.mopl.redis.codec;
+
+/**
+ * Redis 값 인코딩 방식.
+ *
+ * <ul>
+ *   <li>JSON: 클래스명을 포함한 기존 default-typed JSON. 버전 바이트 없이 저장해 이전 버전 노드도 읽을 수 있습니다.</li>
+ *   <li>SMILE: 버전 바이트 + Smile 바이너리. 등록된 타입은 짧은 타입 id로 저장하고, 큰 값은 LZ4로 압축합니다.</li>
+ * </ul>
+ */
+public enum RedisCodec {
+    JSON,
+    SMILE
+}
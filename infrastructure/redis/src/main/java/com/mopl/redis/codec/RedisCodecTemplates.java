@@ -0,0 +1,40 @@
+package com.mopl.redis.codec;
+
+import com.mopl.redis.config.RedisProperties.CodecConfig;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.lang.Nullable;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * 코덱별 RedisTemplate 묶음. 캐시와 리포지토리는 이름으로 자신이 쓸 코덱의 템플릿을 고릅니다.
+ *
+ * <p>모든 템플릿이 두 형식을 모두 읽으므로, 코덱 설정은 쓰기 형식만 결정합니다.
+ */
+public class RedisCodecTemplates {
+
+    private final Map<RedisCodec, RedisTemplate<String, Object>> templates;
+    private final CodecConfig config;
+
+    public RedisCodecTemplates(Map<RedisCodec, RedisTemplate<String, Object>> templates, CodecConfig config) {
+        this.templates = new EnumMap<>(templates);
+        this.config = config;
+    }
+
+    /**
+     * @param codec null이면 mopl.redis.codec.default-codec을 사용합니다.
+     */
+    public RedisTemplate<String, Object> get(@Nullable RedisCodec codec) {
+        RedisCodec resolved = codec != null ? codec : config.getDefaultCodec();
+        RedisTemplate<String, Object> template = templates.get(resolved);
+        if (template == null) {
+            throw new IllegalStateException("No RedisTemplate registered for codec " + resolved);
+        }
+        return template;
+    }
+
+    public RedisTemplate<String, Object> forRepository(String repositoryName) {
+        return get(config.codecFor(repositoryName));
+    }
+}
@@ -0,0 +1,78 @@
+package com.mopl.redis.codec;
+
+import com.mopl.domain.model.content.ContentModel;
+import com.mopl.domain.model.conversation.ConversationModel;
+import com.mopl.domain.model.conversation.DirectMessageModel;
+import com.mopl.domain.model.notification.NotificationModel;
+import com.mopl.domain.model.playlist.PlaylistModel;
+import com.mopl.domain.model.review.ReviewModel;
+import com.mopl.domain.model.tag.GenreModel;
+import com.mopl.domain.model.tag.TagModel;
+import com.mopl.domain.model.user.UserModel;
+import com.mopl.domain.model.watchingsession.WatchingSessionModel;
+import org.springframework.lang.Nullable;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * SMILE 코덱에서 클래스명 대신 사용할 짧은 타입 id 레지스트리.
+ *
+ * <p>id는 저장된 값의 일부이므로 한 번 배포한 뒤에는 바꾸거나 재사용하지 않습니다.
+ * 등록되지 않은 타입은 기존처럼 클래스명으로 저장됩니다.
+ */
+public class RedisTypeRegistry {
+
+    private final Map<Class<?>, String> idsByType = new ConcurrentHashMap<>();
+    private final Map<String, Class<?>> typesById = new ConcurrentHashMap<>();
+
+    public static RedisTypeRegistry withDefaults() {
+        return new RedisTypeRegistry()
+            .register("u", UserModel.class)
+            .register("c", ContentModel.class)
+            .register("p", PlaylistModel.class)
+            .register("t", TagModel.class)
+            .register("g", GenreModel.class)
+            .register("r", ReviewModel.class)
+            .register("n", NotificationModel.class)
+            .register("cv", ConversationModel.class)
+            .register("dm", DirectMessageModel.class)
+            .register("ws", WatchingSessionModel.class)
+            .register("al", ArrayList.class)
+            .register("hm", HashMap.class)
+            .register("lhm", LinkedHashMap.class)
+            .register("hs", HashSet.class)
+            .register("lhs", LinkedHashSet.class);
+    }
+
+    public RedisTypeRegistry register(String id, Class<?> type) {
+        if (id == null || id.isBlank() || id.contains(".")) {
+            throw new IllegalArgumentException("Type id must be non-blank and must not contain '.': " + id);
+        }
+        Class<?> existing = typesById.putIfAbsent(id, type);
+        if (existing != null && existing != type) {
+            throw new IllegalStateException("Type id '" + id + "' is already registered for " + existing.getName());
+        }
+        String existingId = idsByType.putIfAbsent(type, id);
+        if (existingId != null && !existingId.equals(id)) {
+            typesById.remove(id, type);
+            throw new IllegalStateException(type.getName() + " is already registered as '" + existingId + "'");
+        }
+        return this;
+    }
+
+    @Nullable
+    public String idOf(Class<?> type) {
+        return idsByType.get(type);
+    }
+
+    @Nullable
+    public Class<?> typeOf(String id) {
+        return typesById.get(id);
+    }
+}
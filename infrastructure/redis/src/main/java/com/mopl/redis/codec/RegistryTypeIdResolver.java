@@ -0,0 +1,47 @@
+package com.mopl.redis.codec;
+
+import com.fasterxml.jackson.databind.DatabindContext;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.jsontype.PolymorphicTypeValidator;
+import com.fasterxml.jackson.databind.jsontype.impl.ClassNameIdResolver;
+import com.fasterxml.jackson.databind.type.TypeFactory;
+
+import java.io.IOException;
+
+/**
+ * 등록된 타입은 짧은 id로, 나머지는 클래스명으로 기록하는 TypeIdResolver.
+ */
+class RegistryTypeIdResolver extends ClassNameIdResolver {
+
+    private final RedisTypeRegistry registry;
+
+    RegistryTypeIdResolver(
+        JavaType baseType,
+        TypeFactory typeFactory,
+        PolymorphicTypeValidator polymorphicTypeValidator,
+        RedisTypeRegistry registry
+    ) {
+        super(baseType, typeFactory, polymorphicTypeValidator);
+        this.registry = registry;
+    }
+
+    @Override
+    public String idFromValue(Object value) {
+        return idFromValueAndType(value, value.getClass());
+    }
+
+    @Override
+    public String idFromValueAndType(Object value, Class<?> type) {
+        String registeredId = registry.idOf(type);
+        return registeredId != null ? registeredId : super.idFromValueAndType(value, type);
+    }
+
+    @Override
+    public JavaType typeFromId(DatabindContext context, String id) throws IOException {
+        Class<?> registeredType = registry.typeOf(id);
+        if (registeredType != null) {
+            return context.constructSpecializedType(_baseType, registeredType);
+        }
+        return super.typeFromId(context, id);
+    }
+}
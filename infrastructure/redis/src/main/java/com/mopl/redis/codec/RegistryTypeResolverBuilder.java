@@ -0,0 +1,35 @@
+package com.mopl.redis.codec;
+
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.cfg.MapperConfig;
+import com.fasterxml.jackson.databind.jsontype.NamedType;
+import com.fasterxml.jackson.databind.jsontype.PolymorphicTypeValidator;
+import com.fasterxml.jackson.databind.jsontype.TypeIdResolver;
+
+import java.util.Collection;
+
+/**
+ * JSON 코덱과 같은 NON_FINAL default typing을 쓰되, 타입 id만 {@link RegistryTypeIdResolver}로 결정합니다.
+ */
+class RegistryTypeResolverBuilder extends ObjectMapper.DefaultTypeResolverBuilder {
+
+    private final RedisTypeRegistry registry;
+
+    RegistryTypeResolverBuilder(PolymorphicTypeValidator polymorphicTypeValidator, RedisTypeRegistry registry) {
+        super(ObjectMapper.DefaultTyping.NON_FINAL, polymorphicTypeValidator);
+        this.registry = registry;
+    }
+
+    @Override
+    protected TypeIdResolver idResolver(
+        MapperConfig<?> config,
+        JavaType baseType,
+        PolymorphicTypeValidator subtypeValidator,
+        Collection<NamedType> subtypes,
+        boolean forSer,
+        boolean forDeser
+    ) {
+        return new RegistryTypeIdResolver(baseType, config.getTypeFactory(), subtypeValidator, registry);
+    }
+}
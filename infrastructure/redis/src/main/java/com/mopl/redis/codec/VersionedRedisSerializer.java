@@ -0,0 +1,150 @@
+package com.mopl.redis.codec;
+
+import com.fasterxml.jackson.annotation.JsonTypeInfo;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.jsontype.PolymorphicTypeValidator;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import net.jpountz.lz4.LZ4Exception;
+import net.jpountz.lz4.LZ4Factory;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+import org.springframework.lang.Nullable;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+
+/**
+ * 코덱을 선택할 수 있는 Redis 값 직렬화기.
+ *
+ * <p>SMILE 값은 {@code [version][flags][body]} 형식으로 저장합니다. flags에 LZ4 비트가 있으면
+ * body 앞 4바이트에 원본 길이를 기록합니다. version 바이트(0x01~0x08)는 JSON 첫 글자가 될 수 없는 제어 문자이므로,
+ * 읽을 때는 첫 바이트만 보고 기존 JSON 값과 구분합니다. 따라서 어떤 코덱으로 설정된 노드든 두 형식을 모두 읽을 수 있습니다.
+ *
+ * <p>String, Number, Boolean은 코덱과 무관하게 기존 JSON으로 기록합니다.
+ * Set/ZSet 멤버나 Lua 인자로 쓰이는 값이 노드와 코덱에 상관없이 같은 바이트가 되어야 하기 때문입니다.
+ */
+public class VersionedRedisSerializer implements RedisSerializer<Object> {
+
+    static final byte VERSION_1 = 0x01;
+    static final String COMPACT_TYPE_PROPERTY = "@t";
+    static final byte FLAG_LZ4 = 0x01;
+
+    private static final byte MAX_VERSION_MARKER = 0x08;
+    private static final int HEADER_LENGTH = 2;
+    private static final int ORIGINAL_LENGTH_BYTES = Integer.BYTES;
+    private static final byte[] EMPTY = new byte[0];
+    private static final LZ4Factory LZ4 = LZ4Factory.fastestInstance();
+
+    private final RedisCodec codec;
+    private final RedisSerializer<Object> legacySerializer;
+    private final ObjectMapper compactMapper;
+    private final int compressionThreshold;
+
+    /**
+     * @param compressionThreshold 이 크기(바이트) 이상인 SMILE 값은 LZ4로 압축합니다. 0 이하면 압축하지 않습니다.
+     */
+    public VersionedRedisSerializer(
+        RedisCodec codec,
+        RedisSerializer<Object> legacySerializer,
+        ObjectMapper compactMapper,
+        int compressionThreshold
+    ) {
+        this.codec = codec;
+        this.legacySerializer = legacySerializer;
+        this.compactMapper = compactMapper;
+        this.compressionThreshold = compressionThreshold;
+    }
+
+    /**
+     * SMILE 코덱용 ObjectMapper. JSON 코덱과 같은 NON_FINAL default typing을 쓰되 등록된 타입은 짧은 id로 기록합니다.
+     */
+    public static ObjectMapper createCompactObjectMapper(
+        ObjectMapper objectMapper,
+        PolymorphicTypeValidator polymorphicTypeValidator,
+        RedisTypeRegistry redisTypeRegistry
+    ) {
+        ObjectMapper compactObjectMapper = objectMapper.copyWith(new SmileFactory());
+        compactObjectMapper.setDefaultTyping(
+            new RegistryTypeResolverBuilder(polymorphicTypeValidator, redisTypeRegistry)
+                .init(JsonTypeInfo.Id.CLASS, null)
+                .inclusion(JsonTypeInfo.As.PROPERTY)
+                .typeProperty(COMPACT_TYPE_PROPERTY)
+        );
+        return compactObjectMapper;
+    }
+
+    public RedisCodec getCodec() {
+        return codec;
+    }
+
+    @Override
+    public byte[] serialize(@Nullable Object value) throws SerializationException {
+        if (value == null) {
+            return EMPTY;
+        }
+        if (codec == RedisCodec.JSON || isScalar(value)) {
+            return legacySerializer.serialize(value);
+        }
+
+        byte[] body;
+        try {
+            body = compactMapper.writeValueAsBytes(value);
+        } catch (IOException e) {
+            throw new SerializationException("Could not write compact value: " + e.getMessage(), e);
+        }
+
+        if (compressionThreshold > 0 && body.length >= compressionThreshold) {
+            return compress(body);
+        }
+        return ByteBuffer.allocate(HEADER_LENGTH + body.length)
+            .put(VERSION_1)
+            .put((byte) 0)
+            .put(body)
+            .array();
+    }
+
+    @Override
+    @Nullable
+    public Object deserialize(@Nullable byte[] bytes) throws SerializationException {
+        if (bytes == null || bytes.length == 0) {
+            return null;
+        }
+        if (bytes[0] < VERSION_1 || bytes[0] > MAX_VERSION_MARKER) {
+            return legacySerializer.deserialize(bytes);
+        }
+        if (bytes[0] != VERSION_1) {
+            throw new SerializationException("Unsupported redis value version: " + bytes[0]);
+        }
+        if (bytes.length < HEADER_LENGTH) {
+            throw new SerializationException("Truncated redis value header");
+        }
+
+        try {
+            if ((bytes[1] & FLAG_LZ4) != 0) {
+                if (bytes.length < HEADER_LENGTH + ORIGINAL_LENGTH_BYTES) {
+                    throw new SerializationException("Truncated redis value header");
+                }
+                int originalLength = ByteBuffer.wrap(bytes, HEADER_LENGTH, ORIGINAL_LENGTH_BYTES).getInt();
+                byte[] body = LZ4.fastDecompressor().decompress(bytes, HEADER_LENGTH + ORIGINAL_LENGTH_BYTES, originalLength);
+                return compactMapper.readValue(body, Object.class);
+            }
+            return compactMapper.readValue(bytes, HEADER_LENGTH, bytes.length - HEADER_LENGTH, Object.class);
+        } catch (IOException | LZ4Exception e) {
+            throw new SerializationException("Could not read compact value: " + e.getMessage(), e);
+        }
+    }
+
+    private byte[] compress(byte[] body) {
+        byte[] compressed = LZ4.fastCompressor().compress(body);
+        return ByteBuffer.allocate(HEADER_LENGTH + ORIGINAL_LENGTH_BYTES + compressed.length)
+            .put(VERSION_1)
+            .put(FLAG_LZ4)
+            .putInt(body.length)
+            .put(compressed)
+            .array();
+    }
+
+    private static boolean isScalar(Object value) {
+        return value instanceof String || value instanceof Number || value instanceof Boolean;
+    }
+}
@@ -4,6 +4,11 @@ import com.fasterxml.jackson.annotation.JsonTypeInfo;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.jsontype.BasicPolymorphicTypeValidator;
 import com.fasterxml.jackson.databind.jsontype.PolymorphicTypeValidator;
+import com.mopl.redis.codec.RedisCodec;
+import com.mopl.redis.codec.RedisCodecTemplates;
+import com.mopl.redis.codec.RedisTypeRegistry;
+import com.mopl.redis.codec.VersionedRedisSerializer;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
@@ -12,30 +17,56 @@ import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
 
+import java.util.EnumMap;
+import java.util.Map;
+
 @Configuration
 public class RedisConfig {
 
+    /**
+     * pub/sub 구독자가 JSON을 직접 읽으므로 기본 템플릿은 항상 JSON으로 기록합니다.
+     * 다른 코덱이 필요한 캐시와 리포지토리는 {@link RedisCodecTemplates}에서 템플릿을 고릅니다.
+     */
     @Bean
-    public RedisTemplate<String, Object> redisTemplate(
+    public RedisTemplate<String, Object> redisTemplate(RedisCodecTemplates redisCodecTemplates) {
+        return redisCodecTemplates.get(RedisCodec.JSON);
+    }
+
+    @Bean
+    @ConditionalOnMissingBean
+    public RedisTypeRegistry redisTypeRegistry() {
+        return RedisTypeRegistry.withDefaults();
+    }
+
+    @Bean
+    public RedisCodecTemplates redisCodecTemplates(
         RedisConnectionFactory connectionFactory,
-        ObjectMapper objectMapper
+        ObjectMapper objectMapper,
+        RedisTypeRegistry redisTypeRegistry,
+        RedisProperties redisProperties
     ) {
-        RedisTemplate<String, Object> template = new RedisTemplate<>();
-        template.setConnectionFactory(connectionFactory);
-
-        StringRedisSerializer stringRedisSerializer = new StringRedisSerializer();
-        ObjectMapper redisObjectMapper = createRedisObjectMapper(objectMapper);
+        PolymorphicTypeValidator polymorphicTypeValidator = createPolymorphicTypeValidator();
         GenericJackson2JsonRedisSerializer jsonRedisSerializer = new GenericJackson2JsonRedisSerializer(
-            redisObjectMapper
+            createRedisObjectMapper(objectMapper, polymorphicTypeValidator)
         );
+        ObjectMapper compactObjectMapper = VersionedRedisSerializer.createCompactObjectMapper(
+            objectMapper,
+            polymorphicTypeValidator,
+            redisTypeRegistry
+        );
+        int compressionThreshold = redisProperties.getCodec().compressionThresholdBytes();
 
-        template.setKeySerializer(stringRedisSerializer);
-        template.setHashKeySerializer(stringRedisSerializer);
-
-        template.setValueSerializer(jsonRedisSerializer);
-        template.setHashValueSerializer(jsonRedisSerializer);
-
-        return template;
+        Map<RedisCodec, RedisTemplate<String, Object>> templates = new EnumMap<>(RedisCodec.class);
+        for (RedisCodec codec : RedisCodec.values()) {
+            VersionedRedisSerializer valueSerializer = new VersionedRedisSerializer(
+                codec,
+                jsonRedisSerializer,
+                compactObjectMapper,
+                compressionThreshold
+            );
+            templates.put(codec, createTemplate(connectionFactory, valueSerializer));
+        }
+        return new RedisCodecTemplates(templates, redisProperties.getCodec());
     }
 
     @Bean
@@ -47,14 +78,37 @@ public class RedisConfig {
         return container;
     }
 
-    private ObjectMapper createRedisObjectMapper(ObjectMapper objectMapper) {
-        PolymorphicTypeValidator polymorphicTypeValidator = BasicPolymorphicTypeValidator.builder()
+    private RedisTemplate<String, Object> createTemplate(
+        RedisConnectionFactory connectionFactory,
+        VersionedRedisSerializer valueSerializer
+    ) {
+        RedisTemplate<String, Object> template = new RedisTemplate<>();
+        template.setConnectionFactory(connectionFactory);
+
+        StringRedisSerializer stringRedisSerializer = new StringRedisSerializer();
+        template.setKeySerializer(stringRedisSerializer);
+        template.setHashKeySerializer(stringRedisSerializer);
+
+        template.setValueSerializer(valueSerializer);
+        template.setHashValueSerializer(valueSerializer);
+
+        template.afterPropertiesSet();
+        return template;
+    }
+
+    private PolymorphicTypeValidator createPolymorphicTypeValidator() {
+        return BasicPolymorphicTypeValidator.builder()
             .allowIfSubType("com.mopl.")
             .allowIfSubType("java.util.")
             .allowIfSubType("java.time.")
             .allowIfSubTypeIsArray()
             .build();
+    }
 
+    private ObjectMapper createRedisObjectMapper(
+        ObjectMapper objectMapper,
+        PolymorphicTypeValidator polymorphicTypeValidator
+    ) {
         ObjectMapper redisObjectMapper = objectMapper.copy();
         redisObjectMapper.activateDefaultTyping(
             polymorphicTypeValidator,
@@ -1,16 +1,93 @@
 package com.mopl.redis.config;
 
+import com.mopl.redis.codec.RedisCodec;
+import com.mopl.redis.pubsub.SseRouting;
+import com.mopl.redis.pubsub.WebSocketMessageFormat;
 import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
 
 import java.time.Duration;
+import java.util.Map;
 
 @ConfigurationProperties("mopl.redis")
 public record RedisProperties(
-    WatchingSessionConfig watchingSession
+    WatchingSessionConfig watchingSession,
+    CodecConfig codec,
+    SseRoutingConfig sseRouting,
+    WebSocketMessageConfig websocketMessage
 ) {
 
     public record WatchingSessionConfig(
         Duration ttl
     ) {
     }
+
+    /**
+     * 값 코덱 설정. repositories에 없는 리포지토리와 codec을 지정하지 않은 캐시는 defaultCodec으로 기록합니다.
+     * compressionThreshold 이상인 SMILE 값은 LZ4로 압축합니다.
+     */
+    public record CodecConfig(
+        RedisCodec defaultCodec,
+        DataSize compressionThreshold,
+        Map<String, RedisCodec> repositories
+    ) {
+
+        public static final CodecConfig DEFAULT = new CodecConfig(RedisCodec.JSON, DataSize.ofKilobytes(1), Map.of());
+
+        public RedisCodec getDefaultCodec() {
+            return defaultCodec != null ? defaultCodec : RedisCodec.JSON;
+        }
+
+        public RedisCodec codecFor(String repositoryName) {
+            if (repositories == null) {
+                return getDefaultCodec();
+            }
+            return repositories.getOrDefault(repositoryName, getDefaultCodec());
+        }
+
+        public int compressionThresholdBytes() {
+            return compressionThreshold != null ? (int) compressionThreshold.toBytes() : 0;
+        }
+    }
+
+    /**
+     * SSE 발행 경로. 모든 SSE 노드가 presence를 등록하는 버전으로 배포되기 전까지는 SHARED를 유지합니다.
+     */
+    public record SseRoutingConfig(
+        SseRouting mode
+    ) {
+
+        public static final SseRoutingConfig DEFAULT = new SseRoutingConfig(SseRouting.SHARED);
+
+        public SseRouting getMode() {
+            return mode != null ? mode : SseRouting.SHARED;
+        }
+    }
+
+    /**
+     * 공유 WebSocket 채널 메시지 형식. 모든 WebSocket 노드가 {@link WebSocketMessageFormat#FRAME}을 읽을 수 있는 버전으로
+     * 배포되기 전까지는 JSON을 유지합니다.
+     */
+    public record WebSocketMessageConfig(
+        WebSocketMessageFormat format
+    ) {
+
+        public static final WebSocketMessageConfig DEFAULT = new WebSocketMessageConfig(WebSocketMessageFormat.JSON);
+
+        public WebSocketMessageFormat getFormat() {
+            return format != null ? format : WebSocketMessageFormat.JSON;
+        }
+    }
+
+    public CodecConfig getCodec() {
+        return codec != null ? codec : CodecConfig.DEFAULT;
+    }
+
+    public SseRoutingConfig getSseRouting() {
+        return sseRouting != null ? sseRouting : SseRoutingConfig.DEFAULT;
+    }
+
+    public WebSocketMessageConfig getWebsocketMessage() {
+        return websocketMessage != null ? websocketMessage : WebSocketMessageConfig.DEFAULT;
+    }
 }
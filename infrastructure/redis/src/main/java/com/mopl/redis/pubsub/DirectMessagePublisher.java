@@ -1,9 +1,16 @@
 package com.mopl.redis.pubsub;
 
+import com.mopl.redis.config.RedisProperties;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.stereotype.Component;
 
+import java.util.UUID;
+
+/**
+ * DM을 수신자가 연결된 SSE 노드의 채널로만 발행합니다.
+ * {@link SseRouting#SHARED}이면 이전 버전 노드도 받을 수 있도록 공유 채널로 발행합니다.
+ */
 @Component
 @RequiredArgsConstructor
 public class DirectMessagePublisher {
@@ -11,8 +18,16 @@ public class DirectMessagePublisher {
     public static final String CHANNEL = "sse:direct-messages";
 
     private final RedisTemplate<String, Object> redisTemplate;
+    private final SsePresenceDirectory presenceDirectory;
+    private final RedisProperties redisProperties;
 
-    public void publish(Object directMessage) {
-        redisTemplate.convertAndSend(CHANNEL, directMessage);
+    public void publish(UUID receiverId, Object directMessage) {
+        if (redisProperties.getSseRouting().getMode() == SseRouting.SHARED) {
+            redisTemplate.convertAndSend(CHANNEL, directMessage);
+            return;
+        }
+        for (String nodeId : presenceDirectory.findNodes(receiverId)) {
+            redisTemplate.convertAndSend(SsePresenceDirectory.nodeChannel(CHANNEL, nodeId), directMessage);
+        }
     }
 }
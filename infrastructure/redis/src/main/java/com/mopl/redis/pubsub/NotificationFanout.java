@@ -0,0 +1,49 @@
+package com.mopl.redis.pubsub;
+
+import com.mopl.domain.model.notification.NotificationModel;
+import com.mopl.domain.model.notification.NotificationModel.NotificationLevel;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 같은 제목/내용/레벨을 가진 알림 묶음을 한 번의 발행으로 전달하는 봉투입니다. 공유 내용은 한 번만 싣고
+ * 수신자 ID, 알림 ID, 생성 시각은 같은 인덱스끼리 짝을 이루는 리스트로 보냅니다.
+ */
+public record NotificationFanout(
+    String title,
+    String content,
+    NotificationLevel level,
+    List<UUID> receiverIds,
+    List<UUID> notificationIds,
+    List<Instant> createdAts
+) {
+
+    public static NotificationFanout of(List<NotificationModel> notifications) {
+        NotificationModel first = notifications.getFirst();
+        return new NotificationFanout(
+            first.getTitle(),
+            first.getContent(),
+            first.getLevel(),
+            notifications.stream().map(NotificationModel::getReceiverId).toList(),
+            notifications.stream().map(NotificationModel::getId).toList(),
+            notifications.stream().map(NotificationModel::getCreatedAt).toList()
+        );
+    }
+
+    public int recipientCount() {
+        return receiverIds.size();
+    }
+
+    public NotificationModel notificationAt(int index) {
+        return NotificationModel.builder()
+            .id(notificationIds.get(index))
+            .createdAt(createdAts.get(index))
+            .title(title)
+            .content(content)
+            .level(level)
+            .receiverId(receiverIds.get(index))
+            .build();
+    }
+}
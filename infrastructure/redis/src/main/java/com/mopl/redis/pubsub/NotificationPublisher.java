@@ -1,25 +1,98 @@
 package com.mopl.redis.pubsub;
 
 import com.mopl.domain.model.notification.NotificationModel;
+import com.mopl.domain.model.notification.NotificationModel.NotificationLevel;
+import com.mopl.redis.config.RedisProperties;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.stereotype.Component;
 
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
 
+/**
+ * 알림을 수신자가 연결된 SSE 노드의 채널로만 발행합니다. 어느 노드에도 연결되지 않은 수신자는 발행하지 않으며,
+ * 재연결 시 DB에서 재전송됩니다.
+ * {@link SseRouting#SHARED}이면 presence를 조회하지 않고 이전 버전처럼 알림마다 공유 채널로 발행합니다.
+ */
 @Component
 @RequiredArgsConstructor
 public class NotificationPublisher {
 
     public static final String CHANNEL = "sse:notifications";
+    public static final String FANOUT_CHANNEL = "sse:notifications-fanout";
+    public static final int MAX_RECIPIENTS_PER_FANOUT = 500;
 
     private final RedisTemplate<String, Object> redisTemplate;
+    private final SsePresenceDirectory presenceDirectory;
+    private final RedisProperties redisProperties;
 
     public void publish(NotificationModel notification) {
-        redisTemplate.convertAndSend(CHANNEL, notification);
+        if (isShared()) {
+            redisTemplate.convertAndSend(CHANNEL, notification);
+            return;
+        }
+        for (String nodeId : presenceDirectory.findNodes(notification.getReceiverId())) {
+            redisTemplate.convertAndSend(SsePresenceDirectory.nodeChannel(CHANNEL, nodeId), notification);
+        }
     }
 
+    /**
+     * 같은 내용의 알림을 노드별로 묶어 {@link NotificationFanout} 봉투로 발행합니다.
+     * 봉투 하나에는 최대 {@link #MAX_RECIPIENTS_PER_FANOUT}명의 수신자만 담습니다.
+     */
     public void publishAll(List<NotificationModel> notifications) {
-        notifications.forEach(this::publish);
+        if (notifications.isEmpty()) {
+            return;
+        }
+        if (isShared()) {
+            notifications.forEach(notification -> redisTemplate.convertAndSend(CHANNEL, notification));
+            return;
+        }
+        Map<UUID, Set<String>> nodesByReceiverId = presenceDirectory.findNodes(
+            notifications.stream().map(NotificationModel::getReceiverId).toList()
+        );
+        if (nodesByReceiverId.isEmpty()) {
+            return;
+        }
+
+        Map<Payload, Map<String, List<NotificationModel>>> batches = new LinkedHashMap<>();
+        for (NotificationModel notification : notifications) {
+            Set<String> nodeIds = nodesByReceiverId.getOrDefault(notification.getReceiverId(), Set.of());
+            if (nodeIds.isEmpty()) {
+                continue;
+            }
+            Map<String, List<NotificationModel>> byNode = batches.computeIfAbsent(Payload.of(notification), payload -> new LinkedHashMap<>());
+            for (String nodeId : nodeIds) {
+                byNode.computeIfAbsent(nodeId, id -> new ArrayList<>()).add(notification);
+            }
+        }
+
+        for (Map<String, List<NotificationModel>> byNode : batches.values()) {
+            byNode.forEach(this::publishFanout);
+        }
+    }
+
+    private boolean isShared() {
+        return redisProperties.getSseRouting().getMode() == SseRouting.SHARED;
+    }
+
+    private void publishFanout(String nodeId, List<NotificationModel> notifications) {
+        String channel = SsePresenceDirectory.nodeChannel(FANOUT_CHANNEL, nodeId);
+        for (int from = 0; from < notifications.size(); from += MAX_RECIPIENTS_PER_FANOUT) {
+            int to = Math.min(from + MAX_RECIPIENTS_PER_FANOUT, notifications.size());
+            redisTemplate.convertAndSend(channel, NotificationFanout.of(notifications.subList(from, to)));
+        }
+    }
+
+    private record Payload(String title, String content, NotificationLevel level) {
+
+        private static Payload of(NotificationModel notification) {
+            return new Payload(notification.getTitle(), notification.getContent(), notification.getLevel());
+        }
     }
 }
@@ -0,0 +1,114 @@
+package com.mopl.redis.pubsub;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * SSE 사용자가 어느 노드에 연결되어 있는지 기록하는 presence 디렉터리.
+ *
+ * <p>키 구조:
+ * - sse:presence:{userId} (ZSet) - member: nodeId, score: 만료 시각(epoch ms)
+ *
+ * <p>SSE 노드는 연결 시 등록하고 heartbeat 주기로 갱신합니다. 멤버별 만료 시각을 score로 두므로
+ * 갱신이 끊긴 노드는 ttl 안에 조회 결과에서 빠지고, 키 자체에도 ttl을 걸어 연결이 모두 끊긴 사용자의 흔적이 남지 않습니다.
+ * 발행자는 조회한 노드의 채널({@link #nodeChannel})로만 보내므로 각 노드는 자기 사용자 메시지만 받습니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class SsePresenceDirectory {
+
+    private static final String KEY_PREFIX = "sse:presence:";
+
+    private final StringRedisTemplate redisTemplate;
+
+    /**
+     * 노드 전용 채널 이름
+     * 예: sse:notifications:{nodeId}
+     */
+    public static String nodeChannel(String channel, String nodeId) {
+        return channel + ":" + nodeId;
+    }
+
+    public void register(String nodeId, UUID userId, Duration ttl) {
+        refresh(nodeId, List.of(userId), ttl);
+    }
+
+    /**
+     * 사용자들의 presence를 파이프라인 한 번으로 갱신하고, 만료된 다른 노드 멤버도 함께 정리합니다.
+     */
+    public void refresh(String nodeId, Collection<UUID> userIds, Duration ttl) {
+        if (userIds.isEmpty()) {
+            return;
+        }
+        long now = System.currentTimeMillis();
+        double expiresAt = now + ttl.toMillis();
+
+        redisTemplate.executePipelined(new SessionCallback<Object>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public <K, V> Object execute(@NonNull RedisOperations<K, V> operations) {
+                RedisOperations<String, String> redisOperations = (RedisOperations<String, String>) operations;
+                for (UUID userId : userIds) {
+                    String key = presenceKey(userId);
+                    redisOperations.opsForZSet().add(key, nodeId, expiresAt);
+                    redisOperations.opsForZSet().removeRangeByScore(key, Double.NEGATIVE_INFINITY, now);
+                    redisOperations.expire(key, ttl);
+                }
+                return null;
+            }
+        });
+    }
+
+    public Set<String> findNodes(UUID userId) {
+        Set<String> nodes = redisTemplate.opsForZSet()
+            .rangeByScore(presenceKey(userId), System.currentTimeMillis(), Double.POSITIVE_INFINITY);
+        return nodes != null ? nodes : Set.of();
+    }
+
+    /**
+     * 여러 사용자의 노드를 파이프라인 한 번으로 조회합니다. 연결된 노드가 없는 사용자는 결과에서 빠집니다.
+     */
+    @SuppressWarnings("unchecked")
+    public Map<UUID, Set<String>> findNodes(Collection<UUID> userIds) {
+        if (userIds.isEmpty()) {
+            return Map.of();
+        }
+        List<UUID> orderedUserIds = List.copyOf(new LinkedHashSet<>(userIds));
+        long now = System.currentTimeMillis();
+
+        List<Object> results = redisTemplate.executePipelined(new SessionCallback<Object>() {
+            @Override
+            public <K, V> Object execute(@NonNull RedisOperations<K, V> operations) {
+                RedisOperations<String, String> redisOperations = (RedisOperations<String, String>) operations;
+                orderedUserIds.forEach(userId -> redisOperations.opsForZSet()
+                    .rangeByScore(presenceKey(userId), now, Double.POSITIVE_INFINITY));
+                return null;
+            }
+        });
+
+        Map<UUID, Set<String>> nodesByUserId = new HashMap<>();
+        for (int i = 0; i < orderedUserIds.size() && i < results.size(); i++) {
+            if (results.get(i) instanceof Set<?> nodes && !nodes.isEmpty()) {
+                nodesByUserId.put(orderedUserIds.get(i), (Set<String>) nodes);
+            }
+        }
+        return nodesByUserId;
+    }
+
+    private static String presenceKey(UUID userId) {
+        return KEY_PREFIX + userId;
+    }
+}
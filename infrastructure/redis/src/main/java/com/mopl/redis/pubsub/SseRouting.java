@@ -0,0 +1,14 @@
+package com.mopl.redis.pubsub;
+
+/**
+ * SSE 알림과 DM 발행 경로.
+ *
+ * <ul>
+ *   <li>SHARED: 모든 SSE 노드가 구독하는 공유 채널로 발행합니다. presence를 등록하지 않는 이전 버전 노드도 받을 수 있습니다.</li>
+ *   <li>NODE: {@link SsePresenceDirectory}에서 수신자가 연결된 노드를 찾아 그 노드 채널로만 발행합니다.</li>
+ * </ul>
+ */
+public enum SseRouting {
+    SHARED,
+    NODE
+}
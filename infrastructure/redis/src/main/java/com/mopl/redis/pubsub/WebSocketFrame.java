@@ -0,0 +1,58 @@
+package com.mopl.redis.pubsub;
+
+import org.springframework.lang.Nullable;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+
+/**
+ * 노드 간 WebSocket 메시지.
+ *
+ * <pre>
+ * [version: byte][destination: UTF][origin: UTF][payload: 나머지 바이트]
+ * </pre>
+ * destination과 origin만 헤더로 읽고 payload는 이미 인코딩된 JSON 바이트를 그대로 실어, 받는 쪽이 payload를 파싱하지 않고
+ * 로컬 브로커로 넘길 수 있게 합니다. 첫 바이트가 version이므로 '{'로 시작하는 이전 JSON 메시지와 구분됩니다.
+ */
+public record WebSocketFrame(
+    String destination,
+    @Nullable String origin,
+    byte[] payload
+) {
+
+    private static final byte VERSION = 1;
+
+    public static boolean isFrame(byte[] body) {
+        return body.length > 0 && body[0] == VERSION;
+    }
+
+    public byte[] encode() {
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream(destination.length() + 48 + payload.length);
+        try (DataOutputStream out = new DataOutputStream(buffer)) {
+            out.writeByte(VERSION);
+            out.writeUTF(destination);
+            out.writeUTF(origin == null ? "" : origin);
+            out.write(payload);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return buffer.toByteArray();
+    }
+
+    public static WebSocketFrame decode(byte[] body) {
+        if (!isFrame(body)) {
+            throw new IllegalArgumentException("Unsupported WebSocket frame version");
+        }
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(body, 1, body.length - 1))) {
+            String destination = in.readUTF();
+            String origin = in.readUTF();
+            return new WebSocketFrame(destination, origin.isEmpty() ? null : origin, in.readAllBytes());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,14 @@
+package com.mopl.redis.pubsub;
+
+/**
+ * 공유 WebSocket 채널({@link WebSocketMessagePublisher#CHANNEL})에 발행하는 메시지 형식.
+ *
+ * <ul>
+ *   <li>JSON: destination과 payload를 담은 이전 JSON 메시지입니다. 이전 버전 노드도 읽을 수 있습니다.</li>
+ *   <li>FRAME: {@link WebSocketFrame}으로 발행합니다. 받는 노드가 payload를 다시 직렬화하지 않습니다.</li>
+ * </ul>
+ */
+public enum WebSocketMessageFormat {
+    JSON,
+    FRAME
+}
@@ -1,22 +1,71 @@
 package com.mopl.redis.pubsub;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mopl.redis.config.RedisProperties;
 import lombok.RequiredArgsConstructor;
-import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.data.redis.core.RedisCallback;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.stereotype.Component;
 
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+
+/**
+ * WebSocket 메시지를 {@link WebSocketFrame}으로 발행합니다. payload는 STOMP 메시지 컨버터와 같은 애플리케이션 ObjectMapper로
+ * 한 번만 인코딩하고, 받는 노드는 그 바이트를 다시 직렬화하지 않고 구독자에게 보냅니다.
+ *
+ * <p>공유 채널은 이전 버전 노드도 구독하므로, {@link WebSocketMessageFormat#FRAME}으로 설정하기 전까지는
+ * 이전 JSON 메시지({@link WebSocketMessage})로 발행합니다.
+ */
 @Component
-@ConditionalOnProperty(name = "websocket.broadcaster", havingValue = "redis")
+@ConditionalOnExpression("'${websocket.broadcaster:local}' == 'redis' or '${websocket.broadcaster:local}' == 'cluster'")
 @RequiredArgsConstructor
 public class WebSocketMessagePublisher {
 
     public static final String CHANNEL = "websocket:messages";
 
     private final RedisTemplate<String, Object> redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final RedisProperties redisProperties;
+    private final String nodeId = UUID.randomUUID().toString();
 
     public void publish(String destination, Object payload) {
-        WebSocketMessage message = new WebSocketMessage(destination, payload);
-        redisTemplate.convertAndSend(CHANNEL, message);
+        if (redisProperties.getWebsocketMessage().getFormat() == WebSocketMessageFormat.JSON) {
+            redisTemplate.convertAndSend(CHANNEL, new WebSocketMessage(destination, payload));
+            return;
+        }
+        send(CHANNEL, new WebSocketFrame(destination, null, encodePayload(payload)));
+    }
+
+    /**
+     * destination 전용 채널로 발행합니다. 그 destination을 구독 중인 노드만 받으며, origin으로 이 노드가 보낸 메시지를 구분합니다.
+     */
+    public void publishToDestination(String destination, byte[] payload) {
+        send(destinationChannel(destination), new WebSocketFrame(destination, nodeId, payload));
+    }
+
+    public byte[] encodePayload(Object payload) {
+        try {
+            return objectMapper.writeValueAsBytes(payload);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Failed to encode WebSocket payload: " + payload.getClass().getName(), e);
+        }
+    }
+
+    public String nodeId() {
+        return nodeId;
+    }
+
+    public static String destinationChannel(String destination) {
+        return CHANNEL + ":" + destination;
+    }
+
+    private void send(String channel, WebSocketFrame frame) {
+        byte[] channelBytes = channel.getBytes(StandardCharsets.UTF_8);
+        byte[] body = frame.encode();
+        redisTemplate.execute((RedisCallback<Long>) connection -> connection.publish(channelBytes, body));
     }
 
     public record WebSocketMessage(String destination, Object payload) {
@@ -1,27 +1,160 @@
 package com.mopl.redis.repository.watchingsession;
 
 import com.mopl.domain.model.watchingsession.WatchingSessionModel;
+import com.mopl.domain.repository.watchingsession.WatchingSessionJoin;
+import com.mopl.domain.repository.watchingsession.WatchingSessionLeave;
 import com.mopl.domain.repository.watchingsession.WatchingSessionRepository;
+import com.mopl.redis.codec.RedisCodecTemplates;
 import com.mopl.redis.config.RedisProperties;
 import com.mopl.redis.support.WatchingSessionRedisKeys;
-import lombok.RequiredArgsConstructor;
 import org.springframework.data.redis.core.RedisCallback;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.lang.Nullable;
 import org.springframework.stereotype.Repository;
 
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.function.Supplier;
 
+/**
+ * 참가와 퇴장은 상태 해시, 세션 값, 방 ZSET을 Lua 스크립트 한 번으로 함께 바꿔 원자적으로 처리하고,
+ * 바뀐 방의 시청자 수를 같은 응답으로 돌려줍니다. 연결 수의 기준은 상태 해시이며 세션 값의 connectionCount는 참가 시점 값입니다.
+ *
+ * <p>같은 방 재참가와 퇴장은 스크립트를 한 번 실행합니다. 처음 참가하거나 다른 방으로 옮길 때는 새 세션 값이 필요하므로,
+ * 첫 실행이 -1을 돌려주면 sessionFactory로 세션을 만들어 한 번 더 실행합니다. 세션을 만들려면 콘텐츠와 사용자를 조회해야 하므로,
+ * 가장 잦은 같은 방 재참가에서 그 조회를 피하려고 세션을 미리 만들지 않고 방 이동에서 왕복 한 번을 더 씁니다.
+ *
+ * <p>스크립트가 이전 방 키를 상태 해시에서 만들어 쓰므로 시청 세션 키들은 같은 Redis 노드에 있어야 합니다.
+ *
+ * <p>상태 해시가 생기기 전에 저장된 세션은 세션 값만 있습니다. 스크립트가 이를 -2와 세션 값으로 알리면
+ * 세션 값의 contentId와 connectionCount를 넘겨 다시 실행하고, 스크립트는 그 값으로 상태 해시를 만든 뒤 평소대로 처리합니다.
+ * 이전 형식 세션마다 처음 한 번만 왕복이 늘어납니다.
+ */
 @Repository
-@RequiredArgsConstructor
 public class RedisWatchingSessionRepositoryImpl implements WatchingSessionRepository {
 
+    static final String REPOSITORY_NAME = "watching-session";
+
+    private static final long NEEDS_SESSION = -1;
+    private static final long NEEDS_LEGACY_STATE = -2;
+    private static final long JOINED = 1;
+    private static final long LEFT = 1;
+    private static final byte[] EMPTY = new byte[0];
+
+    /**
+     * 같은 방에 이미 있으면 연결 수만 늘리고 TTL을 연장합니다. 새로 참가하는데 세션 값이 없으면 -1만 돌려주고,
+     * 세션 값이 있으면 이전 방을 떠나고 새 방에 참가합니다. 이전 방 키는 상태 해시의 contentId로 만듭니다.
+     * 상태 해시 없이 세션 값만 있으면 ARGV[8], ARGV[9](이전 형식 세션의 contentId, 연결 수)로 상태 해시를 만들고,
+     * 넘겨받지 못했으면 {-2, 세션}을 돌려줍니다.
+     * 반환: {상태(0 기존, 1 참가), 방 시청자 수, 세션, 떠난 세션, 떠난 방 시청자 수, 연결 수}
+     */
+    @SuppressWarnings("rawtypes")
+    static final RedisScript<List> JOIN_SCRIPT = new DefaultRedisScript<>("""
+        local stateKey, sessionKey, roomKey = KEYS[1], KEYS[2], KEYS[3]
+        local contentId, member, session, score, ttl = ARGV[1], ARGV[2], ARGV[3], ARGV[4], ARGV[5]
+
+        local current = redis.call('HGET', stateKey, 'contentId')
+        local stored = redis.call('GET', sessionKey)
+        if not current and stored then
+            if ARGV[8] == '' then
+                return {-2, stored}
+            end
+            current = ARGV[8]
+            redis.call('HSET', stateKey, 'contentId', current, 'connections', ARGV[9])
+            redis.call('PEXPIRE', stateKey, ttl)
+        end
+
+        if current == contentId and stored then
+            local connections = redis.call('HINCRBY', stateKey, 'connections', 1)
+            redis.call('ZADD', roomKey, 'NX', score, member)
+            redis.call('PEXPIRE', stateKey, ttl)
+            redis.call('PEXPIRE', sessionKey, ttl)
+            redis.call('PEXPIRE', roomKey, ttl)
+            return {0, redis.call('ZCARD', roomKey), stored, false, 0, connections}
+        end
+
+        if session == '' then
+            return {-1}
+        end
+
+        local previousCount = 0
+        if current then
+            local previousRoomKey = ARGV[6] .. current .. ARGV[7]
+            redis.call('ZREM', previousRoomKey, member)
+            previousCount = redis.call('ZCARD', previousRoomKey)
+        else
+            stored = false
+        end
+
+        redis.call('SET', sessionKey, session, 'PX', ttl)
+        redis.call('HSET', stateKey, 'contentId', contentId, 'connections', 1)
+        redis.call('PEXPIRE', stateKey, ttl)
+        redis.call('ZADD', roomKey, score, member)
+        redis.call('PEXPIRE', roomKey, ttl)
+        return {1, redis.call('ZCARD', roomKey), session, stored, previousCount, 1}
+        """, List.class);
+
+    /**
+     * 참가한 방이 다르면 -1, 연결이 남아 있으면 0을 돌려줍니다. 마지막 연결이면 세션과 상태를 지우고 방에서 뺍니다.
+     * 상태 해시 없이 세션 값만 있으면 ARGV[3], ARGV[4](이전 형식 세션의 contentId, 연결 수)로 상태 해시를 만들고,
+     * 넘겨받지 못했으면 {-2, 세션}을 돌려줍니다.
+     * 반환: {상태(-1 미참가, 0 연결 남음, 1 떠남), 방 시청자 수, 떠난 세션}
+     */
+    @SuppressWarnings("rawtypes")
+    static final RedisScript<List> LEAVE_SCRIPT = new DefaultRedisScript<>("""
+        local stateKey, sessionKey, roomKey = KEYS[1], KEYS[2], KEYS[3]
+
+        local current = redis.call('HGET', stateKey, 'contentId')
+        if not current then
+            local stored = redis.call('GET', sessionKey)
+            if not stored then
+                return {-1}
+            end
+            if ARGV[3] == '' then
+                return {-2, stored}
+            end
+            current = ARGV[3]
+            redis.call('HSET', stateKey, 'contentId', current, 'connections', ARGV[4])
+            local sessionTtl = redis.call('PTTL', sessionKey)
+            if sessionTtl > 0 then
+                redis.call('PEXPIRE', stateKey, sessionTtl)
+            end
+        end
+
+        if current ~= ARGV[1] then
+            return {-1}
+        end
+
+        local connections = redis.call('HINCRBY', stateKey, 'connections', -1)
+        if connections > 0 then
+            return {0, connections}
+        end
+
+        local session = redis.call('GET', sessionKey)
+        redis.call('DEL', stateKey, sessionKey)
+        redis.call('ZREM', roomKey, ARGV[2])
+        return {1, redis.call('ZCARD', roomKey), session}
+        """, List.class);
+
     private final RedisTemplate<String, Object> redisTemplate;
     private final RedisProperties redisProperties;
 
+    public RedisWatchingSessionRepositoryImpl(
+        RedisCodecTemplates redisCodecTemplates,
+        RedisProperties redisProperties
+    ) {
+        this.redisTemplate = redisCodecTemplates.forRepository(REPOSITORY_NAME);
+        this.redisProperties = redisProperties;
+    }
+
     @Override
     public Optional<WatchingSessionModel> findByWatcherId(UUID watcherId) {
         Object stored = redisTemplate.opsForValue().get(
@@ -66,50 +199,115 @@ public class RedisWatchingSessionRepositoryImpl implements WatchingSessionReposi
     }
 
     @Override
-    public WatchingSessionModel save(WatchingSessionModel model) {
-        UUID watcherId = model.getWatcherId();
-        UUID contentId = model.getContentId();
+    public WatchingSessionJoin join(UUID watcherId, UUID contentId, Supplier<WatchingSessionModel> sessionFactory) {
+        List<Object> result = runJoin(watcherId, contentId, EMPTY, Instant.now(), null);
+        WatchingSessionModel legacy = null;
+        if (status(result) == NEEDS_LEGACY_STATE) {
+            legacy = deserialize(result.get(1));
+            result = runJoin(watcherId, contentId, EMPTY, Instant.now(), legacy);
+        }
+        if (status(result) == NEEDS_SESSION) {
+            WatchingSessionModel created = sessionFactory.get();
+            result = runJoin(watcherId, contentId, valueSerializer().serialize(created), created.getCreatedAt(), legacy);
+        }
 
-        String sessionKey = WatchingSessionRedisKeys.watcherSessionKey(watcherId);
-        String watchersKey = WatchingSessionRedisKeys.contentWatchersKey(contentId);
+        int connections = ((Long) result.get(5)).intValue();
+        WatchingSessionModel session = deserialize(result.get(2)).toBuilder()
+            .connectionCount(connections)
+            .build();
+        return new WatchingSessionJoin(
+            session,
+            (Long) result.get(1),
+            status(result) == JOINED,
+            result.get(3) != null ? deserialize(result.get(3)) : null,
+            (Long) result.get(4)
+        );
+    }
 
-        redisTemplate.opsForValue().set(
-            sessionKey,
-            model,
-            redisProperties.watchingSession().ttl()
+    @Override
+    public Optional<WatchingSessionLeave> leave(UUID watcherId, UUID contentId) {
+        List<Object> result = runLeave(watcherId, contentId, null);
+        if (status(result) == NEEDS_LEGACY_STATE) {
+            result = runLeave(watcherId, contentId, deserialize(result.get(1)));
+        }
+
+        if (status(result) != LEFT || result.get(2) == null) {
+            return Optional.empty();
+        }
+        return Optional.of(new WatchingSessionLeave(deserialize(result.get(2)), (Long) result.get(1)));
+    }
+
+    private List<Object> runJoin(
+        UUID watcherId,
+        UUID contentId,
+        byte[] session,
+        Instant joinedAt,
+        @Nullable WatchingSessionModel legacy
+    ) {
+        return execute(
+            JOIN_SCRIPT,
+            List.of(
+                WatchingSessionRedisKeys.watcherStateKey(watcherId),
+                WatchingSessionRedisKeys.watcherSessionKey(watcherId),
+                WatchingSessionRedisKeys.contentWatchersKey(contentId)
+            ),
+            bytes(contentId.toString()),
+            valueSerializer().serialize(watcherId.toString()),
+            session,
+            bytes(String.valueOf(joinedAt.toEpochMilli())),
+            bytes(String.valueOf(redisProperties.watchingSession().ttl().toMillis())),
+            bytes(WatchingSessionRedisKeys.CONTENT_WATCHERS_PREFIX),
+            bytes(WatchingSessionRedisKeys.CONTENT_WATCHERS_SUFFIX),
+            legacyContentId(legacy),
+            legacyConnections(legacy)
         );
+    }
 
-        long score = model.getCreatedAt().toEpochMilli();
-        redisTemplate.opsForZSet().add(watchersKey, watcherId.toString(), score);
-        redisTemplate.expire(watchersKey, redisProperties.watchingSession().ttl());
+    private List<Object> runLeave(UUID watcherId, UUID contentId, @Nullable WatchingSessionModel legacy) {
+        return execute(
+            LEAVE_SCRIPT,
+            List.of(
+                WatchingSessionRedisKeys.watcherStateKey(watcherId),
+                WatchingSessionRedisKeys.watcherSessionKey(watcherId),
+                WatchingSessionRedisKeys.contentWatchersKey(contentId)
+            ),
+            bytes(contentId.toString()),
+            valueSerializer().serialize(watcherId.toString()),
+            legacyContentId(legacy),
+            legacyConnections(legacy)
+        );
+    }
 
-        return model;
+    private static byte[] legacyContentId(@Nullable WatchingSessionModel legacy) {
+        return legacy != null ? bytes(legacy.getContentId().toString()) : EMPTY;
     }
 
-    @Override
-    public void delete(WatchingSessionModel model) {
-        if (model == null || model.getWatcherId() == null) {
-            return;
-        }
+    /**
+     * 이전 형식 세션의 connectionCount는 참가와 퇴장마다 갱신되던 값이므로 그대로 쓰되, 방에 남아 있는 한 최소 1로 봅니다.
+     */
+    private static byte[] legacyConnections(@Nullable WatchingSessionModel legacy) {
+        return legacy != null ? bytes(String.valueOf(Math.max(1, legacy.getConnectionCount()))) : EMPTY;
+    }
 
-        UUID watcherId = model.getWatcherId();
-        String sessionKey = WatchingSessionRedisKeys.watcherSessionKey(watcherId);
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private List<Object> execute(RedisScript<List> script, List<String> keys, byte[]... args) {
+        return redisTemplate.execute(script, RedisSerializer.byteArray(), (RedisSerializer) RedisSerializer.byteArray(), keys, (Object[]) args);
+    }
 
-        UUID contentId = model.getContentId();
-        if (contentId == null) {
-            Object stored = redisTemplate.opsForValue().get(sessionKey);
-            if (stored instanceof WatchingSessionModel storedModel) {
-                contentId = storedModel.getContentId();
-            }
-        }
+    private WatchingSessionModel deserialize(Object stored) {
+        return (WatchingSessionModel) valueSerializer().deserialize((byte[]) stored);
+    }
 
-        redisTemplate.delete(sessionKey);
+    @SuppressWarnings("unchecked")
+    private RedisSerializer<Object> valueSerializer() {
+        return (RedisSerializer<Object>) redisTemplate.getValueSerializer();
+    }
 
-        if (contentId != null) {
-            redisTemplate.opsForZSet().remove(
-                WatchingSessionRedisKeys.contentWatchersKey(contentId),
-                watcherId.toString()
-            );
-        }
+    private static long status(List<Object> result) {
+        return (Long) result.getFirst();
+    }
+
+    private static byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
     }
 }
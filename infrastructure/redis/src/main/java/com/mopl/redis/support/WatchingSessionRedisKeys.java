@@ -6,16 +6,18 @@ import java.util.UUID;
  * 키 구조:
  * - ws:content:{contentId}:watchers (ZSet) - member: watcherId, score: joinedAt
  * - ws:watcher:{watcherId}:session (String) - value: WatchingSessionModel
+ * - ws:watcher:{watcherId}:state (Hash) - contentId, connections
  */
 public final class WatchingSessionRedisKeys {
 
     private WatchingSessionRedisKeys() {
     }
 
-    private static final String CONTENT_WATCHERS_PREFIX = "ws:content:";
-    private static final String CONTENT_WATCHERS_SUFFIX = ":watchers";
+    public static final String CONTENT_WATCHERS_PREFIX = "ws:content:";
+    public static final String CONTENT_WATCHERS_SUFFIX = ":watchers";
     private static final String WATCHER_SESSION_PREFIX = "ws:watcher:";
     private static final String WATCHER_SESSION_SUFFIX = ":session";
+    private static final String WATCHER_STATE_SUFFIX = ":state";
 
     /**
      * content별 시청자 ZSet 키 (member: watcherId, score: joinedAt)
@@ -32,4 +34,12 @@ public final class WatchingSessionRedisKeys {
     public static String watcherSessionKey(UUID watcherId) {
         return WATCHER_SESSION_PREFIX + watcherId + WATCHER_SESSION_SUFFIX;
     }
+
+    /**
+     * watcher별 참가 상태 키 (contentId, connections). 참가/퇴장 Lua 스크립트가 읽고 씁니다.
+     * 예: ws:watcher:{watcherId}:state
+     */
+    public static String watcherStateKey(UUID watcherId) {
+        return WATCHER_SESSION_PREFIX + watcherId + WATCHER_STATE_SUFFIX;
+    }
 }
@@ -0,0 +1,97 @@
+package com.mopl.redis.codec;
+
+import com.mopl.domain.model.user.UserModel;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("RedisTypeRegistry 단위 테스트")
+class RedisTypeRegistryTest {
+
+    @Nested
+    @DisplayName("withDefaults()")
+    class WithDefaultsTest {
+
+        @Test
+        @DisplayName("도메인 모델과 기본 컬렉션을 짧은 id로 등록")
+        void withDefaults_registersModelsAndCollections() {
+            // when
+            RedisTypeRegistry registry = RedisTypeRegistry.withDefaults();
+
+            // then
+            assertThat(registry.idOf(UserModel.class)).isEqualTo("u");
+            assertThat(registry.typeOf("al")).isEqualTo(ArrayList.class);
+        }
+    }
+
+    @Nested
+    @DisplayName("register()")
+    class RegisterTest {
+
+        @Test
+        @DisplayName("등록하지 않은 타입과 id는 null 반환")
+        void withUnknownType_returnsNull() {
+            // given
+            RedisTypeRegistry registry = new RedisTypeRegistry();
+
+            // when & then
+            assertThat(registry.idOf(String.class)).isNull();
+            assertThat(registry.typeOf("x")).isNull();
+        }
+
+        @Test
+        @DisplayName("같은 id와 타입을 다시 등록해도 허용")
+        void withSameRegistration_isIdempotent() {
+            // given
+            RedisTypeRegistry registry = new RedisTypeRegistry().register("a", ArrayList.class);
+
+            // when
+            registry.register("a", ArrayList.class);
+
+            // then
+            assertThat(registry.idOf(ArrayList.class)).isEqualTo("a");
+        }
+
+        @Test
+        @DisplayName("이미 다른 타입에 쓰인 id면 IllegalStateException 발생")
+        void withDuplicateId_throwsException() {
+            // given
+            RedisTypeRegistry registry = new RedisTypeRegistry().register("a", ArrayList.class);
+
+            // when & then
+            assertThatThrownBy(() -> registry.register("a", String.class))
+                .isInstanceOf(IllegalStateException.class);
+            assertThat(registry.typeOf("a")).isEqualTo(ArrayList.class);
+        }
+
+        @Test
+        @DisplayName("이미 다른 id로 등록된 타입이면 IllegalStateException 발생")
+        void withDuplicateType_throwsException() {
+            // given
+            RedisTypeRegistry registry = new RedisTypeRegistry().register("a", ArrayList.class);
+
+            // when & then
+            assertThatThrownBy(() -> registry.register("b", ArrayList.class))
+                .isInstanceOf(IllegalStateException.class);
+            assertThat(registry.typeOf("b")).isNull();
+        }
+
+        @Test
+        @DisplayName("비어 있거나 '.'을 포함한 id면 IllegalArgumentException 발생")
+        void withInvalidId_throwsException() {
+            // given
+            RedisTypeRegistry registry = new RedisTypeRegistry();
+
+            // when & then
+            assertThatThrownBy(() -> registry.register(" ", ArrayList.class))
+                .isInstanceOf(IllegalArgumentException.class);
+            assertThatThrownBy(() -> registry.register("java.util", ArrayList.class))
+                .isInstanceOf(IllegalArgumentException.class);
+        }
+    }
+}
@@ -0,0 +1,235 @@
+package com.mopl.redis.codec;
+
+import com.fasterxml.jackson.annotation.JsonTypeInfo;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.jsontype.BasicPolymorphicTypeValidator;
+import com.fasterxml.jackson.databind.jsontype.PolymorphicTypeValidator;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("VersionedRedisSerializer 단위 테스트")
+class VersionedRedisSerializerTest {
+
+    private static final int COMPRESSION_THRESHOLD = 1024;
+
+    private GenericJackson2JsonRedisSerializer legacySerializer;
+    private ObjectMapper compactMapper;
+    private VersionedRedisSerializer jsonSerializer;
+    private VersionedRedisSerializer smileSerializer;
+
+    @BeforeEach
+    void setUp() {
+        PolymorphicTypeValidator ptv = BasicPolymorphicTypeValidator.builder()
+            .allowIfSubType("com.mopl.")
+            .allowIfSubType("java.util.")
+            .allowIfSubTypeIsArray()
+            .build();
+        ObjectMapper legacyMapper = new ObjectMapper();
+        legacyMapper.activateDefaultTyping(ptv, ObjectMapper.DefaultTyping.NON_FINAL, JsonTypeInfo.As.PROPERTY);
+        legacySerializer = new GenericJackson2JsonRedisSerializer(legacyMapper);
+
+        RedisTypeRegistry registry = RedisTypeRegistry.withDefaults().register("tp", Payload.class);
+        compactMapper = VersionedRedisSerializer.createCompactObjectMapper(new ObjectMapper(), ptv, registry);
+
+        jsonSerializer = new VersionedRedisSerializer(RedisCodec.JSON, legacySerializer, compactMapper, COMPRESSION_THRESHOLD);
+        smileSerializer = new VersionedRedisSerializer(RedisCodec.SMILE, legacySerializer, compactMapper, COMPRESSION_THRESHOLD);
+    }
+
+    @Nested
+    @DisplayName("serialize()")
+    class SerializeTest {
+
+        @Test
+        @DisplayName("JSON 코덱이면 기존 직렬화 결과와 동일")
+        void withJsonCodec_writesLegacyBytes() {
+            // given
+            Payload payload = Payload.of("name", 3);
+
+            // when
+            byte[] bytes = jsonSerializer.serialize(payload);
+
+            // then
+            assertThat(bytes).isEqualTo(legacySerializer.serialize(payload));
+        }
+
+        @Test
+        @DisplayName("SMILE 코덱이면 버전 바이트와 플래그를 앞에 기록")
+        void withSmileCodec_writesVersionHeader() {
+            // when
+            byte[] bytes = smileSerializer.serialize(Payload.of("name", 3));
+
+            // then
+            assertThat(bytes[0]).isEqualTo(VersionedRedisSerializer.VERSION_1);
+            assertThat(bytes[1]).isZero();
+        }
+
+        @Test
+        @DisplayName("SMILE 코덱이면 등록된 타입은 클래스명 대신 짧은 id로 기록")
+        void withRegisteredType_writesShortTypeId() {
+            // when
+            byte[] bytes = smileSerializer.serialize(Payload.of("name", 3));
+
+            // then
+            String raw = new String(bytes, StandardCharsets.ISO_8859_1);
+            assertThat(raw).doesNotContain(Payload.class.getName());
+            assertThat(raw).contains("tp");
+        }
+
+        @Test
+        @DisplayName("임계값 이상이면 LZ4로 압축하고 플래그를 설정")
+        void withLargeValue_compressesWithLz4() {
+            // given
+            Payload payload = Payload.of("x".repeat(COMPRESSION_THRESHOLD * 4), 1);
+
+            // when
+            byte[] bytes = smileSerializer.serialize(payload);
+
+            // then
+            assertThat(bytes[1] & VersionedRedisSerializer.FLAG_LZ4).isEqualTo(VersionedRedisSerializer.FLAG_LZ4);
+            assertThat(bytes.length).isLessThan(COMPRESSION_THRESHOLD * 4);
+        }
+
+        @Test
+        @DisplayName("String, Number, Boolean은 코덱과 무관하게 기존 형식으로 기록")
+        void withScalar_writesLegacyBytes() {
+            // when & then
+            assertThat(smileSerializer.serialize("member")).isEqualTo(legacySerializer.serialize("member"));
+            assertThat(smileSerializer.serialize(42L)).isEqualTo(legacySerializer.serialize(42L));
+            assertThat(smileSerializer.serialize(true)).isEqualTo(legacySerializer.serialize(true));
+        }
+
+        @Test
+        @DisplayName("null이면 빈 배열 반환")
+        void withNull_returnsEmptyBytes() {
+            // when & then
+            assertThat(smileSerializer.serialize(null)).isEmpty();
+        }
+    }
+
+    @Nested
+    @DisplayName("deserialize()")
+    class DeserializeTest {
+
+        @Test
+        @DisplayName("SMILE로 기록한 값을 원래 타입으로 복원")
+        void withSmileBytes_roundTrips() {
+            // given
+            Payload payload = Payload.of("name", 3);
+
+            // when
+            Object result = smileSerializer.deserialize(smileSerializer.serialize(payload));
+
+            // then
+            assertThat(result).isEqualTo(payload);
+        }
+
+        @Test
+        @DisplayName("LZ4로 압축한 값을 원래 타입으로 복원")
+        void withCompressedBytes_roundTrips() {
+            // given
+            Payload payload = Payload.of("x".repeat(COMPRESSION_THRESHOLD * 4), 1);
+
+            // when
+            Object result = smileSerializer.deserialize(smileSerializer.serialize(payload));
+
+            // then
+            assertThat(result).isEqualTo(payload);
+        }
+
+        @Test
+        @DisplayName("컬렉션 값도 타입을 유지하며 복원")
+        void withCollection_roundTrips() {
+            // given
+            Map<String, List<String>> value = new LinkedHashMap<>();
+            value.put("a", new ArrayList<>(List.of("1", "2")));
+
+            // when
+            Object result = smileSerializer.deserialize(smileSerializer.serialize(value));
+
+            // then
+            assertThat(result).isInstanceOf(LinkedHashMap.class).isEqualTo(value);
+        }
+
+        @Test
+        @DisplayName("어떤 코덱이든 기존 JSON 값을 읽음")
+        void withLegacyBytes_readsWithAnyCodec() {
+            // given
+            Payload payload = Payload.of("name", 3);
+            byte[] legacy = legacySerializer.serialize(payload);
+
+            // when & then
+            assertThat(jsonSerializer.deserialize(legacy)).isEqualTo(payload);
+            assertThat(smileSerializer.deserialize(legacy)).isEqualTo(payload);
+        }
+
+        @Test
+        @DisplayName("JSON 코덱 노드도 SMILE 값을 읽음")
+        void withSmileBytes_readsWithJsonCodec() {
+            // given
+            Payload payload = Payload.of("name", 3);
+
+            // when
+            Object result = jsonSerializer.deserialize(smileSerializer.serialize(payload));
+
+            // then
+            assertThat(result).isEqualTo(payload);
+        }
+
+        @Test
+        @DisplayName("지원하지 않는 버전이면 SerializationException 발생")
+        void withUnsupportedVersion_throwsException() {
+            // given
+            byte[] bytes = {0x02, 0x00, 0x01};
+
+            // when & then
+            assertThatThrownBy(() -> smileSerializer.deserialize(bytes))
+                .isInstanceOf(SerializationException.class)
+                .hasMessageContaining("Unsupported");
+        }
+
+        @Test
+        @DisplayName("null이나 빈 배열이면 null 반환")
+        void withEmptyBytes_returnsNull() {
+            // when & then
+            assertThat(smileSerializer.deserialize(null)).isNull();
+            assertThat(smileSerializer.deserialize(new byte[0])).isNull();
+        }
+    }
+
+    static class Payload {
+
+        public String name;
+        public int count;
+
+        static Payload of(String name, int count) {
+            Payload payload = new Payload();
+            payload.name = name;
+            payload.count = count;
+            return payload;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof Payload other && count == other.count && Objects.equals(name, other.name);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(name, count);
+        }
+    }
+}
@@ -1,15 +1,21 @@
 package com.mopl.redis.pubsub;
 
+import com.mopl.redis.config.RedisProperties;
+import com.mopl.redis.config.RedisProperties.SseRoutingConfig;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.redis.core.RedisTemplate;
 
+import java.util.Set;
+import java.util.UUID;
+
 import static com.mopl.redis.pubsub.DirectMessagePublisher.CHANNEL;
+import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.then;
 
 @ExtendWith(MockitoExtension.class)
@@ -19,24 +25,67 @@ class DirectMessagePublisherTest {
     @Mock
     private RedisTemplate<String, Object> redisTemplate;
 
-    @InjectMocks
+    @Mock
+    private SsePresenceDirectory presenceDirectory;
+
     private DirectMessagePublisher publisher;
 
+    @BeforeEach
+    void setUp() {
+        publisher = new DirectMessagePublisher(redisTemplate, presenceDirectory, new RedisProperties(null, null, new SseRoutingConfig(SseRouting.NODE), null));
+    }
+
     @Nested
     @DisplayName("publish()")
     class PublishTest {
 
         @Test
-        @DisplayName("DirectMessage를 Redis 채널로 발행")
-        void withDirectMessage_publishesToChannel() {
+        @DisplayName("DirectMessage를 수신자가 연결된 노드 채널로 발행")
+        void withDirectMessage_publishesToReceiverNode() {
+            // given
+            UUID receiverId = UUID.randomUUID();
+            Object directMessage = new Object();
+            given(presenceDirectory.findNodes(receiverId)).willReturn(Set.of("node-a"));
+
+            // when
+            publisher.publish(receiverId, directMessage);
+
+            // then
+            then(redisTemplate).should().convertAndSend(CHANNEL + ":node-a", directMessage);
+        }
+
+        @Test
+        @DisplayName("수신자가 연결되어 있지 않으면 발행하지 않음")
+        void withoutPresence_publishesNothing() {
+            // given
+            UUID receiverId = UUID.randomUUID();
+            given(presenceDirectory.findNodes(receiverId)).willReturn(Set.of());
+
+            // when
+            publisher.publish(receiverId, new Object());
+
+            // then
+            then(redisTemplate).shouldHaveNoInteractions();
+        }
+
+        @Test
+        @DisplayName("SHARED 경로면 presence를 조회하지 않고 공유 채널로 발행")
+        void withSharedRouting_publishesToSharedChannel() {
             // given
+            DirectMessagePublisher sharedPublisher = new DirectMessagePublisher(
+                redisTemplate,
+                presenceDirectory,
+                new RedisProperties(null, null, null, null)
+            );
+            UUID receiverId = UUID.randomUUID();
             Object directMessage = new Object();
 
             // when
-            publisher.publish(directMessage);
+            sharedPublisher.publish(receiverId, directMessage);
 
             // then
             then(redisTemplate).should().convertAndSend(CHANNEL, directMessage);
+            then(presenceDirectory).shouldHaveNoInteractions();
         }
     }
 }
@@ -1,21 +1,32 @@
 package com.mopl.redis.pubsub;
 
 import com.mopl.domain.model.notification.NotificationModel;
+import com.mopl.redis.config.RedisProperties;
+import com.mopl.redis.config.RedisProperties.SseRoutingConfig;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.redis.core.RedisTemplate;
 
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
 
 import static com.mopl.redis.pubsub.NotificationPublisher.CHANNEL;
-import static org.mockito.ArgumentMatchers.any;
+import static com.mopl.redis.pubsub.NotificationPublisher.FANOUT_CHANNEL;
+import static com.mopl.redis.pubsub.NotificationPublisher.MAX_RECIPIENTS_PER_FANOUT;
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.then;
 import static org.mockito.Mockito.times;
 
@@ -26,24 +37,47 @@ class NotificationPublisherTest {
     @Mock
     private RedisTemplate<String, Object> redisTemplate;
 
-    @InjectMocks
+    @Mock
+    private SsePresenceDirectory presenceDirectory;
+
     private NotificationPublisher publisher;
 
+    @BeforeEach
+    void setUp() {
+        publisher = new NotificationPublisher(redisTemplate, presenceDirectory, new RedisProperties(null, null, new SseRoutingConfig(SseRouting.NODE), null));
+    }
+
     @Nested
     @DisplayName("publish()")
     class PublishTest {
 
         @Test
-        @DisplayName("알림을 Redis 채널로 발행")
-        void withNotification_publishesToChannel() {
+        @DisplayName("수신자가 연결된 노드 채널로만 발행")
+        void withNotification_publishesToReceiverNodes() {
             // given
             NotificationModel notification = createNotification();
+            given(presenceDirectory.findNodes(notification.getReceiverId())).willReturn(Set.of("node-a", "node-b"));
 
             // when
             publisher.publish(notification);
 
             // then
-            then(redisTemplate).should().convertAndSend(CHANNEL, notification);
+            then(redisTemplate).should().convertAndSend(CHANNEL + ":node-a", notification);
+            then(redisTemplate).should().convertAndSend(CHANNEL + ":node-b", notification);
+        }
+
+        @Test
+        @DisplayName("수신자가 어느 노드에도 연결되어 있지 않으면 발행하지 않음")
+        void withoutPresence_publishesNothing() {
+            // given
+            NotificationModel notification = createNotification();
+            given(presenceDirectory.findNodes(notification.getReceiverId())).willReturn(Set.of());
+
+            // when
+            publisher.publish(notification);
+
+            // then
+            then(redisTemplate).shouldHaveNoInteractions();
         }
     }
 
@@ -52,19 +86,100 @@ class NotificationPublisherTest {
     class PublishAllTest {
 
         @Test
-        @DisplayName("여러 알림을 순차적으로 발행")
-        void withMultipleNotifications_publishesAll() {
+        @DisplayName("수신자 노드를 한 번에 조회하고 연결된 수신자만 노드별 봉투로 묶어 발행")
+        void withMultipleNotifications_publishesFanoutPerNode() {
             // given
-            NotificationModel notification1 = createNotification();
-            NotificationModel notification2 = createNotification();
-            NotificationModel notification3 = createNotification();
-            List<NotificationModel> notifications = List.of(notification1, notification2, notification3);
+            NotificationModel connected1 = createNotification();
+            NotificationModel connected2 = createNotification();
+            NotificationModel connected3 = createNotification();
+            NotificationModel offline = createNotification();
+            List<NotificationModel> notifications = List.of(connected1, connected2, connected3, offline);
+            given(presenceDirectory.findNodes(notifications.stream().map(NotificationModel::getReceiverId).toList()))
+                .willReturn(Map.of(
+                    connected1.getReceiverId(), Set.of("node-a"),
+                    connected2.getReceiverId(), Set.of("node-b"),
+                    connected3.getReceiverId(), Set.of("node-a")
+                ));
 
             // when
             publisher.publishAll(notifications);
 
             // then
-            then(redisTemplate).should(times(3)).convertAndSend(eq(CHANNEL), any(NotificationModel.class));
+            ArgumentCaptor<NotificationFanout> nodeA = ArgumentCaptor.forClass(NotificationFanout.class);
+            ArgumentCaptor<NotificationFanout> nodeB = ArgumentCaptor.forClass(NotificationFanout.class);
+            then(redisTemplate).should().convertAndSend(eq(FANOUT_CHANNEL + ":node-a"), nodeA.capture());
+            then(redisTemplate).should().convertAndSend(eq(FANOUT_CHANNEL + ":node-b"), nodeB.capture());
+            then(redisTemplate).shouldHaveNoMoreInteractions();
+
+            assertThat(nodeA.getValue().title()).isEqualTo(connected1.getTitle());
+            assertThat(nodeA.getValue().receiverIds()).containsExactly(connected1.getReceiverId(), connected3.getReceiverId());
+            assertThat(nodeA.getValue().notificationIds()).containsExactly(connected1.getId(), connected3.getId());
+            assertThat(nodeA.getValue().createdAts()).containsExactly(connected1.getCreatedAt(), connected3.getCreatedAt());
+            assertThat(nodeA.getValue().notificationAt(1).getCreatedAt()).isEqualTo(connected3.getCreatedAt());
+            assertThat(nodeB.getValue().receiverIds()).containsExactly(connected2.getReceiverId());
+        }
+
+        @Test
+        @DisplayName("내용이 다른 알림은 서로 다른 봉투로 발행")
+        void withDifferentPayloads_publishesSeparateFanouts() {
+            // given
+            NotificationModel first = createNotification("첫 번째 알림");
+            NotificationModel second = createNotification("두 번째 알림");
+            List<NotificationModel> notifications = List.of(first, second);
+            given(presenceDirectory.findNodes(List.of(first.getReceiverId(), second.getReceiverId())))
+                .willReturn(Map.of(
+                    first.getReceiverId(), Set.of("node-a"),
+                    second.getReceiverId(), Set.of("node-a")
+                ));
+
+            // when
+            publisher.publishAll(notifications);
+
+            // then
+            ArgumentCaptor<NotificationFanout> captor = ArgumentCaptor.forClass(NotificationFanout.class);
+            then(redisTemplate).should(times(2)).convertAndSend(eq(FANOUT_CHANNEL + ":node-a"), captor.capture());
+            assertThat(captor.getAllValues())
+                .extracting(NotificationFanout::title)
+                .containsExactly("첫 번째 알림", "두 번째 알림");
+        }
+
+        @Test
+        @DisplayName("한 노드의 수신자가 봉투 상한을 넘으면 여러 봉투로 나눠 발행")
+        void overMaxRecipients_splitsFanouts() {
+            // given
+            List<NotificationModel> notifications = new ArrayList<>();
+            Map<UUID, Set<String>> nodes = new HashMap<>();
+            for (int i = 0; i < MAX_RECIPIENTS_PER_FANOUT + 1; i++) {
+                NotificationModel notification = createNotification();
+                notifications.add(notification);
+                nodes.put(notification.getReceiverId(), Set.of("node-a"));
+            }
+            given(presenceDirectory.findNodes(notifications.stream().map(NotificationModel::getReceiverId).toList()))
+                .willReturn(nodes);
+
+            // when
+            publisher.publishAll(notifications);
+
+            // then
+            ArgumentCaptor<NotificationFanout> captor = ArgumentCaptor.forClass(NotificationFanout.class);
+            then(redisTemplate).should(times(2)).convertAndSend(eq(FANOUT_CHANNEL + ":node-a"), captor.capture());
+            assertThat(captor.getAllValues())
+                .extracting(NotificationFanout::recipientCount)
+                .containsExactly(MAX_RECIPIENTS_PER_FANOUT, 1);
+        }
+
+        @Test
+        @DisplayName("연결된 수신자가 없으면 아무것도 발행하지 않음")
+        void withoutPresence_publishesNothing() {
+            // given
+            NotificationModel offline = createNotification();
+            given(presenceDirectory.findNodes(List.of(offline.getReceiverId()))).willReturn(Map.of());
+
+            // when
+            publisher.publishAll(List.of(offline));
+
+            // then
+            then(redisTemplate).shouldHaveNoInteractions();
         }
 
         @Test
@@ -78,15 +193,70 @@ class NotificationPublisherTest {
 
             // then
             then(redisTemplate).shouldHaveNoInteractions();
+            then(presenceDirectory).shouldHaveNoInteractions();
+        }
+    }
+
+    @Nested
+    @DisplayName("SHARED 경로")
+    class SharedRoutingTest {
+
+        private NotificationPublisher sharedPublisher;
+
+        @BeforeEach
+        void setUp() {
+            sharedPublisher = new NotificationPublisher(redisTemplate, presenceDirectory, new RedisProperties(null, null, null, null));
+        }
+
+        @Test
+        @DisplayName("경로를 지정하지 않으면 presence를 조회하지 않고 공유 채널로 발행")
+        void withDefaultRouting_publishesToSharedChannel() {
+            // given
+            NotificationModel notification = createNotification();
+
+            // when
+            sharedPublisher.publish(notification);
+
+            // then
+            then(redisTemplate).should().convertAndSend(CHANNEL, notification);
+            then(presenceDirectory).shouldHaveNoInteractions();
+        }
+
+        @Test
+        @DisplayName("publishAll은 봉투 없이 알림마다 공유 채널로 발행")
+        void publishAll_publishesEachToSharedChannel() {
+            // given
+            NotificationModel first = createNotification();
+            NotificationModel second = createNotification();
+
+            // when
+            sharedPublisher.publishAll(List.of(first, second));
+
+            // then
+            then(redisTemplate).should().convertAndSend(CHANNEL, first);
+            then(redisTemplate).should().convertAndSend(CHANNEL, second);
+            then(redisTemplate).shouldHaveNoMoreInteractions();
+            then(presenceDirectory).shouldHaveNoInteractions();
         }
     }
 
+    private Instant createdAt = Instant.parse("2025-01-01T00:00:00Z");
+
+    private Instant nextCreatedAt() {
+        createdAt = createdAt.plusMillis(1);
+        return createdAt;
+    }
+
     private NotificationModel createNotification() {
+        return createNotification("테스트 알림");
+    }
+
+    private NotificationModel createNotification(String title) {
         return NotificationModel.create(
-            "테스트 알림",
+            title,
             "테스트 내용",
             NotificationModel.NotificationLevel.INFO,
             UUID.randomUUID()
-        );
+        ).toBuilder().id(UUID.randomUUID()).createdAt(nextCreatedAt()).build();
     }
 }
@@ -0,0 +1,131 @@
+package com.mopl.redis.pubsub;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("SsePresenceDirectory 단위 테스트")
+class SsePresenceDirectoryTest {
+
+    private static final Duration TTL = Duration.ofSeconds(90);
+
+    @Mock
+    private StringRedisTemplate redisTemplate;
+
+    @Mock
+    private RedisOperations<String, String> operations;
+
+    @Mock
+    private ZSetOperations<String, String> zSetOperations;
+
+    @InjectMocks
+    private SsePresenceDirectory presenceDirectory;
+
+    @Nested
+    @DisplayName("refresh()")
+    class RefreshTest {
+
+        @Test
+        @DisplayName("사용자마다 만료 시각 score로 노드를 기록하고 만료 멤버 정리와 키 ttl을 파이프라인 한 번에 보냄")
+        void withUsers_writesOnePipeline() {
+            // given
+            UUID userId1 = UUID.randomUUID();
+            UUID userId2 = UUID.randomUUID();
+            long before = System.currentTimeMillis();
+
+            // when
+            presenceDirectory.refresh("node-a", List.of(userId1, userId2), TTL);
+
+            // then
+            ArgumentCaptor<SessionCallback<Object>> callbackCaptor = sessionCallbackCaptor();
+            then(redisTemplate).should().executePipelined(callbackCaptor.capture());
+
+            given(operations.opsForZSet()).willReturn(zSetOperations);
+            callbackCaptor.getValue().execute(operations);
+            ArgumentCaptor<Double> expiresAt = ArgumentCaptor.forClass(Double.class);
+            then(zSetOperations).should().add(eq("sse:presence:" + userId1), eq("node-a"), expiresAt.capture());
+            then(zSetOperations).should().add(eq("sse:presence:" + userId2), eq("node-a"), anyDouble());
+            then(zSetOperations).should().removeRangeByScore(eq("sse:presence:" + userId1), eq(Double.NEGATIVE_INFINITY), anyDouble());
+            then(operations).should().expire("sse:presence:" + userId1, TTL);
+            then(operations).should().expire("sse:presence:" + userId2, TTL);
+            assertThat(expiresAt.getValue()).isGreaterThanOrEqualTo((double) before + TTL.toMillis());
+        }
+
+        @Test
+        @DisplayName("사용자가 없으면 Redis를 호출하지 않음")
+        void withoutUsers_skipsRedis() {
+            // when
+            presenceDirectory.refresh("node-a", List.of(), TTL);
+
+            // then
+            then(redisTemplate).shouldHaveNoInteractions();
+        }
+    }
+
+    @Nested
+    @DisplayName("findNodes()")
+    class FindNodesTest {
+
+        @Test
+        @DisplayName("만료되지 않은 노드만 조회")
+        void withSingleUser_returnsLiveNodes() {
+            // given
+            UUID userId = UUID.randomUUID();
+            given(redisTemplate.opsForZSet()).willReturn(zSetOperations);
+            given(zSetOperations.rangeByScore(eq("sse:presence:" + userId), anyDouble(), eq(Double.POSITIVE_INFINITY)))
+                .willReturn(Set.of("node-a"));
+
+            // when
+            Set<String> result = presenceDirectory.findNodes(userId);
+
+            // then
+            assertThat(result).containsExactly("node-a");
+        }
+
+        @Test
+        @DisplayName("여러 사용자를 파이프라인 한 번으로 조회하고 노드가 없는 사용자는 제외")
+        void withMultipleUsers_returnsConnectedOnly() {
+            // given
+            UUID connected = UUID.randomUUID();
+            UUID offline = UUID.randomUUID();
+            given(redisTemplate.executePipelined(any(SessionCallback.class)))
+                .willReturn(Arrays.asList(Set.of("node-a", "node-b"), Set.of()));
+
+            // when
+            Map<UUID, Set<String>> result = presenceDirectory.findNodes(List.of(connected, offline, connected));
+
+            // then
+            assertThat(result).containsOnlyKeys(connected);
+            assertThat(result.get(connected)).containsExactlyInAnyOrder("node-a", "node-b");
+        }
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static ArgumentCaptor<SessionCallback<Object>> sessionCallbackCaptor() {
+        return (ArgumentCaptor) ArgumentCaptor.forClass(SessionCallback.class);
+    }
+}
@@ -0,0 +1,56 @@
+package com.mopl.redis.pubsub;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("WebSocketFrame 단위 테스트")
+class WebSocketFrameTest {
+
+    @Test
+    @DisplayName("encode한 frame을 decode하면 destination, origin, payload가 그대로 복원됨")
+    void encodeDecode_roundTrips() {
+        // given
+        byte[] payload = "{\"content\":\"안녕하세요\"}".getBytes(StandardCharsets.UTF_8);
+        WebSocketFrame frame = new WebSocketFrame("/sub/contents/123/chat", "node-a", payload);
+
+        // when
+        WebSocketFrame decoded = WebSocketFrame.decode(frame.encode());
+
+        // then
+        assertThat(decoded.destination()).isEqualTo("/sub/contents/123/chat");
+        assertThat(decoded.origin()).isEqualTo("node-a");
+        assertThat(decoded.payload()).isEqualTo(payload);
+    }
+
+    @Test
+    @DisplayName("origin이 없으면 null로 복원됨")
+    void withoutOrigin_decodesNull() {
+        // given
+        WebSocketFrame frame = new WebSocketFrame("/sub/test", null, new byte[0]);
+
+        // when
+        WebSocketFrame decoded = WebSocketFrame.decode(frame.encode());
+
+        // then
+        assertThat(decoded.origin()).isNull();
+        assertThat(decoded.payload()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("이전 JSON 메시지는 frame이 아님")
+    void legacyJson_isNotFrame() {
+        // given
+        byte[] legacy = "{\"destination\":\"/sub/test\",\"payload\":{}}".getBytes(StandardCharsets.UTF_8);
+
+        // when & then
+        assertThat(WebSocketFrame.isFrame(legacy)).isFalse();
+        assertThat(WebSocketFrame.isFrame(new byte[0])).isFalse();
+        assertThatThrownBy(() -> WebSocketFrame.decode(legacy))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+}
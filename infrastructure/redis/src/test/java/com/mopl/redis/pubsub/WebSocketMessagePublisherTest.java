@@ -1,19 +1,28 @@
 package com.mopl.redis.pubsub;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mopl.redis.config.RedisProperties;
+import com.mopl.redis.config.RedisProperties.WebSocketMessageConfig;
+import com.mopl.redis.pubsub.WebSocketMessagePublisher.WebSocketMessage;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
 import org.springframework.data.redis.core.RedisTemplate;
 
+import java.nio.charset.StandardCharsets;
+
 import static com.mopl.redis.pubsub.WebSocketMessagePublisher.CHANNEL;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.mock;
 
 @ExtendWith(MockitoExtension.class)
 @DisplayName("WebSocketMessagePublisher 단위 테스트")
@@ -22,16 +31,37 @@ class WebSocketMessagePublisherTest {
     @Mock
     private RedisTemplate<String, Object> redisTemplate;
 
-    @InjectMocks
     private WebSocketMessagePublisher publisher;
 
+    @BeforeEach
+    void setUp() {
+        publisher = new WebSocketMessagePublisher(
+            redisTemplate,
+            new ObjectMapper(),
+            new RedisProperties(null, null, null, new WebSocketMessageConfig(WebSocketMessageFormat.FRAME))
+        );
+    }
+
+    private WebSocketFrame publishedFrame(String channel) {
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<RedisCallback<Long>> callbackCaptor = ArgumentCaptor.forClass(RedisCallback.class);
+        then(redisTemplate).should().execute(callbackCaptor.capture());
+
+        RedisConnection connection = mock(RedisConnection.class);
+        callbackCaptor.getValue().doInRedis(connection);
+
+        ArgumentCaptor<byte[]> bodyCaptor = ArgumentCaptor.forClass(byte[].class);
+        then(connection).should().publish(eq(channel.getBytes(StandardCharsets.UTF_8)), bodyCaptor.capture());
+        return WebSocketFrame.decode(bodyCaptor.getValue());
+    }
+
     @Nested
     @DisplayName("publish()")
     class PublishTest {
 
         @Test
-        @DisplayName("destination과 payload를 WebSocketMessage로 래핑하여 Redis 채널로 발행")
-        void withDestinationAndPayload_publishesWrappedMessage() {
+        @DisplayName("destination과 JSON으로 인코딩한 payload를 frame으로 묶어 Redis 채널로 발행")
+        void withDestinationAndPayload_publishesFrame() {
             // given
             String destination = "/sub/contents/123/chat";
             Object payload = new TestPayload("test message");
@@ -40,15 +70,30 @@ class WebSocketMessagePublisherTest {
             publisher.publish(destination, payload);
 
             // then
-            ArgumentCaptor<WebSocketMessagePublisher.WebSocketMessage> messageCaptor = ArgumentCaptor.forClass(WebSocketMessagePublisher.WebSocketMessage.class);
-            then(redisTemplate).should().convertAndSend(
-                eq(CHANNEL),
-                messageCaptor.capture()
+            WebSocketFrame frame = publishedFrame(CHANNEL);
+            assertThat(frame.destination()).isEqualTo(destination);
+            assertThat(frame.origin()).isNull();
+            assertThat(new String(frame.payload(), StandardCharsets.UTF_8)).isEqualTo("{\"content\":\"test message\"}");
+        }
+
+        @Test
+        @DisplayName("형식을 지정하지 않으면 이전 노드도 읽을 수 있는 JSON 메시지로 발행")
+        void withDefaultFormat_publishesLegacyMessage() {
+            // given
+            WebSocketMessagePublisher legacyPublisher = new WebSocketMessagePublisher(
+                redisTemplate,
+                new ObjectMapper(),
+                new RedisProperties(null, null, null, null)
             );
+            String destination = "/sub/contents/123/chat";
+            Object payload = new TestPayload("test message");
 
-            WebSocketMessagePublisher.WebSocketMessage capturedMessage = messageCaptor.getValue();
-            assertThat(capturedMessage.destination()).isEqualTo(destination);
-            assertThat(capturedMessage.payload()).isEqualTo(payload);
+            // when
+            legacyPublisher.publish(destination, payload);
+
+            // then
+            then(redisTemplate).should().convertAndSend(CHANNEL, new WebSocketMessage(destination, payload));
+            then(redisTemplate).shouldHaveNoMoreInteractions();
         }
 
         @Test
@@ -58,6 +103,28 @@ class WebSocketMessagePublisherTest {
         }
     }
 
+    @Nested
+    @DisplayName("publishToDestination()")
+    class PublishToDestinationTest {
+
+        @Test
+        @DisplayName("인코딩된 payload를 그대로 destination 전용 채널로 이 노드의 origin을 붙여 발행")
+        void publishesToDestinationChannelWithOrigin() {
+            // given
+            String destination = "/sub/contents/123/watch";
+            byte[] payload = "{\"type\":\"JOIN\"}".getBytes(StandardCharsets.UTF_8);
+
+            // when
+            publisher.publishToDestination(destination, payload);
+
+            // then
+            WebSocketFrame frame = publishedFrame("websocket:messages:/sub/contents/123/watch");
+            assertThat(frame.destination()).isEqualTo(destination);
+            assertThat(frame.origin()).isEqualTo(publisher.nodeId());
+            assertThat(frame.payload()).isEqualTo(payload);
+        }
+    }
+
     record TestPayload(String content) {
     }
 }
@@ -1,6 +1,9 @@
 package com.mopl.redis.repository.watchingsession;
 
 import com.mopl.domain.model.watchingsession.WatchingSessionModel;
+import com.mopl.domain.repository.watchingsession.WatchingSessionJoin;
+import com.mopl.domain.repository.watchingsession.WatchingSessionLeave;
+import com.mopl.redis.codec.RedisCodecTemplates;
 import com.mopl.redis.config.RedisProperties;
 import com.mopl.redis.config.RedisProperties.WatchingSessionConfig;
 import com.mopl.redis.support.WatchingSessionRedisKeys;
@@ -10,6 +13,7 @@ import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
+import org.mockito.BDDMockito;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.redis.connection.RedisConnection;
@@ -18,20 +22,28 @@ import org.springframework.data.redis.core.RedisCallback;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.data.redis.core.ValueOperations;
 import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.serializer.RedisSerializer;
 
+import java.nio.charset.StandardCharsets;
 import java.time.Duration;
 import java.time.Instant;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.AdditionalMatchers.aryEq;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.then;
+import static org.mockito.BDDMockito.willReturn;
+import static org.mockito.Mockito.times;
 
 @ExtendWith(MockitoExtension.class)
 @DisplayName("RedisWatchingSessionRepositoryImpl 단위 테스트")
@@ -42,18 +54,25 @@ class RedisWatchingSessionRepositoryImplTest {
     @Mock
     private RedisTemplate<String, Object> redisTemplate;
 
+    @Mock
+    private RedisCodecTemplates redisCodecTemplates;
+
     @Mock
     private ValueOperations<String, Object> valueOperations;
 
     @Mock
     private ZSetOperations<String, Object> zSetOperations;
 
+    @Mock
+    private RedisSerializer<Object> valueSerializer;
+
     private RedisWatchingSessionRepositoryImpl repository;
 
     @BeforeEach
     void setUp() {
-        RedisProperties redisProperties = new RedisProperties(new WatchingSessionConfig(DEFAULT_TTL));
-        repository = new RedisWatchingSessionRepositoryImpl(redisTemplate, redisProperties);
+        RedisProperties redisProperties = new RedisProperties(new WatchingSessionConfig(DEFAULT_TTL), null, null, null);
+        given(redisCodecTemplates.forRepository(RedisWatchingSessionRepositoryImpl.REPOSITORY_NAME)).willReturn(redisTemplate);
+        repository = new RedisWatchingSessionRepositoryImpl(redisCodecTemplates, redisProperties);
     }
 
     @Nested
@@ -244,153 +263,270 @@ class RedisWatchingSessionRepositoryImplTest {
     }
 
     @Nested
-    @DisplayName("save()")
-    class SaveTest {
+    @DisplayName("join()")
+    class JoinTest {
+
+        private final UUID watcherId = UUID.randomUUID();
+        private final UUID contentId = UUID.randomUUID();
+        private final byte[] member = "\"watcher\"".getBytes(StandardCharsets.UTF_8);
+        private final byte[] sessionBytes = "session".getBytes(StandardCharsets.UTF_8);
+
+        @BeforeEach
+        void setUpSerializer() {
+            willReturn(valueSerializer).given(redisTemplate).getValueSerializer();
+            given(valueSerializer.serialize(watcherId.toString())).willReturn(member);
+        }
 
         @Test
-        @DisplayName("세션을 String과 ZSet에 TTL과 함께 저장")
-        void withValidModel_savesToBothStructuresWithTtl() {
+        @DisplayName("처음 참가하면 세션 값 없이 한 번 시도한 뒤 만든 세션으로 참가하고 방 시청자 수를 반환")
+        void withNewWatcher_createsSessionAndJoins() {
             // given
-            UUID watcherId = UUID.randomUUID();
-            UUID contentId = UUID.randomUUID();
-            Instant createdAt = Instant.now();
-
-            WatchingSessionModel model = WatchingSessionModel.builder()
-                .watcherId(watcherId)
-                .contentId(contentId)
-                .createdAt(createdAt)
-                .build();
-
-            String sessionKey = WatchingSessionRedisKeys.watcherSessionKey(watcherId);
-            String zsetKey = WatchingSessionRedisKeys.contentWatchersKey(contentId);
-
-            given(redisTemplate.opsForValue()).willReturn(valueOperations);
-            given(redisTemplate.opsForZSet()).willReturn(zSetOperations);
-            given(redisTemplate.expire(zsetKey, DEFAULT_TTL)).willReturn(true);
+            WatchingSessionModel created = session(contentId, 1);
+            given(valueSerializer.serialize(created)).willReturn(sessionBytes);
+            given(valueSerializer.deserialize(sessionBytes)).willReturn(created);
+            givenScript(RedisWatchingSessionRepositoryImpl.JOIN_SCRIPT, 9)
+                .willReturn(List.of(-1L), Arrays.asList(1L, 3L, sessionBytes, null, 0L, 1L));
 
             // when
-            WatchingSessionModel result = repository.save(model);
+            WatchingSessionJoin result = repository.join(watcherId, contentId, () -> created);
 
             // then
-            assertThat(result).isEqualTo(model);
-            then(valueOperations).should().set(sessionKey, model, DEFAULT_TTL);
-            then(zSetOperations).should().add(
-                eq(zsetKey),
-                eq(watcherId.toString()),
-                eq((double) createdAt.toEpochMilli())
+            assertThat(result.joined()).isTrue();
+            assertThat(result.watcherCount()).isEqualTo(3L);
+            assertThat(result.session().getContentId()).isEqualTo(contentId);
+            assertThat(result.session().getConnectionCount()).isEqualTo(1);
+            assertThat(result.left()).isNull();
+
+            ArgumentCaptor<List<String>> keysCaptor = keysCaptor();
+            then(redisTemplate).should(times(2)).execute(
+                eq(RedisWatchingSessionRepositoryImpl.JOIN_SCRIPT),
+                any(RedisSerializer.class),
+                any(RedisSerializer.class),
+                keysCaptor.capture(),
+                anyArgs(9)
+            );
+            assertThat(keysCaptor.getValue()).containsExactly(
+                WatchingSessionRedisKeys.watcherStateKey(watcherId),
+                WatchingSessionRedisKeys.watcherSessionKey(watcherId),
+                WatchingSessionRedisKeys.contentWatchersKey(contentId)
             );
-            then(redisTemplate).should().expire(zsetKey, DEFAULT_TTL);
         }
-    }
-
-    @Nested
-    @DisplayName("delete()")
-    class DeleteTest {
 
         @Test
-        @DisplayName("null 모델이면 아무 작업 안 함")
-        void withNullModel_doesNothing() {
+        @DisplayName("같은 방에 이미 있으면 세션을 만들지 않고 늘어난 연결 수를 반영해 반환")
+        void withSameRoom_incrementsConnectionsWithoutFactory() {
+            // given
+            WatchingSessionModel stored = session(contentId, 1);
+            given(valueSerializer.deserialize(sessionBytes)).willReturn(stored);
+            givenScript(RedisWatchingSessionRepositoryImpl.JOIN_SCRIPT, 9)
+                .willReturn(Arrays.asList(0L, 5L, sessionBytes, null, 0L, 2L));
+
             // when
-            repository.delete(null);
+            WatchingSessionJoin result = repository.join(watcherId, contentId, () -> {
+                throw new AssertionError("세션을 만들면 안 됩니다.");
+            });
 
             // then
-            then(redisTemplate).shouldHaveNoInteractions();
+            assertThat(result.joined()).isFalse();
+            assertThat(result.watcherCount()).isEqualTo(5L);
+            assertThat(result.session().getConnectionCount()).isEqualTo(2);
         }
 
         @Test
-        @DisplayName("watcherId가 null이면 아무 작업 안 함")
-        void withNullWatcherId_doesNothing() {
+        @DisplayName("다른 방에서 옮겨 오면 떠난 세션과 떠난 방의 남은 시청자 수를 함께 반환")
+        void withOtherRoom_returnsLeftSession() {
             // given
-            WatchingSessionModel model = WatchingSessionModel.builder()
-                .watcherId(null)
-                .build();
+            UUID previousContentId = UUID.randomUUID();
+            WatchingSessionModel created = session(contentId, 1);
+            WatchingSessionModel previous = session(previousContentId, 1);
+            byte[] previousBytes = "previous".getBytes(StandardCharsets.UTF_8);
+            given(valueSerializer.serialize(created)).willReturn(sessionBytes);
+            given(valueSerializer.deserialize(sessionBytes)).willReturn(created);
+            given(valueSerializer.deserialize(previousBytes)).willReturn(previous);
+            givenScript(RedisWatchingSessionRepositoryImpl.JOIN_SCRIPT, 9)
+                .willReturn(List.of(-1L), Arrays.asList(1L, 1L, sessionBytes, previousBytes, 4L, 1L));
 
             // when
-            repository.delete(model);
+            WatchingSessionJoin result = repository.join(watcherId, contentId, () -> created);
 
             // then
-            then(redisTemplate).shouldHaveNoInteractions();
+            assertThat(result.joined()).isTrue();
+            assertThat(result.left()).isEqualTo(previous);
+            assertThat(result.leftWatcherCount()).isEqualTo(4L);
         }
 
         @Test
-        @DisplayName("contentId가 있으면 String과 ZSet 모두에서 삭제")
-        void withContentId_deletesFromBothStructures() {
+        @DisplayName("상태 해시 없는 이전 형식 세션이면 그 contentId와 연결 수를 넘겨 다시 실행하고 이전 방을 떠난 것으로 반환")
+        void withLegacySession_migratesStateAndLeavesPreviousRoom() {
             // given
-            UUID watcherId = UUID.randomUUID();
-            UUID contentId = UUID.randomUUID();
+            UUID previousContentId = UUID.randomUUID();
+            WatchingSessionModel created = session(contentId, 1);
+            WatchingSessionModel legacy = session(previousContentId, 2);
+            byte[] legacyBytes = "legacy".getBytes(StandardCharsets.UTF_8);
+            given(valueSerializer.serialize(created)).willReturn(sessionBytes);
+            given(valueSerializer.deserialize(sessionBytes)).willReturn(created);
+            given(valueSerializer.deserialize(legacyBytes)).willReturn(legacy);
+            givenScript(RedisWatchingSessionRepositoryImpl.JOIN_SCRIPT, 9)
+                .willReturn(
+                    List.of(-2L, legacyBytes),
+                    List.of(-1L),
+                    Arrays.asList(1L, 1L, sessionBytes, legacyBytes, 0L, 1L)
+                );
 
-            WatchingSessionModel model = WatchingSessionModel.builder()
+            // when
+            WatchingSessionJoin result = repository.join(watcherId, contentId, () -> created);
+
+            // then
+            assertThat(result.joined()).isTrue();
+            assertThat(result.left()).isEqualTo(legacy);
+            assertThat(result.leftWatcherCount()).isZero();
+            then(redisTemplate).should(times(2)).execute(
+                eq(RedisWatchingSessionRepositoryImpl.JOIN_SCRIPT),
+                any(RedisSerializer.class),
+                any(RedisSerializer.class),
+                anyList(),
+                legacyArgs(7, previousContentId, 2)
+            );
+        }
+
+        private WatchingSessionModel session(UUID roomId, int connectionCount) {
+            return WatchingSessionModel.builder()
                 .watcherId(watcherId)
-                .contentId(contentId)
+                .contentId(roomId)
+                .createdAt(Instant.now())
+                .connectionCount(connectionCount)
                 .build();
+        }
+    }
 
-            String sessionKey = WatchingSessionRedisKeys.watcherSessionKey(watcherId);
-            String zsetKey = WatchingSessionRedisKeys.contentWatchersKey(contentId);
-
-            given(redisTemplate.opsForZSet()).willReturn(zSetOperations);
+    @Nested
+    @DisplayName("leave()")
+    class LeaveTest {
 
-            // when
-            repository.delete(model);
+        private final UUID watcherId = UUID.randomUUID();
+        private final UUID contentId = UUID.randomUUID();
 
-            // then
-            then(redisTemplate).should().delete(sessionKey);
-            then(zSetOperations).should().remove(zsetKey, watcherId.toString());
+        @BeforeEach
+        void setUpSerializer() {
+            willReturn(valueSerializer).given(redisTemplate).getValueSerializer();
+            given(valueSerializer.serialize(watcherId.toString())).willReturn("\"watcher\"".getBytes(StandardCharsets.UTF_8));
         }
 
         @Test
-        @DisplayName("contentId가 null이면 저장된 세션에서 조회 후 삭제")
-        void withNullContentId_looksUpFromRedis() {
+        @DisplayName("마지막 연결이 빠지면 떠난 세션과 남은 시청자 수를 반환")
+        void withLastConnection_returnsLeave() {
             // given
-            UUID watcherId = UUID.randomUUID();
-            UUID contentId = UUID.randomUUID();
-
-            WatchingSessionModel inputModel = WatchingSessionModel.builder()
+            byte[] sessionBytes = "session".getBytes(StandardCharsets.UTF_8);
+            WatchingSessionModel stored = WatchingSessionModel.builder()
                 .watcherId(watcherId)
-                .contentId(null)
+                .contentId(contentId)
                 .build();
+            given(valueSerializer.deserialize(sessionBytes)).willReturn(stored);
+            givenScript(RedisWatchingSessionRepositoryImpl.LEAVE_SCRIPT, 4)
+                .willReturn(Arrays.asList(1L, 2L, sessionBytes));
+
+            // when
+            Optional<WatchingSessionLeave> result = repository.leave(watcherId, contentId);
+
+            // then
+            assertThat(result).hasValueSatisfying(leave -> {
+                assertThat(leave.session()).isEqualTo(stored);
+                assertThat(leave.watcherCount()).isEqualTo(2L);
+            });
+        }
 
-            WatchingSessionModel storedModel = WatchingSessionModel.builder()
+        @Test
+        @DisplayName("상태 해시 없는 이전 형식 세션이면 그 contentId와 연결 수를 넘겨 다시 실행하고 방을 떠남")
+        void withLegacySession_migratesStateAndLeaves() {
+            // given
+            byte[] sessionBytes = "session".getBytes(StandardCharsets.UTF_8);
+            WatchingSessionModel legacy = WatchingSessionModel.builder()
                 .watcherId(watcherId)
                 .contentId(contentId)
+                .connectionCount(1)
                 .build();
-
-            String sessionKey = WatchingSessionRedisKeys.watcherSessionKey(watcherId);
-            String zsetKey = WatchingSessionRedisKeys.contentWatchersKey(contentId);
-
-            given(redisTemplate.opsForValue()).willReturn(valueOperations);
-            given(valueOperations.get(sessionKey)).willReturn(storedModel);
-            given(redisTemplate.opsForZSet()).willReturn(zSetOperations);
+            given(valueSerializer.deserialize(sessionBytes)).willReturn(legacy);
+            givenScript(RedisWatchingSessionRepositoryImpl.LEAVE_SCRIPT, 4)
+                .willReturn(List.of(-2L, sessionBytes), Arrays.asList(1L, 0L, sessionBytes));
 
             // when
-            repository.delete(inputModel);
+            Optional<WatchingSessionLeave> result = repository.leave(watcherId, contentId);
 
             // then
-            then(redisTemplate).should().delete(sessionKey);
-            then(zSetOperations).should().remove(zsetKey, watcherId.toString());
+            assertThat(result).hasValueSatisfying(leave -> {
+                assertThat(leave.session()).isEqualTo(legacy);
+                assertThat(leave.watcherCount()).isZero();
+            });
+            then(redisTemplate).should().execute(
+                eq(RedisWatchingSessionRepositoryImpl.LEAVE_SCRIPT),
+                any(RedisSerializer.class),
+                any(RedisSerializer.class),
+                anyList(),
+                legacyArgs(2, contentId, 1)
+            );
         }
 
         @Test
-        @DisplayName("contentId가 null이고 저장된 세션도 없으면 String만 삭제")
-        void withNullContentIdAndNoStoredSession_deletesOnlyString() {
+        @DisplayName("연결이 남아 있으면 빈 결과 반환")
+        void withRemainingConnections_returnsEmpty() {
             // given
-            UUID watcherId = UUID.randomUUID();
+            givenScript(RedisWatchingSessionRepositoryImpl.LEAVE_SCRIPT, 4).willReturn(List.of(0L, 1L));
 
-            WatchingSessionModel model = WatchingSessionModel.builder()
-                .watcherId(watcherId)
-                .contentId(null)
-                .build();
+            // when
+            Optional<WatchingSessionLeave> result = repository.leave(watcherId, contentId);
 
-            String sessionKey = WatchingSessionRedisKeys.watcherSessionKey(watcherId);
+            // then
+            assertThat(result).isEmpty();
+        }
 
-            given(redisTemplate.opsForValue()).willReturn(valueOperations);
-            given(valueOperations.get(sessionKey)).willReturn(null);
+        @Test
+        @DisplayName("다른 방에 참가해 있으면 빈 결과 반환")
+        void withOtherRoom_returnsEmpty() {
+            // given
+            givenScript(RedisWatchingSessionRepositoryImpl.LEAVE_SCRIPT, 4).willReturn(List.of(-1L));
 
             // when
-            repository.delete(model);
+            Optional<WatchingSessionLeave> result = repository.leave(watcherId, contentId);
 
             // then
-            then(redisTemplate).should().delete(sessionKey);
-            then(zSetOperations).shouldHaveNoInteractions();
+            assertThat(result).isEmpty();
+        }
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private BDDMockito.BDDMyOngoingStubbing<List> givenScript(RedisScript<List> script, int argCount) {
+        return given(redisTemplate.execute(
+            eq(script),
+            any(RedisSerializer.class),
+            any(RedisSerializer.class),
+            anyList(),
+            anyArgs(argCount)
+        ));
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static ArgumentCaptor<List<String>> keysCaptor() {
+        return (ArgumentCaptor) ArgumentCaptor.forClass(List.class);
+    }
+
+    /**
+     * 앞의 leadingCount개는 아무 값, 마지막 두 개는 이전 형식 세션의 contentId와 연결 수인 인자 matcher를 순서대로 만듭니다.
+     */
+    private static Object[] legacyArgs(int leadingCount, UUID legacyContentId, int legacyConnections) {
+        Object[] args = new Object[leadingCount + 2];
+        for (int i = 0; i < leadingCount; i++) {
+            args[i] = any(byte[].class);
+        }
+        args[leadingCount] = aryEq(legacyContentId.toString().getBytes(StandardCharsets.UTF_8));
+        args[leadingCount + 1] = aryEq(String.valueOf(legacyConnections).getBytes(StandardCharsets.UTF_8));
+        return args;
+    }
+
+    private static Object[] anyArgs(int count) {
+        Object[] args = new Object[count];
+        for (int i = 0; i < count; i++) {
+            args[i] = any(byte[].class);
         }
+        return args;
     }
 }